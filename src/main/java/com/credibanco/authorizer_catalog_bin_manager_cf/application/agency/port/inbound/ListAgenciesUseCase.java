@@ -1,11 +1,16 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface ListAgenciesUseCase {
     Flux<Agency> execute(String subtypeCode, String status, String search, int page, int size);
     default Flux<Agency> execute(String subtypeCode, String status, String search) {
         return execute(subtypeCode, status, search, 0, 20);
     }
+
+    /** Página por cursor ordenada por (subtypeCode, agencyCode); {@code cursor} null o vacío = primera página. */
+    Mono<KeysetPage<Agency>> scroll(String subtypeCode, String status, String search, String cursor, int size);
 }
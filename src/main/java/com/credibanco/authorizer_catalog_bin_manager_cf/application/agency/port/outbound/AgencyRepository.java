@@ -4,10 +4,21 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface AgencyRepository {
     Mono<Boolean> existsByPk(String subtypeCode, String agencyCode);
     Mono<Agency> save(Agency aggregate); // upsert
     Mono<Agency> findByPk(String subtypeCode, String agencyCode);
+    Flux<Agency> findAllByPk(Collection<Pk> keys);   // lectura por lote (IN), sin orden; omite los que no existen
     Flux<Agency> findAll(String subtypeCode, String status, String search, int page, int size);
+    Flux<Agency> findAfter(String subtypeCode, String status, String search,
+                           String afterSubtypeCode, String afterAgencyCode, int limit); // orden (subtypeCode, agencyCode), sin COUNT
     Mono<Boolean> existsAnotherActive(String subtypeCode, String excludeAgencyCode);
+
+    record Pk(String subtypeCode, String agencyCode) {
+        public static Pk of(Agency a) {
+            return new Pk(a.subtypeCode(), a.agencyCode());
+        }
+    }
 }
\ No newline at end of file
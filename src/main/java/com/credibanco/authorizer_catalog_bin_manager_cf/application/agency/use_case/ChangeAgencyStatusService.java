@@ -2,7 +2,10 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.inbound.ChangeAgencyStatusUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
-import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -10,10 +13,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Slf4j
 public record ChangeAgencyStatusService(AgencyRepository repo,
-                                        SubtypeReadOnlyRepository subtypeRepo,
-                                        TransactionalOperator tx) implements ChangeAgencyStatusUseCase {
+                                        ExistenceProbeRepository probes,
+                                        TransactionalOperator tx,
+                                        CatalogChangePublisher changes) implements ChangeAgencyStatusUseCase {
     private static long ms(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
 
     @Override
@@ -24,30 +30,30 @@ public record ChangeAgencyStatusService(AgencyRepository repo,
         if (!"A".equals(newStatus) && !"I".equals(newStatus))
             return Mono.error(new AppException(AppError.AGENCY_INVALID_DATA, "status debe ser 'A' o 'I'"));
 
-        Mono<Void> ensureSubtypeExists = subtypeRepo.existsByCode(subtypeCode)
-                .flatMap(exists -> exists ? Mono.empty()
-                        : Mono.error(new AppException(AppError.SUBTYPE_NOT_FOUND)));
+        // SUBTYPE existente y "otra agencia activa" salen de la misma consulta
+        ExistenceCheck subtypeExists = ExistenceCheck.subtypeCode(subtypeCode);
+        ExistenceCheck otherActive = ExistenceCheck.otherActiveAgency(subtypeCode, agencyCode);
 
         return repo.findByPk(subtypeCode, agencyCode)
                 .switchIfEmpty(Mono.error(new AppException(AppError.AGENCY_NOT_FOUND)))
-                .flatMap(ensureSubtypeExists::thenReturn)
-                .flatMap(cur -> {
-                    if ("I".equals(newStatus) && "A".equals(cur.status())) {
-                        // Política: no dejar al SUBTYPE sin ninguna agencia activa
-                        return repo.existsAnotherActive(subtypeCode, agencyCode)
-                                .flatMap(existsOther -> existsOther
-                                        ? Mono.just(cur)
-                                        : Mono.error(new AppException(AppError.AGENCY_CONFLICT_RULE,
-                                        "No puede inactivarse la única AGENCY activa del SUBTYPE " + subtypeCode)));
-                    }
-                    return Mono.just(cur);
-                })
+                .flatMap(cur -> probes.probe(List.of(subtypeExists, otherActive))
+                        .flatMap(found -> {
+                            if (!found.exists(subtypeExists))
+                                return Mono.<Agency>error(new AppException(AppError.SUBTYPE_NOT_FOUND));
+                            // Política: no dejar al SUBTYPE sin ninguna agencia activa
+                            if ("I".equals(newStatus) && "A".equals(cur.status()) && !found.exists(otherActive))
+                                return Mono.<Agency>error(new AppException(AppError.AGENCY_CONFLICT_RULE,
+                                        "No puede inactivarse la única AGENCY activa del SUBTYPE " + subtypeCode));
+                            return Mono.just(cur);
+                        }))
                 .map(cur -> cur.changeStatus(newStatus, by))
                 .onErrorMap(IllegalArgumentException.class,
                         e -> new AppException(AppError.AGENCY_INVALID_DATA, e.getMessage()))
                 .flatMap(repo::save)
                 .doOnSuccess(a -> log.info("UC:Agency:ChangeStatus:done st={} ag={} status={} elapsedMs={}",
                         a.subtypeCode(), a.agencyCode(), a.status(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(a -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.AGENCY, CatalogChange.Operation.STATUS, a.subtypeCode() + ":" + a.agencyCode(), a)));
     }
 }
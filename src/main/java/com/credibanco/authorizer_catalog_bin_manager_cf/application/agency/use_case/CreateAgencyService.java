@@ -3,6 +3,8 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.inbound.CreateAgencyUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -13,7 +15,8 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public record CreateAgencyService(AgencyRepository repo,
                                   SubtypeReadOnlyRepository subtypeRepo,
-                                  TransactionalOperator tx) implements CreateAgencyUseCase {
+                                  TransactionalOperator tx,
+                                  CatalogChangePublisher changes) implements CreateAgencyUseCase {
 
     private static long ms(long t0) { return (System.nanoTime()-t0)/1_000_000; }
 
@@ -34,6 +37,8 @@ public record CreateAgencyService(AgencyRepository repo,
                         e -> new AppException(AppError.AGENCY_INVALID_DATA, e.getMessage()))
                 .doOnSuccess(a -> log.info("UC:Agency:Create:done st={} ag={} status={} elapsedMs={}",
                         a.subtypeCode(), a.agencyCode(), a.status(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(a -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.AGENCY, CatalogChange.Operation.CREATE, a.subtypeCode() + ":" + a.agencyCode(), a)));
     }
 }
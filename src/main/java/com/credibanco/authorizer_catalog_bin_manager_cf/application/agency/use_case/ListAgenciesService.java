@@ -1,6 +1,8 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_case;
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.inbound.ListAgenciesUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetCursor;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
@@ -8,6 +10,7 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 public record ListAgenciesService(AgencyRepository repo,
@@ -18,8 +21,9 @@ public record ListAgenciesService(AgencyRepository repo,
         long t0 = System.nanoTime();
         log.info("UC:Agency:List:start st={} status={} page={} size={}", subtypeCode, status, page, size);
 
-        if (page < 0 || size <= 0) {
-            return Flux.error(new AppException(AppError.AGENCY_INVALID_DATA, "page debe ser >=0 y size > 0"));
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Flux.error(new AppException(AppError.AGENCY_INVALID_DATA,
+                    "page debe ser >=0 y size entre 1 y " + KeysetPage.MAX_SIZE));
         }
 
         Flux<Agency> flux = (subtypeCode == null || subtypeCode.isBlank())
@@ -32,4 +36,35 @@ public record ListAgenciesService(AgencyRepository repo,
         return flux.doOnComplete(() -> log.info("UC:Agency:List:done st={} status={} page={} size={} elapsedMs={}",
                 subtypeCode, status, page, size, (System.nanoTime()-t0)/1_000_000));
     }
+
+    @Override
+    public Mono<KeysetPage<Agency>> scroll(String subtypeCode, String status, String search, String cursor, int size) {
+        long t0 = System.nanoTime();
+        log.info("UC:Agency:Scroll:start st={} status={} cursor={} size={}", subtypeCode, status, cursor, size);
+
+        String[] after;
+        try {
+            after = KeysetCursor.decode(cursor, 2);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new AppException(AppError.AGENCY_INVALID_DATA, "cursor inválido"));
+        }
+        if (size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Mono.error(new AppException(AppError.AGENCY_INVALID_DATA,
+                    "size entre 1 y " + KeysetPage.MAX_SIZE));
+        }
+
+        String afterSubtype = after == null ? null : after[0];
+        String afterAgency = after == null ? null : after[1];
+        Flux<Agency> rows = (subtypeCode == null || subtypeCode.isBlank())
+                ? repo.findAfter(null, status, search, afterSubtype, afterAgency, size + 1)
+                : subtypeRepo.existsByCode(subtypeCode)
+                .flatMapMany(exists -> exists
+                        ? repo.findAfter(subtypeCode, status, search, afterSubtype, afterAgency, size + 1)
+                        : Flux.error(new AppException(AppError.SUBTYPE_NOT_FOUND)));
+
+        return rows.collectList()
+                .map(list -> KeysetPage.of(list, size, a -> KeysetCursor.encode(a.subtypeCode(), a.agencyCode())))
+                .doOnSuccess(p -> log.info("UC:Agency:Scroll:done st={} size={} count={} hasNext={} elapsedMs={}",
+                        subtypeCode, size, p.items().size(), p.hasNext(), (System.nanoTime()-t0)/1_000_000));
+    }
 }
@@ -3,6 +3,8 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.inbound.UpdateAgencyUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -13,7 +15,8 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public record UpdateAgencyService(AgencyRepository repo,
                                   SubtypeReadOnlyRepository subtypeRepo,
-                                  TransactionalOperator tx) implements UpdateAgencyUseCase {
+                                  TransactionalOperator tx,
+                                  CatalogChangePublisher changes) implements UpdateAgencyUseCase {
 
     private static long ms(long t0) { return (System.nanoTime()-t0)/1_000_000; }
 
@@ -57,6 +60,8 @@ public record UpdateAgencyService(AgencyRepository repo,
                 })
                 .doOnSuccess(a -> log.info("UC:Agency:Update:done st={} ag={} elapsedMs={}",
                         a.subtypeCode(), a.agencyCode(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(a -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.AGENCY, CatalogChange.Operation.UPDATE, a.subtypeCode() + ":" + a.agencyCode(), a)));
     }
 }
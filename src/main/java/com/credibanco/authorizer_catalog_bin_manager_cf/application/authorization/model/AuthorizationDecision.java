@@ -0,0 +1,46 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+
+import java.util.List;
+
+/**
+ * Resultado de evaluar una transacción contra el catálogo: BIN → SUBTYPE → AGENCY → plan → ítem → reglas.
+ * {@code allowed} es verdadero solo si {@code reasons} está vacío. {@code rules} son las reglas compiladas
+ * del par tal como están en la foto (sin copiarlas); las vigentes son las que cumplen
+ * {@link CompiledRules#isActiveAt} en {@code evaluatedAt} (epoch millis).
+ */
+public record AuthorizationDecision(
+        String panPrefix,
+        String matchedPrefix,
+        String bin,
+        String subtypeCode,
+        boolean binActive,
+        boolean subtypeActive,
+        boolean agencyActive,
+        String planCode,
+        CommerceValidationMode planMode,
+        boolean planActive,
+        boolean commerceAdmitted,
+        CompiledRules rules,
+        long evaluatedAt,
+        boolean allowed,
+        List<Reason> reasons,
+        long catalogVersion
+) {
+
+    public enum Reason {
+        INVALID_REQUEST,
+        BIN_NOT_FOUND, BIN_INACTIVE,
+        SUBTYPE_NOT_FOUND, SUBTYPE_INACTIVE,
+        NO_ACTIVE_AGENCY,
+        PLAN_NOT_ASSIGNED, PLAN_INACTIVE,
+        COMMERCE_NOT_ADMITTED
+    }
+
+    public static AuthorizationDecision rejected(String panPrefix, Reason reason, long catalogVersion) {
+        return new AuthorizationDecision(panPrefix, null, null, null, false, false, false,
+                null, null, false, false, CompiledRules.EMPTY, 0L, false, List.of(reason), catalogVersion);
+    }
+}
@@ -0,0 +1,8 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model;
+
+/** Datos de la transacción a evaluar: prefijo de PAN (6 a 19 dígitos), MCC (4) y código de comercio (9). */
+public record AuthorizationQuery(
+        String panPrefix,
+        String mcc,
+        String merchantId
+) {}
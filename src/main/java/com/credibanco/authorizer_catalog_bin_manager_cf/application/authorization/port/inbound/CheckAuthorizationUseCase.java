@@ -0,0 +1,15 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.port.inbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface CheckAuthorizationUseCase {
+    Mono<AuthorizationDecision> check(AuthorizationQuery query);
+
+    /** Evalúa todas las consultas contra la misma foto del catálogo, en el orden recibido. */
+    Flux<AuthorizationDecision> checkAll(List<AuthorizationQuery> queries);
+}
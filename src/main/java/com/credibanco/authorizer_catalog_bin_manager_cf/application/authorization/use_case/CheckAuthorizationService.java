@@ -0,0 +1,190 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.use_case;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision.Reason;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationQuery;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.port.inbound.CheckAuthorizationUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model.BinResolution;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decide en una sola llamada, sin ir a base de datos: resuelve el prefijo y evalúa SUBTYPE, AGENCY, plan,
+ * ítem y reglas sobre una única foto del catálogo, leída una vez por decisión (o por lote).
+ * Sin plan asignado la transacción se niega (deny by default).
+ */
+@Slf4j
+public record CheckAuthorizationService(CatalogSnapshotProvider snapshots) implements CheckAuthorizationUseCase {
+
+    static final int MIN_PREFIX = 6;
+    static final int MAX_PREFIX = 19;
+    static final int MCC_DIGITS = 4;
+    static final int MERCHANT_ID_DIGITS = 9;
+    static final int MAX_BATCH = 500;
+    private static final String ACTIVE = "A";
+
+    @Override
+    public Mono<AuthorizationDecision> check(AuthorizationQuery query) {
+        return Mono.fromCallable(() -> {
+            String invalid = invalidReason(query);
+            if (invalid != null) {
+                throw new AppException(AppError.AUTHORIZATION_INVALID_DATA, invalid);
+            }
+            CatalogSnapshot snapshot = readySnapshot();
+            AuthorizationDecision d = evaluate(snapshot, query, OffsetDateTime.now());
+            log.debug("UC:CheckAuthorization:done pan={} subtype={} allowed={} reasons={}",
+                    d.matchedPrefix(), d.subtypeCode(), d.allowed(), d.reasons());
+            return d;
+        });
+    }
+
+    @Override
+    public Flux<AuthorizationDecision> checkAll(List<AuthorizationQuery> queries) {
+        return Flux.defer(() -> {
+            if (queries == null || queries.isEmpty() || queries.size() > MAX_BATCH) {
+                return Flux.error(new AppException(AppError.AUTHORIZATION_INVALID_DATA,
+                        "items debe tener entre 1 y " + MAX_BATCH + " consultas"));
+            }
+            long t0 = System.nanoTime();
+            CatalogSnapshot snapshot = readySnapshot();
+            OffsetDateTime now = OffsetDateTime.now();
+            List<AuthorizationDecision> out = new ArrayList<>(queries.size());
+            int allowed = 0;
+            for (AuthorizationQuery q : queries) {
+                AuthorizationDecision d = invalidReason(q) == null
+                        ? evaluate(snapshot, q, now)
+                        : AuthorizationDecision.rejected(q == null ? null : q.panPrefix(), Reason.INVALID_REQUEST, snapshot.version());
+                if (d.allowed()) {
+                    allowed++;
+                }
+                out.add(d);
+            }
+            log.debug("UC:CheckAuthorization:batch:done size={} allowed={} version={} elapsedMs={}",
+                    out.size(), allowed, snapshot.version(), (System.nanoTime() - t0) / 1_000_000);
+            return Flux.fromIterable(out);
+        });
+    }
+
+    private CatalogSnapshot readySnapshot() {
+        CatalogSnapshot snapshot = snapshots.current();
+        if (!snapshot.isLoaded()) {
+            throw new AppException(AppError.AUTHORIZATION_UNAVAILABLE);
+        }
+        return snapshot;
+    }
+
+    private AuthorizationDecision evaluate(CatalogSnapshot snapshot, AuthorizationQuery q, OffsetDateTime now) {
+        Optional<BinResolution> match = snapshot.longestMatch(q.panPrefix());
+        if (match.isEmpty()) {
+            return AuthorizationDecision.rejected(q.panPrefix(), Reason.BIN_NOT_FOUND, snapshot.version());
+        }
+        BinResolution r = match.get();
+        Bin bin = r.bin();
+        List<Reason> reasons = new ArrayList<>(2);
+        boolean binActive = ACTIVE.equals(bin.status());
+        if (!binActive) {
+            reasons.add(Reason.BIN_INACTIVE);
+        }
+
+        Subtype subtype = r.subtype() != null ? r.subtype() : onlySubtypeOf(snapshot.subtypesOfBin(bin.bin()));
+        if (subtype == null) {
+            reasons.add(Reason.SUBTYPE_NOT_FOUND);
+            return new AuthorizationDecision(q.panPrefix(), r.matchedPrefix(), bin.bin(), null,
+                    binActive, false, false, null, null, false, false, CompiledRules.EMPTY, 0L, false, reasons, snapshot.version());
+        }
+        String subtypeCode = subtype.subtypeCode();
+        boolean subtypeActive = ACTIVE.equals(subtype.status());
+        if (!subtypeActive) {
+            reasons.add(Reason.SUBTYPE_INACTIVE);
+        }
+        boolean agencyActive = false;
+        for (Agency a : snapshot.agenciesOfSubtype(subtypeCode)) {
+            if (ACTIVE.equals(a.status())) {
+                agencyActive = true;
+                break;
+            }
+        }
+        if (!agencyActive) {
+            reasons.add(Reason.NO_ACTIVE_AGENCY);
+        }
+
+        SubtypePlanLink link = snapshot.subtypePlans().get(subtypeCode);
+        CommercePlan plan = link == null ? null : snapshot.planById(link.planId());
+        boolean planActive = plan != null && ACTIVE.equals(plan.status());
+        boolean admitted = false;
+        if (plan == null) {
+            reasons.add(Reason.PLAN_NOT_ASSIGNED);
+        } else {
+            if (!planActive) {
+                reasons.add(Reason.PLAN_INACTIVE);
+            }
+            String value = plan.validationMode() == CommerceValidationMode.MERCHANT_ID ? q.merchantId() : q.mcc();
+            admitted = value != null && snapshot.itemsOfPlan(plan.planId()).contains(value);
+            if (!admitted) {
+                reasons.add(Reason.COMMERCE_NOT_ADMITTED);
+            }
+        }
+
+        return new AuthorizationDecision(q.panPrefix(), r.matchedPrefix(), bin.bin(), subtypeCode,
+                binActive, subtypeActive, agencyActive,
+                plan == null ? null : plan.code(), plan == null ? null : plan.validationMode(), planActive, admitted,
+                snapshot.compiledRulesOf(subtypeCode, bin.bin()), now.toInstant().toEpochMilli(),
+                reasons.isEmpty(), reasons, snapshot.version());
+    }
+
+    /** Un BIN sin binEfectivo coincidente solo se resuelve si tiene exactamente un SUBTYPE. */
+    private static Subtype onlySubtypeOf(Collection<Subtype> subtypes) {
+        return subtypes.size() == 1 ? subtypes.iterator().next() : null;
+    }
+
+    /** Mensaje de validación o null si la consulta es válida. */
+    static String invalidReason(AuthorizationQuery q) {
+        if (q == null) {
+            return "consulta requerida";
+        }
+        if (!digits(q.panPrefix(), MIN_PREFIX, MAX_PREFIX)) {
+            return "panPrefix debe ser numérico de " + MIN_PREFIX + " a " + MAX_PREFIX + " dígitos";
+        }
+        if (q.mcc() == null && q.merchantId() == null) {
+            return "debe enviar mcc o merchantId";
+        }
+        if (q.mcc() != null && !digits(q.mcc(), MCC_DIGITS, MCC_DIGITS)) {
+            return "mcc debe ser numérico de " + MCC_DIGITS + " dígitos";
+        }
+        if (q.merchantId() != null && !digits(q.merchantId(), MERCHANT_ID_DIGITS, MERCHANT_ID_DIGITS)) {
+            return "merchantId debe ser numérico de " + MERCHANT_ID_DIGITS + " dígitos";
+        }
+        return null;
+    }
+
+    private static boolean digits(String value, int min, int max) {
+        if (value == null || value.length() < min || value.length() > max) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+
+/**
+ * Resultado de resolver un prefijo de PAN: el BIN dueño y, si el prefijo más largo
+ * corresponde a un binEfectivo, el SUBTYPE (nullable).
+ */
+public record BinResolution(
+        String panPrefix,
+        String matchedPrefix,
+        Bin bin,
+        Subtype subtype
+) {}
@@ -1,11 +1,16 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface ListBinsUseCase {
     Flux<Bin> execute(int page, int size);
 
+    /** Página por cursor ordenada por bin; {@code cursor} null o vacío = primera página. */
+    Mono<KeysetPage<Bin>> scroll(String cursor, int size);
+
        default Flux<Bin> execute() {
         return execute(0, 20);
     }
@@ -0,0 +1,8 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model.BinResolution;
+import reactor.core.publisher.Mono;
+
+public interface ResolveBinUseCase {
+    Mono<BinResolution> execute(String panPrefix);
+}
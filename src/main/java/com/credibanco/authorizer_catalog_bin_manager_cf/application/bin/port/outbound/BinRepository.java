@@ -4,9 +4,13 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface BinRepository {
     Mono<Boolean> existsById(String bin);
     Mono<Bin> save(Bin bin);                 // upsert
     Mono<Bin> findById(String bin);
+    Flux<Bin> findAllById(Collection<String> bins);   // lectura por lote (IN), sin orden; omite los que no existen
     Flux<Bin> findAll(int page, int size);
+    Flux<Bin> findAfter(String afterBin, int limit);   // orden por bin, sin COUNT
 }
\ No newline at end of file
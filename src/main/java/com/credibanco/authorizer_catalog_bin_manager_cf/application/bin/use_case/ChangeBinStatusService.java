@@ -2,6 +2,8 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_cas
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.ChangeBinStatusUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -10,7 +12,7 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record ChangeBinStatusService(BinRepository repo, TransactionalOperator tx)
+public record ChangeBinStatusService(BinRepository repo, TransactionalOperator tx, CatalogChangePublisher changes)
         implements ChangeBinStatusUseCase {
 
     private static long ms(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
@@ -35,6 +37,8 @@ public record ChangeBinStatusService(BinRepository repo, TransactionalOperator t
                 )
                 .doOnSuccess(b -> log.info("UC:ChangeStatus:done bin={}, status={}, elapsedMs={}",
                         b.bin(), b.status(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(b -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.BIN, CatalogChange.Operation.STATUS, b.bin(), b)));
     }
 }
@@ -2,6 +2,8 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_cas
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.CreateBinUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -10,7 +12,7 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record CreateBinService(BinRepository repo, TransactionalOperator tx)
+public record CreateBinService(BinRepository repo, TransactionalOperator tx, CatalogChangePublisher changes)
         implements CreateBinUseCase {
 
     @Override
@@ -41,6 +43,8 @@ public record CreateBinService(BinRepository repo, TransactionalOperator tx)
                                 : repo.save(aggregate)))
                 .doOnSuccess(b -> log.info("UC:CreateBin:done bin={}, elapsedMs={}",
                         b.bin(), (System.nanoTime() - t0) / 1_000_000))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(b -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.BIN, CatalogChange.Operation.CREATE, b.bin(), b)));
     }
 }
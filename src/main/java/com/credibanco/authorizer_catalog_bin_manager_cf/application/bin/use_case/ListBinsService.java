@@ -2,11 +2,14 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_cas
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.ListBinsUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetCursor;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 public record ListBinsService(BinRepository repo) implements ListBinsUseCase {
@@ -20,7 +23,7 @@ public record ListBinsService(BinRepository repo) implements ListBinsUseCase {
         long t0 = System.nanoTime();
         log.info("UC:ListBins:start page={}, size={}", page, size);
 
-        if (page < 0 || size <= 0) {
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
             return Flux.error(new AppException(AppError.BIN_INVALID_DATA
             ));
         }
@@ -29,4 +32,26 @@ public record ListBinsService(BinRepository repo) implements ListBinsUseCase {
                 .doOnComplete(() -> log.info("UC:ListBins:done page={}, size={}, elapsedMs={}",
                         page, size, ms(t0)));
     }
+
+    @Override
+    public Mono<KeysetPage<Bin>> scroll(String cursor, int size) {
+        long t0 = System.nanoTime();
+        log.info("UC:ListBins:scroll:start cursor={}, size={}", cursor, size);
+
+        String[] after;
+        try {
+            after = KeysetCursor.decode(cursor, 1);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new AppException(AppError.BIN_INVALID_DATA, "cursor inválido"));
+        }
+        if (size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Mono.error(new AppException(AppError.BIN_INVALID_DATA));
+        }
+
+        return repo.findAfter(after == null ? null : after[0], size + 1)
+                .collectList()
+                .map(rows -> KeysetPage.of(rows, size, b -> KeysetCursor.encode(b.bin())))
+                .doOnSuccess(p -> log.info("UC:ListBins:scroll:done size={}, count={}, hasNext={}, elapsedMs={}",
+                        size, p.items().size(), p.hasNext(), ms(t0)));
+    }
 }
@@ -0,0 +1,41 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_case;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model.BinResolution;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.ResolveBinUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resuelve el prefijo de PAN con la foto vigente del catálogo, la misma que usa la autorización:
+ * se recarga periódicamente y ve lo escrito en cualquier réplica.
+ */
+@Slf4j
+public record ResolveBinService(CatalogSnapshotProvider snapshots) implements ResolveBinUseCase {
+
+    static final int MIN_PREFIX = 6;
+    static final int MAX_PREFIX = 19;
+
+    @Override
+    public Mono<BinResolution> execute(String panPrefix) {
+        return Mono.defer(() -> {
+            if (panPrefix == null || panPrefix.length() < MIN_PREFIX || panPrefix.length() > MAX_PREFIX
+                    || !panPrefix.chars().allMatch(Character::isDigit)) {
+                return Mono.error(new AppException(AppError.BIN_INVALID_DATA,
+                        "panPrefix debe ser numérico de " + MIN_PREFIX + " a " + MAX_PREFIX + " dígitos"));
+            }
+            CatalogSnapshot snapshot = snapshots.current();
+            if (!snapshot.isLoaded()) {
+                return Mono.error(new AppException(AppError.BIN_RESOLVER_UNAVAILABLE));
+            }
+            return Mono.justOrEmpty(snapshot.longestMatch(panPrefix))
+                    .switchIfEmpty(Mono.error(new AppException(AppError.BIN_NOT_FOUND)))
+                    .doOnNext(r -> log.debug("UC:ResolveBin:done matched={} bin={} subtype={}",
+                            r.matchedPrefix(), r.bin().bin(),
+                            r.subtype() == null ? null : r.subtype().subtypeCode()));
+        });
+    }
+}
@@ -2,6 +2,8 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_cas
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.UpdateBinUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -13,7 +15,8 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.out
 import java.util.Objects;
 
 @Slf4j
-public record UpdateBinService(BinRepository repo, SubtypeReadOnlyRepository subtypeRepo, TransactionalOperator tx)
+public record UpdateBinService(BinRepository repo, SubtypeReadOnlyRepository subtypeRepo,
+                               TransactionalOperator tx, CatalogChangePublisher changes)
         implements UpdateBinUseCase {
 
     private static long ms(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
@@ -39,7 +42,9 @@ public record UpdateBinService(BinRepository repo, SubtypeReadOnlyRepository sub
                                 .flatMap(repo::save))
                 )
                 .doOnSuccess(b -> log.info("UC:UpdateBin:done bin={}, elapsedMs={}", b.bin(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(b -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.BIN, CatalogChange.Operation.UPDATE, b.bin(), b)));
     }
 
     private Mono<Void> validateSubtypeRestriction(Bin current, String newUsesBinExt, Integer newBinExtDigits) {
@@ -0,0 +1,39 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model;
+
+import java.util.Objects;
+
+/**
+ * Cambio confirmado (post-commit) sobre un agregado del catálogo.
+ * El payload es el agregado tal como quedó persistido.
+ */
+public record CatalogChange(
+        Entity entity,
+        Operation operation,
+        String key,
+        Object payload
+) {
+
+    public enum Entity {
+        BIN, SUBTYPE, AGENCY,
+        PLAN, PLAN_ITEM, SUBTYPE_PLAN,
+        VALIDATION, VALIDATION_MAP
+    }
+
+    /** BULK: el payload es un resumen; quien escucha relee el agregado afectado. */
+    public enum Operation { CREATE, UPDATE, STATUS, BULK }
+
+    public CatalogChange {
+        Objects.requireNonNull(entity, "entity");
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(payload, "payload");
+    }
+
+    public static CatalogChange of(Entity entity, Operation operation, String key, Object payload) {
+        return new CatalogChange(entity, operation, key, payload);
+    }
+
+    public <T> T payload(Class<T> type) {
+        return type.cast(payload);
+    }
+}
@@ -0,0 +1,30 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cambio confirmado con su versión del catálogo (monótona, sin huecos y común a todas las réplicas)
+ * dentro de una {@code epoch}: la identidad del log que la asignó. Las versiones solo se comparan
+ * dentro de la misma epoch.
+ * Un evento RESET ({@code change == null}) indica que el consumidor perdió historia
+ * (el log ya la descartó o la numeración volvió a empezar): debe recargar el
+ * catálogo completo y seguir aplicando los eventos siguientes, que son upserts idempotentes del agregado.
+ */
+public record CatalogChangeEvent(
+        String epoch,
+        long version,
+        OffsetDateTime committedAt,
+        CatalogChange change
+) {
+    public static CatalogChangeEvent of(String epoch, long version, CatalogChange change) {
+        return new CatalogChangeEvent(epoch, version, OffsetDateTime.now(), change);
+    }
+
+    public static CatalogChangeEvent reset(String epoch, long version) {
+        return new CatalogChangeEvent(epoch, version, OffsetDateTime.now(), null);
+    }
+
+    public boolean isReset() {
+        return change == null;
+    }
+}
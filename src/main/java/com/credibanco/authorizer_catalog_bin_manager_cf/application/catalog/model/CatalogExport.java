@@ -0,0 +1,23 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+
+/**
+ * Archivo binario generado a partir de una foto del catálogo.
+ * {@code checksum} es el CRC32C del cuerpo (todo lo que sigue a la cabecera) y {@code contentHash} su SHA-256:
+ * no cambia mientras el contenido sea el mismo, aunque la foto se recargue, el servicio reinicie o lo sirva
+ * otra réplica.
+ */
+public record CatalogExport(
+        long version,
+        Path path,
+        long sizeBytes,
+        int checksum,
+        String contentHash,
+        OffsetDateTime builtAt
+) {
+    public String checksumHex() {
+        return String.format("%08x", checksum);
+    }
+}
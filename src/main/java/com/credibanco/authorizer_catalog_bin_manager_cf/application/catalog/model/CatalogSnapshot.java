@@ -0,0 +1,337 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model.BinResolution;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemMembership;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Foto inmutable y versionada del catálogo completo.
+ * Cada {@code with*} devuelve una foto nueva (version + 1) que copia solo la tabla tocada;
+ * las demás tablas se comparten con la foto anterior.
+ * Los mapas ordenados siguen el mismo orden que usan los adaptadores JPA al paginar.
+ */
+public record CatalogSnapshot(
+        long version,
+        OffsetDateTime builtAt,
+        NavigableMap<String, Bin> bins,
+        NavigableMap<SubtypeKey, Subtype> subtypes,
+        NavigableMap<AgencyKey, Agency> agencies,
+        Map<String, CommercePlan> plans,                      // por PLAN_CODE
+        Map<Long, CommercePlan> plansById,                    // los mismos planes por PLAN_ID
+        Map<Long, PlanItemMembership> planItems,              // ítems ACTIVOS por PLAN_ID
+        Map<String, SubtypePlanLink> subtypePlans,            // por SUBTYPE_CODE
+        NavigableMap<Long, Validation> validations,
+        NavigableMap<RuleKey, ValidationMap> validationMaps,
+        Map<String, Map<String, CompiledRules>> compiledRules // por SUBTYPE_CODE y luego BIN
+) {
+
+    public static final CatalogSnapshot EMPTY = new CatalogSnapshot(0L, null,
+            Collections.emptyNavigableMap(), Collections.emptyNavigableMap(), Collections.emptyNavigableMap(),
+            Map.of(), Map.of(), Map.of(), Map.of(),
+            Collections.emptyNavigableMap(), Collections.emptyNavigableMap(), Map.of());
+
+    /** Cota superior para recorrer rangos por prefijo de clave. */
+    private static final String HIGH = "\uffff";
+    private static final int MIN_BIN = 6;
+    private static final int MAX_BIN = 9;
+
+    public record SubtypeKey(String bin, String subtypeCode) implements Comparable<SubtypeKey> {
+        private static final Comparator<SubtypeKey> ORDER =
+                Comparator.comparing(SubtypeKey::bin).thenComparing(SubtypeKey::subtypeCode);
+
+        public static SubtypeKey of(Subtype s) { return new SubtypeKey(s.bin(), s.subtypeCode()); }
+
+        @Override
+        public int compareTo(SubtypeKey o) { return ORDER.compare(this, o); }
+    }
+
+    public record AgencyKey(String subtypeCode, String agencyCode) implements Comparable<AgencyKey> {
+        private static final Comparator<AgencyKey> ORDER =
+                Comparator.comparing(AgencyKey::subtypeCode).thenComparing(AgencyKey::agencyCode);
+
+        public static AgencyKey of(Agency a) { return new AgencyKey(a.subtypeCode(), a.agencyCode()); }
+
+        @Override
+        public int compareTo(AgencyKey o) { return ORDER.compare(this, o); }
+    }
+
+    public record RuleKey(String subtypeCode, String bin, Long validationId) implements Comparable<RuleKey> {
+        private static final Comparator<RuleKey> ORDER = Comparator.comparing(RuleKey::subtypeCode)
+                .thenComparing(RuleKey::bin)
+                .thenComparing(RuleKey::validationId);
+
+        public static RuleKey of(ValidationMap m) { return new RuleKey(m.subtypeCode(), m.bin(), m.validationId()); }
+
+        @Override
+        public int compareTo(RuleKey o) { return ORDER.compare(this, o); }
+    }
+
+    /** Version 0 = aún no se cargó desde base de datos. */
+    public boolean isLoaded() {
+        return version > 0;
+    }
+
+    public static CatalogSnapshot of(long version,
+                                     Collection<Bin> bins,
+                                     Collection<Subtype> subtypes,
+                                     Collection<Agency> agencies,
+                                     Collection<CommercePlan> plans,
+                                     Map<Long, PlanItemMembership> planItems,
+                                     Collection<SubtypePlanLink> subtypePlans,
+                                     Collection<Validation> validations,
+                                     Collection<ValidationMap> validationMaps) {
+        TreeMap<String, Bin> b = new TreeMap<>();
+        bins.forEach(x -> b.put(x.bin(), x));
+        TreeMap<SubtypeKey, Subtype> s = new TreeMap<>();
+        subtypes.forEach(x -> s.put(SubtypeKey.of(x), x));
+        TreeMap<AgencyKey, Agency> a = new TreeMap<>();
+        agencies.forEach(x -> a.put(AgencyKey.of(x), x));
+        Map<String, CommercePlan> p = new HashMap<>();
+        plans.forEach(x -> p.put(x.code(), x));
+        Map<Long, CommercePlan> pi = new HashMap<>();
+        p.values().forEach(x -> {
+            if (x.planId() != null) pi.put(x.planId(), x);
+        });
+        Map<Long, PlanItemMembership> i = new HashMap<>(planItems);
+        Map<String, SubtypePlanLink> l = new HashMap<>();
+        subtypePlans.forEach(x -> l.put(x.subtypeCode(), x));
+        TreeMap<Long, Validation> v = new TreeMap<>();
+        validations.forEach(x -> v.put(x.validationId(), x));
+        TreeMap<RuleKey, ValidationMap> m = new TreeMap<>();
+        validationMaps.forEach(x -> m.put(RuleKey.of(x), x));
+
+        Set<RuleKey> pairs = new HashSet<>();
+        m.keySet().forEach(k -> pairs.add(new RuleKey(k.subtypeCode(), k.bin(), null)));
+
+        return new CatalogSnapshot(version, OffsetDateTime.now(),
+                Collections.unmodifiableNavigableMap(b), Collections.unmodifiableNavigableMap(s),
+                Collections.unmodifiableNavigableMap(a), Collections.unmodifiableMap(p),
+                Collections.unmodifiableMap(pi), Collections.unmodifiableMap(i), Collections.unmodifiableMap(l),
+                Collections.unmodifiableNavigableMap(v), Collections.unmodifiableNavigableMap(m),
+                compile(Map.of(), pairs, m, v));
+    }
+
+    // ----------------- Consultas -----------------
+
+    /**
+     * Coincidencia más larga entre los BIN (6 a 9 dígitos) y los binEfectivo de sus SUBTYPE que son prefijo
+     * de {@code panDigits}, resuelta solo con esta foto: quien decide con ella no mezcla versiones del catálogo.
+     * A igual longitud gana el SUBTYPE sobre el BIN, y entre SUBTYPE del mismo binEfectivo uno activo.
+     */
+    public Optional<BinResolution> longestMatch(String panDigits) {
+        Bin bestBin = null;
+        Subtype bestSubtype = null;
+        int bestLength = 0;
+        for (int len = MIN_BIN; len <= Math.min(MAX_BIN, panDigits.length()); len++) {
+            Bin bin = bins.get(panDigits.substring(0, len));
+            if (bin == null) {
+                continue;
+            }
+            if (len > bestLength) {
+                bestBin = bin;
+                bestSubtype = null;
+                bestLength = len;
+            }
+            for (Subtype s : subtypesOfBin(bin.bin())) {
+                String eff = s.binEfectivo();
+                if (eff == null || !panDigits.startsWith(eff)) {
+                    continue;
+                }
+                if (eff.length() > bestLength || (eff.length() == bestLength && (bestSubtype == null
+                        || (!"A".equals(bestSubtype.status()) && "A".equals(s.status()))))) {
+                    bestBin = bin;
+                    bestSubtype = s;
+                    bestLength = eff.length();
+                }
+            }
+        }
+        return bestBin == null ? Optional.empty()
+                : Optional.of(new BinResolution(panDigits, panDigits.substring(0, bestLength), bestBin, bestSubtype));
+    }
+
+    public Collection<Subtype> subtypesOfBin(String bin) {
+        return subtypes.subMap(new SubtypeKey(bin, ""), true, new SubtypeKey(bin, HIGH), true).values();
+    }
+
+    public boolean hasSubtypeCode(String subtypeCode) {
+        return subtypes.keySet().stream().anyMatch(k -> k.subtypeCode().equals(subtypeCode));
+    }
+
+    public Collection<Agency> agenciesOfSubtype(String subtypeCode) {
+        return agencies.subMap(new AgencyKey(subtypeCode, ""), true, new AgencyKey(subtypeCode, HIGH), true).values();
+    }
+
+    public Collection<ValidationMap> rulesOfSubtype(String subtypeCode) {
+        return validationMaps.subMap(new RuleKey(subtypeCode, "", Long.MIN_VALUE), true,
+                new RuleKey(subtypeCode, HIGH, Long.MAX_VALUE), true).values();
+    }
+
+    /** Reglas compiladas del par; {@link CompiledRules#EMPTY} si no tiene reglas activas. */
+    public CompiledRules compiledRulesOf(String subtypeCode, String bin) {
+        Map<String, CompiledRules> byBin = compiledRules.get(subtypeCode);
+        CompiledRules rules = byBin == null ? null : byBin.get(bin);
+        return rules == null ? CompiledRules.EMPTY : rules;
+    }
+
+    /** Ítems activos del plan; vacío (MCC) si el plan no tiene ítems cargados. */
+    public PlanItemMembership itemsOfPlan(Long planId) {
+        PlanItemMembership items = planItems.get(planId);
+        return items == null ? PlanItemMembership.empty(CommerceValidationMode.MCC) : items;
+    }
+
+    public CommercePlan planById(Long planId) {
+        return planId == null ? null : plansById.get(planId);
+    }
+
+    // ----------------- Copy-on-write -----------------
+
+    public CatalogSnapshot withBin(Bin bin) {
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), put(bins, bin.bin(), bin),
+                subtypes, agencies, plans, plansById, planItems, subtypePlans, validations, validationMaps,
+                compiledRules);
+    }
+
+    public CatalogSnapshot withSubtype(Subtype subtype) {
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins,
+                put(subtypes, SubtypeKey.of(subtype), subtype),
+                agencies, plans, plansById, planItems, subtypePlans, validations, validationMaps, compiledRules);
+    }
+
+    public CatalogSnapshot withAgency(Agency agency) {
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins, subtypes,
+                put(agencies, AgencyKey.of(agency), agency),
+                plans, plansById, planItems, subtypePlans, validations, validationMaps, compiledRules);
+    }
+
+    /** Un plan nuevo arranca con su conjunto vacío del modo correspondiente. */
+    public CatalogSnapshot withPlan(CommercePlan plan) {
+        Map<Long, PlanItemMembership> items = planItems.containsKey(plan.planId()) || plan.planId() == null
+                ? planItems
+                : put(planItems, plan.planId(), PlanItemMembership.empty(plan.validationMode()));
+        CommercePlan previous = plans.get(plan.code());
+        Map<Long, CommercePlan> byId = plansById;
+        if (previous != null && previous.planId() != null && !Objects.equals(previous.planId(), plan.planId())) {
+            byId = new HashMap<>(byId);
+            byId.remove(previous.planId());
+            byId = Collections.unmodifiableMap(byId);
+        }
+        if (plan.planId() != null) {
+            byId = put(byId, plan.planId(), plan);
+        }
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins, subtypes, agencies,
+                put(plans, plan.code(), plan), byId,
+                items, subtypePlans, validations, validationMaps, compiledRules);
+    }
+
+    /** Alta o cambio de estado de un ítem: 'A' lo agrega al conjunto, cualquier otro estado lo quita. */
+    public CatalogSnapshot withPlanItem(PlanItem item) {
+        PlanItemMembership current = planItems.get(item.planId());
+        if (current == null) {
+            CommercePlan plan = planById(item.planId());
+            current = PlanItemMembership.empty(plan == null ? CommerceValidationMode.MCC : plan.validationMode());
+        }
+        PlanItemMembership next = "A".equals(item.status()) ? current.with(item.value()) : current.without(item.value());
+        return withPlanItems(item.planId(), next);
+    }
+
+    /** Reemplaza el conjunto de ítems del plan (cargas masivas o cambio de modo). */
+    public CatalogSnapshot withPlanItems(Long planId, PlanItemMembership items) {
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins, subtypes, agencies, plans,
+                plansById, put(planItems, planId, items),
+                subtypePlans, validations, validationMaps, compiledRules);
+    }
+
+    public CatalogSnapshot withSubtypePlan(SubtypePlanLink link) {
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins, subtypes, agencies, plans, plansById,
+                planItems, put(subtypePlans, link.subtypeCode(), link),
+                validations, validationMaps, compiledRules);
+    }
+
+    /** Recompila los pares que usan la VALIDATION (cambio de estado, vigencia o tipo). */
+    public CatalogSnapshot withValidation(Validation validation) {
+        NavigableMap<Long, Validation> v = put(validations, validation.validationId(), validation);
+        Set<RuleKey> pairs = new HashSet<>();
+        for (RuleKey k : validationMaps.keySet()) {
+            if (Objects.equals(k.validationId(), validation.validationId())) {
+                pairs.add(new RuleKey(k.subtypeCode(), k.bin(), null));
+            }
+        }
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins, subtypes, agencies, plans, plansById,
+                planItems, subtypePlans, v, validationMaps, compile(compiledRules, pairs, validationMaps, v));
+    }
+
+    public CatalogSnapshot withValidationMap(ValidationMap map) {
+        NavigableMap<RuleKey, ValidationMap> m = put(validationMaps, RuleKey.of(map), map);
+        return new CatalogSnapshot(version + 1, OffsetDateTime.now(), bins, subtypes, agencies, plans, plansById,
+                planItems, subtypePlans, validations, m,
+                compile(compiledRules, Set.of(new RuleKey(map.subtypeCode(), map.bin(), null)), m, validations));
+    }
+
+    /** Copia {@code source} recompilando solo los pares indicados (validationId se ignora). */
+    private static Map<String, Map<String, CompiledRules>> compile(Map<String, Map<String, CompiledRules>> source,
+                                                                   Set<RuleKey> pairs,
+                                                                   NavigableMap<RuleKey, ValidationMap> maps,
+                                                                   Map<Long, Validation> validations) {
+        if (pairs.isEmpty()) {
+            return source;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        Map<String, Map<String, CompiledRules>> out = new HashMap<>(source);
+        Map<String, Map<String, CompiledRules>> touched = new HashMap<>();
+        for (RuleKey pair : pairs) {
+            Map<String, CompiledRules> byBin = touched.computeIfAbsent(pair.subtypeCode(),
+                    k -> new HashMap<>(source.getOrDefault(k, Map.of())));
+            CompiledRules rules = CompiledRules.compile(
+                    maps.subMap(new RuleKey(pair.subtypeCode(), pair.bin(), Long.MIN_VALUE), true,
+                            new RuleKey(pair.subtypeCode(), pair.bin(), Long.MAX_VALUE), true).values(),
+                    validations, now);
+            if (rules.size() == 0) {
+                byBin.remove(pair.bin());
+            } else {
+                byBin.put(pair.bin(), rules);
+            }
+        }
+        touched.forEach((subtypeCode, byBin) -> {
+            if (byBin.isEmpty()) {
+                out.remove(subtypeCode);
+            } else {
+                out.put(subtypeCode, Collections.unmodifiableMap(byBin));
+            }
+        });
+        return Collections.unmodifiableMap(out);
+    }
+
+    private static <K, V> NavigableMap<K, V> put(NavigableMap<K, V> source, K key, V value) {
+        TreeMap<K, V> copy = new TreeMap<>(source);
+        copy.put(key, value);
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    private static <K, V> Map<K, V> put(Map<K, V> source, K key, V value) {
+        Map<K, V> copy = new HashMap<>(source);
+        copy.put(key, value);
+        return Collections.unmodifiableMap(copy);
+    }
+}
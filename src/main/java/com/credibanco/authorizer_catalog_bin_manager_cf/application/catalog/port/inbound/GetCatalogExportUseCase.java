@@ -0,0 +1,8 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import reactor.core.publisher.Mono;
+
+public interface GetCatalogExportUseCase {
+    Mono<CatalogExport> execute();
+}
@@ -0,0 +1,8 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChangeEvent;
+import reactor.core.publisher.Flux;
+
+public interface StreamCatalogChangesUseCase {
+    Flux<CatalogChangeEvent> execute(String epoch, long since);
+}
@@ -0,0 +1,18 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChangeEvent;
+import reactor.core.publisher.Flux;
+
+public interface CatalogChangeLog {
+    /** Identidad del log, común a todas las réplicas; solo cambia si la numeración vuelve a empezar. */
+    String epoch();
+
+    /** Última versión que esta réplica ya repartió (0 si aún no hubo cambios). */
+    long head();
+
+    /**
+     * Eventos con versión mayor a {@code version}, seguidos de los cambios en vivo. Si {@code version > 0}
+     * y {@code epoch} no es la de este log, el feed empieza con RESET en la versión actual.
+     */
+    Flux<CatalogChangeEvent> since(String epoch, long version);
+}
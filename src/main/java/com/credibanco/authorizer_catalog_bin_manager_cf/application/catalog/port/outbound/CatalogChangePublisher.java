@@ -0,0 +1,11 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+
+/**
+ * Notifica cambios del catálogo ya confirmados. Los casos de uso lo invocan
+ * después de {@code tx::transactional}, nunca dentro de la transacción.
+ */
+public interface CatalogChangePublisher {
+    void publish(CatalogChange change);
+}
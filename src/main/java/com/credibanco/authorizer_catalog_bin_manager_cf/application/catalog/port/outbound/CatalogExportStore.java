@@ -0,0 +1,9 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+
+public interface CatalogExportStore {
+    /** Devuelve el archivo de esa versión, generándolo si aún no existe. Operación bloqueante (I/O). */
+    CatalogExport exportOf(CatalogSnapshot snapshot);
+}
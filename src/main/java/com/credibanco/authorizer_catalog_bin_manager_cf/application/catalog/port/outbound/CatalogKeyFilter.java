@@ -0,0 +1,40 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound;
+
+/**
+ * Filtro de pertenencia aproximado sobre las claves del catálogo.
+ * {@code mightContain == false} garantiza que la clave no existe; {@code true} puede ser un falso
+ * positivo y hay que confirmar contra la fuente. Mientras no esté cargado responde siempre {@code true}.
+ * <p>
+ * Con la foto en memoria cargada, un acierto se responde desde la foto; un fallo solo se confirma contra
+ * la fuente si el filtro (que se recarga más seguido que la foto) dice que la clave puede existir, p. ej.
+ * porque otra réplica la dio de alta después de la última recarga de la foto.
+ */
+public interface CatalogKeyFilter {
+
+    enum KeySpace { BIN, SUBTYPE_CODE, PLAN_CODE }
+
+    /** Filtro que nunca descarta: todo se confirma contra la fuente. */
+    CatalogKeyFilter NONE = new CatalogKeyFilter() {
+        @Override
+        public boolean mightContain(KeySpace space, String key) {
+            return true;
+        }
+
+        @Override
+        public void recordFalsePositive(KeySpace space) {
+        }
+
+        @Override
+        public boolean isLoaded() {
+            return false;
+        }
+    };
+
+    boolean mightContain(KeySpace space, String key);
+
+    /** {@code false} mientras {@link #mightContain} no pueda descartar nada. */
+    boolean isLoaded();
+
+    /** Quien confirmó contra la fuente un {@code true} que resultó inexistente lo informa, para medir la tasa real. */
+    void recordFalsePositive(KeySpace space);
+}
@@ -0,0 +1,8 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+
+public interface CatalogSnapshotProvider {
+    /** Foto vigente; {@link CatalogSnapshot#EMPTY} mientras no se haya cargado. */
+    CatalogSnapshot current();
+}
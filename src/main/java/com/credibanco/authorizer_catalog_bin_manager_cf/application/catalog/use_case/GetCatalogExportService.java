@@ -0,0 +1,32 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.use_case;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.GetCatalogExportUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogExportStore;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+public record GetCatalogExportService(CatalogSnapshotProvider snapshots, CatalogExportStore store)
+        implements GetCatalogExportUseCase {
+
+    @Override
+    public Mono<CatalogExport> execute() {
+        return Mono.defer(() -> {
+            CatalogSnapshot snapshot = snapshots.current();
+            if (!snapshot.isLoaded()) {
+                return Mono.error(new AppException(AppError.CATALOG_EXPORT_UNAVAILABLE));
+            }
+            long t0 = System.nanoTime();
+            return Mono.fromCallable(() -> store.exportOf(snapshot))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnNext(e -> log.debug("UC:GetCatalogExport:done version={} bytes={} elapsedMs={}",
+                            e.version(), e.sizeBytes(), (System.nanoTime() - t0) / 1_000_000));
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.use_case;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChangeEvent;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.StreamCatalogChangesUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangeLog;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+public record StreamCatalogChangesService(CatalogChangeLog changeLog) implements StreamCatalogChangesUseCase {
+
+    @Override
+    public Flux<CatalogChangeEvent> execute(String epoch, long since) {
+        if (since < 0) {
+            return Flux.error(new AppException(AppError.CATALOG_INVALID_DATA, "since debe ser mayor o igual a 0"));
+        }
+        return changeLog.since(epoch, since)
+                .doOnSubscribe(s -> log.debug("UC:StreamCatalogChanges:start epoch={} since={} head={}",
+                        epoch, since, changeLog.head()))
+                .doOnCancel(() -> log.debug("UC:StreamCatalogChanges:cancel since={}", since));
+    }
+}
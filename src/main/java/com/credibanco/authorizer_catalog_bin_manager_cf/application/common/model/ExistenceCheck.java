@@ -0,0 +1,74 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Una pregunta de existencia ("¿hay fila que cumpla X?") que un caso de uso necesita antes de
+ * escribir. Varias se resuelven juntas en un solo viaje a la base con
+ * {@link com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository}.
+ * Dos checks con el mismo tipo y las mismas claves son iguales: el resultado se consulta con el mismo valor.
+ */
+public record ExistenceCheck(Kind kind, List<String> keys) {
+
+    public enum Kind {
+        /** BIN maestro por código; claves: bin. */
+        BIN(1),
+        /** Algún SUBTYPE con ese código (en cualquier BIN); claves: subtypeCode. */
+        SUBTYPE_CODE(1),
+        /** SUBTYPE por PK; claves: bin, subtypeCode. */
+        SUBTYPE(2),
+        /** SUBTYPE que ya usa esa extensión en el BIN; claves: bin, binExt. */
+        SUBTYPE_BIN_EXT(2),
+        /** Otra AGENCY activa del SUBTYPE distinta de la indicada; claves: subtypeCode, agencyCode excluida. */
+        OTHER_ACTIVE_AGENCY(2),
+        /** COMMERCE_PLAN con al menos un ítem activo; claves: planCode. */
+        PLAN_WITH_ACTIVE_ITEMS(1);
+
+        private final int arity;
+
+        Kind(int arity) {
+            this.arity = arity;
+        }
+
+        public int arity() {
+            return arity;
+        }
+    }
+
+    public ExistenceCheck {
+        Objects.requireNonNull(kind, "kind");
+        keys = List.copyOf(keys);
+        if (keys.size() != kind.arity()) {
+            throw new IllegalArgumentException(kind + " espera " + kind.arity() + " claves");
+        }
+    }
+
+    public static ExistenceCheck bin(String bin) {
+        return new ExistenceCheck(Kind.BIN, List.of(bin));
+    }
+
+    public static ExistenceCheck subtypeCode(String subtypeCode) {
+        return new ExistenceCheck(Kind.SUBTYPE_CODE, List.of(subtypeCode));
+    }
+
+    public static ExistenceCheck subtype(String bin, String subtypeCode) {
+        return new ExistenceCheck(Kind.SUBTYPE, List.of(bin, subtypeCode));
+    }
+
+    public static ExistenceCheck subtypeBinExt(String bin, String binExt) {
+        return new ExistenceCheck(Kind.SUBTYPE_BIN_EXT, List.of(bin, binExt));
+    }
+
+    public static ExistenceCheck otherActiveAgency(String subtypeCode, String excludedAgencyCode) {
+        return new ExistenceCheck(Kind.OTHER_ACTIVE_AGENCY, List.of(subtypeCode, excludedAgencyCode));
+    }
+
+    public static ExistenceCheck planWithActiveItems(String planCode) {
+        return new ExistenceCheck(Kind.PLAN_WITH_ACTIVE_ITEMS, List.of(planCode));
+    }
+
+    public String key(int index) {
+        return keys.get(index);
+    }
+}
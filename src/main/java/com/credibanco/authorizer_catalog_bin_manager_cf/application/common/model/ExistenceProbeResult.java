@@ -0,0 +1,35 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Respuesta de un sondeo de existencias: un booleano por cada {@link ExistenceCheck} pedido.
+ * Preguntar por un check que no se envió es un error de programación y falla en vez de asumir false.
+ */
+public record ExistenceProbeResult(Map<ExistenceCheck, Boolean> results) {
+
+    public static final ExistenceProbeResult EMPTY = new ExistenceProbeResult(Map.of());
+
+    public ExistenceProbeResult {
+        results = Map.copyOf(results);
+    }
+
+    public static ExistenceProbeResult of(Collection<ExistenceCheck> checks, Predicate<ExistenceCheck> exists) {
+        Map<ExistenceCheck, Boolean> out = new LinkedHashMap<>();
+        for (ExistenceCheck check : checks) {
+            out.put(check, exists.test(check));
+        }
+        return new ExistenceProbeResult(out);
+    }
+
+    public boolean exists(ExistenceCheck check) {
+        Boolean found = results.get(check);
+        if (found == null) {
+            throw new IllegalArgumentException("Check no incluido en el sondeo: " + check);
+        }
+        return found;
+    }
+}
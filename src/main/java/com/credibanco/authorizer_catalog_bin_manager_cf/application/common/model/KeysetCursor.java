@@ -0,0 +1,37 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco de paginación por clave (seek): las columnas de orden de la última fila entregada,
+ * codificadas en Base64 URL-safe. El cliente solo lo devuelve tal cual en {@code cursor}.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(String... keys) {
+        String joined = String.join(String.valueOf(SEPARATOR), keys);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Devuelve las {@code parts} claves del cursor, o {@code null} si viene vacío (primera página).
+     * @throws IllegalArgumentException si el cursor no es válido para este listado.
+     */
+    public static String[] decode(String cursor, int parts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        String[] keys = raw.split(String.valueOf(SEPARATOR), -1);
+        if (keys.length != parts) {
+            throw new IllegalArgumentException("cursor inválido");
+        }
+        return keys;
+    }
+}
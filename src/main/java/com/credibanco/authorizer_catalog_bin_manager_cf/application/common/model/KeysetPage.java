@@ -0,0 +1,30 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado por cursor (semántica de Slice: no se cuenta el total).
+ * {@code nextCursor} es null cuando no hay más filas.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    /** Tope de filas por página, por cursor u offset; para traer todo está el stream NDJSON. */
+    public static final int MAX_SIZE = 1000;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Los repositorios devuelven hasta {@code size + 1} filas; la fila extra solo indica que hay
+     * página siguiente y no se entrega.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new KeysetPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Resuelve varias precondiciones de existencia en una sola consulta (una conexión, un viaje),
+ * en lugar de un {@code existsBy...} por cada una.
+ */
+public interface ExistenceProbeRepository {
+
+    Mono<ExistenceProbeResult> probe(Collection<ExistenceCheck> checks);
+}
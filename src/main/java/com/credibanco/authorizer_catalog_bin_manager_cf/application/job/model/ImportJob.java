@@ -0,0 +1,94 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estado de un job de importación. Es también su checkpoint: {@code position} es la cantidad de
+ * elementos de la carga ya resueltos en bloques confirmados, y al retomar se continúa desde ahí.
+ * Las muestras de rechazados se acotan a {@link #SAMPLE_LIMIT} valores cada una.
+ */
+public record ImportJob(
+        String id,
+        ImportJobKind kind,
+        String target,
+        ImportJobStatus status,
+        String submittedBy,
+        long total,
+        long position,
+        long received,
+        long inserted,
+        long duplicates,
+        long invalid,
+        int chunks,
+        List<String> invalidSample,
+        List<String> duplicateSample,
+        OffsetDateTime submittedAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        String error
+) {
+    public static final int SAMPLE_LIMIT = 100;
+
+    public static ImportJob queued(String id, ImportJobKind kind, String target, String submittedBy,
+                                   long total, OffsetDateTime now) {
+        return new ImportJob(id, kind, target, ImportJobStatus.QUEUED, submittedBy, total,
+                0, 0, 0, 0, 0, 0, List.of(), List.of(), now, null, null, null);
+    }
+
+    /** Al retomar tras un reinicio se conserva el {@code startedAt} original. */
+    public ImportJob running(OffsetDateTime now) {
+        return new ImportJob(id, kind, target, ImportJobStatus.RUNNING, submittedBy, total,
+                position, received, inserted, duplicates, invalid, chunks, invalidSample, duplicateSample,
+                submittedAt, startedAt == null ? now : startedAt, null, null);
+    }
+
+    /** Suma al checkpoint {@code base} lo avanzado en esta ejecución (contadores relativos a {@code base}). */
+    public static ImportJob advance(ImportJob base, long position, long received, long inserted, long duplicates,
+                                    long invalid, int chunks, List<String> invalidSample, List<String> duplicateSample) {
+        return new ImportJob(base.id, base.kind, base.target, base.status, base.submittedBy, base.total,
+                base.position + position, base.received + received, base.inserted + inserted,
+                base.duplicates + duplicates, base.invalid + invalid, base.chunks + chunks,
+                merge(base.invalidSample, invalidSample), merge(base.duplicateSample, duplicateSample),
+                base.submittedAt, base.startedAt, base.finishedAt, base.error);
+    }
+
+    public ImportJob completed(OffsetDateTime now) {
+        return finish(ImportJobStatus.COMPLETED, now, null);
+    }
+
+    public ImportJob failed(OffsetDateTime now, String reason) {
+        return finish(ImportJobStatus.FAILED, now, reason);
+    }
+
+    /** Elementos resueltos por segundo desde que empezó (hasta que terminó, o hasta {@code now}). */
+    public double throughputPerSec(OffsetDateTime now) {
+        if (startedAt == null) {
+            return 0d;
+        }
+        long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : now).toMillis();
+        return millis <= 0 ? 0d : position * 1000d / millis;
+    }
+
+    private ImportJob finish(ImportJobStatus newStatus, OffsetDateTime now, String reason) {
+        return new ImportJob(id, kind, target, newStatus, submittedBy, total,
+                position, received, inserted, duplicates, invalid, chunks, invalidSample, duplicateSample,
+                submittedAt, startedAt == null ? now : startedAt, now, reason);
+    }
+
+    private static List<String> merge(List<String> base, List<String> more) {
+        if (more == null || more.isEmpty() || base.size() >= SAMPLE_LIMIT) {
+            return base;
+        }
+        List<String> out = new ArrayList<>(base);
+        for (String v : more) {
+            if (out.size() >= SAMPLE_LIMIT) {
+                break;
+            }
+            out.add(v);
+        }
+        return List.copyOf(out);
+    }
+}
@@ -0,0 +1,6 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model;
+
+/** Tipo de carga que procesa un job; {@code target} del job es la clave del destino (p. ej. el código de plan). */
+public enum ImportJobKind {
+    PLAN_ITEMS
+}
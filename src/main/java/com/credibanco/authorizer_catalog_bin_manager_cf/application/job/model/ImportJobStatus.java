@@ -0,0 +1,12 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
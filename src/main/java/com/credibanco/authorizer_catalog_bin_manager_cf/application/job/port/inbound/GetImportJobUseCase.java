@@ -0,0 +1,8 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.inbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import reactor.core.publisher.Mono;
+
+public interface GetImportJobUseCase {
+    Mono<ImportJob> execute(String id);
+}
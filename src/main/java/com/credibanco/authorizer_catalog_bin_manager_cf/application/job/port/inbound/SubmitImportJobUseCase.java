@@ -0,0 +1,11 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.inbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface SubmitImportJobUseCase {
+    /** Guarda la carga, encola el job y responde de inmediato con el job en QUEUED. */
+    Mono<ImportJob> submit(ImportJobKind kind, String target, Flux<String> values, String by);
+}
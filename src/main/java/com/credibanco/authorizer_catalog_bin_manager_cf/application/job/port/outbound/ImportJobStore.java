@@ -0,0 +1,54 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Persistencia de los jobs de importación: el estado (checkpoint) y la carga original ("spool"),
+ * compartidos por todas las réplicas para poder consultar y retomar desde cualquiera. Cada job sin
+ * terminar lo procesa la réplica que tiene su lease; quien deja de renovarlo lo cede. Operaciones bloqueantes.
+ */
+public interface ImportJobStore {
+
+    /** Crea o reemplaza el estado del job de forma atómica. */
+    void save(ImportJob job);
+
+    Optional<ImportJob> find(String id);
+
+    /** Jobs en QUEUED o RUNNING sin dueño o con el lease vencido, en orden de envío. */
+    List<ImportJob> findClaimable();
+
+    /**
+     * Toma el job para {@code owner} por {@code lease} si sigue sin terminar y no tiene dueño, su lease
+     * venció o ya es de {@code owner}. Es atómico entre réplicas: solo una obtiene {@code true}.
+     */
+    boolean claim(String id, String owner, Duration lease);
+
+    /** Extiende por {@code lease} los jobs sin terminar de {@code owner}; devuelve cuántos. */
+    int renew(String owner, Duration lease);
+
+    /** Cede el job de {@code owner} para que lo tome otra réplica. */
+    void release(String id, String owner);
+
+    SpoolWriter openSpool(String id);
+
+    /** Valores de la carga a partir del elemento {@code skip}; el Stream debe cerrarse. */
+    Stream<String> readSpool(String id, long skip);
+
+    void deleteSpool(String id);
+
+    interface SpoolWriter extends AutoCloseable {
+        void write(String value);
+
+        /** Elementos escritos hasta ahora. */
+        long count();
+
+        /** Persiste lo pendiente; se puede invocar más de una vez. */
+        @Override
+        void close();
+    }
+}
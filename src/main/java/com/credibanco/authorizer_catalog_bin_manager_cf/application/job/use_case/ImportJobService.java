@@ -0,0 +1,237 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job.use_case;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.inbound.GetImportJobUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.inbound.SubmitImportJobUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound.ImportJobStore;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsImportProgress;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.AddPlanItemUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Motor de jobs de importación. El envío guarda la carga en el store y encola el job; una cola
+ * acotada ({@code maxQueued}) alimenta a lo sumo {@code maxConcurrent} jobs simultáneos, y la E/S
+ * del store corre en un scheduler propio y acotado, fuera de los hilos HTTP y de los de JDBC.
+ * <p>
+ * Cada job reutiliza {@link AddPlanItemUseCase#importStream}: bloques acotados, cada uno en su
+ * propia transacción. Tras cada bloque confirmado se guarda el checkpoint. Cada job lo procesa solo la
+ * réplica que tomó su lease en el store ({@link ImportJobStore#claim}); esta instancia renueva los suyos
+ * cada {@code lease / 3} y en el mismo ciclo, igual que al arrancar, {@link #resumeUnfinished()} toma los
+ * jobs en QUEUED/RUNNING sin dueño o con el lease vencido (réplica caída) y los retoma desde su
+ * {@code position}. Si la caída ocurre entre la confirmación de un bloque y su checkpoint, ese bloque se
+ * vuelve a procesar y sus valores se cuentan como duplicados (lo ya insertado no se repite).
+ */
+@Slf4j
+public class ImportJobService implements SubmitImportJobUseCase, GetImportJobUseCase, AutoCloseable {
+
+    private final ImportJobStore store;
+    private final CommercePlanRepository planRepo;
+    private final AddPlanItemUseCase addItemUC;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+    private final Set<String> local = ConcurrentHashMap.newKeySet();
+    private final Scheduler io;
+    private final Sinks.Many<String> queue;
+    private final Disposable worker;
+    private final Disposable heartbeat;
+
+    public ImportJobService(ImportJobStore store,
+                            CommercePlanRepository planRepo,
+                            AddPlanItemUseCase addItemUC,
+                            int maxConcurrent,
+                            int maxQueued,
+                            Duration lease) {
+        this.store = store;
+        this.planRepo = planRepo;
+        this.addItemUC = addItemUC;
+        this.lease = lease;
+        int concurrency = Math.max(1, maxConcurrent);
+        this.io = Schedulers.newBoundedElastic(concurrency + 2, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "import-job");
+        this.queue = Sinks.many().unicast().onBackpressureBuffer(Queues.<String>get(Math.max(1, maxQueued)).get());
+        this.worker = queue.asFlux()
+                .flatMap(this::run, concurrency)
+                .subscribe();
+        this.heartbeat = Flux.interval(lease.dividedBy(3), io)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromRunnable(this::heartbeat), 1)
+                .subscribe();
+    }
+
+    @Override
+    public Mono<ImportJob> submit(ImportJobKind kind, String target, Flux<String> values, String by) {
+        if (kind != ImportJobKind.PLAN_ITEMS || target == null || target.isBlank()) {
+            return Mono.error(new AppException(AppError.JOB_INVALID_DATA));
+        }
+        return planRepo.findByCode(target)
+                .switchIfEmpty(Mono.<CommercePlan>error(
+                        new AppException(AppError.PLAN_NOT_FOUND)))
+                .flatMap(plan -> {
+                    String id = UUID.randomUUID().toString();
+                    long t0 = System.nanoTime();
+                    return Mono.using(() -> store.openSpool(id),
+                                    spool -> values.publishOn(io)
+                                            .doOnNext(spool::write)
+                                            .then(Mono.fromCallable(() -> {
+                                                spool.close(); // a disco antes de encolar
+                                                return spool.count();
+                                            })),
+                                    ImportJobStore.SpoolWriter::close)
+                            .subscribeOn(io)
+                            .map(total -> {
+                                ImportJob job = ImportJob.queued(id, kind, plan.code(), by, total, OffsetDateTime.now());
+                                store.save(job);
+                                log.info("JOB:import:submitted id={} kind={} target={} total={} spoolMs={}",
+                                        id, kind, job.target(), total, (System.nanoTime() - t0) / 1_000_000);
+                                return job;
+                            })
+                            .flatMap(this::enqueue)
+                            .doOnError(ex -> store.deleteSpool(id));
+                });
+    }
+
+    @Override
+    public Mono<ImportJob> execute(String id) {
+        return Mono.fromCallable(() -> store.find(id))
+                .subscribeOn(io)
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(Mono.error(new AppException(AppError.JOB_NOT_FOUND)));
+    }
+
+    /**
+     * Toma y encola los jobs en QUEUED/RUNNING sin dueño o con el lease vencido: los de una instancia
+     * que se detuvo, sea esta misma antes de reiniciar u otra réplica. Solo encola los que logra tomar.
+     */
+    public void resumeUnfinished() {
+        for (ImportJob job : store.findClaimable()) {
+            if (local.contains(job.id()) || !store.claim(job.id(), owner, lease)) {
+                continue;
+            }
+            log.info("JOB:import:resume id={} kind={} target={} position={} total={}",
+                    job.id(), job.kind(), job.target(), job.position(), job.total());
+            if (!offer(job.id())) {
+                store.release(job.id(), owner);
+                log.warn("JOB:import:resume-rejected id={} reason=queue-full", job.id());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        heartbeat.dispose();
+        worker.dispose();
+        io.dispose();
+    }
+
+    private void heartbeat() {
+        try {
+            store.renew(owner, lease);
+            resumeUnfinished();
+        } catch (RuntimeException ex) {
+            log.warn("JOB:import:heartbeat-failed owner={} reason={}", owner, ex.getMessage());
+        }
+    }
+
+    /** El job recién enviado se toma antes de encolarlo; si otra réplica se adelantó, lo procesa ella. */
+    private Mono<ImportJob> enqueue(ImportJob job) {
+        if (!store.claim(job.id(), owner, lease)) {
+            log.info("JOB:import:claimed-elsewhere id={}", job.id());
+            return Mono.just(job);
+        }
+        if (offer(job.id())) {
+            return Mono.just(job);
+        }
+        store.save(job.failed(OffsetDateTime.now(), AppError.JOB_QUEUE_FULL.defaultMessage));
+        log.warn("JOB:import:rejected id={} reason=queue-full", job.id());
+        return Mono.error(new AppException(AppError.JOB_QUEUE_FULL));
+    }
+
+    private synchronized boolean offer(String id) {
+        if (!local.add(id)) {
+            return true;
+        }
+        if (queue.tryEmitNext(id).isSuccess()) {
+            return true;
+        }
+        local.remove(id);
+        return false;
+    }
+
+    /**
+     * Antes de empezar se vuelve a tomar el lease: si venció mientras el job esperaba en cola y otra
+     * réplica lo tomó, aquí se omite.
+     */
+    private Mono<Void> run(String id) {
+        return Mono.fromCallable(() -> store.claim(id, owner, lease) ? store.find(id) : Optional.<ImportJob>empty())
+                .subscribeOn(io)
+                .flatMap(Mono::justOrEmpty)
+                .filter(job -> !job.status().isFinished())
+                .flatMap(job -> {
+                    long t0 = System.nanoTime();
+                    ImportJob base = job.running(OffsetDateTime.now());
+                    store.save(base);
+                    log.info("JOB:import:start id={} target={} position={} total={}",
+                            id, base.target(), base.position(), base.total());
+                    AtomicReference<ImportJob> last = new AtomicReference<>(base);
+                    Flux<String> pending = Flux.using(() -> store.readSpool(id, base.position()), Flux::fromStream,
+                                    Stream::close)
+                            .subscribeOn(io);
+                    return addItemUC.importStream(base.target(), pending, base.submittedBy())
+                            .publishOn(io)
+                            .doOnNext(p -> last.set(checkpoint(base, p)))
+                            .then(Mono.fromRunnable(() -> {
+                                store.deleteSpool(id);
+                                ImportJob done = last.get();
+                                log.info("JOB:import:done id={} target={} processed={} inserted={} dup={} invalid={} chunks={} itemsPerSec={} elapsedMs={}",
+                                        id, done.target(), done.position(), done.inserted(), done.duplicates(), done.invalid(),
+                                        done.chunks(), Math.round(done.throughputPerSec(OffsetDateTime.now())),
+                                        (System.nanoTime() - t0) / 1_000_000);
+                            }))
+                            .onErrorResume(ex -> {
+                                ImportJob failed = last.get().failed(OffsetDateTime.now(), ex.getMessage());
+                                store.save(failed);
+                                log.warn("JOB:import:failed id={} target={} position={} reason={}",
+                                        id, failed.target(), failed.position(), ex.toString());
+                                return Mono.empty();
+                            });
+                })
+                .onErrorResume(ex -> {
+                    log.error("JOB:import:error id={}", id, ex);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> local.remove(id))
+                .then();
+    }
+
+    private ImportJob checkpoint(ImportJob base, PlanItemsImportProgress p) {
+        ImportJob next = ImportJob.advance(base, p.position(), p.received(), p.inserted(), p.duplicates(),
+                p.invalid(), p.chunks(), p.invalidSample(), p.duplicateSample());
+        if (p.done()) {
+            next = next.completed(OffsetDateTime.now());
+        }
+        store.save(next);
+        log.debug("JOB:import:checkpoint id={} position={} inserted={} done={}",
+                next.id(), next.position(), next.inserted(), p.done());
+        return next;
+    }
+}
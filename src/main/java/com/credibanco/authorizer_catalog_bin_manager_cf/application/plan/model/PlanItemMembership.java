@@ -0,0 +1,226 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Conjunto inmutable de ítems ACTIVOS de un plan, en representación primitiva:
+ * <ul>
+ *   <li>MCC: bitset de 10.000 bits (un bit por código 0000..9999), ~1,2 KB por plan; búsqueda O(1).</li>
+ *   <li>MERCHANT_ID: {@code int[]} ordenado (9 dígitos caben en un int), 4 bytes por comercio; búsqueda O(log n).</li>
+ * </ul>
+ * Valores que no cumplen el formato del modo nunca pertenecen al conjunto.
+ * {@code with}/{@code without} devuelven una copia; la instancia original no cambia.
+ */
+public sealed interface PlanItemMembership permits PlanItemMembership.Mcc, PlanItemMembership.MerchantIds {
+
+    CommerceValidationMode mode();
+
+    boolean contains(String value);
+
+    int size();
+
+    PlanItemMembership with(String value);
+
+    PlanItemMembership without(String value);
+
+    /** Recorre los valores en orden ascendente, con el ancho fijo del modo (4 o 9 dígitos). */
+    void forEachValue(Consumer<String> action);
+
+    /** Tamaño aproximado de la estructura primitiva, para métricas. */
+    long sizeInBytes();
+
+    static PlanItemMembership empty(CommerceValidationMode mode) {
+        return mode == CommerceValidationMode.MERCHANT_ID ? MerchantIds.EMPTY : Mcc.EMPTY;
+    }
+
+    static PlanItemMembership of(CommerceValidationMode mode, Collection<String> values) {
+        if (mode == CommerceValidationMode.MERCHANT_ID) {
+            int[] ids = new int[values.size()];
+            int n = 0;
+            for (String v : values) {
+                int code = parse(v, MerchantIds.WIDTH);
+                if (code >= 0) {
+                    ids[n++] = code;
+                }
+            }
+            Arrays.sort(ids, 0, n);
+            int distinct = 0;
+            for (int i = 0; i < n; i++) {
+                if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                    ids[distinct++] = ids[i];
+                }
+            }
+            return new MerchantIds(Arrays.copyOf(ids, distinct));
+        }
+        long[] words = new long[Mcc.WORDS];
+        int size = 0;
+        for (String v : values) {
+            int code = parse(v, Mcc.WIDTH);
+            if (code >= 0 && (words[code >>> 6] & (1L << code)) == 0) {
+                words[code >>> 6] |= 1L << code;
+                size++;
+            }
+        }
+        return new Mcc(words, size);
+    }
+
+    /** Convierte {@code width} dígitos exactos a int; -1 si no cumple el formato. */
+    private static int parse(String value, int width) {
+        if (value == null || value.length() != width) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < width; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            code = code * 10 + (c - '0');
+        }
+        return code;
+    }
+
+    final class Mcc implements PlanItemMembership {
+        static final int WIDTH = 4;
+        static final int BITS = 10_000;
+        static final int WORDS = (BITS + 63) >>> 6;
+        static final Mcc EMPTY = new Mcc(new long[WORDS], 0);
+
+        private final long[] words;
+        private final int size;
+
+        private Mcc(long[] words, int size) {
+            this.words = words;
+            this.size = size;
+        }
+
+        @Override
+        public CommerceValidationMode mode() {
+            return CommerceValidationMode.MCC;
+        }
+
+        @Override
+        public boolean contains(String value) {
+            int code = parse(value, WIDTH);
+            return code >= 0 && (words[code >>> 6] & (1L << code)) != 0;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public PlanItemMembership with(String value) {
+            int code = parse(value, WIDTH);
+            if (code < 0 || contains(value)) {
+                return this;
+            }
+            long[] copy = words.clone();
+            copy[code >>> 6] |= 1L << code;
+            return new Mcc(copy, size + 1);
+        }
+
+        @Override
+        public PlanItemMembership without(String value) {
+            if (!contains(value)) {
+                return this;
+            }
+            int code = parse(value, WIDTH);
+            long[] copy = words.clone();
+            copy[code >>> 6] &= ~(1L << code);
+            return new Mcc(copy, size - 1);
+        }
+
+        @Override
+        public void forEachValue(Consumer<String> action) {
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    int code = (w << 6) + Long.numberOfTrailingZeros(word);
+                    action.accept(String.format("%04d", code));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) WORDS * Long.BYTES;
+        }
+    }
+
+    final class MerchantIds implements PlanItemMembership {
+        static final int WIDTH = 9;
+        static final MerchantIds EMPTY = new MerchantIds(new int[0]);
+
+        private final int[] ids;
+
+        private MerchantIds(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public CommerceValidationMode mode() {
+            return CommerceValidationMode.MERCHANT_ID;
+        }
+
+        @Override
+        public boolean contains(String value) {
+            int code = parse(value, WIDTH);
+            return code >= 0 && Arrays.binarySearch(ids, code) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        @Override
+        public PlanItemMembership with(String value) {
+            int code = parse(value, WIDTH);
+            if (code < 0) {
+                return this;
+            }
+            int pos = Arrays.binarySearch(ids, code);
+            if (pos >= 0) {
+                return this;
+            }
+            int at = -pos - 1;
+            int[] copy = new int[ids.length + 1];
+            System.arraycopy(ids, 0, copy, 0, at);
+            copy[at] = code;
+            System.arraycopy(ids, at, copy, at + 1, ids.length - at);
+            return new MerchantIds(copy);
+        }
+
+        @Override
+        public PlanItemMembership without(String value) {
+            int code = parse(value, WIDTH);
+            int at = code < 0 ? -1 : Arrays.binarySearch(ids, code);
+            if (at < 0) {
+                return this;
+            }
+            int[] copy = new int[ids.length - 1];
+            System.arraycopy(ids, 0, copy, 0, at);
+            System.arraycopy(ids, at + 1, copy, at, ids.length - at - 1);
+            return new MerchantIds(copy);
+        }
+
+        @Override
+        public void forEachValue(Consumer<String> action) {
+            for (int id : ids) {
+                action.accept(String.format("%09d", id));
+            }
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) ids.length * Integer.BYTES;
+        }
+    }
+}
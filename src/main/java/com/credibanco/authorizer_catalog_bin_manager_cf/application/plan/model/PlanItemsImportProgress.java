@@ -0,0 +1,25 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model;
+
+import java.util.List;
+
+/**
+ * Avance de una importación masiva por streaming. Se emite uno por cada bloque confirmado y un
+ * último con {@code done = true}. Solo lleva contadores y una muestra acotada de los valores
+ * rechazados (como máximo {@link #SAMPLE_LIMIT} de cada tipo), nunca las listas completas.
+ * {@code position} es la cantidad de elementos de entrada ya resueltos (confirmados o rechazados),
+ * contando también los vacíos: una importación cortada se retoma saltando esa cantidad.
+ */
+public record PlanItemsImportProgress(
+        String planCode,
+        long position,
+        long received,
+        long inserted,
+        long duplicates,
+        long invalid,
+        int chunks,
+        boolean done,
+        List<String> invalidSample,
+        List<String> duplicateSample
+) {
+    public static final int SAMPLE_LIMIT = 100;
+}
@@ -2,6 +2,8 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.i
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsBulkResult; // ← usa el modelo de aplicación
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsImportProgress;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -9,4 +11,10 @@ import java.util.List;
 public interface AddPlanItemUseCase {
     Mono<PlanItem> addValue(String planCode, String value, String by);
     Mono<PlanItemsBulkResult> addMany(String planCode, List<String> values, String by);
+
+    /**
+     * Importa los valores a medida que llegan: valida y descarta repetidos al vuelo y confirma
+     * por bloques acotados. Emite el avance tras cada bloque confirmado y uno final.
+     */
+    Flux<PlanItemsImportProgress> importStream(String planCode, Flux<String> values, String by);
 }
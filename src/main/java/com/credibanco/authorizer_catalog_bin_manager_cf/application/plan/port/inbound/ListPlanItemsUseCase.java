@@ -1,8 +1,17 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/** Los tres modos (offset, cursor y stream) entregan los ítems ordenados por planItemId. */
 public interface ListPlanItemsUseCase {
     Flux<PlanItem> list(String planCode, int page, int size,String status);
+
+    /** Página por cursor; {@code cursor} null o vacío = primera página. */
+    Mono<KeysetPage<PlanItem>> scroll(String planCode, String cursor, int size, String status);
+
+    /** Todos los ítems del plan, emitidos a medida que se leen (sin página ni lista en memoria). */
+    Flux<PlanItem> stream(String planCode, String status);
 }
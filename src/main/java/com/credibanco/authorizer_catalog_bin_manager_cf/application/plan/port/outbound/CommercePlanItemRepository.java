@@ -10,6 +10,8 @@ public interface CommercePlanItemRepository {
     Mono<PlanItem> insertMcc(Long planId, String mcc, String by);    // ← devuelve PlanItem
     Mono<PlanItem> changeStatus(Long planId, String value, String newStatus, String updatedBy);
     Flux<PlanItem> listItems(Long planId, String status, int page, int size);
+    Flux<PlanItem> listItemsAfter(Long planId, String status, Long afterPlanItemId, int limit); // orden por planItemId, sin COUNT
+    Flux<PlanItem> streamItems(Long planId, String status);   // todos los ítems por cursor JDBC, con backpressure
     Mono<PlanItem> insertMerchant(Long planId, String merchantId, String updatedBy);
     Mono<PlanItem> findByValue(Long planId, String value);
     Flux<String> findExistingValues(Long planId, List<String> values);
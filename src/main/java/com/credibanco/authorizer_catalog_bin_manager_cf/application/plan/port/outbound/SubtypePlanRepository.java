@@ -6,6 +6,8 @@ import reactor.core.publisher.Mono;
 public interface SubtypePlanRepository {
     Mono<Integer> upsert(String subtypeCode, Long planId, String updatedBy);
 
+    /** Asigna (alta o reasignación) y devuelve la asociación resultante. */
+    Mono<SubtypePlanLink> upsertAndGet(String subtypeCode, Long planId, String updatedBy);
 
     Mono<SubtypePlanLink> findBySubtype(String subtypeCode);
 
@@ -1,9 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsBulkResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsImportProgress;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.AddPlanItemUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanItemRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
@@ -15,19 +19,23 @@ import reactor.core.publisher.Mono;
 import java.util.stream.Stream;
 
 import java.util.*;
+import java.util.regex.Pattern;
 
 @Slf4j
 public record AddPlanItemService(CommercePlanRepository planRepo,
                                  CommercePlanItemRepository itemRepo,
-                                 TransactionalOperator tx) implements AddPlanItemUseCase {
+                                 TransactionalOperator tx,
+                                 CatalogChangePublisher changes) implements AddPlanItemUseCase {
 
     private static final int BATCH_SIZE = 500;
+    private static final Pattern MCC_PATTERN = Pattern.compile("^\\d{4}$");
+    private static final Pattern MERCHANT_ID_PATTERN = Pattern.compile("^\\d{9}$");
 
     @Override
     public Mono<PlanItem> addValue(String planCode, String value, String by) {
         log.info("AddPlanItemService IN planCode={} value={} by={}", planCode, value, by);
         return planRepo.findByCode(planCode)
-                .switchIfEmpty(Mono.<com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan>error(
+                .switchIfEmpty(Mono.<CommercePlan>error(
                         new AppException(AppError.PLAN_NOT_FOUND)))
                 .flatMap(p -> {
 
@@ -53,6 +61,8 @@ public record AddPlanItemService(CommercePlanRepository planRepo,
                 })
                 .doOnSuccess(pi -> log.info("AddPlanItemService OK planId={} itemId={}", pi.planId(), pi.planItemId()))
                 .as(tx::transactional)
+                .doOnNext(pi -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.PLAN_ITEM, CatalogChange.Operation.CREATE, pi.planId() + ":" + pi.value(), pi)))
                 .onErrorMap(org.springframework.dao.DuplicateKeyException.class,
                         e -> new AppException(AppError.PLAN_ITEM_INVALID_DATA, "Ítem ya existe"));
     }
@@ -88,7 +98,7 @@ public record AddPlanItemService(CommercePlanRepository planRepo,
                 .toList();
 
         return planRepo.findByCode(planCode)
-                .switchIfEmpty(Mono.<com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan>error(
+                .switchIfEmpty(Mono.<CommercePlan>error(
                         new AppException(AppError.PLAN_NOT_FOUND)))
                 .flatMap(plan -> {
                     var mode = plan.validationMode();
@@ -140,16 +150,176 @@ public record AddPlanItemService(CommercePlanRepository planRepo,
                 })
                 .doOnSuccess(r -> log.info("AddPlanItemService OK (bulk) planCode={} inserted={} dup={} invalid={}",
                         r.planCode(), r.inserted(), r.duplicates(), r.invalid()))
+                .as(tx::transactional)
+                .doOnNext(r -> {
+                    if (r.inserted() > 0) {
+                        changes.publish(CatalogChange.of(
+                                CatalogChange.Entity.PLAN_ITEM, CatalogChange.Operation.BULK, r.planCode(), r));
+                    }
+                });
+    }
+
+    /**
+     * Nada se acumula por carga: solo el bloque en curso (BATCH_SIZE valores) y los contadores.
+     * Los repetidos dentro del bloque se detectan en memoria; los repetidos contra bloques
+     * anteriores o contra el plan los detecta la consulta de existentes, porque cada bloque se
+     * confirma en su propia transacción antes de procesar el siguiente. Si la carga se corta, los
+     * bloques ya confirmados quedan aplicados y el último avance emitido dice desde qué elemento
+     * ({@code position}) retomar. La foto en memoria se refresca una sola vez al final.
+     */
+    @Override
+    public Flux<PlanItemsImportProgress> importStream(String planCode, Flux<String> values, String by) {
+        log.info("AddPlanItemService IN (stream) planCode={} by={}", planCode, by);
+        return planRepo.findByCode(planCode)
+                .switchIfEmpty(Mono.<CommercePlan>error(
+                        new AppException(AppError.PLAN_NOT_FOUND)))
+                .flatMapMany(plan -> {
+                    long t0 = System.nanoTime();
+                    ImportTally tally = new ImportTally(plan.code());
+                    return values
+                            .<Admitted>handle((raw, sink) -> {
+                                Admitted admitted = tally.admit(plan.validationMode(), raw);
+                                if (admitted != null) {
+                                    sink.next(admitted);
+                                }
+                            })
+                            .buffer(BATCH_SIZE)
+                            .concatMap(chunk -> importChunk(plan.planId(), plan.validationMode(),
+                                            chunk.stream().map(Admitted::value).toList(), by)
+                                    .map(outcome -> tally.chunkDone(outcome, chunk.get(chunk.size() - 1))), 1)
+                            .concatWith(Mono.fromSupplier(tally::finish))
+                            .doOnComplete(() -> {
+                                PlanItemsImportProgress r = tally.snapshot(true);
+                                log.info("AddPlanItemService OK (stream) planCode={} received={} inserted={} dup={} invalid={} chunks={} elapsedMs={}",
+                                        r.planCode(), r.received(), r.inserted(), r.duplicates(), r.invalid(), r.chunks(),
+                                        (System.nanoTime() - t0) / 1_000_000);
+                            })
+                            .doFinally(signal -> {
+                                PlanItemsImportProgress r = tally.snapshot(true);
+                                if (r.inserted() > 0) {
+                                    changes.publish(CatalogChange.of(CatalogChange.Entity.PLAN_ITEM,
+                                            CatalogChange.Operation.BULK, r.planCode(), tally.toBulkResult()));
+                                }
+                            });
+                });
+    }
+
+    /** Un bloque = una transacción: existentes + inserción de los nuevos. */
+    private Mono<ChunkOutcome> importChunk(Long planId, CommerceValidationMode mode, List<String> chunk, String by) {
+        Set<String> distinct = new LinkedHashSet<>(chunk.size() * 2);
+        List<String> repeated = new ArrayList<>();
+        for (String v : chunk) {
+            if (!distinct.add(v)) {
+                repeated.add(v);
+            }
+        }
+        List<String> candidates = new ArrayList<>(distinct);
+        return itemRepo.findExistingValues(planId, candidates)
+                .collectList()
+                .flatMap(existing -> {
+                    Set<String> existingSet = new HashSet<>(existing);
+                    List<String> fresh = candidates.stream().filter(v -> !existingSet.contains(v)).toList();
+                    Mono<Integer> inserted = fresh.isEmpty()
+                            ? Mono.just(0)
+                            : (mode == CommerceValidationMode.MCC)
+                                    ? itemRepo.insertMccBulk(planId, fresh, by)
+                                    : itemRepo.insertMerchantBulk(planId, fresh, by);
+                    repeated.addAll(existing);
+                    return inserted.map(n -> new ChunkOutcome(n, repeated));
+                })
                 .as(tx::transactional);
     }
 
     private boolean isValid(CommerceValidationMode mode, String v) {
         return switch (mode) {
-            case MCC -> v != null && v.matches("^\\d{4}$");
-            case MERCHANT_ID -> v != null && v.matches("^\\d{9}$");
+            case MCC -> v != null && MCC_PATTERN.matcher(v).matches();
+            case MERCHANT_ID -> v != null && MERCHANT_ID_PATTERN.matcher(v).matches();
         };
     }
 
+    private record ChunkOutcome(int inserted, List<String> duplicates) {
+    }
+
+    /** Valor válido y los contadores de entrada al momento de admitirlo (para el avance confirmado). */
+    private record Admitted(String value, long position, long received, long invalid) {
+    }
+
+    /**
+     * Contadores de una importación. La lectura del cuerpo y la confirmación de bloques pueden
+     * correr en hilos distintos, por eso los métodos son synchronized.
+     */
+    private final class ImportTally {
+        private final String planCode;
+        private final List<String> invalidSample = new ArrayList<>();
+        private final List<String> duplicateSample = new ArrayList<>();
+        private long position;
+        private long received;
+        private long inserted;
+        private long duplicates;
+        private long invalid;
+        private int chunks;
+        private Admitted committed = new Admitted(null, 0, 0, 0);
+
+        private ImportTally(String planCode) {
+            this.planCode = planCode;
+        }
+
+        /** Devuelve el valor admitido, o null si se descarta (vacío o inválido para el modo). */
+        synchronized Admitted admit(CommerceValidationMode mode, String raw) {
+            position++;
+            String v = raw == null ? "" : raw.trim();
+            if (v.isEmpty()) {
+                return null;
+            }
+            received++;
+            if (!isValid(mode, v)) {
+                invalid++;
+                sample(invalidSample, v);
+                return null;
+            }
+            return new Admitted(v, position, received, invalid);
+        }
+
+        /**
+         * Avance tras confirmar un bloque: {@code position}, recibidos e inválidos se informan hasta el
+         * último valor del bloque (no lo leído por adelantado), así el avance sirve como punto de reanudación.
+         */
+        synchronized PlanItemsImportProgress chunkDone(ChunkOutcome outcome, Admitted last) {
+            chunks++;
+            inserted += outcome.inserted();
+            duplicates += outcome.duplicates().size();
+            committed = last;
+            for (String d : outcome.duplicates()) {
+                sample(duplicateSample, d);
+            }
+            log.debug("AddPlanItemService chunk (stream) planCode={} chunk={} position={} inserted={} dup={}",
+                    planCode, chunks, last.position(), outcome.inserted(), outcome.duplicates().size());
+            return new PlanItemsImportProgress(planCode, committed.position(), committed.received(), inserted,
+                    duplicates, committed.invalid(), chunks, false, List.copyOf(invalidSample), List.copyOf(duplicateSample));
+        }
+
+        synchronized PlanItemsImportProgress finish() {
+            return snapshot(true);
+        }
+
+        synchronized PlanItemsImportProgress snapshot(boolean done) {
+            return new PlanItemsImportProgress(planCode, position, received, inserted, duplicates, invalid, chunks, done,
+                    List.copyOf(invalidSample), List.copyOf(duplicateSample));
+        }
+
+        synchronized PlanItemsBulkResult toBulkResult() {
+            return new PlanItemsBulkResult(planCode, (int) Math.min(received, Integer.MAX_VALUE),
+                    (int) Math.min(inserted, Integer.MAX_VALUE), (int) Math.min(duplicates, Integer.MAX_VALUE),
+                    (int) Math.min(invalid, Integer.MAX_VALUE), List.copyOf(invalidSample), List.copyOf(duplicateSample));
+        }
+
+        private static void sample(List<String> sample, String value) {
+            if (sample.size() < PlanItemsImportProgress.SAMPLE_LIMIT) {
+                sample.add(value);
+            }
+        }
+    }
+
     private Flux<String> existingValues(Long planId, List<String> values) {
         if (values.isEmpty()) return Flux.empty();
         List<List<String>> chunks = chunk(values);
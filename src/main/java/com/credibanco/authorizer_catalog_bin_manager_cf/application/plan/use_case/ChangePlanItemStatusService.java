@@ -1,8 +1,11 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.ChangePlanItemStatusUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanItemRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -13,7 +16,8 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public record ChangePlanItemStatusService(CommercePlanRepository planRepo,
                                           CommercePlanItemRepository itemRepo,
-                                          TransactionalOperator tx)
+                                          TransactionalOperator tx,
+                                          CatalogChangePublisher changes)
         implements ChangePlanItemStatusUseCase {
 
     @Override
@@ -23,12 +27,14 @@ public record ChangePlanItemStatusService(CommercePlanRepository planRepo,
             return Mono.<PlanItem>error(new AppException(AppError.PLAN_ITEM_INVALID_DATA, "status inválido (A|I)"));
         }
         return planRepo.findByCode(planCode)
-                .switchIfEmpty(Mono.<com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan>error(
+                .switchIfEmpty(Mono.<CommercePlan>error(
                         new AppException(AppError.PLAN_NOT_FOUND)))
                 .flatMap(p -> itemRepo.changeStatus(p.planId(), value, status, updatedBy))
                 .switchIfEmpty(Mono.<PlanItem>error(new AppException(AppError.PLAN_ITEM_NOT_FOUND)))
                 .doOnSuccess(pi -> log.info("ChangePlanItemStatusService OK planId={} itemId={} status={}",
                         pi.planId(), pi.planItemId(), status))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(pi -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.PLAN_ITEM, CatalogChange.Operation.STATUS, pi.planId() + ":" + pi.value(), pi)));
     }
 }
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.ChangePlanStatusUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
@@ -9,7 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record ChangePlanStatusService(CommercePlanRepository repo) implements ChangePlanStatusUseCase {
+public record ChangePlanStatusService(CommercePlanRepository repo, CatalogChangePublisher changes) implements ChangePlanStatusUseCase {
     @Override
     public Mono<CommercePlan> execute(String planCode, String status, String updatedBy) {
         log.info("ChangePlanStatusService IN code={} status={} by={}", planCode, status, updatedBy);
@@ -25,6 +27,8 @@ public record ChangePlanStatusService(CommercePlanRepository repo) implements Ch
                     }
                 })
                 .flatMap(repo::save)
-                .doOnSuccess(p -> log.info("ChangePlanStatusService OK code={} newStatus={}", p.code(), p.status()));
+                .doOnSuccess(p -> log.info("ChangePlanStatusService OK code={} newStatus={}", p.code(), p.status()))
+                .doOnNext(p -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.PLAN, CatalogChange.Operation.STATUS, p.code(), p)));
     }
 }
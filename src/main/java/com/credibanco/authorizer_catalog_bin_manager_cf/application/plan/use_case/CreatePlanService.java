@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.CreatePlanUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
@@ -11,7 +13,7 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record CreatePlanService(CommercePlanRepository repo, TransactionalOperator tx)
+public record CreatePlanService(CommercePlanRepository repo, TransactionalOperator tx, CatalogChangePublisher changes)
         implements CreatePlanUseCase {
     @Override
     public Mono<CommercePlan> execute(String code, String name, CommerceValidationMode mode, String description, String by) {
@@ -24,6 +26,8 @@ public record CreatePlanService(CommercePlanRepository repo, TransactionalOperat
                                 e -> new AppException(AppError.PLAN_INVALID_DATA, e.getMessage()))
                         .flatMap(repo::save))
                 .doOnSuccess(p -> log.info("CreatePlanService OK code={} id={}", p.code(), p.planId()))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(p -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.PLAN, CatalogChange.Operation.CREATE, p.code(), p)));
     }
 }
@@ -1,8 +1,11 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetCursor;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.ListPlanItemsUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanItemRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -18,13 +21,46 @@ public record ListPlanItemsService(CommercePlanRepository planRepo,
     @Override
     public Flux<PlanItem> list(String planCode, int page, int size, String status) {
         log.info("ListPlanItemsService IN code={} status={} page={} size={}", planCode, status, page, size);
-        if (page < 0 || size <= 0) {
-            return Flux.error(new AppException(AppError.PLAN_ITEM_INVALID_DATA, "page>=0 y size>0"));
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Flux.error(new AppException(AppError.PLAN_ITEM_INVALID_DATA,
+                    "page>=0 y size entre 1 y " + KeysetPage.MAX_SIZE));
         }
         return planRepo.findByCode(planCode)
-                .switchIfEmpty(Mono.<com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan>error(
+                .switchIfEmpty(Mono.<CommercePlan>error(
                         new AppException(AppError.PLAN_NOT_FOUND)))
                 .flatMapMany(p -> itemRepo.listItems(p.planId(), status, page, size))
                 .doOnComplete(() -> log.info("ListPlanItemsService OK code={}", planCode));
     }
+
+    @Override
+    public Mono<KeysetPage<PlanItem>> scroll(String planCode, String cursor, int size, String status) {
+        log.info("ListPlanItemsService SCROLL code={} status={} cursor={} size={}", planCode, status, cursor, size);
+        Long after;
+        try {
+            String[] keys = KeysetCursor.decode(cursor, 1);
+            after = keys == null ? null : Long.valueOf(keys[0]);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new AppException(AppError.PLAN_ITEM_INVALID_DATA, "cursor inválido"));
+        }
+        if (size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Mono.error(new AppException(AppError.PLAN_ITEM_INVALID_DATA,
+                    "size entre 1 y " + KeysetPage.MAX_SIZE));
+        }
+        return planRepo.findByCode(planCode)
+                .switchIfEmpty(Mono.<CommercePlan>error(
+                        new AppException(AppError.PLAN_NOT_FOUND)))
+                .flatMap(p -> itemRepo.listItemsAfter(p.planId(), status, after, size + 1).collectList())
+                .map(rows -> KeysetPage.of(rows, size, i -> KeysetCursor.encode(String.valueOf(i.planItemId()))))
+                .doOnSuccess(p -> log.info("ListPlanItemsService SCROLL OK code={} count={} hasNext={}",
+                        planCode, p.items().size(), p.hasNext()));
+    }
+
+    @Override
+    public Flux<PlanItem> stream(String planCode, String status) {
+        log.info("ListPlanItemsService STREAM code={} status={}", planCode, status);
+        return planRepo.findByCode(planCode)
+                .switchIfEmpty(Mono.<CommercePlan>error(
+                        new AppException(AppError.PLAN_NOT_FOUND)))
+                .flatMapMany(p -> itemRepo.streamItems(p.planId(), status));
+    }
 }
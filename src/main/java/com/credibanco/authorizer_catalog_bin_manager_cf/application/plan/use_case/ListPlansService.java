@@ -1,5 +1,6 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.ListPlansUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
@@ -13,8 +14,9 @@ public record ListPlansService(CommercePlanRepository repo) implements ListPlans
     @Override
     public Flux<CommercePlan> execute(String status, String q, int page, int size) {
         log.info("ListPlansService IN status={} q={} page={} size={}", status, q, page, size);
-        if (page < 0 || size <= 0) {
-            return Flux.error(new AppException(AppError.PLAN_INVALID_DATA, "page>=0 y size>0"));
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Flux.error(new AppException(AppError.PLAN_INVALID_DATA,
+                    "page>=0 y size entre 1 y " + KeysetPage.MAX_SIZE));
         }
         return repo.findAll(status, q, page, size)
                 .doOnComplete(() -> log.info("ListPlansService OK status={} q={}", status, q));
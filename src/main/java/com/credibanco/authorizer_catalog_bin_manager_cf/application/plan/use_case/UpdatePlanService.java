@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.UpdatePlanUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
@@ -13,7 +15,7 @@ import java.sql.SQLException;
 
 
 @Slf4j
-public record UpdatePlanService(CommercePlanRepository repo) implements UpdatePlanUseCase {
+public record UpdatePlanService(CommercePlanRepository repo, CatalogChangePublisher changes) implements UpdatePlanUseCase {
     @Override
     public Mono<CommercePlan> execute(String planCode, String planName, String description,
                                       String validationMode /* nullable */, String updatedBy) {
@@ -37,7 +39,9 @@ public record UpdatePlanService(CommercePlanRepository repo) implements UpdatePl
                     }
                     return ex;
                 })
-                .doOnSuccess(p -> log.info("UpdatePlanService OK code={} id={}", p.code(), p.planId()));
+                .doOnSuccess(p -> log.info("UpdatePlanService OK code={} id={}", p.code(), p.planId()))
+                .doOnNext(p -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.PLAN, CatalogChange.Operation.UPDATE, p.code(), p)));
     }
 
     private static String findOracleBusinessMessage(Throwable error) {
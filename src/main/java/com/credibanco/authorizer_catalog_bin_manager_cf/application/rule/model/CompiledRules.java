@@ -0,0 +1,135 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reglas de un par (SUBTYPE, BIN) ya interpretadas según el tipo de su VALIDATION, en arreglos
+ * paralelos ordenados por código: leer una regla es una búsqueda binaria y un acceso a arreglo,
+ * sin crear objetos. Solo se compilan mappings y VALIDATION activos cuya vigencia no haya
+ * terminado; la ventana validFrom/validTo se evalúa al leer con {@link #isActiveAt}.
+ */
+public final class CompiledRules {
+
+    public static final CompiledRules EMPTY = new CompiledRules(new String[0], new ValidationDataType[0],
+            new boolean[0], new double[0], new String[0], new long[0], new long[0]);
+
+    private final String[] codes;
+    private final ValidationDataType[] types;
+    private final boolean[] flags;
+    private final double[] numbers;      // NaN si la regla no es NUMBER
+    private final String[] texts;        // interned; null si la regla no es TEXT
+    private final long[] validFrom;      // epoch millis; Long.MIN_VALUE = sin inicio
+    private final long[] validTo;        // epoch millis; Long.MAX_VALUE = sin fin
+
+    private CompiledRules(String[] codes, ValidationDataType[] types, boolean[] flags, double[] numbers,
+                          String[] texts, long[] validFrom, long[] validTo) {
+        this.codes = codes;
+        this.types = types;
+        this.flags = flags;
+        this.numbers = numbers;
+        this.texts = texts;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    public static CompiledRules compile(Collection<ValidationMap> maps, Map<Long, Validation> validations,
+                                        OffsetDateTime now) {
+        List<Entry> entries = new ArrayList<>(maps.size());
+        for (ValidationMap m : maps) {
+            Validation v = validations.get(m.validationId());
+            if (!"A".equals(m.status()) || v == null || !"A".equals(v.status()) || v.dataType() == null
+                    || (v.validTo() != null && v.validTo().isBefore(now))) {
+                continue;
+            }
+            entries.add(new Entry(m, v));
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        entries.sort(Comparator.comparing(e -> e.validation().code()));
+
+        int n = entries.size();
+        String[] codes = new String[n];
+        ValidationDataType[] types = new ValidationDataType[n];
+        boolean[] flags = new boolean[n];
+        double[] numbers = new double[n];
+        String[] texts = new String[n];
+        long[] from = new long[n];
+        long[] to = new long[n];
+        for (int i = 0; i < n; i++) {
+            ValidationMap m = entries.get(i).map();
+            Validation v = entries.get(i).validation();
+            codes[i] = v.code().intern();
+            types[i] = v.dataType();
+            flags[i] = v.dataType() == ValidationDataType.BOOL && "SI".equalsIgnoreCase(m.valueFlag());
+            numbers[i] = v.dataType() == ValidationDataType.NUMBER && m.valueNum() != null ? m.valueNum() : Double.NaN;
+            texts[i] = v.dataType() == ValidationDataType.TEXT && m.valueText() != null ? m.valueText().intern() : null;
+            from[i] = v.validFrom() == null ? Long.MIN_VALUE : v.validFrom().toInstant().toEpochMilli();
+            to[i] = v.validTo() == null ? Long.MAX_VALUE : v.validTo().toInstant().toEpochMilli();
+        }
+        return new CompiledRules(codes, types, flags, numbers, texts, from, to);
+    }
+
+    private record Entry(ValidationMap map, Validation validation) {}
+
+    public int size() {
+        return codes.length;
+    }
+
+    /** Posición de la regla o valor negativo si el par no la tiene. */
+    public int indexOf(String code) {
+        return Arrays.binarySearch(codes, code);
+    }
+
+    public String code(int i) {
+        return codes[i];
+    }
+
+    public ValidationDataType type(int i) {
+        return types[i];
+    }
+
+    public boolean flag(int i) {
+        return flags[i];
+    }
+
+    public double number(int i) {
+        return numbers[i];
+    }
+
+    public String text(int i) {
+        return texts[i];
+    }
+
+    public boolean isActiveAt(int i, long nowMillis) {
+        return nowMillis >= validFrom[i] && nowMillis <= validTo[i];
+    }
+
+    /** Valor BOOL vigente de la regla o {@code fallback} si no existe, no aplica o no es BOOL. */
+    public boolean flagOr(String code, long nowMillis, boolean fallback) {
+        int i = indexOf(code);
+        return i >= 0 && types[i] == ValidationDataType.BOOL && isActiveAt(i, nowMillis) ? flags[i] : fallback;
+    }
+
+    /** Valor NUMBER vigente de la regla o {@code fallback} si no existe, no aplica o no es NUMBER. */
+    public double numberOr(String code, long nowMillis, double fallback) {
+        int i = indexOf(code);
+        return i >= 0 && types[i] == ValidationDataType.NUMBER && isActiveAt(i, nowMillis) ? numbers[i] : fallback;
+    }
+
+    /** Valor TEXT vigente de la regla o {@code fallback} si no existe, no aplica o no es TEXT. */
+    public String textOr(String code, long nowMillis, String fallback) {
+        int i = indexOf(code);
+        return i >= 0 && types[i] == ValidationDataType.TEXT && isActiveAt(i, nowMillis) ? texts[i] : fallback;
+    }
+}
@@ -1,7 +1,9 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface ListRulesForSubtypeUseCase {
     Flux<ValidationMap> execute(String subtypeCode, String bin, String status, int page, int size);
@@ -12,4 +14,10 @@ public interface ListRulesForSubtypeUseCase {
     default Flux<ValidationMap> execute(String subtypeCode, String status, int page, int size) {
         return execute(subtypeCode, null, status, page, size);
     }
-}
\ No newline at end of file
+
+    /** Todos los mapeos del filtro, emitidos a medida que se leen (sin página ni lista en memoria). */
+    Flux<ValidationMap> stream(String subtypeCode, String bin, String status);
+
+    /** Reglas activas del par (SUBTYPE, BIN) en arreglos paralelos, las mismas que evalúa la autorización. */
+    Mono<CompiledRules> compiled(String subtypeCode, String bin);
+}
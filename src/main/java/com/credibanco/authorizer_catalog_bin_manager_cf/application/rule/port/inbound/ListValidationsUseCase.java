@@ -1,8 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface ListValidationsUseCase {
     Flux<Validation> execute(String status, String search, int page, int size);
     default Flux<Validation> execute() { return execute(null, null, 0, 20); }
+
+    /** Página por cursor ordenada por code; {@code cursor} null o vacío = primera página. */
+    Mono<KeysetPage<Validation>> scroll(String status, String search, String cursor, int size);
 }
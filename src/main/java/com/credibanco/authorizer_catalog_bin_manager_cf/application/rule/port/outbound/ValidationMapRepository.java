@@ -12,5 +12,6 @@ public interface ValidationMapRepository {
     Mono<ValidationMap> findByNaturalKey(String subtypeCode, String bin, Long validationId);
     Flux<ValidationMap> findAll(String subtypeCode, String bin, String status, int page, int size);
     Flux<ValidationMap> findResolved(String subtypeCode, String bin, String status, int page, int size);
+    Flux<ValidationMap> streamResolved(String subtypeCode, String bin, String status); // todo, por cursor JDBC
 
 }
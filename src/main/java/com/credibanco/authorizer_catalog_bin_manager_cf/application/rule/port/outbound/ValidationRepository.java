@@ -10,4 +10,5 @@ public interface ValidationRepository {
     Mono<Validation> findByCode(String code);
     Mono<Validation> findById(Long id);
     Flux<Validation> findAll(String status, String search, int page, int size);
+    Flux<Validation> findAfter(String status, String search, String afterCode, int limit); // orden por code, sin COUNT
 }
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.ChangeValidationStatusUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
@@ -10,7 +12,7 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record ChangeValidationStatusService(ValidationRepository repo, TransactionalOperator tx)
+public record ChangeValidationStatusService(ValidationRepository repo, TransactionalOperator tx, CatalogChangePublisher changes)
         implements ChangeValidationStatusUseCase {
 
     private static long ms(long t0) { return (System.nanoTime()-t0)/1_000_000; }
@@ -33,6 +35,8 @@ public record ChangeValidationStatusService(ValidationRepository repo, Transacti
                 .doOnSuccess(v -> { long e=(System.nanoTime()-t0)/1_000_000;
                     log.info("UC:Validation:ChangeStatus:done code={} status={} elapsedMs={}", v.code(), v.status(), e);
                 })
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(v -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.VALIDATION, CatalogChange.Operation.STATUS, v.code(), v)));
     }
 }
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.CreateValidationUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
@@ -11,7 +13,7 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record CreateValidationService(ValidationRepository repo, TransactionalOperator tx)
+public record CreateValidationService(ValidationRepository repo, TransactionalOperator tx, CatalogChangePublisher changes)
         implements CreateValidationUseCase {
 
     private static long ms(long t0) { return (System.nanoTime()-t0)/1_000_000; }
@@ -28,6 +30,8 @@ public record CreateValidationService(ValidationRepository repo, TransactionalOp
                         .flatMap(repo::save)
                 )
                 .doOnSuccess(v -> log.info("UC:Validation:Create:done code={} elapsedMs={}", code, ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(v -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.VALIDATION, CatalogChange.Operation.CREATE, v.code(), v)));
     }
 }
@@ -1,20 +1,64 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.ListRulesForSubtypeUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-public record ListRulesForSubtypeService(ValidationMapRepository mapRepo)
+import java.time.OffsetDateTime;
+import java.util.function.Function;
+
+public record ListRulesForSubtypeService(ValidationMapRepository mapRepo,
+                                         ValidationRepository validationRepo,
+                                         CatalogSnapshotProvider snapshots)
         implements ListRulesForSubtypeUseCase {
     @Override
     public Flux<ValidationMap> execute(String subtypeCode, String bin, String status, int page, int size) {
-        if (page < 0 || size <= 0) {
-            return Flux.error(new AppException(AppError.RULES_MAP_INVALID_DATA, "page>=0 y size>0"));
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Flux.error(new AppException(AppError.RULES_MAP_INVALID_DATA,
+                    "page>=0 y size entre 1 y " + KeysetPage.MAX_SIZE));
         }
         String s = (status != null && status.isBlank()) ? null : status;
         return mapRepo.findResolved(subtypeCode, bin, s, page, size);
     }
+
+    @Override
+    public Flux<ValidationMap> stream(String subtypeCode, String bin, String status) {
+        String s = (status != null && status.isBlank()) ? null : status;
+        return mapRepo.streamResolved(subtypeCode, bin, s);
+    }
+
+    /**
+     * Con la foto cargada devuelve la instancia ya compilada (sin copiar); si no, compila los mapeos
+     * activos leídos de base de datos con sus VALIDATION.
+     */
+    @Override
+    public Mono<CompiledRules> compiled(String subtypeCode, String bin) {
+        if (subtypeCode == null || bin == null) {
+            return Mono.error(new AppException(AppError.RULES_MAP_INVALID_DATA, "subtypeCode y bin son requeridos"));
+        }
+        return Mono.defer(() -> {
+            CatalogSnapshot snapshot = snapshots.current();
+            if (snapshot.isLoaded()) {
+                return Mono.just(snapshot.compiledRulesOf(subtypeCode, bin));
+            }
+            return mapRepo.streamResolved(subtypeCode, bin, "A")
+                    .collectList()
+                    .flatMap(maps -> Flux.fromIterable(maps)
+                            .map(ValidationMap::validationId)
+                            .distinct()
+                            .concatMap(validationRepo::findById)
+                            .collectMap(Validation::validationId, Function.identity())
+                            .map(validations -> CompiledRules.compile(maps, validations, OffsetDateTime.now())));
+        });
+    }
 }
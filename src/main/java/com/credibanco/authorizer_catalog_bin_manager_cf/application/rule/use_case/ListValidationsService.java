@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetCursor;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.ListValidationsUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
@@ -7,17 +9,39 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 public record ListValidationsService(ValidationRepository repo) implements ListValidationsUseCase {
     @Override
     public Flux<Validation> execute(String status, String search, int page, int size) {
         long t0 = System.nanoTime();
-        if (page < 0 || size <= 0) {
-            return Flux.error(new AppException(AppError.RULES_VALIDATION_INVALID_DATA, "page>=0 y size>0"));
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Flux.error(new AppException(AppError.RULES_VALIDATION_INVALID_DATA,
+                    "page>=0 y size entre 1 y " + KeysetPage.MAX_SIZE));
         }
         return repo.findAll(status, search, page, size)
                 .doOnComplete(() -> log.info("UC:Validation:List:done elapsedMs={}",
                         (System.nanoTime()-t0)/1_000_000));
     }
+
+    @Override
+    public Mono<KeysetPage<Validation>> scroll(String status, String search, String cursor, int size) {
+        long t0 = System.nanoTime();
+        String[] after;
+        try {
+            after = KeysetCursor.decode(cursor, 1);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new AppException(AppError.RULES_VALIDATION_INVALID_DATA, "cursor inválido"));
+        }
+        if (size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Mono.error(new AppException(AppError.RULES_VALIDATION_INVALID_DATA,
+                    "size entre 1 y " + KeysetPage.MAX_SIZE));
+        }
+        return repo.findAfter(status, search, after == null ? null : after[0], size + 1)
+                .collectList()
+                .map(rows -> KeysetPage.of(rows, size, v -> KeysetCursor.encode(v.code())))
+                .doOnSuccess(p -> log.info("UC:Validation:Scroll:done count={} hasNext={} elapsedMs={}",
+                        p.items().size(), p.hasNext(), (System.nanoTime()-t0)/1_000_000));
+    }
 }
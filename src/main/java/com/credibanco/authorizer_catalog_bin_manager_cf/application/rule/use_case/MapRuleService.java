@@ -1,9 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.MapRuleUseCase;
-import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
@@ -13,13 +17,15 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Slf4j
 public record MapRuleService(
         ValidationRepository validations,
         ValidationMapRepository maps,
-        SubtypeReadOnlyRepository subtypes,
-        TransactionalOperator tx
+        ExistenceProbeRepository probes,
+        TransactionalOperator tx,
+        CatalogChangePublisher changes
 ) implements MapRuleUseCase {
 
     @Override
@@ -28,22 +34,20 @@ public record MapRuleService(
             return Mono.<ValidationMap>error(new AppException(AppError.RULES_MAP_INVALID_DATA, "value es requerido"));
         }
 
-        Mono<Void> ensureSubtype = subtypes.existsByCode(subtypeCode)
-                .flatMap(ok -> ok
-                        ? Mono.empty()
-                        : Mono.<Void>error(new AppException(AppError.SUBTYPE_NOT_FOUND)));
-
-        Mono<Void> ensurePair = subtypes.existsByCodeAndBin(subtypeCode, bin)
-                .flatMap(ok -> ok
-                        ? Mono.empty()
-                        : Mono.<Void>error(new AppException(AppError.BIN_NOT_FOUND
-                        )));
+        ExistenceCheck subtypeExists = ExistenceCheck.subtypeCode(subtypeCode);
+        ExistenceCheck pairExists = ExistenceCheck.subtype(bin, subtypeCode);
+        Mono<Void> ensureSubtypeAndPair = probes.probe(List.of(subtypeExists, pairExists))
+                .flatMap(found -> {
+                    if (!found.exists(subtypeExists)) return Mono.<Void>error(new AppException(AppError.SUBTYPE_NOT_FOUND));
+                    if (!found.exists(pairExists)) return Mono.<Void>error(new AppException(AppError.BIN_NOT_FOUND));
+                    return Mono.<Void>empty();
+                });
 
         var now = OffsetDateTime.now();
 
-        return ensureSubtype.then(ensurePair)
+        return ensureSubtypeAndPair
                 .then(validations.findByCode(validationCode)
-                        .switchIfEmpty(Mono.<com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation>error(
+                        .switchIfEmpty(Mono.<Validation>error(
                                 new AppException(AppError.RULES_VALIDATION_NOT_FOUND))))
                 .flatMap(v -> {
                     boolean vigente = "A".equals(v.status())
@@ -81,7 +85,9 @@ public record MapRuleService(
                                                     )))
                                             .next()
                             ));
-                });
+                })
+                .doOnNext(m -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.VALIDATION_MAP, CatalogChange.Operation.CREATE, m.subtypeCode() + ":" + m.bin() + ":" + m.validationId(), m)));
     }
 
     @Override
@@ -91,7 +97,7 @@ public record MapRuleService(
         }
 
         return validations.findByCode(validationCode)
-                .switchIfEmpty(Mono.<com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation>error(
+                .switchIfEmpty(Mono.<Validation>error(
                         new AppException(AppError.RULES_VALIDATION_NOT_FOUND)))
                 .flatMap(v -> maps.findByNaturalKey(subtypeCode, bin, v.validationId()))
                 .switchIfEmpty(Mono.<ValidationMap>error(new AppException(
@@ -105,7 +111,9 @@ public record MapRuleService(
                     }
                 })
                 .flatMap(maps::save)
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(m -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.VALIDATION_MAP, CatalogChange.Operation.STATUS, m.subtypeCode() + ":" + m.bin() + ":" + m.validationId(), m)));
     }
 
     // ----------------- Helpers -----------------
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.UpdateValidationUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
@@ -9,7 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-public record UpdateValidationService(ValidationRepository repo) implements UpdateValidationUseCase {
+public record UpdateValidationService(ValidationRepository repo, CatalogChangePublisher changes) implements UpdateValidationUseCase {
     private static long ms(long t0) { return (System.nanoTime()-t0)/1_000_000; }
 
     @Override
@@ -24,6 +26,8 @@ public record UpdateValidationService(ValidationRepository repo) implements Upda
                     }
                 })
                 .flatMap(repo::save)
-                .doOnSuccess(v -> log.info("UC:Validation:Update:done code={} elapsedMs={}", v.code(), ms(t0)));
+                .doOnSuccess(v -> log.info("UC:Validation:Update:done code={} elapsedMs={}", v.code(), ms(t0)))
+                .doOnNext(v -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.VALIDATION, CatalogChange.Operation.UPDATE, v.code(), v)));
     }
 }
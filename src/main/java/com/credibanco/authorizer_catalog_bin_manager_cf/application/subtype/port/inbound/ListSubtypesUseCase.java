@@ -1,8 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface ListSubtypesUseCase {
     Flux<Subtype> execute(String bin, String code, String status, int page, int size);
+
+    /** Página por cursor ordenada por (bin, subtypeCode); {@code cursor} null o vacío = primera página. */
+    Mono<KeysetPage<Subtype>> scroll(String bin, String code, String status, String cursor, int size);
 }
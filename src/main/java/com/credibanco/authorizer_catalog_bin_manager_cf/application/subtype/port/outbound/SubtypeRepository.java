@@ -4,11 +4,22 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface SubtypeRepository {
     Mono<Boolean> existsByPk(String bin, String subtypeCode);
     Mono<Boolean> existsByBinAndExt(String bin, String binExt);
     Mono<Subtype> save(Subtype entity);
     Mono<Subtype> findByPk(String bin, String subtypeCode);
+    Flux<Subtype> findAllByPk(Collection<Pk> keys);   // lectura por lote (IN), sin orden; omite los que no existen
     Flux<Subtype> findAll(String binFilter, String codeFilter, String statusFilter, int page, int size);
+    Flux<Subtype> findAfter(String binFilter, String codeFilter, String statusFilter,
+                            String afterBin, String afterSubtypeCode, int limit);   // orden (bin, subtypeCode), sin COUNT
     Mono<Boolean> existsBySubtypeCode(String subtypeCode);
+
+    record Pk(String bin, String subtypeCode) {
+        public static Pk of(Subtype s) {
+            return new Pk(s.bin(), s.subtypeCode());
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.ChangeSubtypeStatusUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.AgencyReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
@@ -14,7 +16,8 @@ import reactor.core.publisher.Mono;
 public record ChangeSubtypeStatusService(
         SubtypeRepository repo,
         AgencyReadOnlyRepository agencyRepo,
-        TransactionalOperator tx
+        TransactionalOperator tx,
+        CatalogChangePublisher changes
 ) implements ChangeSubtypeStatusUseCase {
 
     private static long ms(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
@@ -46,6 +49,8 @@ public record ChangeSubtypeStatusService(
                 .flatMap(repo::save)
                 .doOnSuccess(s -> log.info("UC:Subtype:ChangeStatus:done bin={} code={} status={} elapsedMs={}",
                         s.bin(), s.subtypeCode(), s.status(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(s -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.SUBTYPE, CatalogChange.Operation.STATUS, s.bin() + ":" + s.subtypeCode(), s)));
     }
 }
@@ -1,5 +1,9 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.CreateSubtypeUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.IdTypeReadOnlyRepository;
@@ -17,7 +21,9 @@ public record CreateSubtypeService(
         SubtypeRepository repo,
         BinReadOnlyRepository binRepo,
         IdTypeReadOnlyRepository idTypeRepo,
-        TransactionalOperator tx
+        ExistenceProbeRepository probes,
+        TransactionalOperator tx,
+        CatalogChangePublisher changes
 ) implements CreateSubtypeUseCase {
 
     private static long ms(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
@@ -64,28 +70,33 @@ public record CreateSubtypeService(
                         return Mono.error(new AppException(AppError.SUBTYPE_INVALID_DATA, iae.getMessage()));
                     }
 
-                    Mono<Boolean> bin9Collision = (normExt != null)
-                            ? binRepo.existsById(draft.binEfectivo()) : Mono.just(false);
-                    Mono<Boolean> pkExists = repo.existsByPk(draft.bin(), draft.subtypeCode());
-                    Mono<Boolean> extExists = (normExt != null) ? repo.existsByBinAndExt(draft.bin(), normExt) : Mono.just(false);
-                    Mono<Boolean> codeExists = repo.existsBySubtypeCode(draft.subtypeCode());
+                    // Las cuatro unicidades en una sola consulta; sin extensión no aplican BIN maestro ni bin_ext
+                    ExistenceCheck bin9Collision = ExistenceCheck.bin(draft.binEfectivo());
+                    ExistenceCheck pkExists = ExistenceCheck.subtype(draft.bin(), draft.subtypeCode());
+                    ExistenceCheck extExists = ExistenceCheck.subtypeBinExt(draft.bin(), normExt == null ? "" : normExt);
+                    ExistenceCheck codeExists = ExistenceCheck.subtypeCode(draft.subtypeCode());
+                    List<ExistenceCheck> checks = (normExt != null)
+                            ? List.of(bin9Collision, pkExists, extExists, codeExists)
+                            : List.of(pkExists, codeExists);
 
-                    return Mono.zip(bin9Collision, pkExists, extExists, codeExists)
-                            .flatMap(z -> {
-                                if (z.getT1()) return Mono.error(new AppException(AppError.BIN_ALREADY_EXISTS,
+                    return probes.probe(checks)
+                            .flatMap(found -> {
+                                if (normExt != null && found.exists(bin9Collision)) return Mono.error(new AppException(AppError.BIN_ALREADY_EXISTS,
                                         "Colisión: ya existe BIN maestro " + draft.binEfectivo()));
-                                if (z.getT2()) return Mono.error(new AppException(AppError.SUBTYPE_ALREADY_EXISTS,
+                                if (found.exists(pkExists)) return Mono.error(new AppException(AppError.SUBTYPE_ALREADY_EXISTS,
                                         "Ya existe SUBTYPE para ese BIN y código"));
-                                if (z.getT3()) return Mono.error(new AppException(AppError.SUBTYPE_ALREADY_EXISTS,
+                                if (normExt != null && found.exists(extExists)) return Mono.error(new AppException(AppError.SUBTYPE_ALREADY_EXISTS,
                                         "bin_ext ya usado para ese BIN"));
-                                if (z.getT4()) return Mono.error(new AppException(AppError.SUBTYPE_ALREADY_EXISTS,
+                                if (found.exists(codeExists)) return Mono.error(new AppException(AppError.SUBTYPE_ALREADY_EXISTS,
                                         "Ya existe SUBTYPE con ese código"));
                                 return repo.save(draft);
                             });
                 })
                 .doOnSuccess(s -> log.info("UC:Subtype:Create:done bin={} code={} status={} elapsedMs={}",
                         s.bin(), s.subtypeCode(), s.status(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(s -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.SUBTYPE, CatalogChange.Operation.CREATE, s.bin() + ":" + s.subtypeCode(), s)));
     }
 
     private static String ownerIdTypeError(String ownerIdType, List<String> available) {
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetCursor;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.ListSubtypesUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
@@ -8,6 +10,7 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 public record ListSubtypesService(
@@ -20,8 +23,9 @@ public record ListSubtypesService(
         long t0 = System.nanoTime();
         log.info("UC:Subtype:List:start bin={} code={} status={} page={} size={}", bin, code, status, page, size);
 
-        if (page < 0 || size <= 0) {
-            return Flux.error(new AppException(AppError.SUBTYPE_INVALID_DATA, "page debe ser >=0 y size > 0"));
+        if (page < 0 || size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Flux.error(new AppException(AppError.SUBTYPE_INVALID_DATA,
+                    "page debe ser >=0 y size entre 1 y " + KeysetPage.MAX_SIZE));
         }
 
         Flux<Subtype> flux = (bin != null && !bin.isBlank())
@@ -36,4 +40,34 @@ public record ListSubtypesService(
                     bin, code, status, page, size, elapsed);
         });
     }
+
+    @Override
+    public Mono<KeysetPage<Subtype>> scroll(String bin, String code, String status, String cursor, int size) {
+        long t0 = System.nanoTime();
+        log.info("UC:Subtype:Scroll:start bin={} code={} status={} cursor={} size={}", bin, code, status, cursor, size);
+
+        String[] after;
+        try {
+            after = KeysetCursor.decode(cursor, 2);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new AppException(AppError.SUBTYPE_INVALID_DATA, "cursor inválido"));
+        }
+        if (size <= 0 || size > KeysetPage.MAX_SIZE) {
+            return Mono.error(new AppException(AppError.SUBTYPE_INVALID_DATA,
+                    "size entre 1 y " + KeysetPage.MAX_SIZE));
+        }
+
+        String afterBin = after == null ? null : after[0];
+        String afterCode = after == null ? null : after[1];
+        Flux<Subtype> rows = (bin != null && !bin.isBlank())
+                ? binRepo.existsById(bin).flatMapMany(exists -> exists
+                ? repo.findAfter(bin, code, status, afterBin, afterCode, size + 1)
+                : Flux.error(new AppException(AppError.BIN_NOT_FOUND)))
+                : repo.findAfter(null, code, status, afterBin, afterCode, size + 1);
+
+        return rows.collectList()
+                .map(list -> KeysetPage.of(list, size, s -> KeysetCursor.encode(s.bin(), s.subtypeCode())))
+                .doOnSuccess(p -> log.info("UC:Subtype:Scroll:done bin={} size={} count={} hasNext={} elapsedMs={}",
+                        bin, size, p.items().size(), p.hasNext(), (System.nanoTime() - t0) / 1_000_000));
+    }
 }
@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.UpdateSubtypeBasicsUseCase;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
@@ -17,7 +19,8 @@ public record UpdateSubtypeBasicsService(
         SubtypeRepository repo,
         BinReadOnlyRepository binRepo,
         IdTypeReadOnlyRepository idTypeRepo,
-        TransactionalOperator tx
+        TransactionalOperator tx,
+        CatalogChangePublisher changes
 ) implements UpdateSubtypeBasicsUseCase {
 
     private static long ms(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
@@ -81,7 +84,9 @@ public record UpdateSubtypeBasicsService(
                 )
                 .doOnSuccess(s -> log.info("UC:Subtype:Update:done bin={} code={} elapsedMs={}",
                         s.bin(), s.subtypeCode(), ms(t0)))
-                .as(tx::transactional);
+                .as(tx::transactional)
+                .doOnNext(s -> changes.publish(CatalogChange.of(
+                        CatalogChange.Entity.SUBTYPE, CatalogChange.Operation.UPDATE, s.bin() + ":" + s.subtypeCode(), s)));
     }
 
 
@@ -4,6 +4,14 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingAgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotAgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotAgencySubtypeReadOnlyRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -13,38 +21,46 @@ public class AgencyUseCaseConfig {
 
     @Bean
     public CreateAgencyUseCase createAgencyUseCase(
-            AgencyRepository repo, SubtypeReadOnlyRepository subtypeRepo, TransactionalOperator tx
-    ) { return new CreateAgencyService(repo, subtypeRepo, tx); }
+            AgencyRepository repo, SubtypeReadOnlyRepository subtypeRepo, TransactionalOperator tx,
+            CatalogChangePublisher changes
+    ) { return new CreateAgencyService(repo, subtypeRepo, tx, changes); }
 
     @Bean
     public UpdateAgencyUseCase updateAgencyUseCase(
             AgencyRepository repo,
             SubtypeReadOnlyRepository subtypeRepo,
-            TransactionalOperator tx
+            TransactionalOperator tx,
+            CatalogChangePublisher changes
     ) {
-        return new UpdateAgencyService(repo, subtypeRepo, tx);
+        return new UpdateAgencyService(repo, subtypeRepo, tx, changes);
     }
 
 
     @Bean
     public ChangeAgencyStatusUseCase changeAgencyStatusUseCase(
-            AgencyRepository repo, SubtypeReadOnlyRepository subtypeRepo, TransactionalOperator tx
-    ) { return new ChangeAgencyStatusService(repo, subtypeRepo, tx); }
+            AgencyRepository repo, ExistenceProbeRepository probes, TransactionalOperator tx,
+            CatalogChangePublisher changes
+    ) { return new ChangeAgencyStatusService(repo, probes, tx, changes); }
 
     @Bean
     public GetAgencyUseCase getAgencyUseCase(
             AgencyRepository repo,
-            SubtypeReadOnlyRepository subtypeRepo
+            SubtypeReadOnlyRepository subtypeRepo,
+            CoalescingLoaders loaders
     ) {
-        return new GetAgencyService(repo, subtypeRepo);
+        return new GetAgencyService(new CoalescingAgencyRepository(repo, loaders), subtypeRepo);
     }
 
 
     @Bean
     public ListAgenciesUseCase listAgenciesUseCase(
             AgencyRepository repo,
-            SubtypeReadOnlyRepository subtypeRepo
+            SubtypeReadOnlyRepository subtypeRepo,
+            CatalogSnapshotProvider snapshots,
+            CatalogKeyFilter keys
     ) {
-        return new ListAgenciesService(repo, subtypeRepo);
+        return new ListAgenciesService(
+                new SnapshotAgencyRepository(repo, snapshots),
+                new SnapshotAgencySubtypeReadOnlyRepository(subtypeRepo, snapshots, keys));
     }
 }
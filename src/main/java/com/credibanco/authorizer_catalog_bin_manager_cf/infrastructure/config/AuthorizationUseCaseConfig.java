@@ -0,0 +1,16 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.port.inbound.CheckAuthorizationUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.use_case.CheckAuthorizationService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AuthorizationUseCaseConfig {
+
+    @Bean
+    CheckAuthorizationUseCase checkAuthorizationUseCase(CatalogSnapshotProvider snapshots) {
+        return new CheckAuthorizationService(snapshots);
+    }
+}
@@ -3,6 +3,14 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_case.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCacheGetBinUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCaches;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingBinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotBinRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -13,11 +21,18 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.out
 public class BinUseCaseConfig {
 
     @Bean
-    GetBinUseCase getBinUseCase(BinRepository repo) { return new GetBinService(repo); }
+    GetBinUseCase getBinUseCase(BinRepository repo, CatalogSnapshotProvider snapshots, CatalogKeyFilter keys,
+                                CoalescingLoaders loaders, NegativeCaches negatives) {
+        return new NegativeCacheGetBinUseCase(
+                new GetBinService(new SnapshotBinRepository(new CoalescingBinRepository(repo, loaders), snapshots, keys)),
+                negatives);
+    }
     @Bean
     ListBinsUseCase listBinsUseCase(BinRepository repo) { return new ListBinsService(repo); }
-    @Bean public CreateBinUseCase createBinUseCase(BinRepository repo, TransactionalOperator tx) { return new CreateBinService(repo, tx); }
-    @Bean public ChangeBinStatusUseCase changeBinStatusUseCase(BinRepository repo, TransactionalOperator tx) { return new ChangeBinStatusService(repo, tx); }
-    @Bean public UpdateBinUseCase updateBinUseCase(BinRepository repo, SubtypeReadOnlyRepository subtypeRepo, TransactionalOperator tx) { return new UpdateBinService(repo, subtypeRepo, tx); }
+    @Bean
+    ResolveBinUseCase resolveBinUseCase(CatalogSnapshotProvider snapshots) { return new ResolveBinService(snapshots); }
+    @Bean public CreateBinUseCase createBinUseCase(BinRepository repo, TransactionalOperator tx, CatalogChangePublisher changes) { return new CreateBinService(repo, tx, changes); }
+    @Bean public ChangeBinStatusUseCase changeBinStatusUseCase(BinRepository repo, TransactionalOperator tx, CatalogChangePublisher changes) { return new ChangeBinStatusService(repo, tx, changes); }
+    @Bean public UpdateBinUseCase updateBinUseCase(BinRepository repo, SubtypeReadOnlyRepository subtypeRepo, TransactionalOperator tx, CatalogChangePublisher changes) { return new UpdateBinService(repo, subtypeRepo, tx, changes); }
 
 }
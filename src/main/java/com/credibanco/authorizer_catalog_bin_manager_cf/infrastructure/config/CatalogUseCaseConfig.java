@@ -0,0 +1,25 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.GetCatalogExportUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.StreamCatalogChangesUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangeLog;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogExportStore;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.use_case.GetCatalogExportService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.use_case.StreamCatalogChangesService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CatalogUseCaseConfig {
+
+    @Bean
+    GetCatalogExportUseCase getCatalogExportUseCase(CatalogSnapshotProvider snapshots, CatalogExportStore store) {
+        return new GetCatalogExportService(snapshots, store);
+    }
+
+    @Bean
+    StreamCatalogChangesUseCase streamCatalogChangesUseCase(CatalogChangeLog changeLog) {
+        return new StreamCatalogChangesService(changeLog);
+    }
+}
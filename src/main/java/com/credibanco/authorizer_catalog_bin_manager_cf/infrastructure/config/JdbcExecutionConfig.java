@@ -0,0 +1,66 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JdbcBulkhead;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JdbcExecutionMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JdbcStreamLimits;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JpaSchedulersInitializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Modo de ejecución de las llamadas JDBC, elegido por despliegue:
+ * {@code catalog.jdbc.execution-mode=bounded-elastic} (por defecto) o {@code virtual-threads}.
+ * En virtual-threads el bulkhead admite tantas llamadas simultáneas como conexiones tiene Hikari.
+ */
+@Slf4j
+@Configuration
+public class JdbcExecutionConfig {
+
+    @Bean
+    JdbcBulkhead jdbcBulkhead(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                              @Value("${catalog.jdbc.bulkhead.max-queue:200}") int maxQueue,
+                              @Value("${catalog.jdbc.bulkhead.max-wait:PT2S}") Duration maxWait,
+                              ObjectProvider<MeterRegistry> registry) {
+        JdbcBulkhead bulkhead = new JdbcBulkhead(poolSize, maxQueue, maxWait);
+        registry.ifAvailable(bulkhead::bindTo);
+        return bulkhead;
+    }
+
+    /** Aplica el modo a {@code JpaSchedulers} al iniciar el contexto y lo retira al cerrarlo. */
+    @Bean
+    JpaSchedulersInitializer jpaSchedulersInitializer(@Value("${catalog.jdbc.execution-mode:bounded-elastic}") String mode,
+                                                      JdbcBulkhead bulkhead) {
+        JdbcExecutionMode executionMode = JdbcExecutionMode.from(mode);
+        log.info("JDBC:execution mode={} maxConcurrent={} maxQueue={}",
+                executionMode, bulkhead.maxConcurrent(), bulkhead.maxQueue());
+        return new JpaSchedulersInitializer(executionMode, bulkhead);
+    }
+
+    /**
+     * Streams NDJSON por cursor: cada uno retiene una conexión mientras el cliente lee, así que se limitan
+     * por debajo del pool para que las consultas puntuales sigan teniendo conexiones.
+     */
+    @Bean
+    JdbcStreamLimits jdbcStreamLimits(@Value("${catalog.stream.fetch-size:1000}") int fetchSize,
+                                      @Value("${catalog.stream.max-concurrent:2}") int maxConcurrent,
+                                      @Value("${catalog.stream.query-timeout:PT30S}") Duration queryTimeout,
+                                      @Value("${catalog.stream.idle-timeout:PT30S}") Duration idleTimeout,
+                                      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                      ObjectProvider<MeterRegistry> registry) {
+        if (maxConcurrent >= poolSize) {
+            log.warn("JDBC:stream:max-concurrent={} >= pool={}; los streams pueden dejar sin conexiones a las consultas puntuales",
+                    maxConcurrent, poolSize);
+        }
+        JdbcStreamLimits limits = new JdbcStreamLimits(fetchSize, maxConcurrent, queryTimeout, idleTimeout);
+        registry.ifAvailable(limits::bindTo);
+        log.info("JDBC:stream maxConcurrent={} fetchSize={} queryTimeoutS={} idleTimeoutMs={}",
+                maxConcurrent, limits.fetchSize(), limits.queryTimeoutSeconds(), idleTimeout.toMillis());
+        return limits;
+    }
+}
@@ -0,0 +1,33 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr.JfrEndpoint;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr.JfrEventsInitializer;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr.JfrPortPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Eventos JFR propios ({@code com.credibanco.catalog.*}): casos de uso, repositorios, transacciones
+ * del adaptador reactivo y sentencias JDBC. Se graban solo si una grabación JFR los pide y el
+ * interruptor {@code catalog.jfr.enabled} está encendido; se cambia en caliente con {@code /actuator/catalogjfr}.
+ */
+@Configuration
+public class JfrConfig {
+
+    /** static: un BeanPostProcessor no debe forzar la creación temprana de su configuración. */
+    @Bean
+    static JfrPortPostProcessor jfrPortPostProcessor() {
+        return new JfrPortPostProcessor();
+    }
+
+    @Bean
+    JfrEventsInitializer jfrEventsInitializer(@Value("${catalog.jfr.enabled:true}") boolean enabled) {
+        return new JfrEventsInitializer(enabled);
+    }
+
+    @Bean
+    JfrEndpoint jfrEndpoint() {
+        return new JfrEndpoint();
+    }
+}
@@ -0,0 +1,44 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound.ImportJobStore;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.use_case.ImportJobService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.AddPlanItemUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * Jobs de importación: {@code catalog.jobs.max-concurrent} jobs a la vez y hasta
+ * {@code catalog.jobs.max-queued} en espera. Los jobs sin terminar y sin dueño vigente se retoman al
+ * arrancar y luego en cada renovación del lease ({@code catalog.jobs.lease}).
+ */
+@Slf4j
+@Configuration
+public class JobUseCaseConfig {
+
+    @Bean
+    ImportJobService importJobService(ImportJobStore store,
+                                      CommercePlanRepository planRepo,
+                                      AddPlanItemUseCase addItemUC,
+                                      @Value("${catalog.jobs.max-concurrent:2}") int maxConcurrent,
+                                      @Value("${catalog.jobs.max-queued:50}") int maxQueued,
+                                      @Value("${catalog.jobs.lease:PT2M}") Duration lease) {
+        log.info("JOB:engine maxConcurrent={} maxQueued={} lease={}", maxConcurrent, maxQueued, lease);
+        return new ImportJobService(store, planRepo, addItemUC, maxConcurrent, maxQueued, lease);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void resumeImportJobs(ApplicationReadyEvent event) {
+        try {
+            event.getApplicationContext().getBean(ImportJobService.class).resumeUnfinished();
+        } catch (RuntimeException ex) {
+            log.error("JOB:resume-failed; los jobs pendientes quedan sin retomar hasta el próximo arranque", ex);
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr.TransactionEvent;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.InstrumentedDataSource;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcRequestCost;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcStatementMetrics;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JdbcWorker;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JpaSchedulers;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JpaSchedulers.TransactionWorker;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
 import java.util.Map;
 import javax.sql.DataSource;
 
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -22,12 +33,13 @@ import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionContext;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 @Configuration
 @EnableConfigurationProperties({DataSourceProperties.class, JpaProperties.class})
@@ -39,15 +51,29 @@ public class JpaConfig {
         return new HikariConfig();
     }
 
+    /**
+     * Medición por sentencia: {@code catalog.jdbc.instrument.enabled=false} entrega el pool sin proxy;
+     * {@code slow-statement} es el umbral del log de sentencias lentas y {@code max-sql-shapes} el tope
+     * de formas de SQL distintas con serie propia.
+     */
     @Bean
-    public DataSource dataSource(DataSourceProperties properties, HikariConfig config) {
+    public JdbcStatementMetrics jdbcStatementMetrics(@Value("${catalog.jdbc.instrument.enabled:true}") boolean enabled,
+                                                     @Value("${catalog.jdbc.slow-statement:PT0.2S}") Duration slow,
+                                                     @Value("${catalog.jdbc.max-sql-shapes:300}") int maxShapes,
+                                                     ObjectProvider<MeterRegistry> registry) {
+        return new JdbcStatementMetrics(enabled, slow, maxShapes, registry.getIfAvailable());
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, HikariConfig config, JdbcStatementMetrics statements) {
         config.setJdbcUrl(properties.getUrl());
         config.setUsername(properties.getUsername());
         config.setPassword(properties.getPassword());
         if (properties.getDriverClassName() != null) {
             config.setDriverClassName(properties.getDriverClassName());
         }
-        return new HikariDataSource(config);
+        HikariDataSource pool = new HikariDataSource(config);
+        return statements.enabled() ? new InstrumentedDataSource(pool, statements) : pool;
     }
 
     @Bean
@@ -84,10 +110,18 @@ public class JpaConfig {
         return TransactionalOperator.create(transactionManager);
     }
 
+    /**
+     * Adapta el JpaTransactionManager (ligado a hilo) al mundo reactivo: la transacción se abre en un
+     * worker de {@link JpaSchedulers#newTransactionWorker()} (que toma permiso del bulkhead si aplica)
+     * y ese worker se publica en el contexto de la transacción reactiva
+     * ({@link JpaSchedulers#TRANSACTION_WORKER}) para que los adaptadores JPA corran en el mismo hilo.
+     * Un TransactionalOperator anidado reutiliza el worker y participa de la transacción exterior.
+     * La apertura corre con el costo JDBC de la petición ligado, así la espera por conexión se le carga.
+     * Cada fase emite un {@link TransactionEvent} JFR con la espera por el worker.
+     */
     static final class ReactivePlatformTransactionManagerAdapter implements ReactiveTransactionManager {
 
         private final PlatformTransactionManager delegate;
-        private final Scheduler scheduler = Schedulers.boundedElastic();
 
         ReactivePlatformTransactionManagerAdapter(PlatformTransactionManager delegate) {
             this.delegate = delegate;
@@ -98,15 +132,45 @@ public class JpaConfig {
         public Mono<ReactiveTransaction> getReactiveTransaction(TransactionDefinition definition) {
             TransactionDefinition txDefinition =
                     definition != null ? definition : new DefaultTransactionDefinition();
-            return Mono.defer(() -> {
-                Scheduler.Worker worker = scheduler.createWorker();
+            return Mono.deferContextual(ctx -> {
+                TransactionSynchronizationManager sync = ctx.<TransactionContext>getOrEmpty(TransactionContext.class)
+                        .map(TransactionSynchronizationManager::new)
+                        .orElse(null);
+                if (sync != null && sync.getResource(JpaSchedulers.TRANSACTION_WORKER) instanceof TransactionWorker outer) {
+                    return Mono.<ReactiveTransaction>create(sink -> {
+                        long queuedAt = System.nanoTime();
+                        outer.worker().schedule(() -> {
+                            TransactionEvent event = TransactionEvent.start("begin", queuedAt);
+                            try (JdbcRequestCost.Scope ignored = JdbcRequestCost.enter(ctx)) {
+                                TransactionStatus status = delegate.getTransaction(txDefinition);
+                                event.finish(status, null);
+                                sink.success(new ReactiveTransactionAdapter(status, outer.worker(), false, null));
+                            } catch (Throwable ex) {
+                                event.finish(null, ex);
+                                sink.error(ex);
+                            }
+                        });
+                    });
+                }
+                JdbcWorker worker = JpaSchedulers.newTransactionWorker();
                 return Mono.<ReactiveTransaction>create(sink -> {
                             sink.onCancel(worker);
+                            long queuedAt = System.nanoTime();
                             worker.schedule(() -> {
-                                try {
+                                TransactionEvent event = null;
+                                try (JdbcRequestCost.Scope ignored = JdbcRequestCost.enter(ctx)) {
+                                    worker.acquire();
+                                    event = TransactionEvent.start("begin", queuedAt);
                                     TransactionStatus status = delegate.getTransaction(txDefinition);
-                                    sink.success(new ReactiveTransactionAdapter(status, worker));
+                                    event.finish(status, null);
+                                    if (sync != null) {
+                                        sync.bindResource(JpaSchedulers.TRANSACTION_WORKER, TransactionWorker.of(worker));
+                                    }
+                                    sink.success(new ReactiveTransactionAdapter(status, worker, true, sync));
                                 } catch (Throwable ex) {
+                                    if (event != null) {
+                                        event.finish(null, ex);
+                                    }
                                     worker.dispose();
                                     sink.error(ex);
                                 }
@@ -121,11 +185,15 @@ public class JpaConfig {
             ReactiveTransactionAdapter adapter = asAdapter(transaction);
             return Mono.<Void>create(sink -> {
                         sink.onCancel(adapter::disposeWorker);
+                        long queuedAt = System.nanoTime();
                         adapter.worker().schedule(() -> {
+                            TransactionEvent event = TransactionEvent.start("commit", queuedAt);
                             try {
                                 delegate.commit(adapter.status());
+                                event.finish(adapter.status(), null);
                                 sink.success();
                             } catch (Throwable ex) {
+                                event.finish(adapter.status(), ex);
                                 sink.error(ex);
                             } finally {
                                 adapter.disposeWorker();
@@ -140,11 +208,15 @@ public class JpaConfig {
             ReactiveTransactionAdapter adapter = asAdapter(transaction);
             return Mono.<Void>create(sink -> {
                         sink.onCancel(adapter::disposeWorker);
+                        long queuedAt = System.nanoTime();
                         adapter.worker().schedule(() -> {
+                            TransactionEvent event = TransactionEvent.start("rollback", queuedAt);
                             try {
                                 delegate.rollback(adapter.status());
+                                event.finish(adapter.status(), null);
                                 sink.success();
                             } catch (Throwable ex) {
+                                event.finish(adapter.status(), ex);
                                 sink.error(ex);
                             } finally {
                                 adapter.disposeWorker();
@@ -160,10 +232,26 @@ public class JpaConfig {
         }
     }
 
+    /**
+     * {@code owner} = abrió el worker (transacción exterior); solo el dueño libera el worker y
+     * retira su publicación del contexto al confirmar o revertir.
+     */
     record ReactiveTransactionAdapter(TransactionStatus status,
-                                      Scheduler.Worker worker) implements ReactiveTransaction {
+                                      Scheduler.Worker worker,
+                                      boolean owner,
+                                      TransactionSynchronizationManager sync) implements ReactiveTransaction {
+
+        ReactiveTransactionAdapter(TransactionStatus status, Scheduler.Worker worker) {
+            this(status, worker, true, null);
+        }
 
         private void disposeWorker() {
+                if (!owner) {
+                    return;
+                }
+                if (sync != null) {
+                    sync.unbindResourceIfPossible(JpaSchedulers.TRANSACTION_WORKER);
+                }
                 worker.dispose();
             }
 
@@ -0,0 +1,32 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoader;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Agrupación de lecturas puntuales (GET de BIN, SUBTYPE y AGENCY) en consultas IN por lote:
+ * {@code catalog.loader.window} es cuánto espera el lote desde la primera clave y
+ * {@code catalog.loader.max-batch} cuántas claves distintas lo hacen salir antes (máximo 1000).
+ */
+@Slf4j
+@Configuration
+public class LoaderConfig {
+
+    @Bean
+    CoalescingLoaders coalescingLoaders(@Value("${catalog.loader.window:PT0.002S}") Duration window,
+                                        @Value("${catalog.loader.max-batch:100}") int maxBatch,
+                                        ObjectProvider<MeterRegistry> registry) {
+        int batch = Math.min(maxBatch, CoalescingLoader.MAX_BATCH_LIMIT);
+        log.info("LOADER:config windowMs={} maxBatch={}", window.toMillis(), batch);
+        return new CoalescingLoaders(window, batch, Schedulers.parallel(), registry.getIfAvailable());
+    }
+}
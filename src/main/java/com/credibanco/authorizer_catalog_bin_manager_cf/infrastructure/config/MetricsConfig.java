@@ -0,0 +1,33 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics.BoundedElasticMetrics;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics.PortTimingPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas propias expuestas por actuator ({@code /actuator/prometheus}):
+ * latencia por caso de uso y por método de repositorio ({@code catalog.usecase}, {@code catalog.repository},
+ * apagables con {@code catalog.metrics.ports.enabled=false}) y ocupación de los schedulers boundedElastic.
+ * El pool de Hikari ({@code hikaricp.connections.*}) lo registra actuator.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** static: un BeanPostProcessor no debe forzar la creación temprana de su configuración. */
+    @Bean
+    static PortTimingPostProcessor portTimingPostProcessor(@Value("${catalog.metrics.ports.enabled:true}") boolean enabled,
+                                                           ObjectProvider<MeterRegistry> registry) {
+        return new PortTimingPostProcessor(enabled, registry);
+    }
+
+    @Bean
+    BoundedElasticMetrics boundedElasticMetrics(ObjectProvider<MeterRegistry> registry) {
+        BoundedElasticMetrics metrics = new BoundedElasticMetrics();
+        registry.ifAvailable(metrics::bindTo);
+        return metrics;
+    }
+}
@@ -0,0 +1,30 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCaches;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caché negativa de los GET de BIN, subtipo y plan: las claves que respondieron 404 se recuerdan
+ * por {@code catalog.negative-cache.ttl} (hasta {@code max-entries} por caso de uso) para que los
+ * reintentos con claves malas no consuman conexiones. {@code enabled=false} o ttl 0 la desactivan.
+ */
+@Slf4j
+@Configuration
+public class NegativeCacheConfig {
+
+    @Bean
+    NegativeCaches negativeCaches(@Value("${catalog.negative-cache.enabled:true}") boolean enabled,
+                                  @Value("${catalog.negative-cache.ttl:PT5S}") Duration ttl,
+                                  @Value("${catalog.negative-cache.max-entries:10000}") int maxEntries,
+                                  ObjectProvider<MeterRegistry> registry) {
+        log.info("NEGATIVE-CACHE:config enabled={} ttl={} maxEntries={}", enabled, ttl, maxEntries);
+        return new NegativeCaches(enabled, ttl, maxEntries, registry.getIfAvailable());
+    }
+}
@@ -1,10 +1,20 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanItemRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotCommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCacheGetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCaches;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightGetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightListPlanItemsUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlights;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -12,36 +22,46 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 @Configuration
 public class PlanUseCaseConfig {
 
-    @Bean CreatePlanUseCase createPlanUseCase(CommercePlanRepository r, TransactionalOperator tx) {
-        return new CreatePlanService(r, tx);
+    @Bean CreatePlanUseCase createPlanUseCase(CommercePlanRepository r, TransactionalOperator tx,
+                                             CatalogChangePublisher changes) {
+        return new CreatePlanService(r, tx, changes);
     }
 
     @Bean AddPlanItemUseCase addPlanItemUseCase(CommercePlanRepository pr,
                                                 CommercePlanItemRepository ir,
-                                                TransactionalOperator tx) {
-        return new AddPlanItemService(pr, ir, tx);
+                                                TransactionalOperator tx,
+                                                CatalogChangePublisher changes) {
+        return new AddPlanItemService(pr, ir, tx, changes);
     }
     @Bean
     AssignPlanToSubtypeUseCase assignPlanToSubtypeUseCase(CommercePlanRepository pr,
                                                           SubtypePlanRepository sr,
-                                                          com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypeReadOnlyRepository subtypeRepo,
-                                                          CommercePlanItemRepository itemRepo,  // <— NUEVO
-                                                          TransactionalOperator tx) {
-        return new AssignPlanToSubtypeService(pr, sr, subtypeRepo, itemRepo, tx);
+                                                          ExistenceProbeRepository probes,
+                                                          TransactionalOperator tx,
+                                                          CatalogChangePublisher changes) {
+        return new AssignPlanToSubtypeService(pr, sr, probes, tx, changes);
     }
 
-    @Bean GetPlanUseCase getPlanUseCase(CommercePlanRepository r) { return new GetPlanService(r); }
+    @Bean GetPlanUseCase getPlanUseCase(CommercePlanRepository r, CatalogSnapshotProvider snapshots,
+                                        CatalogKeyFilter keys, SingleFlights flights, NegativeCaches negatives) {
+        return new NegativeCacheGetPlanUseCase(new SingleFlightGetPlanUseCase(
+                new GetPlanService(new SnapshotCommercePlanRepository(r, snapshots, keys)), flights), negatives);
+    }
     @Bean ListPlansUseCase listPlansUseCase(CommercePlanRepository r) { return new ListPlansService(r); }
-    @Bean UpdatePlanUseCase updatePlanUseCase(CommercePlanRepository r) { return new UpdatePlanService(r); }
-    @Bean ChangePlanStatusUseCase changePlanStatusUseCase(CommercePlanRepository r) { return new ChangePlanStatusService(r); }
-    @Bean ListPlanItemsUseCase listPlanItemsUseCase(CommercePlanRepository pr, CommercePlanItemRepository ir) { return new ListPlanItemsService(pr, ir); }
+    @Bean UpdatePlanUseCase updatePlanUseCase(CommercePlanRepository r, CatalogChangePublisher changes) { return new UpdatePlanService(r, changes); }
+    @Bean ChangePlanStatusUseCase changePlanStatusUseCase(CommercePlanRepository r, CatalogChangePublisher changes) { return new ChangePlanStatusService(r, changes); }
+    @Bean ListPlanItemsUseCase listPlanItemsUseCase(CommercePlanRepository pr, CommercePlanItemRepository ir,
+                                                    SingleFlights flights) {
+        return new SingleFlightListPlanItemsUseCase(new ListPlanItemsService(pr, ir), flights);
+    }
 
     @Bean
     public ChangePlanItemStatusUseCase changePlanItemStatusUseCase(
             CommercePlanRepository pr,
             CommercePlanItemRepository ir,
-            TransactionalOperator tx
+            TransactionalOperator tx,
+            CatalogChangePublisher changes
     ) {
-        return new ChangePlanItemStatusService(pr, ir, tx);
+        return new ChangePlanItemStatusService(pr, ir, tx, changes);
     }
 }
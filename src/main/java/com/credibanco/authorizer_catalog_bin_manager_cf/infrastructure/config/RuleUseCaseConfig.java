@@ -1,10 +1,15 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.*;
-import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotValidationMapRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightListRulesForSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlights;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -12,24 +17,28 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 @Configuration
 public class RuleUseCaseConfig {
     @Bean
-    CreateValidationUseCase createValidationUseCase(ValidationRepository r, TransactionalOperator tx) {
-        return new CreateValidationService(r, tx);
+    CreateValidationUseCase createValidationUseCase(ValidationRepository r, TransactionalOperator tx,
+                                                    CatalogChangePublisher changes) {
+        return new CreateValidationService(r, tx, changes);
     }
-    @Bean UpdateValidationUseCase updateValidationUseCase(ValidationRepository r) { return new UpdateValidationService(r); }
-    @Bean ChangeValidationStatusUseCase changeValidationStatusUseCase(ValidationRepository r, TransactionalOperator tx) { return new ChangeValidationStatusService(r, tx); }
+    @Bean UpdateValidationUseCase updateValidationUseCase(ValidationRepository r, CatalogChangePublisher changes) { return new UpdateValidationService(r, changes); }
+    @Bean ChangeValidationStatusUseCase changeValidationStatusUseCase(ValidationRepository r, TransactionalOperator tx, CatalogChangePublisher changes) { return new ChangeValidationStatusService(r, tx, changes); }
     @Bean GetValidationUseCase getValidationUseCase(ValidationRepository r) { return new GetValidationService(r); }
     @Bean ListValidationsUseCase listValidationsUseCase(ValidationRepository r) { return new ListValidationsService(r); }
 
     @Bean
     MapRuleUseCase mapRuleUseCase(ValidationRepository vr,
                                   ValidationMapRepository mr,
-                                  SubtypeReadOnlyRepository sr,
-                                  TransactionalOperator tx) {
-        return new MapRuleService(vr, mr, sr, tx);
+                                  ExistenceProbeRepository probes,
+                                  TransactionalOperator tx,
+                                  CatalogChangePublisher changes) {
+        return new MapRuleService(vr, mr, probes, tx, changes);
     }
 
     @Bean
-    ListRulesForSubtypeUseCase listRulesForSubtypeUseCase(ValidationMapRepository mr) {
-        return new ListRulesForSubtypeService(mr);
+    ListRulesForSubtypeUseCase listRulesForSubtypeUseCase(ValidationMapRepository mr, ValidationRepository vr,
+                                                          CatalogSnapshotProvider snapshots, SingleFlights flights) {
+        return new SingleFlightListRulesForSubtypeUseCase(
+                new ListRulesForSubtypeService(new SnapshotValidationMapRepository(mr, snapshots), vr, snapshots), flights);
     }
 }
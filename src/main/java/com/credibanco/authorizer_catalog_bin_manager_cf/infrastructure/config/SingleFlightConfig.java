@@ -0,0 +1,26 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlights;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Deduplicación de lecturas idénticas en curso para los casos de uso de consulta más calientes
+ * (GET de plan y subtipo, páginas de ítems de plan y de reglas por subtipo).
+ * {@code catalog.single-flight.enabled=false} deja pasar cada llamada tal cual.
+ */
+@Slf4j
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    SingleFlights singleFlights(@Value("${catalog.single-flight.enabled:true}") boolean enabled,
+                                ObjectProvider<MeterRegistry> registry) {
+        log.info("SINGLEFLIGHT:config enabled={}", enabled);
+        return new SingleFlights(enabled, registry.getIfAvailable());
+    }
+}
@@ -1,11 +1,23 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.AgencyReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.IdTypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingSubtypeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotBinReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotSubtypeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCacheGetSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCaches;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightGetSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlights;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -18,9 +30,11 @@ public class SubtypeUseCaseConfig {
             SubtypeRepository repo,
             BinReadOnlyRepository binRepo,
             IdTypeReadOnlyRepository idTypeRepo,
-            TransactionalOperator tx
+            ExistenceProbeRepository probes,
+            TransactionalOperator tx,
+            CatalogChangePublisher changes
     ) {
-        return new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        return new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
     }
 
     @Bean
@@ -28,29 +42,37 @@ public class SubtypeUseCaseConfig {
             SubtypeRepository repo,
             BinReadOnlyRepository binRepo,
             IdTypeReadOnlyRepository idTypeRepo,
-            TransactionalOperator tx
+            TransactionalOperator tx,
+            CatalogChangePublisher changes
     ) {
-        return new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        return new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
     }
     @Bean
     public ChangeSubtypeStatusUseCase changeSubtypeStatusUseCase(
             SubtypeRepository repo,
             AgencyReadOnlyRepository agencyRepo,
-            TransactionalOperator tx
+            TransactionalOperator tx,
+            CatalogChangePublisher changes
     ) {
-        return new ChangeSubtypeStatusService(repo, agencyRepo, tx);
+        return new ChangeSubtypeStatusService(repo, agencyRepo, tx, changes);
     }
 
     @Bean
-    public GetSubtypeUseCase getSubtypeUseCase(SubtypeRepository repo) {
-        return new GetSubtypeService(repo);
+    public GetSubtypeUseCase getSubtypeUseCase(SubtypeRepository repo, CoalescingLoaders loaders, SingleFlights flights,
+                                               NegativeCaches negatives) {
+        return new NegativeCacheGetSubtypeUseCase(new SingleFlightGetSubtypeUseCase(
+                new GetSubtypeService(new CoalescingSubtypeRepository(repo, loaders)), flights), negatives);
     }
 
     @Bean
     public ListSubtypesUseCase listSubtypesUseCase(
             SubtypeRepository repo,
-            BinReadOnlyRepository binRepo
+            BinReadOnlyRepository binRepo,
+            CatalogSnapshotProvider snapshots,
+            CatalogKeyFilter keys
     ) {
-        return new ListSubtypesService(repo, binRepo);
+        return new ListSubtypesService(
+                new SnapshotSubtypeRepository(repo, snapshots),
+                new SnapshotBinReadOnlyRepository(binRepo, snapshots, keys));
     }
 }
@@ -0,0 +1,42 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.CatalogTracing;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.CatalogTracingInitializer;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.TracingPortPostProcessor;
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Trazas distribuidas (Micrometer Tracing + OpenTelemetry, exportadas por OTLP a un colector local):
+ * el span HTTP por ruta lo abre WebFlux con el patrón de la ruta de cada {@code *Router}; debajo
+ * cuelgan los de caso de uso, repositorio, {@code jdbc.call} y {@code jdbc.statement}.
+ * {@code catalog.tracing.enabled=false} deja solo el span HTTP.
+ */
+@Slf4j
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    CatalogTracing catalogTracing(@Value("${catalog.tracing.enabled:true}") boolean enabled,
+                                  ObjectProvider<Tracer> tracer) {
+        Tracer t = tracer.getIfAvailable();
+        CatalogTracing tracing = new CatalogTracing(t == null ? Tracer.NOOP : t, enabled && t != null);
+        log.info("TRACING:catalog spans enabled={}", tracing.enabled());
+        return tracing;
+    }
+
+    @Bean
+    CatalogTracingInitializer catalogTracingInitializer(CatalogTracing tracing) {
+        return new CatalogTracingInitializer(tracing);
+    }
+
+    /** static: un BeanPostProcessor no debe forzar la creación temprana de su configuración. */
+    @Bean
+    static TracingPortPostProcessor tracingPortPostProcessor(ObjectProvider<CatalogTracing> tracing) {
+        return new TracingPortPostProcessor(tracing);
+    }
+}
@@ -26,6 +26,20 @@ public final class ApiResponses {
         return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
     }
 
+    /**
+     * Listados en streaming: {@code Accept: application/x-ndjson} o {@code ?stream=true}.
+     * La respuesta es un objeto JSON por línea, sin sobre {@link ApiSuccess}.
+     */
+    public static boolean wantsNdjson(ServerRequest req) {
+        boolean param = req.queryParam("stream").map(Boolean::parseBoolean).orElse(false);
+        return param || req.headers().accept().stream()
+                .anyMatch(m -> m.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+
+    public static ServerResponse.BodyBuilder ndjsonOk() {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON);
+    }
+
     public static ServerResponse.BodyBuilder jsonCreated(ServerRequest req, String locationBin) {
         return ServerResponse.created(req.uriBuilder().path("/{bin}").build(locationBin))
                 .contentType(MediaType.APPLICATION_JSON);
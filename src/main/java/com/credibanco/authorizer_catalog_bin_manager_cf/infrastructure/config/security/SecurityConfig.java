@@ -60,6 +60,9 @@ public class SecurityConfig {
     @Value("${internal.jwt.jwk.trusted-cert-path:}")
     private String jwkTrustedCertificatePath;
 
+    @Value("${catalog.jfr.admin-role:CATALOG_ADMIN}")
+    private String jfrAdminRole;
+
     @Bean
     public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http,
                                                             ReactiveAuthenticationManager authManager,
@@ -74,7 +77,10 @@ public class SecurityConfig {
         return http
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .authorizeExchange(ex -> ex
-                        .pathMatchers("/actuator/**", "/health").permitAll()
+                        // cambia el interruptor de eventos JFR en producción: solo el rol de administración
+                        .pathMatchers("/actuator/catalogjfr", "/actuator/catalogjfr/**").hasRole(jfrAdminRole)
+                        // solo el health queda abierto; metrics y prometheus exponen SQL normalizado y cargas
+                        .pathMatchers("/actuator/health", "/actuator/health/**", "/health").permitAll()
                         .anyExchange().authenticated()
                 )
                 .addFilterAt(xAuthFilter, SecurityWebFiltersOrder.AUTHENTICATION)
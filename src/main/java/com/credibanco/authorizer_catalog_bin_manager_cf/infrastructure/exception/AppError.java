@@ -60,6 +60,21 @@ public enum AppError {
     PLAN_ASSIGNMENT_INVALID_DATA ("27", HttpStatus.BAD_REQUEST, "Datos inválidos para asignación de plan a SUBTYPE"),
     PLAN_ASSIGNMENT_CONFLICT     ("28", HttpStatus.CONFLICT,    "No se puede asignar plan al SUBTYPE"),
 
+    BIN_RESOLVER_UNAVAILABLE     ("29", HttpStatus.SERVICE_UNAVAILABLE, "El índice de BIN aún no está disponible"),
+    CATALOG_EXPORT_UNAVAILABLE   ("30", HttpStatus.SERVICE_UNAVAILABLE, "La exportación del catálogo aún no está disponible"),
+    CATALOG_INVALID_DATA         ("31", HttpStatus.BAD_REQUEST, "Datos inválidos para CATALOG"),
+
+    AUTHORIZATION_INVALID_DATA   ("32", HttpStatus.BAD_REQUEST, "Datos inválidos para consulta de autorización"),
+    AUTHORIZATION_UNAVAILABLE    ("33", HttpStatus.SERVICE_UNAVAILABLE, "El catálogo en memoria aún no está disponible para autorizar"),
+
+    JDBC_BULKHEAD_FULL           ("34", HttpStatus.SERVICE_UNAVAILABLE, "Capacidad de base de datos agotada, intente nuevamente"),
+
+    JOB_INVALID_DATA             ("35", HttpStatus.BAD_REQUEST, "Datos inválidos para job de importación"),
+    JOB_NOT_FOUND                ("36", HttpStatus.NOT_FOUND,   "Job de importación no encontrado"),
+    JOB_QUEUE_FULL               ("37", HttpStatus.SERVICE_UNAVAILABLE, "La cola de jobs de importación está llena, intente más tarde"),
+
+    CATALOG_CHANGES_UNAVAILABLE  ("38", HttpStatus.SERVICE_UNAVAILABLE, "El feed de cambios del catálogo aún no está disponible"),
+
 
     INTERNAL          ("99", HttpStatus.INTERNAL_SERVER_ERROR,"Se produjo un error inesperado");
 
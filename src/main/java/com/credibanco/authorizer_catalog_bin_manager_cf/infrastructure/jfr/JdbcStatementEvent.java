@@ -0,0 +1,58 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/** Ejecución de una sentencia JDBC; el SQL va normalizado (sin literales), como en las métricas. */
+@Name("com.credibanco.catalog.JdbcStatement")
+@Label("Catalog JDBC Statement")
+@Category({"Catalog", "JDBC"})
+@StackTrace(false)
+public class JdbcStatementEvent extends Event {
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Kind")
+    @Description("query | update | batch | execute")
+    String kind;
+
+    @Label("Rows")
+    @Description("Filas afectadas; las leídas del ResultSet no se conocen al ejecutar (-1)")
+    long rows;
+
+    @Label("Outcome")
+    String outcome;
+
+    private transient boolean active;
+
+    /** Inactivo (finish no hace nada) si el interruptor está apagado o ninguna grabación pide el evento. */
+    public static JdbcStatementEvent start() {
+        JdbcStatementEvent event = new JdbcStatementEvent();
+        if (JfrEvents.enabled() && event.isEnabled()) {
+            event.active = true;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(Supplier<String> sqlShape, String kind, long rows, Throwable error) {
+        if (!active) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.sql = sqlShape.get();
+            this.kind = kind;
+            this.rows = rows;
+            this.outcome = JfrEvents.outcome(false, error);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/catalogjfr} informa el estado del interruptor; {@code POST} con
+ * {@code {"enabled": true|false}} lo cambia sin reiniciar. Las grabaciones se siguen iniciando
+ * con {@code jcmd <pid> JFR.start}; el interruptor solo decide si el catálogo emite sus eventos.
+ * SecurityConfig exige autenticación en esta ruta, a diferencia del resto de {@code /actuator}.
+ */
+@Slf4j
+@Endpoint(id = "catalogjfr")
+public class JfrEndpoint {
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("enabled", JfrEvents.enabled());
+    }
+
+    @WriteOperation
+    public Map<String, Object> toggle(boolean enabled) {
+        JfrEvents.setEnabled(enabled);
+        log.info("JFR:events enabled={}", enabled);
+        return status();
+    }
+}
@@ -0,0 +1,31 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+/**
+ * Interruptor global de los eventos JFR del catálogo. Con el interruptor apagado, o sin una
+ * grabación que los habilite, los puntos instrumentados solo leen este flag y
+ * {@link jdk.jfr.Event#isEnabled()}: no se arma ningún evento ni se envuelve ningún Mono/Flux.
+ * Se inicia con {@code catalog.jfr.enabled} y se cambia en caliente con el endpoint {@code catalogjfr}.
+ */
+public final class JfrEvents {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String CANCELLED = "cancelled";
+
+    private static volatile boolean enabled = true;
+
+    private JfrEvents() {
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    static String outcome(boolean cancelled, Throwable error) {
+        return cancelled ? CANCELLED : error != null ? ERROR : SUCCESS;
+    }
+}
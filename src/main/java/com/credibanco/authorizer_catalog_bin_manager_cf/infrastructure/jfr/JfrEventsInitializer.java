@@ -0,0 +1,27 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Aplica {@code catalog.jfr.enabled} al interruptor de {@link JfrEvents} al iniciar el contexto y lo
+ * devuelve a su valor por defecto al cerrarlo; en caliente lo cambia {@link JfrEndpoint}.
+ */
+public class JfrEventsInitializer implements InitializingBean, DisposableBean {
+
+    private final boolean enabled;
+
+    public JfrEventsInitializer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        JfrEvents.setEnabled(enabled);
+    }
+
+    @Override
+    public void destroy() {
+        JfrEvents.setEnabled(true);
+    }
+}
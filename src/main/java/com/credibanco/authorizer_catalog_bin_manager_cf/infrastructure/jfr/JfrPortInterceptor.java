@@ -0,0 +1,89 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics.PortOperations;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Emite un {@link UseCaseEvent} o un {@link RepositoryEvent} por llamada a un método de puerto.
+ * En Mono/Flux el evento cubre de la suscripción a la terminación, en el hilo que termina. Si el
+ * evento no está pedido la llamada pasa sin envolver.
+ */
+final class JfrPortInterceptor implements MethodInterceptor {
+
+    private final PortOperations operations;
+    private final boolean inbound;
+
+    JfrPortInterceptor(List<Class<?>> ports, boolean inbound) {
+        this.operations = new PortOperations(ports);
+        this.inbound = inbound;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!JfrEvents.enabled()) {
+            return invocation.proceed();
+        }
+        Optional<String> operation = operations.of(invocation.getMethod());
+        if (operation.isEmpty()) {
+            return invocation.proceed();
+        }
+        PortEvent event = newEvent(operation.get(), invocation.getArguments());
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            event.finish(false, ex);
+            throw ex;
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> traced(mono, newEvent(event.operation, invocation.getArguments())));
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> traced(flux, newEvent(event.operation, invocation.getArguments())));
+        }
+        if (result != null) {
+            event.emitted(result);
+        }
+        event.finish(false, null);
+        return result;
+    }
+
+    private PortEvent newEvent(String operation, Object[] args) {
+        PortEvent event;
+        if (inbound) {
+            UseCaseEvent useCase = new UseCaseEvent();
+            useCase.args = args;
+            event = useCase;
+        } else {
+            event = new RepositoryEvent();
+        }
+        event.operation = operation;
+        return event;
+    }
+
+    private <T> Mono<T> traced(Mono<T> mono, PortEvent event) {
+        event.begin();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        return mono.doOnNext(event::emitted).doOnError(error::set)
+                .doFinally(signal -> event.finish(signal == SignalType.CANCEL, error.get()));
+    }
+
+    private <T> Flux<T> traced(Flux<T> flux, PortEvent event) {
+        event.begin();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        return flux.doOnNext(event::emitted).doOnError(error::set)
+                .doFinally(signal -> event.finish(signal == SignalType.CANCEL, error.get()));
+    }
+}
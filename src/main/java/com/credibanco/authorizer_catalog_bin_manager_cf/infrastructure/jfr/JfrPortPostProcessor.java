@@ -0,0 +1,41 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics.PortTimingPostProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Agrega el interceptor JFR a los mismos beans que mide {@link PortTimingPostProcessor}: casos de
+ * uso y repositorios. El proxy queda siempre puesto; con los eventos apagados cada llamada solo
+ * lee el interruptor de {@link JfrEvents}.
+ */
+@Slf4j
+public class JfrPortPostProcessor implements BeanPostProcessor, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        List<Class<?>> inbound = PortTimingPostProcessor.ports(bean, true);
+        if (!inbound.isEmpty()) {
+            return proxy(bean, inbound, true);
+        }
+        List<Class<?>> outbound = PortTimingPostProcessor.ports(bean, false);
+        if (!outbound.isEmpty()) {
+            return proxy(bean, outbound, false);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private Object proxy(Object bean, List<Class<?>> ports, boolean inbound) {
+        log.debug("JFR:port-traced bean={} ports={}", AopUtils.getTargetClass(bean).getSimpleName(), ports);
+        return PortTimingPostProcessor.advise(bean, new JfrPortInterceptor(ports, inbound));
+    }
+}
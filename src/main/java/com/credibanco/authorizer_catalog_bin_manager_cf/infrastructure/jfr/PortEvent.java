@@ -0,0 +1,41 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/** Campos comunes a las llamadas a puertos: operación (Interfaz.método), resultado y código de error. */
+@Category({"Catalog"})
+@StackTrace(false)
+abstract class PortEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error Code")
+    String code;
+
+    /** Elementos emitidos por el Mono/Flux (en las colecciones, su tamaño). */
+    abstract void emitted(Object value);
+
+    /** Completa los campos derivados; solo corre si el evento se va a grabar. */
+    void describe() {
+    }
+
+    void finish(boolean cancelled, Throwable error) {
+        end();
+        if (shouldCommit()) {
+            outcome = JfrEvents.outcome(cancelled, error);
+            code = error == null ? null
+                    : error instanceof AppException app ? app.getError().code : AppError.INTERNAL.code;
+            describe();
+            commit();
+        }
+    }
+}
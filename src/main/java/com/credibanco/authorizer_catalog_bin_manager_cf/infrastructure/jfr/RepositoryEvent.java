@@ -0,0 +1,33 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collection;
+
+@Name("com.credibanco.catalog.Repository")
+@Label("Catalog Repository Call")
+@Category({"Catalog", "Repository"})
+@Description("Llamada a un repositorio, de la suscripción a la terminación")
+public class RepositoryEvent extends PortEvent {
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Rows")
+    @Description("Elementos devueltos; las colecciones cuentan por su tamaño")
+    long rows;
+
+    @Override
+    void describe() {
+        int dot = operation.indexOf('.');
+        entity = (dot < 0 ? operation : operation.substring(0, dot)).replaceFirst("Repository$", "");
+    }
+
+    @Override
+    void emitted(Object value) {
+        rows += value instanceof Collection<?> c ? c.size() : 1;
+    }
+}
@@ -0,0 +1,72 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * Apertura, confirmación o reversión de una transacción del adaptador reactivo. La duración es la
+ * de la llamada al JpaTransactionManager en el worker; {@code workerWait} es lo que la tarea esperó
+ * antes (hilo del scheduler y, al abrir, el permiso del bulkhead).
+ */
+@Name("com.credibanco.catalog.Transaction")
+@Label("Catalog Transaction")
+@Category({"Catalog", "Transaction"})
+@StackTrace(false)
+public class TransactionEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Transaction Name")
+    String transaction;
+
+    @Label("Read Only")
+    boolean readOnly;
+
+    @Label("New Transaction")
+    @Description("false si participa de una transacción exterior")
+    boolean newTransaction;
+
+    @Label("Worker Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long workerWait;
+
+    @Label("Outcome")
+    String outcome;
+
+    private transient boolean active;
+
+    /** Arranca el evento ya en el worker; {@code queuedAt} es el System.nanoTime() al programar la tarea. */
+    public static TransactionEvent start(String phase, long queuedAt) {
+        TransactionEvent event = new TransactionEvent();
+        if (JfrEvents.enabled() && event.isEnabled()) {
+            event.active = true;
+            event.phase = phase;
+            event.workerWait = System.nanoTime() - queuedAt;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(TransactionStatus status, Throwable error) {
+        if (!active) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            if (status != null) {
+                transaction = status.getTransactionName();
+                readOnly = status.isReadOnly();
+                newTransaction = status.isNewTransaction();
+            }
+            outcome = JfrEvents.outcome(false, error);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Name("com.credibanco.catalog.UseCase")
+@Label("Catalog Use Case")
+@Category({"Catalog", "Use Case"})
+@Description("Ejecución de un caso de uso, de la suscripción a la terminación")
+public class UseCaseEvent extends PortEvent {
+
+    @Label("Arguments Shape")
+    @Description("Tipo de cada argumento (y largo en textos y colecciones); nunca el valor")
+    String argsShape;
+
+    @Label("Elements")
+    long elements;
+
+    transient Object[] args;
+
+    @Override
+    void emitted(Object value) {
+        elements++;
+    }
+
+    @Override
+    void describe() {
+        argsShape = args == null ? null : shapeOf(args);
+    }
+
+    /** "(String(6),Integer,null,ArrayList[3])": tipo de cada argumento y largo de textos y colecciones. */
+    static String shapeOf(Object[] args) {
+        StringJoiner shape = new StringJoiner(",", "(", ")");
+        for (Object arg : args) {
+            if (arg == null) {
+                shape.add("null");
+            } else if (arg instanceof CharSequence text) {
+                shape.add("String(" + text.length() + ")");
+            } else if (arg instanceof Collection<?> items) {
+                shape.add(arg.getClass().getSimpleName() + "[" + items.size() + "]");
+            } else if (arg instanceof Map<?, ?> entries) {
+                shape.add(arg.getClass().getSimpleName() + "[" + entries.size() + "]");
+            } else {
+                shape.add(arg.getClass().getSimpleName());
+            }
+        }
+        return shape.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.logging;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.CatalogTracing;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.MDC;
@@ -24,6 +25,8 @@ public class CorrelationWebFilter implements WebFilter {
     public static final String CID = "X-Correlation-Id";
     public static final String CTX_CID = "ctx.correlationId";
     public static final String CTX_USER = "ctx.userId";
+    /** Clave MDC que lee el patrón de logback-spring.xml (trace=%X{traceId}). */
+    static final String TRACE_ID = "traceId";
 
     @NotNull
     @Override
@@ -49,18 +52,22 @@ public class CorrelationWebFilter implements WebFilter {
 
         // 3) Ejecutar la cadena con contexto reactor y MDC en cada señal
         return chain.filter(exchange)
-                // En cada señal copiamos desde Context -> MDC
+                // En cada señal copiamos desde Context -> MDC (el traceId sale de la observación HTTP del Context,
+                // sin propagación automática de ThreadLocals)
                 .doOnEach(signal -> {
                     ContextView ctx = signal.getContextView();
                     String ctxCid = ctx.getOrDefault(CTX_CID, cid);
                     String ctxUser = ctx.getOrDefault(CTX_USER, user);
+                    String traceId = CatalogTracing.current().traceId(ctx);
                     if (ctxCid != null) MDC.put("cid", ctxCid);
                     if (ctxUser != null) MDC.put("user", ctxUser);
+                    if (traceId != null) MDC.put(TRACE_ID, traceId);
                 })
                 // Al finalizar, limpiamos MDC
                 .doFinally(st -> {
                     MDC.remove("cid");
                     MDC.remove("user");
+                    MDC.remove(TRACE_ID);
                 })
                 // 4) Escribimos cid/user al Context para que esté disponible río abajo
                 .contextWrite(ctx -> {
@@ -0,0 +1,86 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.logging;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcRequestCost;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcStatementMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+/**
+ * Abre el acumulador de costo JDBC de la petición, correlacionado por el cid que dejó
+ * {@link CorrelationWebFilter}, dentro del mismo contexto de Reactor que él inicia. Justo antes de
+ * confirmar la respuesta escribe {@code Server-Timing}:
+ * <ul>
+ *   <li>{@code app}: tiempo total desde que entró la petición</li>
+ *   <li>{@code thread}: espera por un hilo JDBC (boundedElastic, hilo virtual tras el bulkhead o worker de la transacción)</li>
+ *   <li>{@code pool}: espera por una conexión de Hikari</li>
+ *   <li>{@code db}: ejecución de sentencias</li>
+ *   <li>{@code stmts} y {@code rows}: sentencias ejecutadas y filas leídas o afectadas</li>
+ * </ul>
+ * En respuestas en streaming (NDJSON) la cabecera sale con el primer fragmento y solo cubre hasta ahí.
+ * Al terminar la petición el costo completo va a métricas y al log.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServerTimingWebFilter implements WebFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final JdbcStatementMetrics metrics;
+    private final boolean header;
+
+    public ServerTimingWebFilter(JdbcStatementMetrics metrics,
+                                 @Value("${catalog.server-timing.enabled:true}") boolean header) {
+        this.metrics = metrics;
+        this.header = header;
+    }
+
+    @NotNull
+    @Override
+    public Mono<Void> filter(@NotNull ServerWebExchange exchange, @NotNull WebFilterChain chain) {
+        if (!metrics.enabled() && !header) {
+            return chain.filter(exchange);
+        }
+        long t0 = System.nanoTime();
+        JdbcRequestCost cost = new JdbcRequestCost(exchange.getResponse().getHeaders().getFirst(CorrelationWebFilter.CID));
+        exchange.getAttributes().put(JdbcRequestCost.EXCHANGE_ATTRIBUTE, cost);
+        if (header) {
+            exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() ->
+                    exchange.getResponse().getHeaders().set(SERVER_TIMING, serverTiming(cost, System.nanoTime() - t0))));
+        }
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    metrics.request(cost);
+                    if (cost.statements() > 0) {
+                        log.debug("JDBC:request cid={} path={} statements={} rows={} dbMs={} threadWaitMs={} poolWaitMs={}",
+                                cost.correlationId(), exchange.getRequest().getPath().value(),
+                                cost.statements(), cost.rows(), cost.millis(),
+                                cost.threadWaitNanos() / 1_000_000, cost.connectionWaitNanos() / 1_000_000);
+                    }
+                })
+                .contextWrite(ctx -> ctx.put(JdbcRequestCost.CONTEXT_KEY, cost));
+    }
+
+    static String serverTiming(JdbcRequestCost cost, long totalNanos) {
+        return "app;dur=" + ms(totalNanos)
+                + ", thread;dur=" + ms(cost.threadWaitNanos())
+                + ", pool;dur=" + ms(cost.connectionWaitNanos())
+                + ", db;dur=" + ms(cost.nanos())
+                + ", stmts;desc=" + cost.statements()
+                + ", rows;desc=" + cost.rows();
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Ocupación de los schedulers boundedElastic (el por defecto, donde corren las llamadas JPA en modo
+ * bounded-elastic, y los propios como {@code import-job}). Reactor crea un executor de un hilo por
+ * worker; un decorador de {@link Schedulers} los registra al crearse y los gauges los suman:
+ * hilos vivos, hilos ocupados, tareas en cola y tope de hilos, etiquetados por {@code scheduler}.
+ * Los workers creados antes de registrar el decorador se ven cuando Reactor los recicla (60 s sin uso).
+ */
+public class BoundedElasticMetrics implements MeterBinder, AutoCloseable {
+
+    static final String DECORATOR_KEY = BoundedElasticMetrics.class.getName();
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Set<MeterRegistry> registries = new CopyOnWriteArraySet<>();
+
+    public BoundedElasticMetrics() {
+        Schedulers.addExecutorServiceDecorator(DECORATOR_KEY, this::track);
+    }
+
+    private ScheduledExecutorService track(Scheduler scheduler, ScheduledExecutorService executor) {
+        String description = scheduler.toString();
+        if (description.startsWith("boundedElastic") && executor instanceof ScheduledThreadPoolExecutor pool) {
+            String name = nameOf(description);
+            Pool p = pools.computeIfAbsent(name, n -> {
+                Pool created = new Pool(scheduler);
+                registries.forEach(r -> created.bindTo(n, r));
+                return created;
+            });
+            p.executors.add(pool);
+        }
+        return executor;
+    }
+
+    /** {@code boundedElastic("import-job",maxThreads=...)} → {@code import-job}. */
+    static String nameOf(String description) {
+        int open = description.indexOf('"');
+        int close = open < 0 ? -1 : description.indexOf('"', open + 1);
+        return close < 0 ? "boundedElastic" : description.substring(open + 1, close);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (registries.add(registry)) {
+            pools.forEach((name, pool) -> pool.bindTo(name, registry));
+        }
+    }
+
+    @Override
+    public void close() {
+        Schedulers.removeExecutorServiceDecorator(DECORATOR_KEY);
+    }
+
+    private static final class Pool {
+        final Set<ScheduledThreadPoolExecutor> executors = ConcurrentHashMap.newKeySet();
+        final Scheduler scheduler;
+
+        Pool(Scheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        private void prune() {
+            executors.removeIf(ScheduledThreadPoolExecutor::isShutdown);
+        }
+
+        double live() {
+            prune();
+            return executors.size();
+        }
+
+        double busy() {
+            prune();
+            return executors.stream().mapToInt(ScheduledThreadPoolExecutor::getActiveCount).sum();
+        }
+
+        double queued() {
+            prune();
+            return executors.stream().mapToInt(e -> e.getQueue().size()).sum();
+        }
+
+        double max() {
+            Integer capacity = Scannable.from(scheduler).scan(Scannable.Attr.CAPACITY);
+            return capacity == null ? Double.NaN : capacity;
+        }
+
+        void bindTo(String name, MeterRegistry registry) {
+            Gauge.builder("catalog.scheduler.threads.live", this, Pool::live)
+                    .tag("scheduler", name).description("Hilos creados y no reciclados").register(registry);
+            Gauge.builder("catalog.scheduler.threads.busy", this, Pool::busy)
+                    .tag("scheduler", name).description("Hilos ejecutando una tarea").register(registry);
+            Gauge.builder("catalog.scheduler.tasks.queued", this, Pool::queued)
+                    .tag("scheduler", name).description("Tareas esperando hilo").register(registry);
+            Gauge.builder("catalog.scheduler.threads.max", this, Pool::max)
+                    .tag("scheduler", name).description("Tope de hilos del scheduler").register(registry);
+        }
+    }
+}
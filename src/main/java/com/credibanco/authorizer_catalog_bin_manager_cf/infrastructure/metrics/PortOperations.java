@@ -0,0 +1,37 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Nombre "Puerto.método" de cada método de un bean, según la interfaz de puerto que lo declara (la del proxy
+ * o la de la clase); vacío si ningún puerto lo declara (close, toString...). Se resuelve una vez por método.
+ * Lo comparten los interceptores de métricas, JFR y trazas.
+ */
+public final class PortOperations {
+
+    private final List<Class<?>> ports;
+    private final Map<Method, Optional<String>> operations = new ConcurrentHashMap<>();
+
+    public PortOperations(List<Class<?>> ports) {
+        this.ports = ports;
+    }
+
+    public Optional<String> of(Method method) {
+        return operations.computeIfAbsent(method, this::resolve);
+    }
+
+    private Optional<String> resolve(Method method) {
+        for (Class<?> port : ports) {
+            if (ReflectionUtils.findMethod(port, method.getName(), method.getParameterTypes()) != null) {
+                return Optional.of(port.getSimpleName() + "." + method.getName());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers con histograma de percentiles de un tipo de puerto ({@code catalog.usecase} o
+ * {@code catalog.repository}), etiquetados por {@code operation} (Interfaz.método),
+ * {@code outcome} (success | error | cancelled) y {@code code} (código de {@link AppError};
+ * "none" si no hubo error y el de INTERNAL si la excepción no es una {@link AppException}).
+ */
+public class PortTimer {
+
+    static final String SUCCESS = "success";
+    static final String ERROR = "error";
+    static final String CANCELLED = "cancelled";
+    static final String NO_CODE = "none";
+
+    private final String name;
+    private final String description;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    public PortTimer(String name, String description, MeterRegistry registry) {
+        this.name = name;
+        this.description = description;
+        this.registry = registry;
+    }
+
+    public void record(String operation, long startNanos, String outcome, Throwable error) {
+        String code = error == null ? NO_CODE : codeOf(error);
+        timers.computeIfAbsent(new Key(operation, outcome, code), this::timer)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String codeOf(Throwable error) {
+        return error instanceof AppException app ? app.getError().code : AppError.INTERNAL.code;
+    }
+
+    private Timer timer(Key key) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .tag("code", key.code())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+    }
+
+    private record Key(String operation, String outcome, String code) {}
+}
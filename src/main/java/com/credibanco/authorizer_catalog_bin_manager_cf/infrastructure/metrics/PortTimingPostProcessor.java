@@ -0,0 +1,118 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Envuelve en un proxy medido cada bean que implementa un puerto de la aplicación: los casos de
+ * uso ({@code application.*.port.inbound}) van a {@code catalog.usecase} y los repositorios
+ * ({@code application.*.port.outbound.*Repository}) a {@code catalog.repository}.
+ * <p>
+ * Si el bean ya es un proxy de Spring (p. ej. un {@code @Repository} con traducción de excepciones)
+ * se le agrega el interceptor; si no, se crea uno: por subclase cuando la clase lo permite, para que
+ * siga inyectándose por su tipo concreto, y por interfaces cuando es final (los servicios son records).
+ * Los decoradores que las configuraciones arman con {@code new} quedan dentro de un único bean, así
+ * que el caso de uso se mide como lo ve el handler y el repositorio como llega a la base, sin contar
+ * los aciertos de la foto en memoria. Corre último, sobre lo que hayan dejado los demás post-procesadores.
+ */
+@Slf4j
+public class PortTimingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private static final String APPLICATION_PACKAGE = "com.credibanco.authorizer_catalog_bin_manager_cf.application.";
+
+    private final boolean enabled;
+    private final ObjectProvider<MeterRegistry> registry;
+    private volatile PortTimer useCases;
+    private volatile PortTimer repositories;
+
+    public PortTimingPostProcessor(boolean enabled, ObjectProvider<MeterRegistry> registry) {
+        this.enabled = enabled;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled) {
+            return bean;
+        }
+        List<Class<?>> inbound = ports(bean, true);
+        if (!inbound.isEmpty()) {
+            return proxy(bean, inbound, true);
+        }
+        List<Class<?>> outbound = ports(bean, false);
+        if (!outbound.isEmpty()) {
+            return proxy(bean, outbound, false);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    public static boolean isInboundPort(Class<?> type) {
+        return type.isInterface() && type.getPackageName().startsWith(APPLICATION_PACKAGE)
+                && type.getPackageName().endsWith(".port.inbound");
+    }
+
+    public static boolean isRepositoryPort(Class<?> type) {
+        return type.isInterface() && type.getPackageName().startsWith(APPLICATION_PACKAGE)
+                && type.getPackageName().endsWith(".port.outbound") && type.getSimpleName().endsWith("Repository");
+    }
+
+    /** Puertos de entrada ({@code inbound}) o repositorios que implementa el bean (o su destino si es proxy). */
+    public static List<Class<?>> ports(Object bean, boolean inbound) {
+        return ClassUtils.getAllInterfacesForClassAsSet(AopUtils.getTargetClass(bean)).stream()
+                .filter(inbound ? PortTimingPostProcessor::isInboundPort : PortTimingPostProcessor::isRepositoryPort)
+                .toList();
+    }
+
+    private Object proxy(Object bean, List<Class<?>> ports, boolean inbound) {
+        PortTimer timer = inbound ? useCaseTimer() : repositoryTimer();
+        if (timer == null) {
+            return bean;
+        }
+        log.debug("METRICS:port-timed bean={} ports={}", AopUtils.getTargetClass(bean).getSimpleName(), ports);
+        return advise(bean, new TimedPortInterceptor(ports, timer));
+    }
+
+    /** Agrega el interceptor al proxy de Spring del bean o crea uno (por subclase salvo clases finales). */
+    public static Object advise(Object bean, Advice advice) {
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(advice);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(!Modifier.isFinal(bean.getClass().getModifiers()));
+        factory.addAdvice(advice);
+        return factory.getProxy();
+    }
+
+    private PortTimer useCaseTimer() {
+        if (useCases == null) {
+            MeterRegistry r = registry.getIfAvailable();
+            useCases = r == null ? null : new PortTimer("catalog.usecase", "Latencia de los casos de uso", r);
+        }
+        return useCases;
+    }
+
+    private PortTimer repositoryTimer() {
+        if (repositories == null) {
+            MeterRegistry r = registry.getIfAvailable();
+            repositories = r == null ? null : new PortTimer("catalog.repository", "Latencia de los repositorios", r);
+        }
+        return repositories;
+    }
+}
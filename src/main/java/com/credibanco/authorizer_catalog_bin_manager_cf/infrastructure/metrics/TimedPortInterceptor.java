@@ -0,0 +1,70 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mide cada llamada a un método de puerto. En Mono/Flux el tiempo va de la suscripción a la
+ * terminación, así incluye la espera por un hilo de boundedElastic o por una conexión, no solo la
+ * ejecución. Los métodos que no declara ningún puerto (close, toString...) pasan sin medir.
+ */
+final class TimedPortInterceptor implements MethodInterceptor {
+
+    private final PortOperations operations;
+    private final PortTimer timer;
+
+    TimedPortInterceptor(List<Class<?>> ports, PortTimer timer) {
+        this.operations = new PortOperations(ports);
+        this.timer = timer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Optional<String> operation = operations.of(invocation.getMethod());
+        if (operation.isEmpty()) {
+            return invocation.proceed();
+        }
+        String op = operation.get();
+        long t0 = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            timer.record(op, t0, PortTimer.ERROR, ex);
+            throw ex;
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> timed(mono, op));
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> timed(flux, op));
+        }
+        timer.record(op, t0, PortTimer.SUCCESS, null);
+        return result;
+    }
+
+    private <T> Mono<T> timed(Mono<T> mono, String operation) {
+        long t0 = System.nanoTime();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        return mono.doOnError(error::set).doFinally(signal -> record(operation, t0, signal, error.get()));
+    }
+
+    private <T> Flux<T> timed(Flux<T> flux, String operation) {
+        long t0 = System.nanoTime();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        return flux.doOnError(error::set).doFinally(signal -> record(operation, t0, signal, error.get()));
+    }
+
+    private void record(String operation, long t0, SignalType signal, Throwable error) {
+        String outcome = signal == SignalType.CANCEL ? PortTimer.CANCELLED
+                : error != null ? PortTimer.ERROR : PortTimer.SUCCESS;
+        timer.record(operation, t0, outcome, error);
+    }
+}
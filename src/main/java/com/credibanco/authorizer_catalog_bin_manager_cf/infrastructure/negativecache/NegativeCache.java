@@ -0,0 +1,152 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Recuerda por {@code ttl} las claves que la fuente respondió como inexistentes, para que los
+ * reintentos con una clave mala respondan 404 sin volver a base de datos. Acotada a
+ * {@code maxEntries}: al llenarse se descarta la entrada más antigua.
+ * <p>
+ * Un alta invalida la clave de inmediato ({@link #invalidate}). Cada invalidación avanza una
+ * generación; un "no existe" que empezó a consultarse antes no se guarda, para que una lectura
+ * lenta no deje marcada como inexistente una clave recién creada.
+ */
+public class NegativeCache implements MeterBinder {
+
+    private final String name;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<String, Long> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public NegativeCache(String name, boolean enabled, Duration ttl, int maxEntries) {
+        this(name, enabled, ttl, maxEntries, System::nanoTime);
+    }
+
+    NegativeCache(String name, boolean enabled, Duration ttl, int maxEntries, LongSupplier clock) {
+        this.name = name;
+        this.enabled = enabled && !ttl.isZero() && !ttl.isNegative() && maxEntries > 0;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Ejecuta {@code call} salvo que la clave esté marcada como inexistente, en cuyo caso falla
+     * con {@code notFound} sin ejecutarla. Si {@code call} falla con {@code notFound}, la marca.
+     */
+    public <T> Mono<T> mono(String key, AppError notFound, Supplier<Mono<T>> call) {
+        if (!enabled || key == null) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            if (isKnownMissing(key)) {
+                return Mono.error(new AppException(notFound));
+            }
+            long observed = generation.get();
+            return call.get().doOnError(AppException.class, ex -> {
+                if (ex.getError() == notFound) {
+                    remember(key, observed);
+                }
+            });
+        });
+    }
+
+    boolean isKnownMissing(String key) {
+        synchronized (entries) {
+            Long deadline = entries.get(key);
+            if (deadline != null && clock.getAsLong() - deadline < 0) {
+                hits.increment();
+                return true;
+            }
+            if (deadline != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        return false;
+    }
+
+    void remember(String key, long observedGeneration) {
+        synchronized (entries) {
+            if (generation.get() == observedGeneration) {
+                entries.put(key, clock.getAsLong() + ttlNanos);
+            }
+        }
+    }
+
+    /** La clave pasó a existir: se olvida y se descartan los "no existe" en curso. */
+    public void invalidate(String key) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    public String name() { return name; }
+
+    public boolean enabled() { return enabled; }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() { return hits.sum(); }
+
+    public long missCount() { return misses.sum(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("catalog.negative.cache.lookups", hits, LongAdder::sum)
+                .tag("use_case", name).tag("result", "hit")
+                .description("Consultas respondidas como inexistentes sin ir a la fuente").register(registry);
+        FunctionCounter.builder("catalog.negative.cache.lookups", misses, LongAdder::sum)
+                .tag("use_case", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("catalog.negative.cache.evictions", evictions, LongAdder::sum)
+                .tag("use_case", name).description("Entradas descartadas por tamaño").register(registry);
+        FunctionCounter.builder("catalog.negative.cache.invalidations", invalidations, LongAdder::sum)
+                .tag("use_case", name).description("Entradas olvidadas por un alta").register(registry);
+        Gauge.builder("catalog.negative.cache.size", this, NegativeCache::size)
+                .tag("use_case", name).description("Claves marcadas como inexistentes").register(registry);
+    }
+}
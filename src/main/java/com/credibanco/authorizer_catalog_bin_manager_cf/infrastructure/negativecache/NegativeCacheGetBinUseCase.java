@@ -0,0 +1,26 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.GetBinUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import reactor.core.publisher.Mono;
+
+/** GET de BIN: un BIN que respondió 404 vuelve a responder 404 sin consultar hasta que venza o se cree. */
+public class NegativeCacheGetBinUseCase implements GetBinUseCase {
+
+    private final GetBinUseCase delegate;
+    private final NegativeCache cache;
+
+    public NegativeCacheGetBinUseCase(GetBinUseCase delegate, NegativeCaches caches) {
+        this.delegate = delegate;
+        this.cache = caches.create("GetBin", CatalogChange.Entity.BIN);
+    }
+
+    @Override
+    public Mono<Bin> execute(String bin) {
+        return cache.mono(bin, AppError.BIN_NOT_FOUND, () -> delegate.execute(bin));
+    }
+
+    public GetBinUseCase delegate() { return delegate; }
+}
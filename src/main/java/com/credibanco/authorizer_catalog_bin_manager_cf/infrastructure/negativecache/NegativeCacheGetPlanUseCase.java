@@ -0,0 +1,26 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.GetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import reactor.core.publisher.Mono;
+
+/** GET de plan: un código que respondió 404 vuelve a responder 404 sin consultar hasta que venza o se cree. */
+public class NegativeCacheGetPlanUseCase implements GetPlanUseCase {
+
+    private final GetPlanUseCase delegate;
+    private final NegativeCache cache;
+
+    public NegativeCacheGetPlanUseCase(GetPlanUseCase delegate, NegativeCaches caches) {
+        this.delegate = delegate;
+        this.cache = caches.create("GetPlan", CatalogChange.Entity.PLAN);
+    }
+
+    @Override
+    public Mono<CommercePlan> execute(String planCode) {
+        return cache.mono(planCode, AppError.PLAN_NOT_FOUND, () -> delegate.execute(planCode));
+    }
+
+    public GetPlanUseCase delegate() { return delegate; }
+}
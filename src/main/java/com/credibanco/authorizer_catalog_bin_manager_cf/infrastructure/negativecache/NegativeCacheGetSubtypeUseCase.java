@@ -0,0 +1,30 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.GetSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import reactor.core.publisher.Mono;
+
+/**
+ * GET de subtipo: un (bin, subtypeCode) que respondió 404 vuelve a responder 404 sin consultar hasta
+ * que venza o se cree. La clave es la misma que publica el alta de SUBTYPE ({@code bin:subtypeCode}).
+ */
+public class NegativeCacheGetSubtypeUseCase implements GetSubtypeUseCase {
+
+    private final GetSubtypeUseCase delegate;
+    private final NegativeCache cache;
+
+    public NegativeCacheGetSubtypeUseCase(GetSubtypeUseCase delegate, NegativeCaches caches) {
+        this.delegate = delegate;
+        this.cache = caches.create("GetSubtype", CatalogChange.Entity.SUBTYPE);
+    }
+
+    @Override
+    public Mono<Subtype> execute(String bin, String subtypeCode) {
+        String key = bin == null || subtypeCode == null ? null : bin + ":" + subtypeCode;
+        return cache.mono(key, AppError.SUBTYPE_NOT_FOUND, () -> delegate.execute(bin, subtypeCode));
+    }
+
+    public GetSubtypeUseCase delegate() { return delegate; }
+}
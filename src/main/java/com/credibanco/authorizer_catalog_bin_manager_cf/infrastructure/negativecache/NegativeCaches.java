@@ -0,0 +1,57 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.event.CatalogChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Crea una {@link NegativeCache} por caso de uso, le registra las métricas (etiqueta {@code use_case})
+ * si hay registro y la mantiene al día con el bus de cambios: cualquier cambio confirmado sobre la
+ * entidad que sigue la caché invalida su clave ({@link CatalogChange#key()}); un BULK la vacía.
+ */
+public class NegativeCaches implements CatalogChangeListener {
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final MeterRegistry registry;
+    private final List<Registration> caches = new CopyOnWriteArrayList<>();
+
+    public NegativeCaches(boolean enabled, Duration ttl, int maxEntries, MeterRegistry registry) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.registry = registry;
+    }
+
+    public NegativeCache create(String useCase, CatalogChange.Entity follows) {
+        NegativeCache cache = new NegativeCache(useCase, enabled, ttl, maxEntries);
+        if (registry != null) {
+            cache.bindTo(registry);
+        }
+        caches.add(new Registration(follows, cache));
+        return cache;
+    }
+
+    @Override
+    public void onChange(CatalogChange change) {
+        for (Registration r : caches) {
+            if (r.entity() != change.entity()) {
+                continue;
+            }
+            if (change.operation() == CatalogChange.Operation.BULK) {
+                r.cache().clear();
+            } else {
+                r.cache().invalidate(change.key());
+            }
+        }
+    }
+
+    public boolean enabled() { return enabled; }
+
+    private record Registration(CatalogChange.Entity entity, NegativeCache cache) {}
+}
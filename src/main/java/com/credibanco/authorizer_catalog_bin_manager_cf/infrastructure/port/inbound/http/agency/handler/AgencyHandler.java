@@ -5,6 +5,7 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.security.ActorProvider;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.common.KeysetPageResponse;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.agency.dto.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.validation.ValidationUtil;
 import com.credibanco.authorizer_catalog_bin_manager_cf.shared.validation.TextNormalizer;
@@ -184,6 +185,24 @@ public class AgencyHandler {
         String search = req.queryParam("search").orElse(null);
         int page = req.queryParam("page").map(Integer::parseInt).orElse(0);
         int size = req.queryParam("size").map(Integer::parseInt).orElse(20);
+        var cursor = req.queryParam("cursor");
+        if (cursor.isPresent()) {
+            log.info("AGENCY:list:recv st={} status={} cursor={} size={}", subtype, status, cursor.get(), size);
+            return listUC.scroll(subtype, status, search, cursor.get(), size)
+                    .map(p -> KeysetPageResponse.of(p, this::toResponse))
+                    .doOnSuccess(body -> log.info("AGENCY:list:done st={} status={} count={} hasNext={} elapsedMs={}",
+                            subtype, status, body.items().size(), body.hasNext(), elapsedMs(t0)))
+                    .flatMap(body -> ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(okEnvelope(req, "Operación exitosa", body)));
+        }
+        if (wantsNdjson(req)) {
+            log.info("AGENCY:list:recv st={} status={} page={} size={} format=ndjson", subtype, status, page, size);
+            return ndjsonOk().body(listUC.execute(subtype, status, search, page, size)
+                    .map(this::toResponse)
+                    .doOnComplete(() -> log.info("AGENCY:list:done st={} status={} format=ndjson elapsedMs={}",
+                            subtype, status, elapsedMs(t0))), AgencyResponse.class);
+        }
         log.info("AGENCY:list:recv st={} status={} page={} size={}", subtype, status, page, size);
         return listUC.execute(subtype, status, search, page, size)
                 .map(this::toResponse)
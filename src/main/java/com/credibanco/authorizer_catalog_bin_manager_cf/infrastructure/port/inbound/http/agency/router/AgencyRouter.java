@@ -18,7 +18,7 @@ public class AgencyRouter {
     RouterFunction<ServerResponse> routes() {
         return RouterFunctions.route()
                 .POST("/agencies/create", accept(MediaType.APPLICATION_JSON), handler::create)
-                .GET ("/agencies/list/{subtypeCode}",  accept(MediaType.APPLICATION_JSON), handler::list)
+                .GET ("/agencies/list/{subtypeCode}",  accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), handler::list)
                 .GET ("/agencies/get/{subtypeCode}/{agencyCode}", accept(MediaType.APPLICATION_JSON), handler::get)
                 .PUT ("/agencies/update/{subtypeCode}/{agencyCode}", accept(MediaType.APPLICATION_JSON), handler::update)
                 .PUT ("/agencies/update/status/{subtypeCode}/{agencyCode}", accept(MediaType.APPLICATION_JSON), handler::changeStatus)
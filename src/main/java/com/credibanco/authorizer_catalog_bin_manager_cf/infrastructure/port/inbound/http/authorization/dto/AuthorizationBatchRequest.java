@@ -0,0 +1,12 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/** Los ítems no se validan en cascada: uno inválido recibe INVALID_REQUEST sin tumbar el lote. */
+public record AuthorizationBatchRequest(
+        @NotEmpty(message = "items no puede ser vacio")
+        @Size(max = 500, message = "items admite máximo 500 consultas") List<AuthorizationCheckRequest> items
+) {}
@@ -0,0 +1,15 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record AuthorizationCheckRequest(
+        @NotNull(message = "panPrefix no puede ser nulo")
+        @NotBlank(message = "panPrefix no puede ser vacio")
+        @Pattern(regexp = "\\d{6,19}", message = "panPrefix debe ser numérico de longitud entre 6 y 19 posiciones") String panPrefix,
+
+        @Pattern(regexp = "\\d{4}", message = "mcc debe ser numérico de 4 posiciones") String mcc,
+
+        @Pattern(regexp = "\\d{9}", message = "merchantId debe ser numérico de 9 posiciones") String merchantId
+) {}
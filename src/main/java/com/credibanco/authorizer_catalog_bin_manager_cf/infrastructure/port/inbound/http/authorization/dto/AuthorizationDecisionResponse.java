@@ -0,0 +1,27 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto;
+
+import java.util.List;
+
+public record AuthorizationDecisionResponse(
+        String panPrefix,
+        String matchedPrefix,
+        String bin,
+        String subtypeCode,
+        boolean binActive,
+        boolean subtypeActive,
+        boolean agencyActive,
+        String planCode,
+        String planValidationMode,
+        boolean planActive,
+        boolean commerceAdmitted,
+        List<RuleValueResponse> rules,
+        boolean allowed,
+        List<String> reasons,
+        long catalogVersion
+) {
+    public record RuleValueResponse(
+            String code,
+            String dataType,
+            Object value
+    ) {}
+}
@@ -0,0 +1,90 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.handler;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationQuery;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.port.inbound.CheckAuthorizationUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto.AuthorizationBatchRequest;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto.AuthorizationCheckRequest;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto.AuthorizationDecisionResponse;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto.AuthorizationDecisionResponse.RuleValueResponse;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.validation.ValidationUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.http.ApiResponses.jsonOk;
+import static com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.http.ApiResponses.okEnvelope;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorizationHandler {
+
+    private final CheckAuthorizationUseCase checkUC;
+    private final ValidationUtil validation;
+
+    private static long elapsedMs(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
+
+    public Mono<ServerResponse> check(ServerRequest req) {
+        long t0 = System.nanoTime();
+        return req.bodyToMono(AuthorizationCheckRequest.class)
+                .switchIfEmpty(Mono.error(new AppException(AppError.AUTHORIZATION_INVALID_DATA, "body requerido")))
+                .flatMap(r -> validation.validate(r, AppError.AUTHORIZATION_INVALID_DATA))
+                .flatMap(r -> checkUC.check(toQuery(r)))
+                .doOnSuccess(d -> log.debug("AUTHORIZATION:check:done subtype={} allowed={} elapsedMs={}",
+                        d.subtypeCode(), d.allowed(), elapsedMs(t0)))
+                .map(AuthorizationHandler::toResponse)
+                .flatMap(body -> jsonOk().bodyValue(okEnvelope(req, "Operación exitosa", body)));
+    }
+
+    public Mono<ServerResponse> checkBatch(ServerRequest req) {
+        long t0 = System.nanoTime();
+        return req.bodyToMono(AuthorizationBatchRequest.class)
+                .switchIfEmpty(Mono.error(new AppException(AppError.AUTHORIZATION_INVALID_DATA, "body requerido")))
+                .flatMap(r -> validation.validate(r, AppError.AUTHORIZATION_INVALID_DATA))
+                .flatMap(r -> checkUC.checkAll(r.items().stream().map(AuthorizationHandler::toQuery).toList())
+                        .map(AuthorizationHandler::toResponse)
+                        .collectList())
+                .doOnSuccess(list -> log.info("AUTHORIZATION:check-batch:done size={} elapsedMs={}",
+                        list.size(), elapsedMs(t0)))
+                .flatMap(list -> jsonOk().bodyValue(okEnvelope(req, "Operación exitosa", list)));
+    }
+
+    private static AuthorizationQuery toQuery(AuthorizationCheckRequest r) {
+        return r == null ? null : new AuthorizationQuery(trim(r.panPrefix()), trim(r.mcc()), trim(r.merchantId()));
+    }
+
+    private static String trim(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+
+    private static AuthorizationDecisionResponse toResponse(AuthorizationDecision d) {
+        CompiledRules compiled = d.rules();
+        List<RuleValueResponse> rules = new ArrayList<>(compiled.size());
+        for (int i = 0; i < compiled.size(); i++) {
+            if (!compiled.isActiveAt(i, d.evaluatedAt())) {
+                continue;
+            }
+            Object value = switch (compiled.type(i)) {
+                case BOOL -> compiled.flag(i);
+                case NUMBER -> Double.isNaN(compiled.number(i)) ? null : compiled.number(i);
+                case TEXT -> compiled.text(i);
+            };
+            rules.add(new RuleValueResponse(compiled.code(i), compiled.type(i).name(), value));
+        }
+        return new AuthorizationDecisionResponse(
+                d.panPrefix(), d.matchedPrefix(), d.bin(), d.subtypeCode(),
+                d.binActive(), d.subtypeActive(), d.agencyActive(),
+                d.planCode(), d.planMode() == null ? null : d.planMode().name(), d.planActive(), d.commerceAdmitted(),
+                rules, d.allowed(), d.reasons().stream().map(Enum::name).toList(), d.catalogVersion());
+    }
+}
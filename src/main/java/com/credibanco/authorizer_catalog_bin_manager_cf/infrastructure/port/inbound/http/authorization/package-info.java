@@ -0,0 +1 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization;
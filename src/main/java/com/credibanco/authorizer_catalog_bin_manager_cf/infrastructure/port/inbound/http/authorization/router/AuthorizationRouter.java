@@ -0,0 +1,26 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.router;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.handler.AuthorizationHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+@Configuration
+@RequiredArgsConstructor
+public class AuthorizationRouter {
+    private final AuthorizationHandler handler;
+
+    @Bean("authorizationRoutes")
+    RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .POST("/authorize/check", accept(MediaType.APPLICATION_JSON), handler::check)
+                .POST("/authorize/check/batch", accept(MediaType.APPLICATION_JSON), handler::checkBatch)
+                .build();
+    }
+}
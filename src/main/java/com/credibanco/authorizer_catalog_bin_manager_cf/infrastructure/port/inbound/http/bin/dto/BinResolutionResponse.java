@@ -0,0 +1,10 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.bin.dto;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.subtype.dto.SubtypeResponse;
+
+public record BinResolutionResponse(
+        String panPrefix,
+        String matchedPrefix,
+        BinResponse bin,
+        SubtypeResponse subtype
+) {}
@@ -1,11 +1,14 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.bin.handler;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model.BinResolution;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.http.ApiResponses;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.security.ActorProvider;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.bin.dto.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.common.KeysetPageResponse;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.subtype.dto.SubtypeResponse;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.validation.ValidationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +34,7 @@ public class BinHandler {
     private final GetBinUseCase getUC;
     private final ChangeBinStatusUseCase changeStatusUC;
     private final ActorProvider actorProvider;
+    private final ResolveBinUseCase resolveUC;
 
 
     private static long elapsedMs(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
@@ -73,6 +77,16 @@ public class BinHandler {
         );
     }
 
+    private BinResolutionResponse toResolutionResponse(BinResolution r) {
+        var s = r.subtype();
+        SubtypeResponse subtype = (s == null) ? null : new SubtypeResponse(
+                s.subtypeCode(), s.bin(), s.name(), s.description(), s.status(),
+                s.ownerIdType(), s.ownerIdNumber(), s.binExt(), s.binEfectivo(),
+                s.subtypeId(), s.createdAt(), s.updatedAt(), s.updatedBy()
+        );
+        return new BinResolutionResponse(r.panPrefix(), r.matchedPrefix(), toResponse(r.bin()), subtype);
+    }
+
     public Mono<ServerResponse> create(ServerRequest req) {
         long t0 = System.nanoTime();
         return req.bodyToMono(BinCreateRequest.class)
@@ -112,8 +126,24 @@ public class BinHandler {
 
     public Mono<ServerResponse> list(ServerRequest req) {
         long t0 = System.nanoTime();
-        int page = parseIntQueryParam(req, "page", 0);
         int size = parseIntQueryParam(req, "size", 20);
+        var cursor = req.queryParam("cursor");
+        if (cursor.isPresent()) {
+            log.info("BIN:list:recv cursor={}, size={}", cursor.get(), size);
+            return listUC.scroll(cursor.get(), size)
+                    .map(p -> KeysetPageResponse.of(p, this::toResponse))
+                    .doOnSuccess(body -> log.info("BIN:list:done size={} count={} hasNext={} elapsedMs={}",
+                            size, body.items().size(), body.hasNext(), elapsedMs(t0)))
+                    .flatMap(body -> jsonOk().bodyValue(okEnvelope(req, "Operación exitosa", body)));
+        }
+        int page = parseIntQueryParam(req, "page", 0);
+        if (wantsNdjson(req)) {
+            log.info("BIN:list:recv page={}, size={}, format=ndjson", page, size);
+            return ndjsonOk().body(listUC.execute(page, size)
+                    .map(this::toResponse)
+                    .doOnComplete(() -> log.info("BIN:list:done page={} size={} format=ndjson elapsedMs={}",
+                            page, size, elapsedMs(t0))), BinResponse.class);
+        }
         log.info("BIN:list:recv page={}, size={}", page, size);
         return listUC.execute(page, size)
                 .map(this::toResponse)
@@ -182,6 +212,21 @@ public class BinHandler {
     }
 
 
+    public Mono<ServerResponse> resolve(ServerRequest req) {
+        long t0 = System.nanoTime();
+        final String panPrefix = req.pathVariable("panPrefix");
+        if (!panPrefix.chars().allMatch(Character::isDigit) || panPrefix.length() < 6 || panPrefix.length() > 19) {
+            log.warn("BIN:resolve:invalid path panPrefix length={}", panPrefix.length());
+            return Mono.error(new AppException(AppError.BIN_INVALID_DATA,
+                    "El path variable 'panPrefix' debe ser numérico de 6 a 19 dígitos"));
+        }
+        return resolveUC.execute(panPrefix)
+                .doOnSuccess(r -> log.debug("BIN:resolve:done matched={}, bin={}, elapsedMs={}",
+                        r.matchedPrefix(), r.bin().bin(), elapsedMs(t0)))
+                .map(this::toResolutionResponse)
+                .flatMap(body -> jsonOk().bodyValue(okEnvelope(req, "Operación exitosa", body)));
+    }
+
 
     public Mono<ServerResponse> changeStatus(ServerRequest req) {
         long t0 = System.nanoTime();
@@ -20,8 +20,9 @@ public class BinRouter {
     RouterFunction<ServerResponse> routes() {
         return RouterFunctions.route()
                 .POST("/bins/create", accept(MediaType.APPLICATION_JSON), handler::create)
-                .GET("/bins/list",  accept(MediaType.APPLICATION_JSON), handler::list)
+                .GET("/bins/list",  accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), handler::list)
                 .GET("/bins/get/{bin}",  accept(MediaType.APPLICATION_JSON), handler::get)
+                .GET("/bins/resolve/{panPrefix}", accept(MediaType.APPLICATION_JSON), handler::resolve)
                 .PUT("/bins/update",(accept(MediaType.APPLICATION_JSON)), handler::update)
                 .PUT ("/bins/update/status/{bin}",     accept(MediaType.APPLICATION_JSON), handler::changeStatus)
                 .build();
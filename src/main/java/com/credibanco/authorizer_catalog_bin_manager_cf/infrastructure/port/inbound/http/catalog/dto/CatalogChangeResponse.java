@@ -0,0 +1,19 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Un evento del feed de cambios. {@code type} = CHANGE | RESET; en RESET los demás campos
+ * del cambio vienen nulos y {@code version} es la versión desde la que continúa el feed.
+ * Para reanudar se envían {@code epoch} y {@code version} del último evento aplicado.
+ */
+public record CatalogChangeResponse(
+        String epoch,
+        long version,
+        String type,
+        OffsetDateTime committedAt,
+        String entity,
+        String operation,
+        String key,
+        Object data
+) {}
@@ -0,0 +1,155 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.handler;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChangeEvent;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.GetCatalogExportUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.StreamCatalogChangesUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.dto.CatalogChangeResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogHandler {
+
+    public static final String VERSION_HEADER = "X-Catalog-Version";
+    public static final String CHECKSUM_HEADER = "X-Catalog-Checksum";
+
+    private static final int FALLBACK_CHUNK = 64 * 1024;
+    private static final Duration SSE_KEEPALIVE = Duration.ofSeconds(15);
+
+    private final GetCatalogExportUseCase exportUC;
+    private final StreamCatalogChangesUseCase changesUC;
+
+    private static long elapsedMs(long t0) { return (System.nanoTime() - t0) / 1_000_000; }
+
+    /**
+     * Descarga del catálogo binario. El archivo se envía con {@link ZeroCopyHttpOutputMessage}
+     * (sendfile) sin pasar por el heap; si el consumidor ya tiene ese contenido (If-None-Match) responde 304.
+     * El ETag es débil y sale del SHA-256 del cuerpo: igual entre recargas, arranques y réplicas mientras
+     * los datos no cambien, aunque la cabecera del archivo (versión, fecha) sí cambie.
+     */
+    public Mono<ServerResponse> export(ServerRequest req) {
+        long t0 = System.nanoTime();
+        return exportUC.execute()
+                .flatMap(export -> {
+                    String etag = "W/\"" + export.contentHash() + "\"";
+                    if (notModified(req, export.contentHash())) {
+                        log.debug("CATALOG:export:not-modified version={}", export.version());
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+                    }
+                    log.info("CATALOG:export:send version={} bytes={} elapsedMs={}",
+                            export.version(), export.sizeBytes(), elapsedMs(t0));
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .contentLength(export.sizeBytes())
+                            .eTag(etag)
+                            .header(VERSION_HEADER, String.valueOf(export.version()))
+                            .header(CHECKSUM_HEADER, export.checksumHex())
+                            .header("Content-Disposition", "attachment; filename=\"catalog-v" + export.version() + ".bin\"")
+                            .body(fileBody(export));
+                });
+    }
+
+    /** Comparación débil de If-None-Match: ignora el prefijo W/ y acepta *. */
+    private static boolean notModified(ServerRequest req, String contentHash) {
+        String opaque = "\"" + contentHash + "\"";
+        for (String tag : req.headers().asHttpHeaders().getIfNoneMatch()) {
+            String t = tag.trim();
+            if (t.equals("*") || (t.startsWith("W/") ? t.substring(2) : t).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BodyInserter<CatalogExport, ReactiveHttpOutputMessage> fileBody(CatalogExport export) {
+        return (message, context) -> message instanceof ZeroCopyHttpOutputMessage zeroCopy
+                ? zeroCopy.writeWith(export.path(), 0, export.sizeBytes())
+                : message.writeWith(DataBufferUtils.read(export.path(), message.bufferFactory(), FALLBACK_CHUNK));
+    }
+
+    /**
+     * Feed de cambios como Server-Sent Events: {@code id} = {@code epoch:versión}, así el
+     * navegador/cliente reanuda solo con Last-Event-ID. Envía un comentario keepalive para que proxies no corten.
+     */
+    public Mono<ServerResponse> changesSse(ServerRequest req) {
+        Resume resume = resolveResume(req);
+        log.info("CATALOG:changes:recv epoch={} since={} format=sse", resume.epoch(), resume.since());
+        Flux<ServerSentEvent<CatalogChangeResponse>> events = changesUC.execute(resume.epoch(), resume.since())
+                .map(this::toChangeResponse)
+                .map(body -> ServerSentEvent.builder(body)
+                        .id(body.epoch() + ":" + body.version())
+                        .event(body.type().toLowerCase())
+                        .build());
+        Flux<ServerSentEvent<CatalogChangeResponse>> keepalive = Flux.interval(SSE_KEEPALIVE)
+                .map(i -> ServerSentEvent.<CatalogChangeResponse>builder().comment("keepalive").build());
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(Flux.merge(events, keepalive), ServerSentEvent.class);
+    }
+
+    /** Feed de cambios como NDJSON (un evento JSON por línea). */
+    public Mono<ServerResponse> changesNdjson(ServerRequest req) {
+        Resume resume = resolveResume(req);
+        log.info("CATALOG:changes:recv epoch={} since={} format=ndjson", resume.epoch(), resume.since());
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(changesUC.execute(resume.epoch(), resume.since()).map(this::toChangeResponse),
+                        CatalogChangeResponse.class);
+    }
+
+    private CatalogChangeResponse toChangeResponse(CatalogChangeEvent e) {
+        if (e.isReset()) {
+            return new CatalogChangeResponse(e.epoch(), e.version(), "RESET", e.committedAt(), null, null, null, null);
+        }
+        CatalogChange c = e.change();
+        return new CatalogChangeResponse(e.epoch(), e.version(), "CHANGE", e.committedAt(),
+                c.entity().name(), c.operation().name(), c.key(), c.payload());
+    }
+
+    /**
+     * {@code since} (y {@code epoch}) explícitos o, al reconectar un EventSource, el header
+     * Last-Event-ID con la forma {@code epoch:versión}.
+     */
+    private static Resume resolveResume(ServerRequest req) {
+        String epoch = req.queryParam("epoch").orElse(null);
+        String raw = req.queryParam("since").orElse(null);
+        if (raw == null) {
+            String lastEventId = req.headers().firstHeader("Last-Event-ID");
+            if (lastEventId != null) {
+                int colon = lastEventId.lastIndexOf(':');
+                epoch = colon < 0 ? null : lastEventId.substring(0, colon);
+                raw = lastEventId.substring(colon + 1);
+            }
+        }
+        if (raw == null || raw.isBlank()) {
+            return new Resume(epoch, 0L);
+        }
+        try {
+            return new Resume(epoch, Long.parseLong(raw.trim()));
+        } catch (NumberFormatException ex) {
+            throw new AppException(AppError.CATALOG_INVALID_DATA, "El parámetro 'since' debe ser un número entero válido");
+        }
+    }
+
+    private record Resume(String epoch, long since) {}
+}
@@ -0,0 +1 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog;
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.router;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.handler.CatalogHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+@Configuration
+@RequiredArgsConstructor
+public class CatalogRouter {
+    private final CatalogHandler handler;
+
+    @Bean("catalogRoutes")
+    RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/catalog/export", handler::export)
+                .GET("/catalog/changes", accept(MediaType.TEXT_EVENT_STREAM), handler::changesSse)
+                .GET("/catalog/changes", handler::changesNdjson)
+                .build();
+    }
+}
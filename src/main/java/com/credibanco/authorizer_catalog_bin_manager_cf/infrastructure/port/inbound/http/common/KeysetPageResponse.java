@@ -0,0 +1,17 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.common;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cuerpo de los listados por cursor ({@code ?cursor=}): los ítems y el cursor opaco de la página
+ * siguiente, null en la última. No incluye total: no se ejecuta COUNT.
+ */
+public record KeysetPageResponse<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+    public static <D, T> KeysetPageResponse<T> of(KeysetPage<D> page, Function<D, T> mapper) {
+        return new KeysetPageResponse<>(page.items().stream().map(mapper).toList(), page.nextCursor(), page.hasNext());
+    }
+}
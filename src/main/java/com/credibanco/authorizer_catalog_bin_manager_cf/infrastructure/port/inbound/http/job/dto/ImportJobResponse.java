@@ -0,0 +1,29 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.job.dto;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record ImportJobResponse(
+        String jobId,
+        ImportJobKind kind,
+        String target,
+        ImportJobStatus status,
+        long total,
+        long processed,
+        long received,
+        long inserted,
+        long duplicates,
+        long invalid,
+        int chunks,
+        long itemsPerSecond,
+        List<String> invalidSample,
+        List<String> duplicateSample,
+        String submittedBy,
+        OffsetDateTime submittedAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        String error
+) {}
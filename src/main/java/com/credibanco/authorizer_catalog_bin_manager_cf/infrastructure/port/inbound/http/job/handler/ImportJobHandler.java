@@ -0,0 +1,106 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.job.handler;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.inbound.GetImportJobUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.inbound.SubmitImportJobUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.http.ApiResponses;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.security.ActorProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.logging.CorrelationWebFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.job.dto.ImportJobResponse;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.plan.handler.PlanItemsImportParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportJobHandler {
+
+    private final SubmitImportJobUseCase submitUC;
+    private final GetImportJobUseCase getUC;
+    private final ActorProvider actorProvider;
+
+    private Mono<String> resolveUser(ServerRequest req, String fromQuery, String operation) {
+        return Mono.defer(() -> {
+                    String fromRequest = toNullable(fromQuery);
+                    if (fromRequest != null) {
+                        log.debug("{} - actor from query param: {}", operation, fromRequest);
+                        return Mono.just(fromRequest);
+                    }
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    String headerUser = toNullable(req.headers().firstHeader("X-User"));
+                    if (headerUser != null) {
+                        log.info("{} - actor from header X-User: {}", operation, headerUser);
+                        return Mono.just(headerUser);
+                    }
+                    return Mono.empty();
+                }))
+                .switchIfEmpty(actorProvider.currentUserId()
+                        .map(String::trim)
+                        .filter(s -> !s.isBlank())
+                        .doOnNext(user -> log.info("{} - actor from security context: {}", operation, user)));
+    }
+
+    private String toNullable(String value) {
+        return (value != null && !value.isBlank()) ? value : null;
+    }
+
+    /**
+     * Recibe la carga (CSV o NDJSON, mismo formato que la carga por streaming de ítems), la guarda
+     * y responde 202 con el job; el avance se consulta en {@code GET /jobs/{id}}.
+     */
+    public Mono<ServerResponse> submitPlanItems(ServerRequest req) {
+        String cid = req.headers().firstHeader(CorrelationWebFilter.CID);
+        String planCode = req.queryParam("planCode").map(this::toNullable).orElse(null);
+        MediaType contentType = req.headers().contentType().orElse(PlanItemsImportParser.TEXT_CSV);
+        log.info("submit import job - IN cid={} kind={} planCode={} contentType={}",
+                cid, ImportJobKind.PLAN_ITEMS, planCode, contentType);
+
+        if (planCode == null) {
+            return Mono.error(new AppException(AppError.JOB_INVALID_DATA,
+                    "Debe enviar 'planCode' como parámetro de la carga"));
+        }
+
+        return resolveUser(req, req.queryParam("updatedBy").orElse(null), "job.submitPlanItems")
+                .defaultIfEmpty("")
+                .flatMap(user -> submitUC.submit(ImportJobKind.PLAN_ITEMS, planCode,
+                        PlanItemsImportParser.parse(req.bodyToFlux(String.class), contentType), toNullable(user)))
+                .map(this::toResp)
+                .flatMap(resp -> {
+                    log.info("submit import job - OK cid={} jobId={} total={}", cid, resp.jobId(), resp.total());
+                    return ServerResponse.accepted()
+                            .location(req.uriBuilder().replacePath("/jobs/{id}").replaceQuery(null).build(resp.jobId()))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(ApiResponses.okEnvelope(req, "Job de importación encolado", resp));
+                });
+    }
+
+    public Mono<ServerResponse> get(ServerRequest req) {
+        String id = req.pathVariable("id");
+        return getUC.execute(id)
+                .map(this::toResp)
+                .flatMap(resp -> ApiResponses.jsonOk().bodyValue(ApiResponses.okEnvelope(req, "Consulta exitosa", resp)));
+    }
+
+    private ImportJobResponse toResp(ImportJob j) {
+        return new ImportJobResponse(
+                j.id(), j.kind(), j.target(), j.status(), j.total(), j.position(), j.received(),
+                j.inserted(), j.duplicates(), j.invalid(), j.chunks(),
+                Math.round(j.throughputPerSec(OffsetDateTime.now())),
+                j.invalidSample(), j.duplicateSample(), j.submittedBy(),
+                j.submittedAt(), j.startedAt(), j.finishedAt(), j.error()
+        );
+    }
+}
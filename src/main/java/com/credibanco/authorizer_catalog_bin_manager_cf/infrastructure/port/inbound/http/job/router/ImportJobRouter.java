@@ -0,0 +1,27 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.job.router;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.job.handler.ImportJobHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+@Configuration
+@RequiredArgsConstructor
+public class ImportJobRouter {
+    private final ImportJobHandler handler;
+
+    @Bean("importJobRoutes")
+    RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .POST("/jobs/plan-items", contentType(MediaType.valueOf("text/csv"), MediaType.TEXT_PLAIN, MediaType.APPLICATION_NDJSON), handler::submitPlanItems)
+                .GET ("/jobs/{id}", accept(MediaType.APPLICATION_JSON), handler::get)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.plan.dto;
+
+import java.util.List;
+
+public record PlanItemsImportResponse(
+        String planCode,
+        long received,
+        long inserted,
+        long duplicates,
+        long invalid,
+        int chunks,
+        boolean done,
+        List<String> invalidSample,
+        List<String> duplicateSample
+) {}
@@ -1,12 +1,21 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.plan.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+/** {@code nextCursor} solo aparece en el listado por cursor ({@code ?cursor=}) y es null en la última página. */
 public record PlanItemsListResponse(
         PlanResponse plan,
         int page,
         int size,
         String statusFilter,
         int count,
-        List<PlanItemResponse> items
-) {}
+        List<PlanItemResponse> items,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
+) {
+    public PlanItemsListResponse(PlanResponse plan, int page, int size, String statusFilter, int count,
+                                 List<PlanItemResponse> items) {
+        this(plan, page, size, statusFilter, count, items, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.plan.handler;
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsBulkResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsImportProgress;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
@@ -129,6 +130,10 @@ public class PlanHandler {
         int size   = req.queryParam("size").map(Integer::parseInt).orElse(20);
 
         String cid = req.headers().firstHeader(CorrelationWebFilter.CID);
+        if (ApiResponses.wantsNdjson(req)) {
+            log.info("list plans - IN cid={} status={} q={} page={} size={} format=ndjson", cid, status, q, page, size);
+            return ApiResponses.ndjsonOk().body(listUC.execute(status, q, page, size).map(this::toResp), PlanResponse.class);
+        }
         log.info("list plans - IN cid={} status={} q={} page={} size={}", cid, status, q, page, size);
 
         Flux<PlanResponse> body = listUC.execute(status, q, page, size).map(this::toResp);
@@ -237,6 +242,58 @@ public class PlanHandler {
     }
 
 
+    /**
+     * Carga masiva por streaming: el cuerpo (CSV o NDJSON) se decodifica línea a línea y el caso de
+     * uso confirma por bloques. Con Accept NDJSON (o {@code ?stream=true}) se devuelve el avance de
+     * cada bloque; si no, solo el resumen final en el sobre habitual.
+     */
+    public Mono<ServerResponse> importItems(ServerRequest req) {
+        String cid = req.headers().firstHeader(CorrelationWebFilter.CID);
+        String planCode = req.queryParam("planCode").map(this::toNullable).orElse(null);
+        MediaType contentType = req.headers().contentType().orElse(PlanItemsImportParser.TEXT_CSV);
+        log.info("import plan items - IN cid={} planCode={} contentType={}", cid, planCode, contentType);
+
+        if (planCode == null) {
+            return Mono.error(new AppException(AppError.PLAN_ITEM_INVALID_DATA,
+                    "Debe enviar 'planCode' como parámetro de la carga"));
+        }
+
+        return resolveUser(req, req.queryParam("updatedBy").orElse(null), "plan.importItems")
+                .defaultIfEmpty("")
+                .flatMap(user -> {
+                    log.info("plan.importItems - actor used={}", printableActor(user));
+                    Flux<String> values = PlanItemsImportParser.parse(req.bodyToFlux(String.class), contentType);
+                    Flux<PlanItemsImportResponse> progress = addItemUC
+                            .importStream(planCode, values, toNullable(user))
+                            .map(this::toImportDto);
+
+                    if (ApiResponses.wantsNdjson(req)) {
+                        return ApiResponses.ndjsonOk().body(progress, PlanItemsImportResponse.class);
+                    }
+                    return progress.last()
+                            .flatMap(resp -> {
+                                log.info("import plan items - OK cid={} planCode={} inserted={} dup={} invalid={}",
+                                        cid, resp.planCode(), resp.inserted(), resp.duplicates(), resp.invalid());
+                                return ok(req, "Carga masiva procesada", resp);
+                            });
+                });
+    }
+
+    private PlanItemsImportResponse toImportDto(PlanItemsImportProgress p) {
+        return new PlanItemsImportResponse(
+                p.planCode(),
+                p.received(),
+                p.inserted(),
+                p.duplicates(),
+                p.invalid(),
+                p.chunks(),
+                p.done(),
+                p.invalidSample(),
+                p.duplicateSample()
+        );
+    }
+
+
     private PlanItemsBulkResponse toBulkDto(PlanItemsBulkResult r) {
         return new PlanItemsBulkResponse(
                 r.planCode(),
@@ -304,6 +361,27 @@ public class PlanHandler {
         final String statusFilter = requestAll ? null   : statusLabel;
 
         final String cid = req.headers().firstHeader(CorrelationWebFilter.CID);
+        if (ApiResponses.wantsNdjson(req)) {
+            log.info("list plan items - IN cid={} code={} status={} format=ndjson", cid, code, statusLabel);
+            return ApiResponses.ndjsonOk().body(listItemsUC.stream(code, statusFilter)
+                    .map(this::toItemResp)
+                    .doOnComplete(() -> log.info("list plan items - OK cid={} code={} format=ndjson", cid, code)),
+                    PlanItemResponse.class);
+        }
+        final var cursor = req.queryParam("cursor");
+        if (cursor.isPresent()) {
+            log.info("list plan items - IN cid={} code={} status={} cursor={} size={}", cid, code, statusLabel, cursor.get(), size);
+            return getUC.execute(code)
+                    .flatMap(plan -> listItemsUC.scroll(code, cursor.get(), size, statusFilter)
+                            .flatMap(slice -> {
+                                List<PlanItemResponse> items = slice.items().stream().map(this::toItemResp).toList();
+                                final String detail = resolveItemsDetail(statusLabel, items.isEmpty());
+                                log.info("list plan items - OK cid={} code={} planId={} status={} count={} hasNext={}",
+                                        cid, code, plan.planId(), statusLabel, items.size(), slice.hasNext());
+                                return ok(req, detail, new PlanItemsListResponse(toResp(plan), 0, size, statusLabel,
+                                        items.size(), items, slice.nextCursor()));
+                            }));
+        }
         log.info("list plan items - IN cid={} code={} status={} page={} size={}", cid, code, statusLabel, page, size);
 
         // Secuencial: si getUC falla (404 plan no encontrado), NO se consulta items
@@ -0,0 +1,88 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.plan.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Convierte las líneas del cuerpo de una importación en valores, una a una y sin acumularlas.
+ * <ul>
+ *   <li>CSV ({@code text/csv}, {@code text/plain}): se toma la primera columna (separador {@code ,} o
+ *       {@code ;}) sin comillas. La primera línea solo se omite como encabezado si su primera columna es uno
+ *       de los nombres esperados ({@link #HEADERS}, sin distinguir mayúsculas); cualquier otro valor
+ *       se procesa y, si no es válido, se cuenta como inválido.</li>
+ *   <li>NDJSON: cada línea es un texto JSON ({@code "1234"}), un número o un objeto con
+ *       {@code value}. Una línea que no se puede leer pasa tal cual y termina contada como inválida.</li>
+ * </ul>
+ */
+public final class PlanItemsImportParser {
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    /** Nombres aceptados para la columna de valores en la línea de encabezado. */
+    static final Set<String> HEADERS = Set.of("value", "valor", "mcc", "merchantid", "merchant_id", "codigo_comercio");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private PlanItemsImportParser() {
+    }
+
+    public static Flux<String> parse(Flux<String> lines, MediaType contentType) {
+        if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return lines.map(PlanItemsImportParser::ndjsonValue);
+        }
+        return Flux.defer(() -> {
+            AtomicBoolean first = new AtomicBoolean(true);
+            return lines.<String>handle((line, sink) -> {
+                String cell = csvValue(line);
+                if (first.getAndSet(false)) {
+                    if (!cell.isEmpty() && cell.charAt(0) == '\uFEFF') {
+                        cell = cell.substring(1).trim();
+                    }
+                    if (HEADERS.contains(cell.toLowerCase(Locale.ROOT))) {
+                        return;
+                    }
+                }
+                sink.next(cell);
+            });
+        });
+    }
+
+    static String csvValue(String line) {
+        int end = line.length();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ',' || c == ';') {
+                end = i;
+                break;
+            }
+        }
+        String cell = line.substring(0, end).trim();
+        if (cell.length() >= 2 && cell.charAt(0) == '"' && cell.charAt(cell.length() - 1) == '"') {
+            cell = cell.substring(1, cell.length() - 1).trim();
+        }
+        return cell;
+    }
+
+    static String ndjsonValue(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return trimmed;
+        }
+        try {
+            JsonNode node = MAPPER.readTree(trimmed);
+            if (node.isObject()) {
+                node = node.path("value");
+            }
+            return node.isValueNode() ? node.asText() : trimmed;
+        } catch (JsonProcessingException ex) {
+            return trimmed;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
 import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
 
 @Configuration
 @RequiredArgsConstructor
@@ -22,16 +23,18 @@ public class PlanRouter {
         return RouterFunctions.route()
                 // CRUD Plan
                 .POST("/plans/create", accept(MediaType.APPLICATION_JSON), handler::create)
-                .GET ("/plans/list",  accept(MediaType.APPLICATION_JSON), handler::list)
+                .GET ("/plans/list",  accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), handler::list)
                 .GET ("/plans/get/{code}", accept(MediaType.APPLICATION_JSON), handler::get)
                 .PUT ("/plans/update/status/{planCode}", accept(MediaType.APPLICATION_JSON), handler::changeStatus)
                 .PUT ("/plans/update/{code}", accept(MediaType.APPLICATION_JSON), handler::update)
 
 
 
+                // Carga por streaming (CSV/NDJSON); debe ir antes que la variante JSON
+                .POST("/plans/items/attach", contentType(MediaType.valueOf("text/csv"), MediaType.TEXT_PLAIN, MediaType.APPLICATION_NDJSON), handler::importItems)
                 .POST("/plans/items/attach", accept(MediaType.APPLICATION_JSON), handler::addItem)
 
-                .GET ("/plans/items/get/{planCode}", accept(MediaType.APPLICATION_JSON), handler::listItems)
+                .GET ("/plans/items/get/{planCode}", accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), handler::listItems)
 
                 .PUT ("/plans/items/update/status", accept(MediaType.APPLICATION_JSON), handler::changeItemStatus)
 
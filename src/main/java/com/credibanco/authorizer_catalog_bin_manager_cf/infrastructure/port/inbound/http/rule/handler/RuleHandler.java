@@ -7,6 +7,7 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMa
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.security.ActorProvider;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.common.KeysetPageResponse;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.rule.dto.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.validation.ValidationUtil;
 import lombok.RequiredArgsConstructor;
@@ -129,6 +130,15 @@ public class RuleHandler {
         var q      = req.queryParam("q").orElse(null);
         int page   = req.queryParam("page").map(Integer::parseInt).orElse(0);
         int size   = req.queryParam("size").map(Integer::parseInt).orElse(20);
+        var cursor = req.queryParam("cursor");
+        if (cursor.isPresent()) {
+            log.info("RULES:validation:list:recv status={} q={} cursor={} size={}", status, q, cursor.get(), size);
+            return listV.scroll(status, q, cursor.get(), size)
+                    .map(p -> KeysetPageResponse.of(p, this::toResp))
+                    .flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(okEnvelope(req, "Operación exitosa", body)))
+                    .doOnTerminate(() -> log.info("RULES:validation:list:done elapsedMs={}", ms(t0)));
+        }
         log.info("RULES:validation:list:recv status={} q={} page={} size={}", status, q, page, size);
         return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
                 .body(listV.execute(status, q, page, size).map(this::toResp), ValidationResponse.class)
@@ -193,6 +203,13 @@ public class RuleHandler {
         int page = req.queryParam("page").map(Integer::parseInt).orElse(0);
         int size = req.queryParam("size").map(Integer::parseInt).orElse(100);
 
+        if (wantsNdjson(req)) {
+            log.info("RULES:map:list:recv st={} eff={} status={} format=ndjson", st, eff, status);
+            return ndjsonOk().body(listRulesUC.stream(st, eff, status)
+                    .map(this::toMapResp)
+                    .doOnComplete(() -> log.info("RULES:map:list:done st={} format=ndjson elapsedMs={}", st, ms(t0))),
+                    ValidationMapResponse.class);
+        }
         log.info("RULES:map:list:recv st={} eff={} status={} page={} size={}", st, eff, status, page, size);
 
         return listRulesUC.execute(st, eff, status, page, size)
@@ -214,6 +231,13 @@ public class RuleHandler {
         int page = req.queryParam("page").map(Integer::parseInt).orElse(0);
         int size = req.queryParam("size").map(Integer::parseInt).orElse(100);
 
+        if (wantsNdjson(req)) {
+            log.info("RULES:map:list:recv st={} status={} format=ndjson", st, status);
+            return ndjsonOk().body(listRulesUC.stream(st, null, status)
+                    .map(this::toMapResp)
+                    .doOnComplete(() -> log.info("RULES:map:list:done st={} format=ndjson elapsedMs={}", st, ms(t0))),
+                    ValidationMapResponse.class);
+        }
         log.info("RULES:map:list:recv st={} status={} page={} size={}", st, status, page, size);
 
         return listRulesUC.execute(st, status, page, size)
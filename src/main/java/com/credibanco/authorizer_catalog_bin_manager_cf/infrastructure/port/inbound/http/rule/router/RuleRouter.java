@@ -27,9 +27,9 @@ public class RuleRouter {
                 .PUT ("/validations/update/status/{code}", accept(MediaType.APPLICATION_JSON), h::changeValidationStatus)
                 .POST("/validations/attach", accept(MediaType.APPLICATION_JSON), h::attachRule)
                 .PUT ("/validations/subtypes/{subtypeCode}/bins/{bin}/rules/status/{code}", accept(MediaType.APPLICATION_JSON), h::changeRuleStatus)
-                .GET ("/validations/subtypes/list/{subtypeCode}", accept(MediaType.APPLICATION_JSON), h::listRulesForSubtypeBySubtype)
-                .GET ("/v1/subtypes/{subtypeCode}/bins/{bin}/rules", accept(MediaType.APPLICATION_JSON), h::listRulesForSubtype)
-                .GET ("/v1/subtypes/{subtypeCode}/rules", accept(MediaType.APPLICATION_JSON), h::listRulesForSubtypeBySubtype)
+                .GET ("/validations/subtypes/list/{subtypeCode}", accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), h::listRulesForSubtypeBySubtype)
+                .GET ("/v1/subtypes/{subtypeCode}/bins/{bin}/rules", accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), h::listRulesForSubtype)
+                .GET ("/v1/subtypes/{subtypeCode}/rules", accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), h::listRulesForSubtypeBySubtype)
                 .build();
     }
 }
@@ -4,6 +4,7 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.security.ActorProvider;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.common.KeysetPageResponse;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.subtype.dto.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.validation.ValidationUtil;
 import lombok.RequiredArgsConstructor;
@@ -121,6 +122,24 @@ public class SubtypeHandler {
             return Mono.error(new AppException(AppError.SUBTYPE_INVALID_DATA,
                     "El path variable 'bin' debe ser numérico de 6 a 9 dígitos"));
         }
+        var cursor = req.queryParam("cursor");
+        if (cursor.isPresent()) {
+            log.info("SUBTYPE:list:recv bin={} status={} cursor={} size={}", bin, status, cursor.get(), size);
+            return listUC.scroll(bin, null, status, cursor.get(), size)
+                    .map(p -> KeysetPageResponse.of(p, this::toResponse))
+                    .doOnSuccess(body -> log.info("SUBTYPE:list:done bin={} status={} count={} hasNext={} elapsedMs={}",
+                            bin, status, body.items().size(), body.hasNext(), elapsedMs(t0)))
+                    .flatMap(body -> ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(okEnvelope(req, "Operación exitosa", body)));
+        }
+        if (wantsNdjson(req)) {
+            log.info("SUBTYPE:list:recv bin={} status={} page={} size={} format=ndjson", bin, status, page, size);
+            return ndjsonOk().body(listUC.execute(bin, null, status, page, size)
+                    .map(this::toResponse)
+                    .doOnComplete(() -> log.info("SUBTYPE:list:done bin={} status={} format=ndjson elapsedMs={}",
+                            bin, status, elapsedMs(t0))), SubtypeResponse.class);
+        }
         log.info("SUBTYPE:list:recv bin={} status={} page={} size={}", bin, status, page, size);
 
         return listUC.execute(bin, null, status, page, size)
@@ -21,7 +21,7 @@ public class SubtypeRouter {
     RouterFunction<ServerResponse> subtypeRoutes() {
         return RouterFunctions.route()
                 .POST("/subtypes/create", accept(MediaType.APPLICATION_JSON), handler::create)
-                .GET ("/subtypes/list/bin/{bin}", accept(MediaType.APPLICATION_JSON), handler::listByBin)
+                .GET ("/subtypes/list/bin/{bin}", accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON), handler::listByBin)
                 .GET ("/subtypes/get/{bin}/{code}", accept(MediaType.APPLICATION_JSON), handler::get)
                 .PUT ("/subtypes/update/{bin}/{code}", accept(MediaType.APPLICATION_JSON), handler::update)
                 .PUT ("/subtypes/update/status/{bin}/{code}", accept(MediaType.APPLICATION_JSON), handler::changeStatus)
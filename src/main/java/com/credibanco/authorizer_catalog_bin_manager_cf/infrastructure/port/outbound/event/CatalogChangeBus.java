@@ -0,0 +1,36 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.event;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reparte cada cambio a los {@link CatalogChangeListener} registrados, en orden.
+ * Un listener que falla no corta a los demás ni a la respuesta del caso de uso:
+ * la escritura ya está confirmada en base de datos.
+ */
+@Slf4j
+@Component
+public class CatalogChangeBus implements CatalogChangePublisher {
+
+    private final ObjectProvider<CatalogChangeListener> listeners;
+
+    public CatalogChangeBus(ObjectProvider<CatalogChangeListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void publish(CatalogChange change) {
+        log.debug("CATALOG:change entity={} op={} key={}", change.entity(), change.operation(), change.key());
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onChange(change);
+            } catch (RuntimeException ex) {
+                log.error("CATALOG:change:listener-failed listener={} entity={} key={}",
+                        listener.getClass().getSimpleName(), change.entity(), change.key(), ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.event;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+
+/**
+ * Estructura en memoria que se mantiene al día con los cambios confirmados del catálogo.
+ */
+public interface CatalogChangeListener {
+    void onChange(CatalogChange change);
+}
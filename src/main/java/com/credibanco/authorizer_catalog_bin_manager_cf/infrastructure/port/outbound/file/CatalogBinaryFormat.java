@@ -0,0 +1,257 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.file;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binario del catálogo para consumidores que lo mapean en memoria (mmap) y buscan por
+ * búsqueda binaria sin parsear. Todo en big-endian; los textos son ASCII/UTF-8 rellenados a la
+ * derecha con 0x00, de modo que el orden por bytes coincide con el orden de los String.
+ *
+ * <pre>
+ * Cabecera (128 bytes)
+ *   0  int   MAGIC "CBCT"
+ *   4  short FORMAT_VERSION
+ *   6  short HEADER_SIZE
+ *   8  long  versión de la foto
+ *  16  long  builtAt (epoch millis)
+ *  24  long  longitud del cuerpo
+ *  32  int   CRC32C del cuerpo
+ *  36  int   cantidad de secciones
+ *  40  directorio: por sección {int id, int recordSize, int count, long offset absoluto}
+ *
+ * BIN (16)      bin[9] status[1] typeBin[1] typeAccount[2] usesBinExt[1] binExtDigits[1] pad[1]
+ *               ordenado por bin
+ * SUBTYPE (32)  binEfectivo[9] subtypeCode[3] bin[9] status[1] pad[2] planIndex:int pad[4]
+ *               ordenado por (binEfectivo, subtypeCode); planIndex = posición en PLAN o -1
+ * PLAN (56)     planId:long code[32] mode[1] status[1] pad[2] firstItem:int itemCount:int pad[4]
+ *               ordenado por planId; code se trunca a 32 bytes
+ * PLAN_ITEM(12) value[9] status[1] pad[2]
+ *               un bloque contiguo por plan (en el orden de PLAN), ordenado por value; solo ítems activos
+ * </pre>
+ * typeBin: D=DEBITO, C=CREDITO, P=PREPAGO. mode: C=MCC, M=MERCHANT_ID.
+ */
+public final class CatalogBinaryFormat {
+
+    public static final int MAGIC = 0x43424354; // "CBCT"
+    public static final short FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 128;
+    public static final int DIRECTORY_OFFSET = 40;
+    public static final int DIRECTORY_ENTRY_SIZE = 20;
+
+    public static final int SECTION_BIN = 1;
+    public static final int SECTION_SUBTYPE = 2;
+    public static final int SECTION_PLAN = 3;
+    public static final int SECTION_PLAN_ITEM = 4;
+
+    public static final int BIN_RECORD = 16;
+    public static final int SUBTYPE_RECORD = 32;
+    public static final int PLAN_RECORD = 56;
+    public static final int PLAN_ITEM_RECORD = 12;
+
+    public static final int KEY_WIDTH = 9;
+    public static final int SUBTYPE_CODE_WIDTH = 3;
+    public static final int PLAN_CODE_WIDTH = 32;
+
+    private static final int CHUNK = 64 * 1024;
+
+    private CatalogBinaryFormat() {
+    }
+
+    /**
+     * Huellas del cuerpo escrito: el CRC32C que va en la cabecera y el SHA-256 en hexadecimal.
+     * El cuerpo depende solo del contenido de la foto (no de su versión ni de cuándo se armó), así que
+     * dos fotos con los mismos datos, en cualquier réplica o arranque, dan el mismo {@code sha256}.
+     */
+    public record Body(int crc32c, String sha256) {
+    }
+
+    /**
+     * Escribe la foto en el canal (desde la posición 0) y devuelve las huellas del cuerpo.
+     * El cuerpo se escribe por bloques, sin materializar el archivo completo en el heap.
+     */
+    public static Body write(CatalogSnapshot snapshot, FileChannel channel) throws IOException {
+        List<Bin> bins = new ArrayList<>(snapshot.bins().values());
+
+        List<CommercePlan> plans = new ArrayList<>(snapshot.plans().values());
+        plans.sort(Comparator.comparing(CommercePlan::planId, Comparator.nullsLast(Comparator.naturalOrder())));
+        Map<Long, Integer> planIndex = new HashMap<>();
+        for (int i = 0; i < plans.size(); i++) {
+            planIndex.put(plans.get(i).planId(), i);
+        }
+
+        List<Subtype> subtypes = new ArrayList<>(snapshot.subtypes().values());
+        subtypes.sort(Comparator.comparing(Subtype::binEfectivo).thenComparing(Subtype::subtypeCode));
+
+        long itemCount = 0;
+        for (CommercePlan p : plans) {
+            itemCount += snapshot.itemsOfPlan(p.planId()).size();
+        }
+
+        long binOffset = HEADER_SIZE;
+        long subtypeOffset = binOffset + (long) bins.size() * BIN_RECORD;
+        long planOffset = subtypeOffset + (long) subtypes.size() * SUBTYPE_RECORD;
+        long itemOffset = planOffset + (long) plans.size() * PLAN_RECORD;
+        long end = itemOffset + itemCount * PLAN_ITEM_RECORD;
+
+        BodyWriter out = new BodyWriter(channel, binOffset);
+        for (Bin b : bins) {
+            out.ensure(BIN_RECORD);
+            out.text(b.bin(), KEY_WIDTH);
+            out.flag(b.status());
+            out.buf.put(typeBinCode(b.typeBin()));
+            out.text(b.typeAccount(), 2);
+            out.flag(b.usesBinExt());
+            out.buf.put(b.binExtDigits() == null ? 0 : b.binExtDigits().byteValue());
+            out.pad(1);
+        }
+        for (Subtype s : subtypes) {
+            out.ensure(SUBTYPE_RECORD);
+            out.text(s.binEfectivo(), KEY_WIDTH);
+            out.text(s.subtypeCode(), SUBTYPE_CODE_WIDTH);
+            out.text(s.bin(), KEY_WIDTH);
+            out.flag(s.status());
+            out.pad(2);
+            SubtypePlanLink link = snapshot.subtypePlans().get(s.subtypeCode());
+            out.buf.putInt(link == null ? -1 : planIndex.getOrDefault(link.planId(), -1));
+            out.pad(4);
+        }
+        int firstItem = 0;
+        for (CommercePlan p : plans) {
+            int count = snapshot.itemsOfPlan(p.planId()).size();
+            out.ensure(PLAN_RECORD);
+            out.buf.putLong(p.planId() == null ? 0L : p.planId());
+            out.text(p.code(), PLAN_CODE_WIDTH);
+            out.buf.put(p.validationMode() == CommerceValidationMode.MERCHANT_ID ? (byte) 'M' : (byte) 'C');
+            out.flag(p.status());
+            out.pad(2);
+            out.buf.putInt(firstItem);
+            out.buf.putInt(count);
+            out.pad(4);
+            firstItem += count;
+        }
+        try {
+            for (CommercePlan p : plans) {
+                snapshot.itemsOfPlan(p.planId()).forEachValue(value -> {
+                    try {
+                        out.ensure(PLAN_ITEM_RECORD);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    out.text(value, KEY_WIDTH);
+                    out.buf.put((byte) 'A');
+                    out.pad(2);
+                });
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        out.flush();
+
+        int crc = (int) out.crc.getValue();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putShort((short) HEADER_SIZE)
+                .putLong(snapshot.version())
+                .putLong(snapshot.builtAt() == null ? 0L : snapshot.builtAt().toInstant().toEpochMilli())
+                .putLong(end - HEADER_SIZE)
+                .putInt(crc)
+                .putInt(4);
+        directory(header, SECTION_BIN, BIN_RECORD, bins.size(), binOffset);
+        directory(header, SECTION_SUBTYPE, SUBTYPE_RECORD, subtypes.size(), subtypeOffset);
+        directory(header, SECTION_PLAN, PLAN_RECORD, plans.size(), planOffset);
+        directory(header, SECTION_PLAN_ITEM, PLAN_ITEM_RECORD, Math.toIntExact(itemCount), itemOffset);
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        return new Body(crc, HexFormat.of().formatHex(out.sha256.digest()));
+    }
+
+    private static void directory(ByteBuffer header, int id, int recordSize, int count, long offset) {
+        header.putInt(id).putInt(recordSize).putInt(count).putLong(offset);
+    }
+
+    private static byte typeBinCode(String typeBin) {
+        return switch (typeBin) {
+            case "CREDITO" -> (byte) 'C';
+            case "PREPAGO" -> (byte) 'P';
+            default -> (byte) 'D';
+        };
+    }
+
+    /** Buffer de escritura que vuelca al canal por bloques y acumula el CRC y el SHA-256 del cuerpo. */
+    private static final class BodyWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buf = ByteBuffer.allocate(CHUNK);
+        private final CRC32C crc = new CRC32C();
+        private final MessageDigest sha256 = sha256();
+        private long position;
+
+        private BodyWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buf.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void text(String value, int width) {
+            byte[] raw = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            int n = Math.min(raw.length, width);
+            buf.put(raw, 0, n);
+            pad(width - n);
+        }
+
+        void flag(String value) {
+            buf.put(value == null || value.isEmpty() ? 0 : (byte) value.charAt(0));
+        }
+
+        void pad(int n) {
+            for (int i = 0; i < n; i++) {
+                buf.put((byte) 0);
+            }
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 no disponible", ex);
+            }
+        }
+
+        void flush() throws IOException {
+            buf.flip();
+            crc.update(buf.duplicate());
+            sha256.update(buf.duplicate());
+            while (buf.hasRemaining()) {
+                position += channel.write(buf, position);
+            }
+            buf.clear();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.file;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogExportStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Genera el archivo binario una sola vez por versión de la foto y lo deja en disco para servirlo
+ * con transferencia zero-copy. Se escribe a un temporal y se renombra de forma atómica a
+ * {@code catalog-<sha256 del cuerpo>.bin}: el nombre depende del contenido, no de la versión, que vuelve
+ * a empezar en cada arranque. Si el contenido no cambió, el renombrado reemplaza al archivo del mismo
+ * nombre por uno del mismo tamaño.
+ * <p>
+ * El handler abre el archivo después de recibir la ruta, así que borrar el anterior en cuanto aparece
+ * uno nuevo deja una ventana en la que una descarga en curso obtiene {@code NoSuchFileException}.
+ * Por eso, además del vigente, se conservan los {@code catalog.export.retain - 1} escritos más
+ * recientemente (por fecha de modificación, también los que dejó un arranque anterior) y se purga el resto.
+ */
+@Slf4j
+@Component
+public class FileCatalogExportStore implements CatalogExportStore {
+
+    private final Path directory;
+    private final int retain;
+    private volatile CatalogExport latest;
+
+    public FileCatalogExportStore(@Value("${catalog.export.dir:${java.io.tmpdir}/catalog-export}") Path directory,
+                                  @Value("${catalog.export.retain:3}") int retain) {
+        this.directory = directory;
+        this.retain = Math.max(1, retain);
+    }
+
+    @Override
+    public synchronized CatalogExport exportOf(CatalogSnapshot snapshot) {
+        CatalogExport cached = latest;
+        if (cached != null && cached.version() >= snapshot.version() && Files.exists(cached.path())) {
+            return cached;
+        }
+        long t0 = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "catalog-", ".tmp");
+            CatalogBinaryFormat.Body body;
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                body = CatalogBinaryFormat.write(snapshot, channel);
+                channel.force(false);
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(tmp);
+                throw ex;
+            }
+            Path target = directory.resolve("catalog-" + body.sha256() + ".bin");
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            CatalogExport fresh = new CatalogExport(snapshot.version(), target, Files.size(target), body.crc32c(),
+                    body.sha256(), OffsetDateTime.now());
+            latest = fresh;
+            purgeOlderGenerations(target);
+            log.info("CATALOG:export:written version={} bytes={} crc32c={} sha256={} elapsedMs={}",
+                    fresh.version(), fresh.sizeBytes(), fresh.checksumHex(), fresh.contentHash(),
+                    (System.nanoTime() - t0) / 1_000_000);
+            return fresh;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo generar la exportación del catálogo", ex);
+        }
+    }
+
+    /** Conserva {@code current} y los {@code retain - 1} archivos más recientes; borra el resto. */
+    private void purgeOlderGenerations(Path current) {
+        List<Path> others = new ArrayList<>();
+        Map<Path, FileTime> modified = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "catalog-*.bin")) {
+            for (Path p : files) {
+                if (!p.equals(current)) {
+                    others.add(p);
+                    modified.put(p, Files.getLastModifiedTime(p));
+                }
+            }
+            others.sort(Comparator.comparing(modified::get, Comparator.reverseOrder()));
+            for (Path p : others.subList(Math.min(retain - 1, others.size()), others.size())) {
+                Files.deleteIfExists(p);
+            }
+        } catch (IOException ex) {
+            log.warn("CATALOG:export:purge-failed dir={} reason={}", directory, ex.getMessage());
+        }
+    }
+}
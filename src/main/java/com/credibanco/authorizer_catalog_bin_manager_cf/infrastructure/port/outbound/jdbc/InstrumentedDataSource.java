@@ -0,0 +1,55 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Envuelve el pool (Hikari) para medir cada sentencia: las conexiones que entrega devuelven
+ * Statement/PreparedStatement/CallableStatement medidos ({@link JdbcStatementHandler}). La espera por
+ * conexión se carga al costo de la petición en curso.
+ * {@code unwrap} sigue llegando al pool, así actuator encuentra el HikariDataSource; {@code close}
+ * cierra el pool al apagar el contexto.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements Closeable {
+
+    private final JdbcStatementMetrics metrics;
+
+    public InstrumentedDataSource(DataSource target, JdbcStatementMetrics metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long t0 = System.nanoTime();
+        return wrap(super.getConnection(), t0);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long t0 = System.nanoTime();
+        return wrap(super.getConnection(username, password), t0);
+    }
+
+    private Connection wrap(Connection connection, long t0) {
+        JdbcRequestCost cost = JdbcRequestCost.current();
+        if (cost != null) {
+            cost.connectionWait(System.nanoTime() - t0);
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new JdbcConnectionHandler(connection, metrics));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
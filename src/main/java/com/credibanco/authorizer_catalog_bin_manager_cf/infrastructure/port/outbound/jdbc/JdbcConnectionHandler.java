@@ -0,0 +1,48 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/** Conexión que entrega sentencias medidas; el resto de los métodos va directo a la del pool. */
+final class JdbcConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final JdbcStatementMetrics metrics;
+
+    JdbcConnectionHandler(Connection target, JdbcStatementMetrics metrics) {
+        this.target = target;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+        String name = method.getName();
+        if (result instanceof CallableStatement cs && name.equals("prepareCall")) {
+            return wrap(cs, CallableStatement.class, (String) args[0]);
+        }
+        if (result instanceof PreparedStatement ps && name.equals("prepareStatement")) {
+            return wrap(ps, PreparedStatement.class, (String) args[0]);
+        }
+        if (result instanceof Statement st && name.equals("createStatement")) {
+            return wrap(st, Statement.class, null);
+        }
+        return result;
+    }
+
+    private Object wrap(Statement statement, Class<? extends Statement> type, String sql) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new JdbcStatementHandler(statement, sql, metrics, JdbcRequestCost.current()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Costo en base de datos de una petición HTTP: espera por hilo JDBC, espera por conexión del pool,
+ * sentencias, filas y tiempo de ejecución.
+ * Viaja en el contexto de Reactor ({@link #CONTEXT_KEY}) y {@link #scoped} lo deja en el hilo que
+ * corre la llamada JDBC mientras se suscribe; cada sentencia toma el costo vigente al crearse, así que
+ * las filas que se leen después (cursores de los listados en streaming) se cargan a la misma petición.
+ */
+public final class JdbcRequestCost {
+
+    public static final String CONTEXT_KEY = JdbcRequestCost.class.getName();
+    public static final String EXCHANGE_ATTRIBUTE = JdbcRequestCost.class.getName();
+
+    private static final ThreadLocal<JdbcRequestCost> CURRENT = new ThreadLocal<>();
+
+    private final String correlationId;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder threadWaitNanos = new LongAdder();
+    private final LongAdder connectionWaitNanos = new LongAdder();
+
+    public JdbcRequestCost(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
+    /** Costo de la petición en curso en este hilo, o null fuera de una petición (arranque, jobs). */
+    static JdbcRequestCost current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Liga el costo al hilo mientras se suscribe {@code source}. Se arma al pedir la llamada, así que
+     * lo que pasa entre eso y la suscripción en el hilo JDBC se cuenta como espera por hilo.
+     */
+    public static <T> Mono<T> scoped(Mono<T> source, ContextView ctx) {
+        JdbcRequestCost cost = ctx.getOrDefault(CONTEXT_KEY, null);
+        if (cost == null) {
+            return source;
+        }
+        long requestedAt = System.nanoTime();
+        return new MonoOperator<>(source) {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                cost.threadWaitNanos.add(System.nanoTime() - requestedAt);
+                try (Scope ignored = cost.enter()) {
+                    source.subscribe(actual);
+                }
+            }
+        };
+    }
+
+    public static <T> Flux<T> scoped(Flux<T> source, ContextView ctx) {
+        JdbcRequestCost cost = ctx.getOrDefault(CONTEXT_KEY, null);
+        if (cost == null) {
+            return source;
+        }
+        long requestedAt = System.nanoTime();
+        return new FluxOperator<>(source) {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                cost.threadWaitNanos.add(System.nanoTime() - requestedAt);
+                try (Scope ignored = cost.enter()) {
+                    source.subscribe(actual);
+                }
+            }
+        };
+    }
+
+    /** Liga a este hilo el costo del contexto, si hay; para trabajo JDBC que no pasa por {@link #scoped}. */
+    public static Scope enter(ContextView ctx) {
+        JdbcRequestCost cost = ctx.getOrDefault(CONTEXT_KEY, null);
+        return cost == null ? () -> { } : cost.enter();
+    }
+
+    private Scope enter() {
+        JdbcRequestCost previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /** Ámbito de {@link #enter}: al cerrarse restaura lo que hubiera en el hilo. */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    void statement(long elapsedNanos) {
+        statements.increment();
+        nanos.add(elapsedNanos);
+    }
+
+    void rows(long count) {
+        rows.add(count);
+    }
+
+    void connectionWait(long elapsedNanos) {
+        connectionWaitNanos.add(elapsedNanos);
+    }
+
+    public String correlationId() { return correlationId; }
+
+    public long statements() { return statements.sum(); }
+
+    public long rows() { return rows.sum(); }
+
+    public long nanos() { return nanos.sum(); }
+
+    public long millis() { return TimeUnit.NANOSECONDS.toMillis(nanos.sum()); }
+
+    public long threadWaitNanos() { return threadWaitNanos.sum(); }
+
+    public long connectionWaitNanos() { return connectionWaitNanos.sum(); }
+}
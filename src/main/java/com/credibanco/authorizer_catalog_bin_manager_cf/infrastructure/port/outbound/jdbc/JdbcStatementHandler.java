@@ -0,0 +1,218 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr.JdbcStatementEvent;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.CatalogTracing;
+import io.micrometer.tracing.Span;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Sentencia medida: cronometra cada execute*, cuenta filas (update count, suma del lote o filas
+ * leídas del ResultSet) y recuerda la forma de los parámetros enlazados para el log de lentas.
+ * Cada ejecución emite además un {@link JdbcStatementEvent} JFR si hay una grabación que lo pida y
+ * un span {@code jdbc.statement} hijo del span actual del hilo, si lo hay.
+ */
+final class JdbcStatementHandler implements InvocationHandler {
+
+    private static final Set<String> EXECUTE = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Statement target;
+    private final String preparedSql;
+    private final JdbcStatementMetrics metrics;
+    private final JdbcRequestCost cost;
+    private final Map<Object, String> binds = new TreeMap<>(JdbcStatementHandler::byPosition);
+    private String batchSql;
+    private int batchSize;
+
+    JdbcStatementHandler(Statement target, String preparedSql, JdbcStatementMetrics metrics, JdbcRequestCost cost) {
+        this.target = target;
+        this.preparedSql = preparedSql;
+        this.metrics = metrics;
+        this.cost = cost;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (EXECUTE.contains(name)) {
+            return execute(method, args, name);
+        }
+        Object result = invokeTarget(method, args);
+        if (name.startsWith("set") && args != null && args.length >= 2
+                && (args[0] instanceof Integer || args[0] instanceof String)) {
+            binds.put(args[0], name.equals("setNull") ? "null" : shapeOf(args[1]));
+        } else if (name.equals("clearParameters")) {
+            binds.clear();
+        } else if (name.equals("addBatch")) {
+            if (args != null && args.length == 1 && args[0] instanceof String sql) {
+                batchSql = sql;
+            }
+            batchSize++;
+        } else if (name.equals("clearBatch")) {
+            batchSize = 0;
+        } else if (name.equals("getResultSet") && result instanceof ResultSet rs) {
+            return wrap(rs, preparedSql);
+        }
+        return result;
+    }
+
+    private Object execute(Method method, Object[] args, String name) throws Throwable {
+        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s
+                : preparedSql != null ? preparedSql : batchSql;
+        String kind = switch (name) {
+            case "executeQuery" -> "query";
+            case "executeUpdate", "executeLargeUpdate" -> "update";
+            case "executeBatch", "executeLargeBatch" -> "batch";
+            default -> "execute";
+        };
+        String shapeOfBinds = batchSize > 0 ? binds + " x" + batchSize : binds.toString();
+        JdbcStatementEvent event = JdbcStatementEvent.start();
+        Span span = CatalogTracing.current().statement();
+        long t0 = System.nanoTime();
+        Object result;
+        try {
+            result = invokeTarget(method, args);
+        } catch (Throwable ex) {
+            event.finish(() -> SqlShape.of(sql), kind, -1, ex);
+            endSpan(span, sql, kind, -1, ex);
+            metrics.executed(sql, kind, System.nanoTime() - t0, -1, shapeOfBinds, ex, cost);
+            throw ex;
+        } finally {
+            if (kind.equals("batch")) {
+                batchSize = 0;
+            }
+        }
+        long rows = rowsOf(result);
+        event.finish(() -> SqlShape.of(sql), kind, rows, null);
+        endSpan(span, sql, kind, rows, null);
+        metrics.executed(sql, kind, System.nanoTime() - t0, rows, shapeOfBinds, null, cost);
+        return result instanceof ResultSet rs ? wrap(rs, sql) : result;
+    }
+
+    /** El span cubre solo la ejecución; las filas de un ResultSet se leen después y no se cuentan aquí. */
+    private static void endSpan(Span span, String sql, String kind, long rows, Throwable error) {
+        if (span == null) {
+            return;
+        }
+        span.tag("db.statement", SqlShape.of(sql)).tag("db.operation", kind);
+        if (rows >= 0) {
+            span.tag("db.rows", rows);
+        }
+        if (error != null) {
+            span.error(error);
+        }
+        span.end();
+    }
+
+    /** Parámetros por posición en orden numérico; los nombrados (CallableStatement) después, por nombre. */
+    private static int byPosition(Object a, Object b) {
+        if (a instanceof Integer x && b instanceof Integer y) {
+            return Integer.compare(x, y);
+        }
+        if (a instanceof Integer || b instanceof Integer) {
+            return a instanceof Integer ? -1 : 1;
+        }
+        return a.toString().compareTo(b.toString());
+    }
+
+    private static long rowsOf(Object result) {
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int c : counts) {
+                total += Math.max(c, 0);
+            }
+            return total;
+        }
+        if (result instanceof long[] counts) {
+            for (long c : counts) {
+                total += Math.max(c, 0);
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    /** Tipo (y largo en textos y binarios) del valor enlazado; nunca el valor. */
+    static String shapeOf(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "bytes(" + bytes.length + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private ResultSet wrap(ResultSet resultSet, String sql) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                new RowCounter(resultSet, sql));
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /** Cuenta los next() exitosos y los informa una vez, al agotarse o cerrarse el ResultSet. */
+    private final class RowCounter implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private long rows;
+        private boolean reported;
+
+        RowCounter(ResultSet target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            String name = method.getName();
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else {
+                    report();
+                }
+            } else if (name.equals("close")) {
+                report();
+            }
+            return result;
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                metrics.fetched(sql, rows, cost);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Destino de lo que miden los proxies JDBC: histograma {@code catalog.jdbc.statement} por forma de SQL
+ * ({@link SqlShape}), tipo de ejecución y resultado; filas por forma de SQL; costo por petición
+ * ({@code catalog.jdbc.request.*}); y log WARN de las sentencias que superan {@code slowThreshold},
+ * con el cid de la petición y la forma de los parámetros (tipo y largo, nunca el valor).
+ * Pasadas {@code maxShapes} formas distintas, las nuevas se agrupan como "other".
+ */
+@Slf4j
+public class JdbcStatementMetrics {
+
+    static final String OTHER = "other";
+    private static final int MAX_RAW_SQL_CACHE = 2_000;
+
+    private final boolean enabled;
+    private final Duration slowThreshold;
+    private final int maxShapes;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, String> shapes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Boolean> knownShapes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final DistributionSummary requestStatements;
+    private final DistributionSummary requestRows;
+    private final Timer requestTime;
+
+    public JdbcStatementMetrics(boolean enabled, Duration slowThreshold, int maxShapes, MeterRegistry registry) {
+        this.enabled = enabled;
+        this.slowThreshold = slowThreshold;
+        this.maxShapes = maxShapes;
+        this.registry = registry;
+        if (registry != null) {
+            requestStatements = DistributionSummary.builder("catalog.jdbc.request.statements")
+                    .description("Sentencias JDBC por petición").publishPercentileHistogram().register(registry);
+            requestRows = DistributionSummary.builder("catalog.jdbc.request.rows")
+                    .description("Filas JDBC por petición").register(registry);
+            requestTime = Timer.builder("catalog.jdbc.request.time")
+                    .description("Tiempo de sentencias JDBC por petición").publishPercentileHistogram()
+                    .register(registry);
+        } else {
+            requestStatements = null;
+            requestRows = null;
+            requestTime = null;
+        }
+    }
+
+    public boolean enabled() { return enabled; }
+
+    void executed(String sql, String kind, long elapsedNanos, long rows, String binds, Throwable error,
+                  JdbcRequestCost cost) {
+        String shape = shapeOf(sql);
+        if (cost != null) {
+            cost.statement(elapsedNanos);
+            if (rows > 0) {
+                cost.rows(rows);
+            }
+        }
+        if (registry != null) {
+            String outcome = error == null ? "success" : "error";
+            timers.computeIfAbsent(shape + '|' + kind + '|' + outcome, k -> Timer.builder("catalog.jdbc.statement")
+                            .description("Duración de la ejecución de sentencias JDBC")
+                            .tag("sql", shape).tag("kind", kind).tag("outcome", outcome)
+                            .publishPercentileHistogram()
+                            .minimumExpectedValue(Duration.ofMillis(1))
+                            .maximumExpectedValue(Duration.ofSeconds(30))
+                            .register(registry))
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (rows > 0) {
+                rows(shape, rows);
+            }
+        }
+        if (elapsedNanos >= slowThreshold.toNanos()) {
+            log.warn("JDBC:slow cid={} kind={} elapsedMs={} rows={} binds={} error={} sql={}",
+                    cost == null ? "-" : cost.correlationId(), kind, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    rows < 0 ? "-" : rows, binds, error == null ? "-" : error.getClass().getSimpleName(), shape);
+        }
+    }
+
+    /** Filas leídas de un ResultSet, informadas al agotarse o cerrarse. */
+    void fetched(String sql, long rows, JdbcRequestCost cost) {
+        if (rows <= 0) {
+            return;
+        }
+        if (cost != null) {
+            cost.rows(rows);
+        }
+        if (registry != null) {
+            rows(shapeOf(sql), rows);
+        }
+    }
+
+    public void request(JdbcRequestCost cost) {
+        if (registry == null || cost.statements() == 0) {
+            return;
+        }
+        requestStatements.record(cost.statements());
+        requestRows.record(cost.rows());
+        requestTime.record(cost.nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void rows(String shape, long rows) {
+        rowSummaries.computeIfAbsent(shape, s -> DistributionSummary.builder("catalog.jdbc.rows")
+                        .description("Filas afectadas o leídas por sentencia").tag("sql", s).register(registry))
+                .record(rows);
+    }
+
+    String shapeOf(String sql) {
+        if (sql == null) {
+            return SqlShape.of(null);
+        }
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = bounded(SqlShape.of(sql));
+            if (shapes.size() < MAX_RAW_SQL_CACHE) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private String bounded(String shape) {
+        if (knownShapes.containsKey(shape)) {
+            return shape;
+        }
+        if (knownShapes.size() >= maxShapes) {
+            return OTHER;
+        }
+        knownShapes.put(shape, Boolean.TRUE);
+        return shape;
+    }
+}
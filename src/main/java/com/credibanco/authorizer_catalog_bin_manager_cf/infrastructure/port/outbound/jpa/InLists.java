@@ -0,0 +1,23 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/** Parte una colección de claves en listas de a lo sumo 1000 elementos: el máximo de un IN en Oracle. */
+final class InLists {
+
+    static final int MAX_IN = 1000;
+
+    private InLists() {
+    }
+
+    static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> all = List.copyOf(values);
+        List<List<T>> out = new ArrayList<>((all.size() + MAX_IN - 1) / MAX_IN);
+        for (int from = 0; from < all.size(); from += MAX_IN) {
+            out.add(all.subList(from, Math.min(all.size(), from + MAX_IN)));
+        }
+        return out;
+    }
+}
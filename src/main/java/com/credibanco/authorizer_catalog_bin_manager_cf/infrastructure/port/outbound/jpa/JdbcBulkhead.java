@@ -0,0 +1,119 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Semáforo que limita las llamadas JDBC simultáneas al tamaño del pool de Hikari, con cola
+ * explícita: si ya hay {@code maxQueue} llamadas esperando, o la espera supera {@code maxWait},
+ * falla de inmediato con {@link AppError#JDBC_BULKHEAD_FULL} en vez de acumular trabajo invisible.
+ * {@link #acquire()} bloquea, por eso se invoca desde el hilo (virtual) que hará la llamada.
+ */
+@Slf4j
+public class JdbcBulkhead implements MeterBinder {
+
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Duration maxWait;
+    private final Semaphore permits;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile Timer waitTimer;
+
+    public JdbcBulkhead(int maxConcurrent, int maxQueue, Duration maxWait) {
+        if (maxConcurrent <= 0 || maxQueue < 0) {
+            throw new IllegalArgumentException("maxConcurrent debe ser > 0 y maxQueue >= 0");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public void acquire() {
+        long t0 = System.nanoTime();
+        if (!permits.tryAcquire()) {
+            if (waiting.incrementAndGet() > maxQueue) {
+                waiting.decrementAndGet();
+                reject("cola llena (" + maxQueue + " en espera)");
+            }
+            try {
+                if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                    reject("espera mayor a " + maxWait.toMillis() + " ms");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                reject("hilo interrumpido esperando conexión");
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        long waited = System.nanoTime() - t0;
+        acquired.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(waited, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    private void reject(String reason) {
+        rejected.increment();
+        log.warn("JDBC:bulkhead:rejected reason={} inFlight={} queued={}", reason, inFlight(), queueDepth());
+        throw new AppException(AppError.JDBC_BULKHEAD_FULL);
+    }
+
+    public int maxConcurrent() { return maxConcurrent; }
+
+    public int maxQueue() { return maxQueue; }
+
+    public int inFlight() { return maxConcurrent - permits.availablePermits(); }
+
+    public int queueDepth() { return waiting.get(); }
+
+    public long acquiredCount() { return acquired.sum(); }
+
+    public long rejectedCount() { return rejected.sum(); }
+
+    public Duration totalWait() { return Duration.ofNanos(totalWaitNanos.sum()); }
+
+    public Duration maxWaitObserved() { return Duration.ofNanos(maxWaitNanos.get()); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.jdbc.bulkhead.queue.depth", this, JdbcBulkhead::queueDepth)
+                .description("Llamadas JDBC esperando permiso").register(registry);
+        Gauge.builder("catalog.jdbc.bulkhead.in.flight", this, JdbcBulkhead::inFlight)
+                .description("Llamadas JDBC en curso").register(registry);
+        Gauge.builder("catalog.jdbc.bulkhead.max.concurrent", this, JdbcBulkhead::maxConcurrent)
+                .register(registry);
+        FunctionCounter.builder("catalog.jdbc.bulkhead.rejected", this, JdbcBulkhead::rejectedCount)
+                .description("Llamadas JDBC rechazadas por cola llena o espera agotada")
+                .register(registry);
+        waitTimer = Timer.builder("catalog.jdbc.bulkhead.wait")
+                .description("Espera por un permiso del bulkhead JDBC")
+                .register(registry);
+    }
+}
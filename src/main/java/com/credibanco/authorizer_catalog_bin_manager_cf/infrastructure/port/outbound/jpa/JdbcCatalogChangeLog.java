@@ -0,0 +1,305 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChangeEvent;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangeLog;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.event.CatalogChangeListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log de cambios del catálogo en base de datos, compartido por todas las réplicas. La versión sale de la
+ * fila única de {@code CATALOG_CHANGE_HEAD}: cada alta la incrementa y guarda el evento en
+ * {@code CATALOG_CHANGE_LOG} en la misma transacción, así que el bloqueo de esa fila ordena a los escritores
+ * de todas las réplicas y las versiones quedan visibles en orden y sin huecos. La {@code epoch} también vive
+ * en esa fila: solo cambia si se recrea la tabla, no por reinicios ni por cambiar de réplica.
+ * <p>
+ * Cada réplica sigue el log con un único hilo que consulta las versiones nuevas cada {@code poll-interval}
+ * (y justo después de cada alta propia) y las reparte a sus suscriptores, cada uno con su cola de
+ * {@code subscriber-buffer} eventos: quien la llena recibe error y debe reconectarse. La reproducción
+ * al suscribirse se lee por páginas de ese mismo tamaño y a demanda del consumidor, sin pasar por la cola.
+ * Se conservan los últimos {@code retention} eventos; quien pide historia ya borrada recibe RESET.
+ * <p>
+ * El alta ocurre después del commit del caso de uso (ver {@code CatalogChangeBus}): si la réplica cae
+ * entre ambos, el cambio no llega al feed hasta la siguiente recarga completa del consumidor.
+ * <pre>
+ * CREATE TABLE CATALOG_CHANGE_HEAD (ID NUMBER(1) PRIMARY KEY, EPOCH VARCHAR2(36) NOT NULL, VERSION NUMBER(19) NOT NULL);
+ * CREATE TABLE CATALOG_CHANGE_LOG (VERSION NUMBER(19) PRIMARY KEY, COMMITTED_AT TIMESTAMP WITH TIME ZONE NOT NULL,
+ *     ENTITY VARCHAR2(32) NOT NULL, OPERATION VARCHAR2(16) NOT NULL, CHANGE_KEY VARCHAR2(256) NOT NULL, PAYLOAD CLOB);
+ * </pre>
+ */
+@Slf4j
+@Component
+public class JdbcCatalogChangeLog implements CatalogChangeLog, CatalogChangeListener {
+
+    /** La primera réplica que arranca crea la fila con su epoch; las demás la leen. */
+    static final String SEED_SQL = "MERGE INTO CATALOG_CHANGE_HEAD h USING DUAL ON (h.ID = 1) "
+            + "WHEN NOT MATCHED THEN INSERT (ID, EPOCH, VERSION) VALUES (1, ?, 0)";
+    static final String EPOCH_SQL = "SELECT EPOCH FROM CATALOG_CHANGE_HEAD WHERE ID = 1";
+    static final String VERSION_SQL = "SELECT VERSION FROM CATALOG_CHANGE_HEAD WHERE ID = 1";
+    static final String BUMP_SQL = "UPDATE CATALOG_CHANGE_HEAD SET VERSION = VERSION + 1 WHERE ID = 1";
+    static final String INSERT_SQL = "INSERT INTO CATALOG_CHANGE_LOG "
+            + "(VERSION, COMMITTED_AT, ENTITY, OPERATION, CHANGE_KEY, PAYLOAD) VALUES (?, ?, ?, ?, ?, ?)";
+    static final String PAGE_SQL = "SELECT VERSION, COMMITTED_AT, ENTITY, OPERATION, CHANGE_KEY, PAYLOAD "
+            + "FROM CATALOG_CHANGE_LOG WHERE VERSION > ? AND VERSION <= ? ORDER BY VERSION FETCH FIRST ? ROWS ONLY";
+    static final String PURGE_SQL = "DELETE FROM CATALOG_CHANGE_LOG WHERE VERSION <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final int retention;
+    private final int subscriberBuffer;
+    private final Duration pollInterval;
+    private final ObjectMapper mapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<Sinks.Many<CatalogChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService follower = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("catalog-changes").daemon().factory());
+
+    private volatile String epoch;
+    private volatile long head;
+    private long purgedUpTo;
+
+    public JdbcCatalogChangeLog(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${catalog.changes.retention:10000}") int retention,
+                                @Value("${catalog.changes.subscriber-buffer:1024}") int subscriberBuffer,
+                                @Value("${catalog.changes.poll-interval:PT1S}") Duration pollInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Math.max(1, retention);
+        this.subscriberBuffer = Math.max(1, subscriberBuffer);
+        this.pollInterval = pollInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long millis = Math.max(1, pollInterval.toMillis());
+        follower.scheduleWithFixedDelay(this::poll, 0, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        follower.shutdownNow();
+    }
+
+    /** Se invoca en el hilo del caso de uso: el alta y el reparto pasan al hilo del log, en orden. */
+    @Override
+    public void onChange(CatalogChange change) {
+        try {
+            follower.execute(() -> {
+                try {
+                    append(change);
+                } catch (RuntimeException ex) {
+                    log.error("CATALOG:changes:append-failed entity={} key={}", change.entity(), change.key(), ex);
+                }
+                poll();
+            });
+        } catch (RejectedExecutionException ex) {
+            log.warn("CATALOG:changes:append-rejected entity={} key={} (apagando)", change.entity(), change.key());
+        }
+    }
+
+    void append(CatalogChange change) {
+        ensureOpen();
+        String payload = json(change.payload());
+        txTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(BUMP_SQL);
+            Long version = jdbcTemplate.queryForObject(VERSION_SQL, Long.class);
+            jdbcTemplate.update(INSERT_SQL, version, OffsetDateTime.now(), change.entity().name(),
+                    change.operation().name(), change.key(), payload);
+        });
+    }
+
+    /** Trae las versiones posteriores a {@link #head()} por páginas, las reparte y purga lo que excede la retención. */
+    void poll() {
+        try {
+            ensureOpen();
+            List<CatalogChangeEvent> page;
+            do {
+                page = page(epoch, head, Long.MAX_VALUE);
+                dispatch(page);
+            } while (page.size() == subscriberBuffer);
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("CATALOG:changes:poll-failed reason={}", ex.getMessage());
+        }
+    }
+
+    private void ensureOpen() {
+        if (epoch != null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(SEED_SQL, UUID.randomUUID().toString());
+        } catch (DuplicateKeyException ex) {
+            log.debug("CATALOG:changes:seed-race; otra réplica creó la cabecera");
+        }
+        String current = Objects.requireNonNull(jdbcTemplate.queryForObject(EPOCH_SQL, String.class), "epoch");
+        Long version = Objects.requireNonNull(jdbcTemplate.queryForObject(VERSION_SQL, Long.class), "version");
+        synchronized (this) {
+            head = version;
+            epoch = current;
+        }
+        log.info("CATALOG:changes:open epoch={} head={}", current, version);
+    }
+
+    private synchronized void dispatch(List<CatalogChangeEvent> events) {
+        for (CatalogChangeEvent event : events) {
+            if (event.version() <= head) {
+                continue;
+            }
+            head = event.version();
+            for (Sinks.Many<CatalogChangeEvent> subscriber : subscribers) {
+                Sinks.EmitResult result = subscriber.tryEmitNext(event);
+                if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                    log.warn("CATALOG:changes:subscriber-overflow version={} buffer={}",
+                            event.version(), subscriberBuffer);
+                    subscriber.tryEmitError(Exceptions.failWithOverflow(
+                            "El consumidor no sigue el ritmo de cambios; reconectar con since=<última versión aplicada>"));
+                    subscribers.remove(subscriber);
+                } else if (result.isFailure()) {
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+    }
+
+    private void purge() {
+        long upTo = head - retention;
+        if (upTo > purgedUpTo) {
+            int deleted = jdbcTemplate.update(PURGE_SQL, upTo);
+            purgedUpTo = upTo;
+            log.debug("CATALOG:changes:purge upTo={} deleted={}", upTo, deleted);
+        }
+    }
+
+    @Override
+    public String epoch() {
+        return epoch;
+    }
+
+    @Override
+    public long head() {
+        return head;
+    }
+
+    @Override
+    public Flux<CatalogChangeEvent> since(String epoch, long version) {
+        return Flux.defer(() -> {
+            String current = this.epoch;
+            if (current == null) {
+                return Flux.error(new AppException(AppError.CATALOG_CHANGES_UNAVAILABLE));
+            }
+            return open(current, version > 0 && !current.equals(epoch) ? Long.MAX_VALUE : version);
+        });
+    }
+
+    /**
+     * Una versión de otra epoch llega como {@code Long.MAX_VALUE}: mayor que cualquier head, da RESET.
+     * El alta del suscriptor y la cota de la reproducción se toman bajo el mismo lock que {@link #dispatch}:
+     * la reproducción cubre hasta ese head y la cola en vivo lo siguiente, sin perder ni duplicar eventos.
+     */
+    private synchronized Flux<CatalogChangeEvent> open(String epoch, long version) {
+        long upTo = head;
+        Flux<CatalogChangeEvent> backlog;
+        if (version > upTo) {
+            backlog = Flux.just(CatalogChangeEvent.reset(epoch, upTo));
+        } else if (version == upTo) {
+            backlog = Flux.empty();
+        } else {
+            backlog = replay(epoch, version, upTo);
+        }
+
+        // capacidad exacta: Queues.get redondea a potencia de 2 con un mínimo de 8
+        Sinks.Many<CatalogChangeEvent> live = Sinks.many().unicast()
+                .onBackpressureBuffer(new ArrayBlockingQueue<>(subscriberBuffer));
+        subscribers.add(live);
+        log.debug("CATALOG:changes:subscribe epoch={} since={} head={}", epoch, version, upTo);
+        return Flux.concat(backlog, live.asFlux())
+                .doFinally(signal -> subscribers.remove(live));
+    }
+
+    /**
+     * Eventos en {@code (after, upTo]} de a una página; la siguiente se consulta cuando el consumidor
+     * terminó la anterior. Si la primera versión de una página no es la esperada, esa historia ya se
+     * purgó: RESET en la versión previa y se sigue desde ahí.
+     */
+    private Flux<CatalogChangeEvent> replay(String epoch, long after, long upTo) {
+        return Mono.fromCallable(() -> page(epoch, after, upTo))
+                .transform(JpaSchedulers::mono)
+                .flatMapMany(page -> {
+                    long first = page.isEmpty() ? upTo + 1 : page.get(0).version();
+                    Flux<CatalogChangeEvent> lost = first > after + 1
+                            ? Flux.just(CatalogChangeEvent.reset(epoch, first - 1))
+                            : Flux.empty();
+                    Flux<CatalogChangeEvent> more = page.size() < subscriberBuffer
+                            ? Flux.empty()
+                            : Flux.defer(() -> replay(epoch, page.get(page.size() - 1).version(), upTo));
+                    return Flux.concat(lost, Flux.fromIterable(page), more);
+                });
+    }
+
+    private List<CatalogChangeEvent> page(String epoch, long after, long upTo) {
+        return jdbcTemplate.query(PAGE_SQL, (rs, rowNum) -> mapRow(epoch, rs), after, upTo, subscriberBuffer);
+    }
+
+    private CatalogChangeEvent mapRow(String epoch, ResultSet rs) throws SQLException {
+        String payload = rs.getString("PAYLOAD");
+        CatalogChange change = CatalogChange.of(
+                CatalogChange.Entity.valueOf(rs.getString("ENTITY")),
+                CatalogChange.Operation.valueOf(rs.getString("OPERATION")),
+                rs.getString("CHANGE_KEY"),
+                readJson(payload));
+        return new CatalogChangeEvent(epoch, rs.getLong("VERSION"),
+                JdbcCursor.offsetDateTime(rs, "COMMITTED_AT"), change);
+    }
+
+    private String json(Object payload) {
+        try {
+            return mapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Object readJson(String payload) {
+        try {
+            return mapper.readTree(payload == null ? "null" : payload);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
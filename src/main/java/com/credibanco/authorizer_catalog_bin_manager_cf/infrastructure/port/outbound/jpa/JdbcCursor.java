@@ -0,0 +1,53 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Flux;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Lectura por cursor JDBC para exportes grandes: el ResultSet se recorre fila a fila según la
+ * demanda del suscriptor (cada request trae como mucho {@code fetchSize} filas por viaje) y nada se
+ * acumula en heap. La conexión queda tomada hasta que el Flux termina, se cancela o pasa
+ * {@link JdbcStreamLimits#idleTimeout()} sin emitir una fila; ver {@link JdbcStreamLimits}.
+ */
+@Slf4j
+final class JdbcCursor {
+
+    private JdbcCursor() {
+    }
+
+    static <T> Flux<T> stream(JdbcTemplate jdbc, JdbcStreamLimits limits, String sql, RowMapper<T> mapper, Object... args) {
+        return Flux.using(
+                        limits::acquire,
+                        permit -> Flux.using(
+                                () -> jdbc.queryForStream(con -> {
+                                    PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                                    ps.setFetchSize(limits.fetchSize());
+                                    ps.setQueryTimeout(limits.queryTimeoutSeconds());
+                                    new ArgumentPreparedStatementSetter(args).setValues(ps);
+                                    return ps;
+                                }, mapper),
+                                Flux::fromStream,
+                                Stream::close),
+                        JdbcStreamLimits::release)
+                .timeout(limits.idleTimeout())
+                .doOnError(TimeoutException.class, ex -> log.warn("JDBC:stream:idle-timeout idleMs={}",
+                        limits.idleTimeout().toMillis()));
+    }
+
+    static OffsetDateTime offsetDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : OffsetDateTime.ofInstant(ts.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,22 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+/** Cómo se ejecutan las llamadas JDBC bloqueantes (propiedad {@code catalog.jdbc.execution-mode}). */
+public enum JdbcExecutionMode {
+    /** Pool boundedElastic de Reactor (10 × núcleos hilos, cola implícita). */
+    BOUNDED_ELASTIC,
+    /** Un hilo virtual por llamada, limitado por el bulkhead al tamaño del pool de Hikari. */
+    VIRTUAL_THREADS;
+
+    public static JdbcExecutionMode from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return BOUNDED_ELASTIC;
+        }
+        String s = raw.trim().toUpperCase().replace('-', '_');
+        try {
+            return valueOf(s);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("catalog.jdbc.execution-mode inválido: '" + raw
+                    + "'. Valores permitidos: bounded-elastic | virtual-threads");
+        }
+    }
+}
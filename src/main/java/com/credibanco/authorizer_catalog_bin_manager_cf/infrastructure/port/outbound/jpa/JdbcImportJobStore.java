@@ -0,0 +1,185 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound.ImportJobStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Jobs de importación en base de datos, visibles desde todas las réplicas. {@code IMPORT_JOB} guarda el
+ * estado como JSON junto con STATUS, el dueño y el vencimiento de su lease; {@code IMPORT_JOB_VALUE}, la
+ * carga, un valor por fila con su posición. El lease se toma con un único UPDATE condicionado (solo una
+ * réplica ve una fila actualizada) y se mide con el reloj de la base, no con el de cada pod.
+ * <pre>
+ * CREATE TABLE IMPORT_JOB (JOB_ID VARCHAR2(64) PRIMARY KEY, STATUS VARCHAR2(16) NOT NULL, OWNER VARCHAR2(64),
+ *     LEASE_UNTIL TIMESTAMP WITH TIME ZONE, SUBMITTED_AT TIMESTAMP WITH TIME ZONE, STATE CLOB NOT NULL);
+ * CREATE TABLE IMPORT_JOB_VALUE (JOB_ID VARCHAR2(64), POS NUMBER(19), VAL VARCHAR2(512), PRIMARY KEY (JOB_ID, POS));
+ * </pre>
+ */
+@Slf4j
+@Component
+public class JdbcImportJobStore implements ImportJobStore {
+
+    static final String UNFINISHED = "STATUS IN ('QUEUED', 'RUNNING')";
+    static final String SAVE_SQL = "MERGE INTO IMPORT_JOB j USING DUAL ON (j.JOB_ID = ?) "
+            + "WHEN MATCHED THEN UPDATE SET STATUS = ?, STATE = ? "
+            + "WHEN NOT MATCHED THEN INSERT (JOB_ID, STATUS, SUBMITTED_AT, STATE) VALUES (?, ?, ?, ?)";
+    static final String FIND_SQL = "SELECT STATE FROM IMPORT_JOB WHERE JOB_ID = ?";
+    static final String CLAIMABLE_SQL = "SELECT STATE FROM IMPORT_JOB WHERE " + UNFINISHED
+            + " AND (OWNER IS NULL OR LEASE_UNTIL < SYSTIMESTAMP) ORDER BY SUBMITTED_AT";
+    static final String CLAIM_SQL = "UPDATE IMPORT_JOB "
+            + "SET OWNER = ?, LEASE_UNTIL = SYSTIMESTAMP + NUMTODSINTERVAL(?, 'SECOND') "
+            + "WHERE JOB_ID = ? AND " + UNFINISHED + " AND (OWNER IS NULL OR OWNER = ? OR LEASE_UNTIL < SYSTIMESTAMP)";
+    static final String RENEW_SQL = "UPDATE IMPORT_JOB SET LEASE_UNTIL = SYSTIMESTAMP + NUMTODSINTERVAL(?, 'SECOND') "
+            + "WHERE OWNER = ? AND " + UNFINISHED;
+    static final String RELEASE_SQL =
+            "UPDATE IMPORT_JOB SET OWNER = NULL, LEASE_UNTIL = NULL WHERE JOB_ID = ? AND OWNER = ?";
+    static final String SPOOL_INSERT_SQL = "INSERT INTO IMPORT_JOB_VALUE (JOB_ID, POS, VAL) VALUES (?, ?, ?)";
+    static final String SPOOL_READ_SQL = "SELECT VAL FROM IMPORT_JOB_VALUE WHERE JOB_ID = ? AND POS >= ? ORDER BY POS";
+    static final String SPOOL_DELETE_SQL = "DELETE FROM IMPORT_JOB_VALUE WHERE JOB_ID = ?";
+
+    /** Ningún MCC ni código de comercio se acerca a este largo: truncar no vuelve válido un valor inválido. */
+    static final int MAX_VALUE_LENGTH = 512;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final ObjectMapper mapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public JdbcImportJobStore(JdbcTemplate jdbcTemplate,
+                              @Value("${catalog.jobs.spool-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void save(ImportJob job) {
+        String state = json(job);
+        String status = job.status().name();
+        jdbcTemplate.update(SAVE_SQL, job.id(), status, state, job.id(), status, job.submittedAt(), state);
+    }
+
+    @Override
+    public Optional<ImportJob> find(String id) {
+        if (id == null || id.isBlank()) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(FIND_SQL, (rs, n) -> read(rs.getString(1)), id).stream().findFirst();
+    }
+
+    @Override
+    public List<ImportJob> findClaimable() {
+        return jdbcTemplate.query(CLAIMABLE_SQL, (rs, n) -> read(rs.getString(1)));
+    }
+
+    @Override
+    public boolean claim(String id, String owner, Duration lease) {
+        return jdbcTemplate.update(CLAIM_SQL, owner, lease.toSeconds(), id, owner) == 1;
+    }
+
+    @Override
+    public int renew(String owner, Duration lease) {
+        return jdbcTemplate.update(RENEW_SQL, lease.toSeconds(), owner);
+    }
+
+    @Override
+    public void release(String id, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, id, owner);
+    }
+
+    @Override
+    public SpoolWriter openSpool(String id) {
+        return new JdbcSpoolWriter(id);
+    }
+
+    /** Lee con cursor, {@code spool-batch-size} filas por viaje; la conexión queda tomada hasta cerrar el Stream. */
+    @Override
+    public Stream<String> readSpool(String id, long skip) {
+        return jdbcTemplate.queryForStream(con -> {
+            PreparedStatement ps = con.prepareStatement(SPOOL_READ_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(batchSize);
+            new ArgumentPreparedStatementSetter(new Object[]{id, skip}).setValues(ps);
+            return ps;
+        }, (rs, n) -> rs.getString(1));
+    }
+
+    @Override
+    public void deleteSpool(String id) {
+        try {
+            jdbcTemplate.update(SPOOL_DELETE_SQL, id);
+        } catch (RuntimeException ex) {
+            log.warn("JOB:store:spool-delete-failed id={} reason={}", id, ex.getMessage());
+        }
+    }
+
+    private String json(ImportJob job) {
+        try {
+            return mapper.writeValueAsString(job);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("No se pudo serializar el job " + job.id(), ex);
+        }
+    }
+
+    private ImportJob read(String state) {
+        try {
+            return mapper.readValue(state, ImportJob.class);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Estado de job ilegible", ex);
+        }
+    }
+
+    /** Inserta por lotes de {@code spool-batch-size} filas; {@code close} vuelca el último lote. */
+    private final class JdbcSpoolWriter implements SpoolWriter {
+        private final String id;
+        private List<Object[]> pending = new ArrayList<>();
+        private long count;
+
+        private JdbcSpoolWriter(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void write(String value) {
+            String v = value == null ? "" : value;
+            pending.add(new Object[]{id, count, v.length() > MAX_VALUE_LENGTH ? v.substring(0, MAX_VALUE_LENGTH) : v});
+            count++;
+            if (pending.size() == batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+        private void flush() {
+            if (!pending.isEmpty()) {
+                jdbcTemplate.batchUpdate(SPOOL_INSERT_SQL, pending);
+                pending = new ArrayList<>(batchSize);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límites de los streams por cursor ({@link JdbcCursor}). Un stream retiene una conexión de Hikari (y el
+ * permiso del bulkhead) mientras el cliente consume la respuesta, así que:
+ * como mucho {@code maxConcurrent} streams a la vez, por debajo del tamaño del pool, y el siguiente falla de
+ * inmediato con {@link AppError#JDBC_BULKHEAD_FULL} en vez de quitarle conexiones a las consultas puntuales;
+ * {@code queryTimeout} por viaje a la base; {@code idleTimeout} entre filas, para que un cliente que deja de
+ * leer no retenga la conexión indefinidamente.
+ */
+@Slf4j
+public class JdbcStreamLimits implements MeterBinder {
+
+    private final int fetchSize;
+    private final int maxConcurrent;
+    private final Duration queryTimeout;
+    private final Duration idleTimeout;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    public JdbcStreamLimits(int fetchSize, int maxConcurrent, Duration queryTimeout, Duration idleTimeout) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent debe ser > 0");
+        }
+        this.fetchSize = Math.max(1, fetchSize);
+        this.maxConcurrent = maxConcurrent;
+        this.queryTimeout = queryTimeout;
+        this.idleTimeout = idleTimeout;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /** No bloquea: sin permiso libre, rechaza. */
+    public JdbcStreamLimits acquire() {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            log.warn("JDBC:stream:rejected inFlight={} maxConcurrent={}", inFlight(), maxConcurrent);
+            throw new AppException(AppError.JDBC_BULKHEAD_FULL);
+        }
+        return this;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int fetchSize() { return fetchSize; }
+
+    public int maxConcurrent() { return maxConcurrent; }
+
+    /** En segundos, como lo pide {@link java.sql.Statement#setQueryTimeout}; 0 = sin límite. */
+    public int queryTimeoutSeconds() { return (int) Math.max(0, queryTimeout.toSeconds()); }
+
+    public Duration idleTimeout() { return idleTimeout; }
+
+    public int inFlight() { return maxConcurrent - permits.availablePermits(); }
+
+    public long rejectedCount() { return rejected.sum(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.jdbc.stream.in.flight", this, JdbcStreamLimits::inFlight)
+                .description("Streams por cursor JDBC abiertos").register(registry);
+        FunctionCounter.builder("catalog.jdbc.stream.rejected", this, JdbcStreamLimits::rejectedCount)
+                .description("Streams rechazados por haber alcanzado el máximo simultáneo")
+                .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Worker dueño de una transacción JPA. Si hay bulkhead, {@link #acquire()} toma el permiso desde el
+ * propio hilo del worker y {@link #dispose()} lo devuelve, así la transacción cuenta como una
+ * conexión mientras dure.
+ */
+public final class JdbcWorker implements Scheduler.Worker {
+
+    private final Scheduler.Worker delegate;
+    private final Disposable owner;
+    private final JdbcBulkhead bulkhead;
+    private final AtomicBoolean holding = new AtomicBoolean();
+
+    JdbcWorker(Scheduler.Worker delegate, Disposable owner, JdbcBulkhead bulkhead) {
+        this.delegate = delegate;
+        this.owner = owner;
+        this.bulkhead = bulkhead;
+    }
+
+    public void acquire() {
+        if (bulkhead != null && !holding.get()) {
+            bulkhead.acquire();
+            holding.set(true);
+        }
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        return delegate.schedule(task);
+    }
+
+    @Override
+    public void dispose() {
+        if (holding.compareAndSet(true, false)) {
+            bulkhead.release();
+        }
+        delegate.dispose();
+        if (owner != null) {
+            owner.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+}
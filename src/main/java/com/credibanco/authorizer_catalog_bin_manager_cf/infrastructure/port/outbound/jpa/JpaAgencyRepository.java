@@ -15,10 +15,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
@@ -38,7 +38,7 @@ public class JpaAgencyRepository implements AgencyRepository, AgencyReadOnlyRepo
     @Override
     public Mono<Boolean> existsByPk(String subtypeCode, String agencyCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsById(new AgencyEntityId(subtypeCode, agencyCode))))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -54,7 +54,7 @@ public class JpaAgencyRepository implements AgencyRepository, AgencyReadOnlyRepo
                     AgencyEntity saved = repository.save(entity);
                     return AgencyJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -63,7 +63,21 @@ public class JpaAgencyRepository implements AgencyRepository, AgencyReadOnlyRepo
                         .map(AgencyJpaMapper::toDomain)
                         .orElseThrow(() -> new NoSuchElementException(
                                 "AGENCY not found: subtype=" + subtypeCode + " agency=" + agencyCode)))
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).transform(JpaSchedulers::mono);
+    }
+
+    @Override
+    public Flux<Agency> findAllByPk(Collection<AgencyRepository.Pk> keys) {
+        return Mono.defer(() -> Mono.fromCallable(() -> {
+                    List<Agency> out = new ArrayList<>(keys.size());
+                    for (List<AgencyRepository.Pk> chunk : InLists.chunks(keys)) {
+                        List<AgencyEntityId> ids = chunk.stream().map(k -> new AgencyEntityId(k.subtypeCode(), k.agencyCode())).toList();
+                        repository.findAllById(ids).forEach(e -> out.add(AgencyJpaMapper.toDomain(e)));
+                    }
+                    return out;
+                }))
+                .transform(JpaSchedulers::mono)
+                .flatMapIterable(list -> list);
     }
 
     @Override
@@ -77,20 +91,33 @@ public class JpaAgencyRepository implements AgencyRepository, AgencyReadOnlyRepo
                             .getContent();
                     return Flux.fromIterable(content).map(AgencyJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
+    }
+
+    @Override
+    public Flux<Agency> findAfter(String subtypeCode, String status, String search,
+                                  String afterSubtypeCode, String afterAgencyCode, int limit) {
+        return Flux.defer(() -> {
+                    Specification<AgencyEntity> spec = buildSpecification(subtypeCode, status, search)
+                            .and(JpaKeyset.after("id.subtypeCode", afterSubtypeCode, "id.agencyCode", afterAgencyCode));
+                    List<AgencyEntity> content = JpaKeyset.fetch(repository, spec,
+                            Sort.by(Sort.Order.asc("id.subtypeCode"), Sort.Order.asc("id.agencyCode")), limit);
+                    return Flux.fromIterable(content).map(AgencyJpaMapper::toDomain);
+                })
+                .transform(JpaSchedulers::flux);
     }
 
     @Override
     public Mono<Boolean> existsAnotherActive(String subtypeCode, String excludeAgencyCode) {
         return Mono.defer(() -> Mono.fromCallable(() ->
                         repository.existsByIdSubtypeCodeAndStatusAndIdAgencyCodeNot(subtypeCode, "A", excludeAgencyCode)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
     public Mono<Long> countActiveBySubtypeCode(String subtypeCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.countByIdSubtypeCodeAndStatus(subtypeCode, "A")))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     private Specification<AgencyEntity> buildSpecification(String subtypeCode, String status, String search) {
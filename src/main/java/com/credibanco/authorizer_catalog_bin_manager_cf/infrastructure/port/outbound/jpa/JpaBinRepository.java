@@ -6,6 +6,7 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.BinEntity;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.BinJpaMapper;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.BinJpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -13,8 +14,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,7 +34,7 @@ public class JpaBinRepository implements BinRepository, BinReadOnlyRepository {
     @Override
     public Mono<Boolean> existsById(String bin) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsById(bin)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -43,7 +45,7 @@ public class JpaBinRepository implements BinRepository, BinReadOnlyRepository {
                     BinEntity saved = repository.save(entity);
                     return BinJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -51,7 +53,20 @@ public class JpaBinRepository implements BinRepository, BinReadOnlyRepository {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.findById(bin)
                         .map(BinJpaMapper::toDomain)))
                 .flatMap(Mono::justOrEmpty)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
+    }
+
+    @Override
+    public Flux<Bin> findAllById(Collection<String> bins) {
+        return Mono.defer(() -> Mono.fromCallable(() -> {
+                    List<Bin> out = new ArrayList<>(bins.size());
+                    for (List<String> chunk : InLists.chunks(bins)) {
+                        repository.findAllById(chunk).forEach(e -> out.add(BinJpaMapper.toDomain(e)));
+                    }
+                    return out;
+                }))
+                .transform(JpaSchedulers::mono)
+                .flatMapIterable(list -> list);
     }
 
     @Override
@@ -65,7 +80,20 @@ public class JpaBinRepository implements BinRepository, BinReadOnlyRepository {
                     return Flux.fromIterable(content)
                             .map(BinJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
+    }
+
+    @Override
+    public Flux<Bin> findAfter(String afterBin, int limit) {
+        return Flux.defer(() -> {
+                    Limit l = Limit.of(Math.max(1, limit));
+                    List<BinEntity> content = afterBin == null
+                            ? repository.findAllByOrderByBinAsc(l)
+                            : repository.findByBinGreaterThanOrderByBinAsc(afterBin, l);
+                    return Flux.fromIterable(content)
+                            .map(BinJpaMapper::toDomain);
+                })
+                .transform(JpaSchedulers::flux);
     }
 
     @Override
@@ -73,6 +101,6 @@ public class JpaBinRepository implements BinRepository, BinReadOnlyRepository {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.findById(bin)
                         .map(e -> new BinExtConfig(e.getUsesBinExt(), e.getBinExtDigits()))))
                 .flatMap(Mono::justOrEmpty)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 }
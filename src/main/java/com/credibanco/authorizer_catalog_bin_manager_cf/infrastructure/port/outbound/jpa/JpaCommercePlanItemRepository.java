@@ -5,16 +5,21 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.CommercePlanItemEntity;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.PlanItemJpaMapper;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanItemJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,16 +28,37 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 
+@Slf4j
 @Repository
 public class JpaCommercePlanItemRepository implements CommercePlanItemRepository {
 
+    /**
+     * Alta masiva: el ID sale de la secuencia dentro del propio INSERT (la entidad usa allocationSize = 1,
+     * así que pasar por save() costaría un viaje a la secuencia más un INSERT por fila).
+     */
+    static final String BULK_INSERT_SQL = "INSERT INTO COMMERCE_PLAN_ITEM "
+            + "(PLAN_ITEM_ID, PLAN_ID, MCC, MERCHANT_ID, STATUS, CREATED_AT, UPDATED_AT, UPDATED_BY) "
+            + "VALUES (SEQ_COMMERCE_PLAN_ITEM_ID.NEXTVAL, ?, ?, ?, 'A', ?, ?, ?)";
+
+    static final String STREAM_SQL = "SELECT PLAN_ITEM_ID, PLAN_ID, MCC, MERCHANT_ID, STATUS, CREATED_AT, UPDATED_AT, UPDATED_BY "
+            + "FROM COMMERCE_PLAN_ITEM WHERE PLAN_ID = ?";
+
     private final CommercePlanItemJpaRepository repository;
     private final TransactionTemplate txTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+    private final JdbcStreamLimits streams;
 
     public JpaCommercePlanItemRepository(CommercePlanItemJpaRepository repository,
-                                         PlatformTransactionManager transactionManager) {
+                                         PlatformTransactionManager transactionManager,
+                                         JdbcTemplate jdbcTemplate,
+                                         @Value("${catalog.plan-items.jdbc-batch-size:500}") int jdbcBatchSize,
+                                         JdbcStreamLimits streams) {
         this.repository = repository;
         this.txTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = Math.max(1, jdbcBatchSize);
+        this.streams = streams;
     }
 
     @Override
@@ -51,7 +77,7 @@ public class JpaCommercePlanItemRepository implements CommercePlanItemRepository
                     CommercePlanItemEntity saved = repository.save(entity);
                     return PlanItemJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -69,7 +95,7 @@ public class JpaCommercePlanItemRepository implements CommercePlanItemRepository
                     return PlanItemJpaMapper.toDomain(saved);
                 }))
         ).flatMap(result -> result == null ? Mono.<PlanItem>empty() : Mono.just(result))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -79,11 +105,45 @@ public class JpaCommercePlanItemRepository implements CommercePlanItemRepository
                     int p = Math.max(0, page);
                     int s = Math.max(1, size);
                     List<CommercePlanItemEntity> content = repository.findAll(spec,
-                                    PageRequest.of(p, s, Sort.by(Sort.Order.asc("mcc"), Sort.Order.asc("merchantId"))))
+                                    PageRequest.of(p, s, Sort.by(Sort.Order.asc("planItemId"))))
                             .getContent();
                     return Flux.fromIterable(content).map(PlanItemJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
+    }
+
+    @Override
+    public Flux<PlanItem> listItemsAfter(Long planId, String status, Long afterPlanItemId, int limit) {
+        return Flux.defer(() -> {
+                    Specification<CommercePlanItemEntity> spec = buildSpecification(planId, status)
+                            .and(JpaKeyset.after("planItemId", afterPlanItemId));
+                    List<CommercePlanItemEntity> content = JpaKeyset.fetch(repository, spec,
+                            Sort.by(Sort.Order.asc("planItemId")), limit);
+                    return Flux.fromIterable(content).map(PlanItemJpaMapper::toDomain);
+                })
+                .transform(JpaSchedulers::flux);
+    }
+
+    @Override
+    public Flux<PlanItem> streamItems(Long planId, String status) {
+        return Flux.defer(() -> status == null
+                        ? JdbcCursor.stream(jdbcTemplate, streams, STREAM_SQL + " ORDER BY PLAN_ITEM_ID",
+                                JpaCommercePlanItemRepository::mapRow, planId)
+                        : JdbcCursor.stream(jdbcTemplate, streams, STREAM_SQL + " AND STATUS = ? ORDER BY PLAN_ITEM_ID",
+                                JpaCommercePlanItemRepository::mapRow, planId, status))
+                .transform(JpaSchedulers::flux);
+    }
+
+    private static PlanItem mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String mcc = rs.getString("MCC");
+        return PlanItem.rehydrate(
+                rs.getLong("PLAN_ITEM_ID"),
+                rs.getLong("PLAN_ID"),
+                mcc != null ? mcc : rs.getString("MERCHANT_ID"),
+                JdbcCursor.offsetDateTime(rs, "CREATED_AT"),
+                JdbcCursor.offsetDateTime(rs, "UPDATED_AT"),
+                rs.getString("UPDATED_BY"),
+                rs.getString("STATUS"));
     }
 
     @Override
@@ -102,7 +162,7 @@ public class JpaCommercePlanItemRepository implements CommercePlanItemRepository
                     CommercePlanItemEntity saved = repository.save(entity);
                     return PlanItemJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -115,7 +175,7 @@ public class JpaCommercePlanItemRepository implements CommercePlanItemRepository
                             .orElseThrow(() -> new NoSuchElementException(
                                     "PLAN_ITEM not found: plan=" + planId + " value=" + value));
                 }))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -124,71 +184,68 @@ public class JpaCommercePlanItemRepository implements CommercePlanItemRepository
             return Flux.empty();
         }
         return Flux.defer(() -> Flux.fromIterable(repository.findExistingValues(planId, values)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
     }
 
     @Override
     public Mono<Integer> insertMccBulk(Long planId, List<String> mccs, String by) {
-        if (mccs == null || mccs.isEmpty()) {
-            return Mono.just(0);
-        }
-        return Mono.defer(() -> Mono.fromCallable(() ->
-                Objects.requireNonNull(txTemplate.execute(status -> {
-                    Set<String> existing = new HashSet<>(repository.findExistingValues(planId, mccs));
-                    int inserted = 0;
-                    for (String mcc : mccs) {
-                        if (existing.add(mcc)) {
-                            OffsetDateTime now = OffsetDateTime.now();
-                            CommercePlanItemEntity entity = new CommercePlanItemEntity();
-                            entity.setPlanId(planId);
-                            entity.setMcc(mcc);
-                            entity.setMerchantId(null);
-                            entity.setStatus("A");
-                            entity.setCreatedAt(now);
-                            entity.setUpdatedAt(now);
-                            entity.setUpdatedBy(by);
-                            repository.save(entity);
-                            inserted++;
-                        }
-                    }
-                    return inserted;
-                }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        return insertBulk(planId, mccs, true, by);
     }
 
     @Override
     public Mono<Integer> insertMerchantBulk(Long planId, List<String> mids, String by) {
-        if (mids == null || mids.isEmpty()) {
+        return insertBulk(planId, mids, false, by);
+    }
+
+    @Override
+    public Mono<Boolean> existsActiveByPlanId(Long planId) {
+        return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByPlanIdAndStatus(planId, "A")))
+                .transform(JpaSchedulers::mono);
+    }
+
+    /**
+     * Descarta los valores ya existentes (o repetidos en la entrada) y envía el resto con
+     * addBatch/executeBatch en lotes de {@code jdbcBatchSize}: un bloque de AddPlanItemService
+     * son uno o pocos viajes a la base en vez de uno por ítem.
+     */
+    private Mono<Integer> insertBulk(Long planId, List<String> values, boolean mcc, String by) {
+        if (values == null || values.isEmpty()) {
             return Mono.just(0);
         }
         return Mono.defer(() -> Mono.fromCallable(() ->
                 Objects.requireNonNull(txTemplate.execute(status -> {
-                    Set<String> existing = new HashSet<>(repository.findExistingValues(planId, mids));
-                    int inserted = 0;
-                    for (String mid : mids) {
-                        if (existing.add(mid)) {
-                            OffsetDateTime now = OffsetDateTime.now();
-                            CommercePlanItemEntity entity = new CommercePlanItemEntity();
-                            entity.setPlanId(planId);
-                            entity.setMcc(null);
-                            entity.setMerchantId(mid);
-                            entity.setStatus("A");
-                            entity.setCreatedAt(now);
-                            entity.setUpdatedAt(now);
-                            entity.setUpdatedBy(by);
-                            repository.save(entity);
-                            inserted++;
+                    long t0 = System.nanoTime();
+                    Set<String> existing = new HashSet<>(repository.findExistingValues(planId, values));
+                    List<String> fresh = new ArrayList<>(values.size());
+                    for (String value : values) {
+                        if (existing.add(value)) {
+                            fresh.add(value);
                         }
                     }
-                    return inserted;
+                    if (fresh.isEmpty()) {
+                        return 0;
+                    }
+                    OffsetDateTime now = OffsetDateTime.now();
+                    jdbcTemplate.batchUpdate(BULK_INSERT_SQL, fresh, jdbcBatchSize, (ps, value) -> {
+                        ps.setLong(1, planId);
+                        if (mcc) {
+                            ps.setString(2, value);
+                            ps.setNull(3, Types.VARCHAR);
+                        } else {
+                            ps.setNull(2, Types.VARCHAR);
+                            ps.setString(3, value);
+                        }
+                        ps.setObject(4, now);
+                        ps.setObject(5, now);
+                        ps.setString(6, by);
+                    });
+                    long elapsedNanos = Math.max(1, System.nanoTime() - t0);
+                    log.debug("JDBC:plan-items:batch-insert planId={} rows={} batchSize={} elapsedMs={} rowsPerSec={}",
+                            planId, fresh.size(), jdbcBatchSize, elapsedNanos / 1_000_000,
+                            fresh.size() * 1_000_000_000L / elapsedNanos);
+                    return fresh.size();
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
-    }
-
-    @Override
-    public Mono<Boolean> existsActiveByPlanId(Long planId) {
-        return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByPlanIdAndStatus(planId, "A")))
-                .subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     private Specification<CommercePlanItemEntity> buildSpecification(Long planId, String status) {
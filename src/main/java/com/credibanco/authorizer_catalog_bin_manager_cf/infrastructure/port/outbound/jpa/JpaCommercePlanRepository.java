@@ -15,7 +15,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -41,7 +40,7 @@ public class JpaCommercePlanRepository implements CommercePlanRepository {
     public Mono<Boolean> existsByCode(String planCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByPlanCode(planCode)))
                 .onErrorResume(ex -> handlePlanExistsError(planCode, ex))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -51,7 +50,7 @@ public class JpaCommercePlanRepository implements CommercePlanRepository {
                 .flatMap(optional -> optional
                         .map(entity -> Mono.just(CommercePlanJpaMapper.toDomain(entity)))
                         .orElseGet(Mono::empty))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     private Mono<Optional<CommercePlanEntity>> handlePlanLookupError(String planCode, Throwable error) {
@@ -93,7 +92,7 @@ public class JpaCommercePlanRepository implements CommercePlanRepository {
                             .getContent();
                     return Flux.fromIterable(content).map(CommercePlanJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
     }
 
     @Override
@@ -118,7 +117,7 @@ public class JpaCommercePlanRepository implements CommercePlanRepository {
                     CommercePlanEntity saved = repository.save(entity);
                     return CommercePlanJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     private Specification<CommercePlanEntity> buildSpecification(String status, String search) {
@@ -0,0 +1,82 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Todas las precondiciones en una fila: {@code SELECT CASE WHEN EXISTS (...) THEN 1 ELSE 0 END AS C0, ... FROM DUAL}.
+ * Cada EXISTS corta en la primera fila por índice, y el caso de uso ocupa una conexión una sola vez.
+ */
+@Slf4j
+@Repository
+public class JpaExistenceProbeRepository implements ExistenceProbeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaExistenceProbeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Mono<ExistenceProbeResult> probe(Collection<ExistenceCheck> checks) {
+        List<ExistenceCheck> distinct = new ArrayList<>(new LinkedHashSet<>(checks));
+        if (distinct.isEmpty()) {
+            return Mono.just(ExistenceProbeResult.EMPTY);
+        }
+        return Mono.defer(() -> Mono.fromCallable(() -> query(distinct)))
+                .transform(JpaSchedulers::mono);
+    }
+
+    private ExistenceProbeResult query(List<ExistenceCheck> checks) {
+        long t0 = System.nanoTime();
+        String sql = sql(checks);
+        Object[] args = checks.stream().flatMap(c -> c.keys().stream()).toArray();
+        Map<ExistenceCheck, Boolean> found = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            Map<ExistenceCheck, Boolean> out = new HashMap<>();
+            for (int i = 0; i < checks.size(); i++) {
+                out.put(checks.get(i), rs.getInt(i + 1) == 1);
+            }
+            return out;
+        }, args);
+        log.debug("JDBC:probe checks={} elapsedMs={}", checks.size(), (System.nanoTime() - t0) / 1_000_000);
+        return new ExistenceProbeResult(found);
+    }
+
+    static String sql(List<ExistenceCheck> checks) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i = 0; i < checks.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("CASE WHEN EXISTS (").append(exists(checks.get(i).kind()))
+                    .append(") THEN 1 ELSE 0 END AS C").append(i);
+        }
+        return sql.append(" FROM DUAL").toString();
+    }
+
+    /** Subconsulta por tipo; los parámetros van en el orden de {@link ExistenceCheck#keys()}. */
+    private static String exists(ExistenceCheck.Kind kind) {
+        return switch (kind) {
+            case BIN -> "SELECT 1 FROM BIN WHERE BIN = ?";
+            case SUBTYPE_CODE -> "SELECT 1 FROM SUBTYPE WHERE SUBTYPE_CODE = ?";
+            case SUBTYPE -> "SELECT 1 FROM SUBTYPE WHERE BIN = ? AND SUBTYPE_CODE = ?";
+            case SUBTYPE_BIN_EXT -> "SELECT 1 FROM SUBTYPE WHERE BIN = ? AND BIN_EXT = ?";
+            case OTHER_ACTIVE_AGENCY ->
+                    "SELECT 1 FROM AGENCY WHERE SUBTYPE_CODE = ? AND AGENCY_CODE <> ? AND STATUS = 'A'";
+            case PLAN_WITH_ACTIVE_ITEMS -> "SELECT 1 FROM COMMERCE_PLAN p JOIN COMMERCE_PLAN_ITEM i "
+                    + "ON i.PLAN_ID = p.PLAN_ID WHERE p.PLAN_CODE = ? AND i.STATUS = 'A'";
+        };
+    }
+}
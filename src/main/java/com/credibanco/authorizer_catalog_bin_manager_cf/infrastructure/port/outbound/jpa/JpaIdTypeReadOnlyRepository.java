@@ -5,7 +5,6 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outb
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.IdTypeJpaRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 
@@ -21,7 +20,7 @@ public class JpaIdTypeReadOnlyRepository implements IdTypeReadOnlyRepository {
     @Override
     public Mono<Boolean> existsById(String idType) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsById(idType)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -30,6 +29,6 @@ public class JpaIdTypeReadOnlyRepository implements IdTypeReadOnlyRepository {
                         .stream()
                         .map(IdTypeEntity::getIdTypeCode)
                         .toList()))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 }
@@ -0,0 +1,53 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+
+/**
+ * Paginación por clave sobre especificaciones: {@code WHERE clave > última} + {@code ORDER BY clave}
+ * + {@code FETCH FIRST n}. Sin OFFSET ni COUNT, así una página profunda cuesta lo mismo que la primera
+ * (siempre que la clave esté indexada, como las PK).
+ */
+final class JpaKeyset {
+
+    private JpaKeyset() {
+    }
+
+    /** {@code path > value}; sin restricción si {@code value} es null (primera página). */
+    static <T, K extends Comparable<? super K>> Specification<T> after(String path, K value) {
+        return (root, query, cb) -> value == null ? null : cb.greaterThan(path(root, path), value);
+    }
+
+    /** {@code (first, second) > (firstValue, secondValue)} en orden lexicográfico. */
+    static <T, K extends Comparable<? super K>> Specification<T> after(String first, K firstValue,
+                                                                      String second, K secondValue) {
+        return (root, query, cb) -> {
+            if (firstValue == null) {
+                return null;
+            }
+            Path<K> a = path(root, first);
+            Path<K> b = path(root, second);
+            return cb.or(cb.greaterThan(a, firstValue),
+                    cb.and(cb.equal(a, firstValue), cb.greaterThan(b, secondValue)));
+        };
+    }
+
+    static <T> List<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> spec, Sort sort, int limit) {
+        return repository.<T, List<T>>findBy(spec, q -> q.sortBy(sort).limit(Math.max(1, limit)).all());
+    }
+
+    private static <K> Path<K> path(Root<?> root, String dotted) {
+        Path<?> p = root;
+        for (String part : dotted.split("\\.")) {
+            p = p.get(part);
+        }
+        @SuppressWarnings("unchecked")
+        Path<K> typed = (Path<K>) p;
+        return typed;
+    }
+}
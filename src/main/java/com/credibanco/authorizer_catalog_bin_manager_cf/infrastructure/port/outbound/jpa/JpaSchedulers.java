@@ -0,0 +1,118 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcRequestCost;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.CatalogTracing;
+import org.springframework.transaction.reactive.TransactionContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Dónde corren las llamadas JPA bloqueantes de los adaptadores.
+ * Dentro de un {@code TransactionalOperator} se ejecutan en el mismo worker (hilo) que abrió la
+ * transacción JPA: el EntityManager y la conexión ligados a ese hilo se reutilizan y los
+ * {@code TransactionTemplate} de los adaptadores se unen a la transacción exterior en vez de
+ * abrir otra en otro hilo con otra conexión. Fuera de una transacción se usa el modo configurado
+ * ({@link JdbcExecutionMode}): boundedElastic, o un hilo virtual por llamada detrás del bulkhead.
+ * En ambos casos la llamada corre con el costo JDBC de la petición ({@link JdbcRequestCost}) ligado al hilo
+ * y dentro de un span {@code jdbc.call} que arranca al tomar el hilo ({@link CatalogTracing}).
+ */
+public final class JpaSchedulers {
+
+    /** Clave del recurso de transacción reactiva donde JpaConfig publica el worker de la transacción. */
+    public static final Object TRANSACTION_WORKER = JpaSchedulers.class.getName() + ".TRANSACTION_WORKER";
+
+    private static volatile JdbcExecutionMode mode = JdbcExecutionMode.BOUNDED_ELASTIC;
+    private static volatile Scheduler calls = Schedulers.boundedElastic();
+    private static volatile JdbcBulkhead bulkhead;
+
+    private JpaSchedulers() {
+    }
+
+    /** Lo invoca {@link JpaSchedulersInitializer} al iniciar y cerrar el contexto; {@code bulkhead} solo aplica a VIRTUAL_THREADS. */
+    public static synchronized void configure(JdbcExecutionMode newMode, JdbcBulkhead newBulkhead) {
+        Scheduler previous = calls;
+        if (newMode == JdbcExecutionMode.VIRTUAL_THREADS) {
+            calls = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-vt");
+            bulkhead = newBulkhead;
+        } else {
+            calls = Schedulers.boundedElastic();
+            bulkhead = null;
+        }
+        mode = newMode;
+        if (previous != Schedulers.boundedElastic()) {
+            previous.dispose();
+        }
+    }
+
+    public static JdbcExecutionMode mode() {
+        return mode;
+    }
+
+    public static <T> Mono<T> mono(Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            Mono<T> scoped = CatalogTracing.current().onJdbcThread(JdbcRequestCost.scoped(source, ctx), ctx);
+            Scheduler pinned = transactionScheduler(ctx);
+            if (pinned != null) {
+                return scoped.subscribeOn(pinned);
+            }
+            JdbcBulkhead b = bulkhead;
+            Mono<T> guarded = b == null ? scoped : Mono.using(() -> acquire(b), x -> scoped, JdbcBulkhead::release);
+            return guarded.subscribeOn(calls);
+        });
+    }
+
+    public static <T> Flux<T> flux(Flux<T> source) {
+        return Flux.deferContextual(ctx -> {
+            Flux<T> scoped = CatalogTracing.current().onJdbcThread(JdbcRequestCost.scoped(source, ctx), ctx);
+            Scheduler pinned = transactionScheduler(ctx);
+            if (pinned != null) {
+                return scoped.subscribeOn(pinned);
+            }
+            JdbcBulkhead b = bulkhead;
+            Flux<T> guarded = b == null ? scoped : Flux.using(() -> acquire(b), x -> scoped, JdbcBulkhead::release);
+            return guarded.subscribeOn(calls);
+        });
+    }
+
+    /**
+     * Worker para una transacción nueva: en VIRTUAL_THREADS, un único hilo virtual propio (el
+     * JpaTransactionManager liga la transacción al hilo); si no, un worker de boundedElastic.
+     */
+    public static JdbcWorker newTransactionWorker() {
+        if (mode == JdbcExecutionMode.VIRTUAL_THREADS) {
+            Scheduler single = Schedulers.newSingle(Thread.ofVirtual().name("jdbc-tx-vt-", 0).factory());
+            return new JdbcWorker(single.createWorker(), single, bulkhead);
+        }
+        return new JdbcWorker(Schedulers.boundedElastic().createWorker(), null, null);
+    }
+
+    /** Scheduler que encola todo en un único worker, en orden y en su mismo hilo. */
+    public static Scheduler pinnedTo(Scheduler.Worker worker) {
+        return Schedulers.fromExecutor(worker::schedule);
+    }
+
+    private static JdbcBulkhead acquire(JdbcBulkhead b) {
+        b.acquire();
+        return b;
+    }
+
+    private static Scheduler transactionScheduler(ContextView ctx) {
+        return ctx.<TransactionContext>getOrEmpty(TransactionContext.class)
+                .map(tx -> tx.getResources().get(TRANSACTION_WORKER))
+                .filter(TransactionWorker.class::isInstance)
+                .map(w -> ((TransactionWorker) w).scheduler())
+                .orElse(null);
+    }
+
+    /** Worker dueño de una transacción JPA y su vista como Scheduler. */
+    public record TransactionWorker(Scheduler.Worker worker, Scheduler scheduler) {
+        public static TransactionWorker of(Scheduler.Worker worker) {
+            return new TransactionWorker(worker, pinnedTo(worker));
+        }
+    }
+}
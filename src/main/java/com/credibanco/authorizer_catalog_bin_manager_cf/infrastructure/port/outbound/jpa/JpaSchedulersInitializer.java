@@ -0,0 +1,30 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Instala en {@link JpaSchedulers} el modo de ejecución y el bulkhead del contexto, y los retira al cerrarlo
+ * (vuelve a boundedElastic y libera el scheduler de hilos virtuales). Así la fábrica del bulkhead no tiene
+ * efectos laterales y un contexto cerrado no deja su configuración a los siguientes.
+ */
+public class JpaSchedulersInitializer implements InitializingBean, DisposableBean {
+
+    private final JdbcExecutionMode mode;
+    private final JdbcBulkhead bulkhead;
+
+    public JpaSchedulersInitializer(JdbcExecutionMode mode, JdbcBulkhead bulkhead) {
+        this.mode = mode;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        JpaSchedulers.configure(mode, bulkhead);
+    }
+
+    @Override
+    public void destroy() {
+        JpaSchedulers.configure(JdbcExecutionMode.BOUNDED_ELASTIC, null);
+    }
+}
@@ -5,12 +5,16 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanL
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.SubtypeCommercePlanEntity;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.SubtypePlanJpaMapper;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeCommercePlanJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -18,17 +22,43 @@ import java.util.Objects;
 @Repository
 public class JpaSubtypePlanRepository implements SubtypePlanRepository {
 
+    /**
+     * Alta o reasignación en una sola sentencia (Oracle).
+     * Parámetros: subtypeCode, planId, updatedAt, updatedBy, createdAt, updatedAt, updatedBy.
+     * Solo Oracle (DUAL, NEXTVAL): no hay variante H2; la cubre {@code JpaMergeUpsertOracleTest} contra
+     * un Oracle real y {@code catalog.jdbc.merge-upserts=false} deja la ruta JPA portable.
+     */
+    static final String MERGE_SQL = "MERGE INTO SUBTYPE_COMMERCE_PLAN t "
+            + "USING (SELECT CAST(? AS VARCHAR2(64)) AS SUBTYPE_CODE, CAST(? AS NUMBER(19)) AS PLAN_ID FROM DUAL) s "
+            + "ON (t.SUBTYPE_CODE = s.SUBTYPE_CODE) "
+            + "WHEN MATCHED THEN UPDATE SET t.PLAN_ID = s.PLAN_ID, t.UPDATED_AT = ?, t.UPDATED_BY = ? "
+            + "WHEN NOT MATCHED THEN INSERT (SUBTYPE_PLAN_ID, SUBTYPE_CODE, PLAN_ID, CREATED_AT, UPDATED_AT, UPDATED_BY) "
+            + "VALUES (SEQ_SUBTYPE_COMMERCE_PLAN_ID.NEXTVAL, s.SUBTYPE_CODE, s.PLAN_ID, ?, ?, ?)";
+
+    static final String SELECT_SQL = "SELECT SUBTYPE_CODE, PLAN_ID, CREATED_AT, UPDATED_AT, UPDATED_BY "
+            + "FROM SUBTYPE_COMMERCE_PLAN WHERE SUBTYPE_CODE = ?";
+
     private final SubtypeCommercePlanJpaRepository repository;
     private final TransactionTemplate txTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean mergeUpserts;
 
     public JpaSubtypePlanRepository(SubtypeCommercePlanJpaRepository repository,
-                                    PlatformTransactionManager transactionManager) {
+                                    PlatformTransactionManager transactionManager,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${catalog.jdbc.merge-upserts:true}") boolean mergeUpserts) {
         this.repository = repository;
         this.txTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.mergeUpserts = mergeUpserts;
     }
 
     @Override
     public Mono<Integer> upsert(String subtypeCode, Long planId, String updatedBy) {
+        if (mergeUpserts) {
+            return Mono.defer(() -> Mono.fromCallable(() -> merge(subtypeCode, planId, updatedBy)))
+                    .transform(JpaSchedulers::mono);
+        }
         return Mono.defer(() -> Mono.fromCallable(() ->
                 Objects.requireNonNull(txTemplate.execute(status -> {
                     SubtypeCommercePlanEntity entity = repository.findBySubtypeCode(subtypeCode)
@@ -45,7 +75,20 @@ public class JpaSubtypePlanRepository implements SubtypePlanRepository {
                     repository.save(entity);
                     return 1;
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
+    }
+
+    /** Con MERGE: la sentencia de escritura y la lectura de la fila resultante en la misma transacción. */
+    @Override
+    public Mono<SubtypePlanLink> upsertAndGet(String subtypeCode, Long planId, String updatedBy) {
+        if (!mergeUpserts) {
+            return upsert(subtypeCode, planId, updatedBy).then(findBySubtype(subtypeCode));
+        }
+        return Mono.defer(() -> Mono.fromCallable(() -> Objects.requireNonNull(txTemplate.execute(status -> {
+                    merge(subtypeCode, planId, updatedBy);
+                    return jdbcTemplate.queryForObject(SELECT_SQL, JpaSubtypePlanRepository::mapRow, subtypeCode);
+                }))))
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -53,6 +96,29 @@ public class JpaSubtypePlanRepository implements SubtypePlanRepository {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.findBySubtypeCode(subtypeCode)
                         .map(SubtypePlanJpaMapper::toDomain)
                         .orElseThrow(() -> new NoSuchElementException("SUBTYPE plan not found: " + subtypeCode))))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
+    }
+
+    /**
+     * Si dos asignaciones del mismo SUBTYPE llegan a la vez, ambas pueden caer en NOT MATCHED y una
+     * choca con la clave única; al repetirla ya encuentra la fila y la actualiza.
+     */
+    private int merge(String subtypeCode, Long planId, String updatedBy) {
+        OffsetDateTime now = OffsetDateTime.now();
+        Object[] args = {subtypeCode, planId, now, updatedBy, now, now, updatedBy};
+        try {
+            return jdbcTemplate.update(MERGE_SQL, args);
+        } catch (DuplicateKeyException race) {
+            return jdbcTemplate.update(MERGE_SQL, args);
+        }
+    }
+
+    private static SubtypePlanLink mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return SubtypePlanLink.rehydrate(
+                rs.getString("SUBTYPE_CODE"),
+                rs.getLong("PLAN_ID"),
+                JdbcCursor.offsetDateTime(rs, "CREATED_AT"),
+                JdbcCursor.offsetDateTime(rs, "UPDATED_AT"),
+                rs.getString("UPDATED_BY"));
     }
 }
@@ -3,7 +3,6 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.out
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Repository
 public class JpaSubtypeReadOnlyRepository implements
@@ -20,19 +19,19 @@ public class JpaSubtypeReadOnlyRepository implements
     @Override
     public Mono<Boolean> isActive(String subtypeCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByIdSubtypeCodeAndStatus(subtypeCode, "A")))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
     public Mono<Boolean> existsByCode(String subtypeCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByIdSubtypeCode(subtypeCode)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
     public Mono<Boolean> existsByCodeAndBin(String code, String bin) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByIdSubtypeCodeAndIdBin(code, bin)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
 }
@@ -14,11 +14,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.SubtypeReadOnlyRepository;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -37,7 +37,7 @@ public class JpaSubtypeRepository implements SubtypeRepository, SubtypeReadOnlyR
     @Override
     public Mono<Boolean> existsByPk(String bin, String subtypeCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsById(new SubtypeEntityId(subtypeCode, bin))))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -46,19 +46,19 @@ public class JpaSubtypeRepository implements SubtypeRepository, SubtypeReadOnlyR
             return Mono.just(false);
         }
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByIdBinAndBinExt(bin, binExt)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
     public Mono<Boolean> existsBySubtypeCode(String subtypeCode) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByIdSubtypeCode(subtypeCode)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
     public Mono<Boolean> existsAnyByBin(String bin) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByIdBin(bin)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -74,7 +74,7 @@ public class JpaSubtypeRepository implements SubtypeRepository, SubtypeReadOnlyR
                     SubtypeEntity saved = repository.save(toPersist);
                     return SubtypeJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -83,7 +83,21 @@ public class JpaSubtypeRepository implements SubtypeRepository, SubtypeReadOnlyR
                         .map(SubtypeJpaMapper::toDomain)
                         .orElseThrow(() -> new NoSuchElementException(
                                 "SUBTYPE not found: bin=" + bin + " code=" + subtypeCode)))
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).transform(JpaSchedulers::mono);
+    }
+
+    @Override
+    public Flux<Subtype> findAllByPk(Collection<SubtypeRepository.Pk> keys) {
+        return Mono.defer(() -> Mono.fromCallable(() -> {
+                    List<Subtype> out = new ArrayList<>(keys.size());
+                    for (List<SubtypeRepository.Pk> chunk : InLists.chunks(keys)) {
+                        List<SubtypeEntityId> ids = chunk.stream().map(k -> new SubtypeEntityId(k.subtypeCode(), k.bin())).toList();
+                        repository.findAllById(ids).forEach(e -> out.add(SubtypeJpaMapper.toDomain(e)));
+                    }
+                    return out;
+                }))
+                .transform(JpaSchedulers::mono)
+                .flatMapIterable(list -> list);
     }
 
     @Override
@@ -97,7 +111,20 @@ public class JpaSubtypeRepository implements SubtypeRepository, SubtypeReadOnlyR
                             .getContent();
                     return Flux.fromIterable(content).map(SubtypeJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
+    }
+
+    @Override
+    public Flux<Subtype> findAfter(String bin, String code, String status,
+                                   String afterBin, String afterSubtypeCode, int limit) {
+        return Flux.defer(() -> {
+                    Specification<SubtypeEntity> spec = buildSpecification(bin, code, status)
+                            .and(JpaKeyset.after("id.bin", afterBin, "id.subtypeCode", afterSubtypeCode));
+                    List<SubtypeEntity> content = JpaKeyset.fetch(repository, spec,
+                            Sort.by(Sort.Order.asc("id.bin"), Sort.Order.asc("id.subtypeCode")), limit);
+                    return Flux.fromIterable(content).map(SubtypeJpaMapper::toDomain);
+                })
+                .transform(JpaSchedulers::flux);
     }
 
     private Specification<SubtypeEntity> buildSpecification(String bin, String code, String status) {
@@ -8,16 +8,23 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outb
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationJpaRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationMapJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,41 +34,92 @@ import java.util.Objects;
 @Repository
 public class JpaValidationMapRepository implements ValidationMapRepository {
 
+    private static final String NOT_FOUND_MESSAGE = "No existe SUBTYPE(subtypeCode,bin) o la VALIDATION no está activa/vigente";
+
+    /**
+     * Alta o actualización en una sola sentencia (Oracle). El USING
+     * solo produce fila si el SUBTYPE existe y la VALIDATION está activa y vigente: 0 filas afectadas
+     * equivale a las validaciones previas de la ruta JPA.
+     * Parámetros: validationId, subtypeCode, bin, now, now; UPDATE: status, valueFlag, valueNum,
+     * valueText, updatedAt, updatedBy; INSERT: status, valueFlag, valueNum, valueText, createdAt,
+     * updatedAt, updatedBy.
+     * Solo Oracle: no hay variante H2; la cubre {@code JpaMergeUpsertOracleTest} contra un Oracle real y
+     * {@code catalog.jdbc.merge-upserts=false} deja la ruta JPA portable.
+     */
+    static final String MERGE_SQL = "MERGE INTO SUBTYPE_VALIDATION_MAP t "
+            + "USING (SELECT s.SUBTYPE_CODE, s.BIN, v.VALIDATION_ID FROM SUBTYPE s "
+            + "JOIN SUBTYPE_VALIDATION v ON v.VALIDATION_ID = ? "
+            + "WHERE s.SUBTYPE_CODE = ? AND s.BIN = ? AND v.STATUS = 'A' "
+            + "AND v.VALID_FROM <= ? AND (v.VALID_TO IS NULL OR v.VALID_TO >= ?)) src "
+            + "ON (t.SUBTYPE_CODE = src.SUBTYPE_CODE AND t.BIN = src.BIN AND t.VALIDATION_ID = src.VALIDATION_ID) "
+            + "WHEN MATCHED THEN UPDATE SET t.STATUS = ?, t.VALUE_FLAG = ?, t.VALUE_NUM = ?, t.VALUE_TEXT = ?, "
+            + "t.UPDATED_AT = ?, t.UPDATED_BY = ? "
+            + "WHEN NOT MATCHED THEN INSERT (SUBTYPE_VAL_MAP_ID, SUBTYPE_CODE, BIN, VALIDATION_ID, STATUS, VALUE_FLAG, "
+            + "VALUE_NUM, VALUE_TEXT, CREATED_AT, UPDATED_AT, UPDATED_BY) "
+            + "VALUES (SEQ_SUBTYPE_VAL_MAP_ID.NEXTVAL, src.SUBTYPE_CODE, src.BIN, src.VALIDATION_ID, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String SELECT_BY_KEY_SQL = "SELECT m.SUBTYPE_VAL_MAP_ID, m.SUBTYPE_CODE, m.BIN, m.VALIDATION_ID, "
+            + "m.STATUS, m.VALUE_FLAG, m.VALUE_NUM, m.VALUE_TEXT, m.CREATED_AT, m.UPDATED_AT, m.UPDATED_BY "
+            + "FROM SUBTYPE_VALIDATION_MAP m WHERE m.SUBTYPE_CODE = ? AND m.BIN = ? AND m.VALIDATION_ID = ?";
+
     private final ValidationMapJpaRepository repository;
     private final SubtypeJpaRepository subtypeRepository;
     private final ValidationJpaRepository validationRepository;
     private final TransactionTemplate txTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcStreamLimits streams;
+    private final boolean mergeUpserts;
 
     public JpaValidationMapRepository(ValidationMapJpaRepository repository,
                                       SubtypeJpaRepository subtypeRepository,
                                       ValidationJpaRepository validationRepository,
-                                      PlatformTransactionManager transactionManager) {
+                                      PlatformTransactionManager transactionManager,
+                                      JdbcTemplate jdbcTemplate,
+                                      JdbcStreamLimits streams,
+                                      @Value("${catalog.jdbc.merge-upserts:true}") boolean mergeUpserts) {
         this.repository = repository;
         this.subtypeRepository = subtypeRepository;
         this.validationRepository = validationRepository;
         this.txTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.streams = streams;
+        this.mergeUpserts = mergeUpserts;
     }
 
     @Override
     public Mono<Boolean> existsActive(String subtypeCode, String bin, Long validationId) {
         return Mono.defer(() -> Mono.fromCallable(() ->
                         repository.existsBySubtypeCodeAndBinAndValidationIdAndStatus(subtypeCode, bin, validationId, "A")))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
     public Mono<ValidationMap> save(ValidationMap map) {
+        if (mergeUpserts) {
+            return Mono.defer(() -> Mono.fromCallable(() -> Objects.requireNonNull(txTemplate.execute(status -> {
+                        if (merge(map) == 0) {
+                            throw new NoSuchElementException(NOT_FOUND_MESSAGE);
+                        }
+                        try {
+                            return jdbcTemplate.queryForObject(SELECT_BY_KEY_SQL, JpaValidationMapRepository::mapRow,
+                                    map.subtypeCode(), map.bin(), map.validationId());
+                        } catch (EmptyResultDataAccessException ex) {
+                            throw new NoSuchElementException(NOT_FOUND_MESSAGE);
+                        }
+                    }))))
+                    .transform(JpaSchedulers::mono);
+        }
         return Mono.defer(() -> Mono.fromCallable(() ->
                 Objects.requireNonNull(txTemplate.execute(status -> {
                     var id = new SubtypeEntityId(map.subtypeCode(), map.bin());
                     if (!subtypeRepository.existsById(id)) {
-                        throw new NoSuchElementException("No existe SUBTYPE(subtypeCode,bin) o la VALIDATION no está activa/vigente");
+                        throw new NoSuchElementException(NOT_FOUND_MESSAGE);
                     }
                     boolean validationActive = validationRepository
                             .findActiveById(map.validationId(), OffsetDateTime.now())
                             .isPresent();
                     if (!validationActive) {
-                        throw new NoSuchElementException("No existe SUBTYPE(subtypeCode,bin) o la VALIDATION no está activa/vigente");
+                        throw new NoSuchElementException(NOT_FOUND_MESSAGE);
                     }
                     ValidationMapEntity entity = repository
                             .findBySubtypeCodeAndBinAndValidationId(map.subtypeCode(), map.bin(), map.validationId())
@@ -83,7 +141,7 @@ public class JpaValidationMapRepository implements ValidationMapRepository {
                     ValidationMapEntity saved = repository.save(entity);
                     return ValidationMapJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -94,7 +152,7 @@ public class JpaValidationMapRepository implements ValidationMapRepository {
                                 .map(ValidationMapJpaMapper::toDomain)
                                 .map(Mono::just)
                                 .orElseGet(Mono::empty)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -109,7 +167,7 @@ public class JpaValidationMapRepository implements ValidationMapRepository {
                             .getContent();
                     return Flux.fromIterable(content).map(ValidationMapJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
     }
 
     @Override
@@ -122,7 +180,89 @@ public class JpaValidationMapRepository implements ValidationMapRepository {
                                     Sort.Order.asc("bin"), Sort.Order.asc("validationId"))));
                     return Flux.fromIterable(content).map(ValidationMapJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
+    }
+
+    /** Mismo filtro y orden que {@link #findResolved}, leído por cursor JDBC. */
+    @Override
+    public Flux<ValidationMap> streamResolved(String subtypeCode, String bin, String status) {
+        return Flux.defer(() -> {
+                    StringBuilder sql = new StringBuilder("SELECT m.SUBTYPE_VAL_MAP_ID, m.SUBTYPE_CODE, m.BIN, m.VALIDATION_ID, "
+                            + "m.STATUS, m.VALUE_FLAG, m.VALUE_NUM, m.VALUE_TEXT, m.CREATED_AT, m.UPDATED_AT, m.UPDATED_BY "
+                            + "FROM SUBTYPE_VALIDATION_MAP m JOIN SUBTYPE_VALIDATION v ON v.VALIDATION_ID = m.VALIDATION_ID "
+                            + "WHERE m.SUBTYPE_CODE = ?");
+                    List<Object> args = new ArrayList<>(List.of(subtypeCode));
+                    if (bin != null) {
+                        sql.append(" AND m.BIN = ?");
+                        args.add(bin);
+                    }
+                    if (status != null) {
+                        sql.append(" AND m.STATUS = ?");
+                        args.add(status);
+                    }
+                    sql.append(" ORDER BY m.SUBTYPE_CODE, m.BIN, m.VALIDATION_ID");
+                    return JdbcCursor.stream(jdbcTemplate, streams, sql.toString(),
+                            JpaValidationMapRepository::mapRow, args.toArray());
+                })
+                .transform(JpaSchedulers::flux);
+    }
+
+    /** Devuelve las filas afectadas (0 si el SUBTYPE o la VALIDATION no califican); reintenta una vez ante carrera de altas. */
+    private int merge(ValidationMap map) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime createdAt = map.createdAt() != null ? map.createdAt() : now;
+        OffsetDateTime updatedAt = map.updatedAt() != null ? map.updatedAt() : now;
+        try {
+            return jdbcTemplate.update(MERGE_SQL, ps -> bindMerge(ps, map, now, createdAt, updatedAt));
+        } catch (DuplicateKeyException race) {
+            return jdbcTemplate.update(MERGE_SQL, ps -> bindMerge(ps, map, now, createdAt, updatedAt));
+        }
+    }
+
+    private static void bindMerge(PreparedStatement ps, ValidationMap map, OffsetDateTime now,
+                                  OffsetDateTime createdAt, OffsetDateTime updatedAt) throws SQLException {
+        int i = 1;
+        ps.setLong(i++, map.validationId());
+        ps.setString(i++, map.subtypeCode());
+        ps.setString(i++, map.bin());
+        ps.setObject(i++, now);
+        ps.setObject(i++, now);
+        i = bindValues(ps, i, map);
+        ps.setObject(i++, updatedAt);
+        ps.setString(i++, map.updatedBy());
+        i = bindValues(ps, i, map);
+        ps.setObject(i++, createdAt);
+        ps.setObject(i++, updatedAt);
+        ps.setString(i, map.updatedBy());
+    }
+
+    private static int bindValues(PreparedStatement ps, int i, ValidationMap map) throws SQLException {
+        ps.setString(i++, map.status());
+        ps.setString(i++, map.valueFlag());
+        if (map.valueNum() == null) {
+            ps.setNull(i++, Types.DOUBLE);
+        } else {
+            ps.setDouble(i++, map.valueNum());
+        }
+        ps.setString(i++, map.valueText());
+        return i;
+    }
+
+    private static ValidationMap mapRow(ResultSet rs, int rowNum) throws SQLException {
+        double num = rs.getDouble("VALUE_NUM");
+        Double valueNum = rs.wasNull() ? null : num;
+        return new ValidationMap(
+                rs.getLong("SUBTYPE_VAL_MAP_ID"),
+                rs.getString("SUBTYPE_CODE"),
+                rs.getString("BIN"),
+                rs.getLong("VALIDATION_ID"),
+                rs.getString("STATUS"),
+                rs.getString("VALUE_FLAG"),
+                valueNum,
+                rs.getString("VALUE_TEXT"),
+                JdbcCursor.offsetDateTime(rs, "CREATED_AT"),
+                JdbcCursor.offsetDateTime(rs, "UPDATED_AT"),
+                rs.getString("UPDATED_BY"));
     }
 
     private Specification<ValidationMapEntity> buildSpecification(String subtypeCode, String bin, String status) {
@@ -13,7 +13,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -37,7 +36,7 @@ public class JpaValidationRepository implements ValidationRepository {
     @Override
     public Mono<Boolean> existsByCode(String code) {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.existsByCode(code)))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -63,7 +62,7 @@ public class JpaValidationRepository implements ValidationRepository {
                     ValidationEntity saved = repository.save(entity);
                     return ValidationJpaMapper.toDomain(saved);
                 }))
-        )).subscribeOn(Schedulers.boundedElastic());
+        )).transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -71,7 +70,7 @@ public class JpaValidationRepository implements ValidationRepository {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.findByCode(code)
                         .map(ValidationJpaMapper::toDomain)
                         .orElseThrow(() -> new NoSuchElementException("VALIDATION not found: " + code))))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -79,7 +78,7 @@ public class JpaValidationRepository implements ValidationRepository {
         return Mono.defer(() -> Mono.fromCallable(() -> repository.findById(id)
                         .map(ValidationJpaMapper::toDomain)
                         .orElseThrow(() -> new NoSuchElementException("VALIDATION not found: " + id))))
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::mono);
     }
 
     @Override
@@ -93,7 +92,19 @@ public class JpaValidationRepository implements ValidationRepository {
                             .getContent();
                     return Flux.fromIterable(content).map(ValidationJpaMapper::toDomain);
                 })
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(JpaSchedulers::flux);
+    }
+
+    @Override
+    public Flux<Validation> findAfter(String status, String search, String afterCode, int limit) {
+        return Flux.defer(() -> {
+                    Specification<ValidationEntity> spec = buildSpecification(status, search)
+                            .and(JpaKeyset.after("code", afterCode));
+                    List<ValidationEntity> content = JpaKeyset.fetch(repository, spec,
+                            Sort.by(Sort.Order.asc("code")), limit);
+                    return Flux.fromIterable(content).map(ValidationJpaMapper::toDomain);
+                })
+                .transform(JpaSchedulers::flux);
     }
 
     private Specification<ValidationEntity> buildSpecification(String status, String search) {
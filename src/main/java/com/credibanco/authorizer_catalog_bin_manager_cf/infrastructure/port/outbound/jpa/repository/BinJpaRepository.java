@@ -1,7 +1,18 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository;
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.BinEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface BinJpaRepository extends JpaRepository<BinEntity, String> {
+
+    List<BinEntity> findAllByOrderByBinAsc(Limit limit);
+
+    List<BinEntity> findByBinGreaterThanOrderByBinAsc(String bin, Limit limit);
+
+    @Query("SELECT b.bin FROM BinEntity b")
+    List<String> findAllBins();
 }
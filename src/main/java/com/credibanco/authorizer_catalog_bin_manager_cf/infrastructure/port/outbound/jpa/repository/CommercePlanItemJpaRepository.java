@@ -23,4 +23,13 @@ public interface CommercePlanItemJpaRepository extends JpaRepository<CommercePla
     List<String> findExistingValues(@Param("planId") Long planId, @Param("values") List<String> values);
 
     boolean existsByPlanIdAndStatus(Long planId, String status);
+
+    /** Filas (planId, valor) de los ítems activos; solo columnas escalares, sin entidades gestionadas. */
+    @Query("SELECT i.planId, CASE WHEN i.mcc IS NOT NULL THEN i.mcc ELSE i.merchantId END " +
+            "FROM CommercePlanItemEntity i WHERE i.status = 'A'")
+    List<Object[]> findActiveValues();
+
+    @Query("SELECT CASE WHEN i.mcc IS NOT NULL THEN i.mcc ELSE i.merchantId END " +
+            "FROM CommercePlanItemEntity i WHERE i.planId = :planId AND i.status = 'A'")
+    List<String> findActiveValuesByPlanId(@Param("planId") Long planId);
 }
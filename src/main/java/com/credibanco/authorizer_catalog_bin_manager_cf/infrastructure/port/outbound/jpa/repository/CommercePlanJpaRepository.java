@@ -3,7 +3,9 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.out
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.CommercePlanEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommercePlanJpaRepository extends JpaRepository<CommercePlanEntity, Long>,
@@ -12,4 +14,7 @@ public interface CommercePlanJpaRepository extends JpaRepository<CommercePlanEnt
     boolean existsByPlanCode(String code);
 
     Optional<CommercePlanEntity> findByPlanCode(String code);
+
+    @Query("SELECT p.planCode FROM CommercePlanEntity p")
+    List<String> findAllPlanCodes();
 }
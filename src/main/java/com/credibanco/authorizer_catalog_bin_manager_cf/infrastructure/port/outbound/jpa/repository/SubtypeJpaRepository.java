@@ -4,6 +4,9 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outb
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.SubtypeEntityId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface SubtypeJpaRepository extends JpaRepository<SubtypeEntity, SubtypeEntityId>,
         JpaSpecificationExecutor<SubtypeEntity> {
@@ -18,4 +21,7 @@ public interface SubtypeJpaRepository extends JpaRepository<SubtypeEntity, Subty
 
     boolean existsByIdBin(String bin);
 
+    @Query("SELECT DISTINCT s.id.subtypeCode FROM SubtypeEntity s")
+    List<String> findAllSubtypeCodes();
+
 }
@@ -0,0 +1,62 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code findByPk} de AGENCY agrupado entre requests concurrentes por (subtypeCode, agencyCode).
+ * Si la clave no existe falla igual que el adaptador JPA, con NoSuchElementException.
+ */
+public class CoalescingAgencyRepository implements AgencyRepository {
+
+    private final AgencyRepository delegate;
+    private final CoalescingLoader<Pk, Agency> loader;
+
+    public CoalescingAgencyRepository(AgencyRepository delegate, CoalescingLoaders loaders) {
+        this.delegate = delegate;
+        this.loader = loaders.create("agency", keys -> delegate.findAllByPk(keys).collectMap(Pk::of));
+    }
+
+    @Override
+    public Mono<Boolean> existsByPk(String subtypeCode, String agencyCode) {
+        return delegate.existsByPk(subtypeCode, agencyCode);
+    }
+
+    @Override
+    public Mono<Agency> save(Agency aggregate) {
+        return delegate.save(aggregate);
+    }
+
+    @Override
+    public Mono<Agency> findByPk(String subtypeCode, String agencyCode) {
+        return loader.load(new Pk(subtypeCode, agencyCode))
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException(
+                        "AGENCY not found: subtype=" + subtypeCode + " agency=" + agencyCode)));
+    }
+
+    @Override
+    public Flux<Agency> findAllByPk(Collection<Pk> keys) {
+        return delegate.findAllByPk(keys);
+    }
+
+    @Override
+    public Flux<Agency> findAll(String subtypeCode, String status, String search, int page, int size) {
+        return delegate.findAll(subtypeCode, status, search, page, size);
+    }
+
+    @Override
+    public Flux<Agency> findAfter(String subtypeCode, String status, String search,
+                                  String afterSubtypeCode, String afterAgencyCode, int limit) {
+        return delegate.findAfter(subtypeCode, status, search, afterSubtypeCode, afterAgencyCode, limit);
+    }
+
+    @Override
+    public Mono<Boolean> existsAnotherActive(String subtypeCode, String excludeAgencyCode) {
+        return delegate.existsAnotherActive(subtypeCode, excludeAgencyCode);
+    }
+}
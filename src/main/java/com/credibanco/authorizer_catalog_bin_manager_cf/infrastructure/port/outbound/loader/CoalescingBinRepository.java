@@ -0,0 +1,53 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * {@code findById} de BIN agrupado entre requests concurrentes: una consulta IN por ventana
+ * en vez de una por request. Escrituras y listados se delegan tal cual.
+ */
+public class CoalescingBinRepository implements BinRepository {
+
+    private final BinRepository delegate;
+    private final CoalescingLoader<String, Bin> loader;
+
+    public CoalescingBinRepository(BinRepository delegate, CoalescingLoaders loaders) {
+        this.delegate = delegate;
+        this.loader = loaders.create("bin", keys -> delegate.findAllById(keys).collectMap(Bin::bin));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String bin) {
+        return delegate.existsById(bin);
+    }
+
+    @Override
+    public Mono<Bin> save(Bin bin) {
+        return delegate.save(bin);
+    }
+
+    @Override
+    public Mono<Bin> findById(String bin) {
+        return loader.load(bin);
+    }
+
+    @Override
+    public Flux<Bin> findAllById(Collection<String> bins) {
+        return delegate.findAllById(bins);
+    }
+
+    @Override
+    public Flux<Bin> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public Flux<Bin> findAfter(String afterBin, int limit) {
+        return delegate.findAfter(afterBin, limit);
+    }
+}
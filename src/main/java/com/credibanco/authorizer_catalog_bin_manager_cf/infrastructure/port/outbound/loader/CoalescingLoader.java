@@ -0,0 +1,175 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Agrupa lecturas puntuales concurrentes (de requests distintos) en una sola consulta por lote,
+ * al estilo DataLoader. Las claves pedidas dentro de {@code window} desde la primera, o hasta
+ * juntar {@code maxBatch} claves distintas, se resuelven con una única llamada a {@code batch};
+ * cada suscriptor recibe el valor de su clave, o vacío si el lote no la trae. Una clave repetida
+ * en la misma ventana se consulta una vez. Con {@code window} = 0 no se agrupa: cada lectura sale sola.
+ * El lote corre con el contexto de Reactor de la primera lectura del lote: el costo JDBC, el Server-Timing y
+ * la traza de ese request cubren la consulta compartida; los demás solo esperan el resultado.
+ * Usar solo en lecturas que no van dentro de una transacción.
+ */
+@Slf4j
+public class CoalescingLoader<K, V> implements MeterBinder {
+
+    /** Tope de claves por lote: el máximo de elementos de un IN en Oracle. */
+    public static final int MAX_BATCH_LIMIT = 1000;
+
+    private final String name;
+    private final Duration window;
+    private final int maxBatch;
+    private final Scheduler timer;
+    private final Function<Set<K>, Mono<Map<K, V>>> batch;
+
+    private Map<K, List<MonoSink<V>>> pending = new LinkedHashMap<>(); // protegido por this
+    private long generation;                                            // protegido por this
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile DistributionSummary batchSizes;
+
+    public CoalescingLoader(String name, Duration window, int maxBatch, Scheduler timer,
+                            Function<Set<K>, Mono<Map<K, V>>> batch) {
+        if (window.isNegative() || maxBatch <= 0 || maxBatch > MAX_BATCH_LIMIT) {
+            throw new IllegalArgumentException("window debe ser >= 0 y maxBatch entre 1 y " + MAX_BATCH_LIMIT);
+        }
+        this.name = name;
+        this.window = window;
+        this.maxBatch = maxBatch;
+        this.timer = timer;
+        this.batch = batch;
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.create(sink -> enqueue(key, sink));
+    }
+
+    private void enqueue(K key, MonoSink<V> sink) {
+        requests.increment();
+        Map<K, List<MonoSink<V>>> ready = null;
+        long opened = -1;
+        synchronized (this) {
+            boolean first = pending.isEmpty();
+            pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(sink);
+            if (pending.size() >= maxBatch || window.isZero()) {
+                ready = swap();
+            } else if (first) {
+                opened = generation;
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        } else if (opened >= 0) {
+            long gen = opened;
+            timer.schedule(() -> flush(gen), window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Vence la ventana del lote {@code gen}; si ya salió por tamaño no hace nada. */
+    private void flush(long gen) {
+        Map<K, List<MonoSink<V>>> ready;
+        synchronized (this) {
+            if (gen != generation || pending.isEmpty()) {
+                return;
+            }
+            ready = swap();
+        }
+        dispatch(ready);
+    }
+
+    private Map<K, List<MonoSink<V>>> swap() {
+        Map<K, List<MonoSink<V>>> ready = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        return ready;
+    }
+
+    private void dispatch(Map<K, List<MonoSink<V>>> ready) {
+        long t0 = System.nanoTime();
+        batches.increment();
+        DistributionSummary sizes = batchSizes;
+        if (sizes != null) {
+            sizes.record(ready.size());
+        }
+        Set<K> keys = Collections.unmodifiableSet(ready.keySet());
+        ContextView first = ready.values().iterator().next().get(0).contextView();
+        Mono.defer(() -> batch.apply(keys))
+                .defaultIfEmpty(Map.of())
+                .contextWrite(first)
+                .subscribe(found -> {
+                    log.debug("LOADER:batch name={} keys={} found={} elapsedMs={}",
+                            name, keys.size(), found.size(), (System.nanoTime() - t0) / 1_000_000);
+                    ready.forEach((key, sinks) -> {
+                        V value = found.get(key);
+                        for (MonoSink<V> sink : sinks) {
+                            if (value == null) {
+                                sink.success();
+                            } else {
+                                sink.success(value);
+                            }
+                        }
+                    });
+                }, error -> {
+                    failures.increment();
+                    log.warn("LOADER:batch-failed name={} keys={} reason={}", name, keys.size(), error.toString());
+                    ready.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error)));
+                });
+    }
+
+    public String name() { return name; }
+
+    public Duration window() { return window; }
+
+    public int maxBatch() { return maxBatch; }
+
+    public synchronized int pendingKeys() { return pending.size(); }
+
+    public long requestCount() { return requests.sum(); }
+
+    public long batchCount() { return batches.sum(); }
+
+    public long failureCount() { return failures.sum(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.loader.window", this, l -> l.window.toNanos() / 1_000_000.0)
+                .tag("loader", name).baseUnit("milliseconds")
+                .description("Ventana de agrupación de lecturas").register(registry);
+        Gauge.builder("catalog.loader.max.batch", this, CoalescingLoader::maxBatch)
+                .tag("loader", name).description("Claves máximas por lote").register(registry);
+        Gauge.builder("catalog.loader.pending", this, CoalescingLoader::pendingKeys)
+                .tag("loader", name).description("Claves esperando que salga el lote").register(registry);
+        FunctionCounter.builder("catalog.loader.requests", this, CoalescingLoader::requestCount)
+                .tag("loader", name).description("Lecturas puntuales recibidas").register(registry);
+        FunctionCounter.builder("catalog.loader.batches", this, CoalescingLoader::batchCount)
+                .tag("loader", name).description("Consultas por lote ejecutadas").register(registry);
+        FunctionCounter.builder("catalog.loader.failures", this, CoalescingLoader::failureCount)
+                .tag("loader", name).description("Lotes que terminaron en error").register(registry);
+        batchSizes = DistributionSummary.builder("catalog.loader.batch.size")
+                .tag("loader", name).description("Claves distintas por lote").register(registry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Crea los {@link CoalescingLoader} con la ventana y el tamaño de lote del despliegue y les
+ * registra las métricas (etiqueta {@code loader}) si hay registro.
+ */
+public class CoalescingLoaders {
+
+    private final Duration window;
+    private final int maxBatch;
+    private final Scheduler timer;
+    private final MeterRegistry registry;
+
+    public CoalescingLoaders(Duration window, int maxBatch, Scheduler timer, MeterRegistry registry) {
+        this.window = window;
+        this.maxBatch = maxBatch;
+        this.timer = timer;
+        this.registry = registry;
+    }
+
+    public <K, V> CoalescingLoader<K, V> create(String name, Function<Set<K>, Mono<Map<K, V>>> batch) {
+        CoalescingLoader<K, V> loader = new CoalescingLoader<>(name, window, maxBatch, timer, batch);
+        if (registry != null) {
+            loader.bindTo(registry);
+        }
+        return loader;
+    }
+
+    public Duration window() { return window; }
+
+    public int maxBatch() { return maxBatch; }
+}
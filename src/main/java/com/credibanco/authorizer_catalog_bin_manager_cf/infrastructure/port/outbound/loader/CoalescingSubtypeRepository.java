@@ -0,0 +1,67 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code findByPk} de SUBTYPE agrupado entre requests concurrentes por (bin, subtypeCode).
+ * Si la clave no existe falla igual que el adaptador JPA, con NoSuchElementException.
+ */
+public class CoalescingSubtypeRepository implements SubtypeRepository {
+
+    private final SubtypeRepository delegate;
+    private final CoalescingLoader<Pk, Subtype> loader;
+
+    public CoalescingSubtypeRepository(SubtypeRepository delegate, CoalescingLoaders loaders) {
+        this.delegate = delegate;
+        this.loader = loaders.create("subtype", keys -> delegate.findAllByPk(keys).collectMap(Pk::of));
+    }
+
+    @Override
+    public Mono<Boolean> existsByPk(String bin, String subtypeCode) {
+        return delegate.existsByPk(bin, subtypeCode);
+    }
+
+    @Override
+    public Mono<Boolean> existsByBinAndExt(String bin, String binExt) {
+        return delegate.existsByBinAndExt(bin, binExt);
+    }
+
+    @Override
+    public Mono<Subtype> save(Subtype entity) {
+        return delegate.save(entity);
+    }
+
+    @Override
+    public Mono<Subtype> findByPk(String bin, String subtypeCode) {
+        return loader.load(new Pk(bin, subtypeCode))
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException(
+                        "SUBTYPE not found: bin=" + bin + " code=" + subtypeCode)));
+    }
+
+    @Override
+    public Flux<Subtype> findAllByPk(Collection<Pk> keys) {
+        return delegate.findAllByPk(keys);
+    }
+
+    @Override
+    public Flux<Subtype> findAll(String binFilter, String codeFilter, String statusFilter, int page, int size) {
+        return delegate.findAll(binFilter, codeFilter, statusFilter, page, size);
+    }
+
+    @Override
+    public Flux<Subtype> findAfter(String binFilter, String codeFilter, String statusFilter,
+                                   String afterBin, String afterSubtypeCode, int limit) {
+        return delegate.findAfter(binFilter, codeFilter, statusFilter, afterBin, afterSubtypeCode, limit);
+    }
+
+    @Override
+    public Mono<Boolean> existsBySubtypeCode(String subtypeCode) {
+        return delegate.existsBySubtypeCode(subtypeCode);
+    }
+}
@@ -0,0 +1,212 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.event.CatalogChangeListener;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.BinJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtros de Bloom sobre BIN, código de SUBTYPE y código de plan. Se cargan al arrancar solo
+ * con las claves (una columna por tabla, mucho más liviano que la foto completa) y reciben las
+ * altas por el bus de cambios. Cada filtro se dimensiona para {@code headroom} veces las claves
+ * cargadas; si crece por encima, la tasa esperada de falsos positivos sube y se ve en las métricas
+ * hasta la próxima recarga.
+ * <p>
+ * Se recarga cada {@code catalog.key-filter.refresh-interval} (solo las columnas de clave), más seguido
+ * que la foto completa: así las altas hechas en otras réplicas dejan de descartarse en ese plazo.
+ */
+@Slf4j
+@Component
+public class InMemoryCatalogKeyFilter implements CatalogKeyFilter, CatalogChangeListener, MeterBinder {
+
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final BinJpaRepository binRepository;
+    private final SubtypeJpaRepository subtypeRepository;
+    private final CommercePlanJpaRepository planRepository;
+    private final double fpp;
+    private final double headroom;
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("catalog-key-filter").daemon().factory());
+
+    private final Map<KeySpace, Stats> stats = new EnumMap<>(KeySpace.class);
+    private volatile Map<KeySpace, KeyBloomFilter> filters;
+
+    public InMemoryCatalogKeyFilter(BinJpaRepository binRepository,
+                                    SubtypeJpaRepository subtypeRepository,
+                                    CommercePlanJpaRepository planRepository,
+                                    @Value("${catalog.key-filter.fpp:0.01}") double fpp,
+                                    @Value("${catalog.key-filter.headroom:2.0}") double headroom,
+                                    @Value("${catalog.key-filter.refresh-interval:PT30S}") Duration refreshInterval,
+                                    ObjectProvider<MeterRegistry> registry) {
+        this.binRepository = binRepository;
+        this.subtypeRepository = subtypeRepository;
+        this.planRepository = planRepository;
+        this.fpp = fpp;
+        this.headroom = Math.max(1.0, headroom);
+        this.refreshInterval = refreshInterval;
+        for (KeySpace space : KeySpace.values()) {
+            stats.put(space, new Stats());
+        }
+        registry.ifAvailable(this::bindTo);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.error("CATALOG:key-filter:load-failed; las consultas de existencia irán a base de datos", ex);
+        }
+        if (!refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            long millis = refreshInterval.toMillis();
+            refresher.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("CATALOG:key-filter:refresh-failed reason={}", ex.getMessage());
+        }
+    }
+
+    public synchronized void reload() {
+        long t0 = System.nanoTime();
+        Map<KeySpace, KeyBloomFilter> fresh = new EnumMap<>(KeySpace.class);
+        fresh.put(KeySpace.BIN, build(binRepository.findAllBins()));
+        fresh.put(KeySpace.SUBTYPE_CODE, build(subtypeRepository.findAllSubtypeCodes()));
+        fresh.put(KeySpace.PLAN_CODE, build(planRepository.findAllPlanCodes()));
+        filters = fresh;
+        log.info("CATALOG:key-filter:loaded bins={} subtypeCodes={} planCodes={} bytes={} elapsedMs={}",
+                fresh.get(KeySpace.BIN).approximateKeys(), fresh.get(KeySpace.SUBTYPE_CODE).approximateKeys(),
+                fresh.get(KeySpace.PLAN_CODE).approximateKeys(),
+                fresh.values().stream().mapToLong(KeyBloomFilter::sizeInBytes).sum(),
+                (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    private KeyBloomFilter build(List<String> keys) {
+        return KeyBloomFilter.of(keys, Math.max(MIN_CAPACITY, (long) (keys.size() * headroom)), fpp);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return filters != null;
+    }
+
+    @Override
+    public boolean mightContain(KeySpace space, String key) {
+        Map<KeySpace, KeyBloomFilter> current = filters;
+        if (current == null) {
+            return true;
+        }
+        boolean maybe = current.get(space).mightContain(key);
+        Stats s = stats.get(space);
+        (maybe ? s.maybe : s.absent).increment();
+        return maybe;
+    }
+
+    @Override
+    public void recordFalsePositive(KeySpace space) {
+        stats.get(space).falsePositives.increment();
+    }
+
+    /** Solo importan las altas: una clave nunca desaparece del catálogo. */
+    @Override
+    public synchronized void onChange(CatalogChange change) {
+        Map<KeySpace, KeyBloomFilter> current = filters;
+        if (current == null) {
+            return; // la carga inicial leerá el estado ya confirmado
+        }
+        switch (change.entity()) {
+            case BIN -> current.get(KeySpace.BIN).put(change.payload(Bin.class).bin());
+            case SUBTYPE -> current.get(KeySpace.SUBTYPE_CODE).put(change.payload(Subtype.class).subtypeCode());
+            case PLAN -> current.get(KeySpace.PLAN_CODE).put(change.payload(CommercePlan.class).code());
+            default -> {
+            }
+        }
+    }
+
+    /** Falsos positivos observados sobre las respuestas "puede existir" confirmadas contra la fuente. */
+    double observedFpp(KeySpace space) {
+        Stats s = stats.get(space);
+        long maybe = s.maybe.sum();
+        return maybe == 0 ? 0.0 : (double) s.falsePositives.sum() / maybe;
+    }
+
+    private double expectedFpp(KeySpace space) {
+        Map<KeySpace, KeyBloomFilter> current = filters;
+        return current == null ? 0.0 : current.get(space).expectedFpp();
+    }
+
+    private long bytes(KeySpace space) {
+        Map<KeySpace, KeyBloomFilter> current = filters;
+        return current == null ? 0 : current.get(space).sizeInBytes();
+    }
+
+    private long keys(KeySpace space) {
+        Map<KeySpace, KeyBloomFilter> current = filters;
+        return current == null ? 0 : current.get(space).approximateKeys();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (KeySpace space : KeySpace.values()) {
+            String tag = space.name().toLowerCase();
+            Stats s = stats.get(space);
+            Gauge.builder("catalog.key.filter.memory", this, f -> f.bytes(space))
+                    .tag("filter", tag).baseUnit("bytes").description("Memoria del filtro de Bloom").register(registry);
+            Gauge.builder("catalog.key.filter.keys", this, f -> f.keys(space))
+                    .tag("filter", tag).description("Claves cargadas en el filtro").register(registry);
+            Gauge.builder("catalog.key.filter.fpp.expected", this, f -> f.expectedFpp(space))
+                    .tag("filter", tag).description("Tasa de falsos positivos esperada con la carga actual")
+                    .register(registry);
+            Gauge.builder("catalog.key.filter.fpp.observed", this, f -> f.observedFpp(space))
+                    .tag("filter", tag).description("Falsos positivos confirmados / respuestas 'puede existir'")
+                    .register(registry);
+            FunctionCounter.builder("catalog.key.filter.checks", s.absent, LongAdder::sum)
+                    .tag("filter", tag).tag("result", "absent")
+                    .description("Consultas resueltas como inexistentes sin ir a la fuente").register(registry);
+            FunctionCounter.builder("catalog.key.filter.checks", s.maybe, LongAdder::sum)
+                    .tag("filter", tag).tag("result", "maybe").register(registry);
+        }
+    }
+
+    private static final class Stats {
+        final LongAdder absent = new LongAdder();
+        final LongAdder maybe = new LongAdder();
+        final LongAdder falsePositives = new LongAdder();
+    }
+}
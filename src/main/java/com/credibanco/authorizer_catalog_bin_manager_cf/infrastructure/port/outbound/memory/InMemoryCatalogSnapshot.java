@@ -0,0 +1,235 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemMembership;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsBulkResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.event.CatalogChangeListener;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.AgencyJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.BinJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.CommercePlanJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.SubtypeJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.SubtypePlanJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.ValidationJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.ValidationMapJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.AgencyJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.BinJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanItemJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeCommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationMapJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Foto del catálogo en memoria. Las lecturas toman la referencia vigente (volatile) sin lock;
+ * cada cambio confirmado produce una foto nueva que se publica de una sola vez.
+ * <p>
+ * Los cambios se aplican en un hilo propio ({@code catalog-snapshot}), en el orden en que se publican,
+ * para que las relecturas a base de datos (cambio de modo de un plan, carga masiva de items) no bloqueen
+ * el hilo de la escritura. Modelo de consistencia: un cambio hecho en esta instancia se ve en cuanto el hilo
+ * lo aplica; los cambios hechos en otras réplicas solo llegan con la recarga completa periódica
+ * ({@code catalog.snapshot.refresh-interval}), que es la cota de desactualización entre réplicas.
+ */
+@Slf4j
+@Component
+public class InMemoryCatalogSnapshot implements CatalogSnapshotProvider, CatalogChangeListener {
+
+    private final BinJpaRepository binRepository;
+    private final SubtypeJpaRepository subtypeRepository;
+    private final AgencyJpaRepository agencyRepository;
+    private final CommercePlanJpaRepository planRepository;
+    private final CommercePlanItemJpaRepository planItemRepository;
+    private final SubtypeCommercePlanJpaRepository subtypePlanRepository;
+    private final ValidationJpaRepository validationRepository;
+    private final ValidationMapJpaRepository validationMapRepository;
+
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService updates = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("catalog-snapshot").daemon().factory());
+
+    private volatile CatalogSnapshot current = CatalogSnapshot.EMPTY;
+
+    public InMemoryCatalogSnapshot(BinJpaRepository binRepository,
+                                   SubtypeJpaRepository subtypeRepository,
+                                   AgencyJpaRepository agencyRepository,
+                                   CommercePlanJpaRepository planRepository,
+                                   CommercePlanItemJpaRepository planItemRepository,
+                                   SubtypeCommercePlanJpaRepository subtypePlanRepository,
+                                   ValidationJpaRepository validationRepository,
+                                   ValidationMapJpaRepository validationMapRepository,
+                                   @Value("${catalog.snapshot.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.binRepository = binRepository;
+        this.subtypeRepository = subtypeRepository;
+        this.agencyRepository = agencyRepository;
+        this.planRepository = planRepository;
+        this.planItemRepository = planItemRepository;
+        this.subtypePlanRepository = subtypePlanRepository;
+        this.validationRepository = validationRepository;
+        this.validationMapRepository = validationMapRepository;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.error("CATALOG:snapshot:load-failed; las lecturas seguirán yendo a base de datos", ex);
+        }
+        if (!refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            long millis = refreshInterval.toMillis();
+            updates.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updates.shutdownNow();
+    }
+
+    /** Recarga periódica: trae lo que otras réplicas confirmaron en base de datos. */
+    private void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("CATALOG:snapshot:refresh-failed version={} reason={}", current.version(), ex.getMessage());
+        }
+    }
+
+    public synchronized void reload() {
+        long t0 = System.nanoTime();
+        List<CommercePlan> plans = mapAll("COMMERCE_PLAN", planRepository.findAll(), CommercePlanJpaMapper::toDomain);
+        CatalogSnapshot fresh = CatalogSnapshot.of(current.version() + 1,
+                mapAll("BIN", binRepository.findAll(), BinJpaMapper::toDomain),
+                mapAll("SUBTYPE", subtypeRepository.findAll(), SubtypeJpaMapper::toDomain),
+                mapAll("AGENCY", agencyRepository.findAll(), AgencyJpaMapper::toDomain),
+                plans,
+                loadMemberships(plans),
+                mapAll("SUBTYPE_COMMERCE_PLAN", subtypePlanRepository.findAll(), SubtypePlanJpaMapper::toDomain),
+                mapAll("SUBTYPE_VALIDATION", validationRepository.findAll(), ValidationJpaMapper::toDomain),
+                mapAll("SUBTYPE_VALIDATION_MAP", validationMapRepository.findAll(), ValidationMapJpaMapper::toDomain));
+        current = fresh;
+        log.info("CATALOG:snapshot:loaded version={} bins={} subtypes={} agencies={} plans={} planItemsBytes={} rules={} elapsedMs={}",
+                fresh.version(), fresh.bins().size(), fresh.subtypes().size(), fresh.agencies().size(),
+                fresh.plans().size(), fresh.planItems().values().stream().mapToLong(PlanItemMembership::sizeInBytes).sum(),
+                fresh.validationMaps().size(), (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    @Override
+    public CatalogSnapshot current() {
+        return current;
+    }
+
+    /** Encola el cambio; la escritura que lo publicó no espera a que se aplique. */
+    @Override
+    public void onChange(CatalogChange change) {
+        try {
+            updates.execute(() -> {
+                try {
+                    apply(change);
+                } catch (RuntimeException ex) {
+                    log.error("CATALOG:snapshot:apply-failed entity={} key={}", change.entity(), change.key(), ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.warn("CATALOG:snapshot:apply-rejected entity={} key={}", change.entity(), change.key());
+        }
+    }
+
+    synchronized void apply(CatalogChange change) {
+        CatalogSnapshot base = current;
+        if (!base.isLoaded()) {
+            return; // la carga inicial leerá el estado ya confirmado
+        }
+        CatalogSnapshot next = switch (change.entity()) {
+            case BIN -> base.withBin(change.payload(Bin.class));
+            case SUBTYPE -> base.withSubtype(change.payload(Subtype.class));
+            case AGENCY -> base.withAgency(change.payload(Agency.class));
+            case PLAN -> withPlan(base, change.payload(CommercePlan.class));
+            case PLAN_ITEM -> change.operation() == CatalogChange.Operation.BULK
+                    ? reloadPlanItems(base, change.payload(PlanItemsBulkResult.class).planCode())
+                    : base.withPlanItem(change.payload(PlanItem.class));
+            case SUBTYPE_PLAN -> base.withSubtypePlan(change.payload(SubtypePlanLink.class));
+            case VALIDATION -> base.withValidation(change.payload(Validation.class));
+            case VALIDATION_MAP -> base.withValidationMap(change.payload(ValidationMap.class));
+        };
+        current = next;
+        log.debug("CATALOG:snapshot:swap version={} entity={} key={}", next.version(), change.entity(), change.key());
+    }
+
+    /** Si el plan cambió de modo, el conjunto anterior ya no sirve: se relee desde base de datos. */
+    private CatalogSnapshot withPlan(CatalogSnapshot base, CommercePlan plan) {
+        CommercePlan previous = base.plans().get(plan.code());
+        CatalogSnapshot next = base.withPlan(plan);
+        if (previous != null && previous.validationMode() != plan.validationMode()) {
+            next = next.withPlanItems(plan.planId(), PlanItemMembership.of(plan.validationMode(),
+                    planItemRepository.findActiveValuesByPlanId(plan.planId())));
+        }
+        return next;
+    }
+
+    private CatalogSnapshot reloadPlanItems(CatalogSnapshot base, String planCode) {
+        CommercePlan plan = base.plans().get(planCode);
+        if (plan == null) {
+            plan = planRepository.findByPlanCode(planCode).map(CommercePlanJpaMapper::toDomain).orElse(null);
+        }
+        if (plan == null || plan.planId() == null) {
+            return base;
+        }
+        return base.withPlanItems(plan.planId(), PlanItemMembership.of(plan.validationMode(),
+                planItemRepository.findActiveValuesByPlanId(plan.planId())));
+    }
+
+    /** Agrupa los valores activos por plan y los compacta según el modo del plan. */
+    private Map<Long, PlanItemMembership> loadMemberships(List<CommercePlan> plans) {
+        Map<Long, List<String>> valuesByPlan = new HashMap<>();
+        for (Object[] row : planItemRepository.findActiveValues()) {
+            valuesByPlan.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Long, PlanItemMembership> out = new HashMap<>();
+        for (CommercePlan plan : plans) {
+            List<String> values = valuesByPlan.getOrDefault(plan.planId(), List.of());
+            out.put(plan.planId(), PlanItemMembership.of(plan.validationMode(), values));
+        }
+        return out;
+    }
+
+    private static <E, D> List<D> mapAll(String table, Iterable<E> rows, Function<E, D> mapper) {
+        List<D> out = new ArrayList<>();
+        for (E row : rows) {
+            try {
+                out.add(mapper.apply(row));
+            } catch (IllegalArgumentException ex) {
+                log.warn("CATALOG:snapshot:skip table={} reason={}", table, ex.getMessage());
+            }
+        }
+        return out;
+    }
+}
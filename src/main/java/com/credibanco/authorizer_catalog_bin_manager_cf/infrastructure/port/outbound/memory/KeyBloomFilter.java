@@ -0,0 +1,108 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom sobre claves String, dimensionado para {@code capacity} claves con una tasa
+ * objetivo de falsos positivos {@code fpp}. Solo admite altas: las claves del catálogo no se
+ * borran (se inactivan). Lecturas y altas concurrentes sin lock: cada bit se fija con una
+ * operación atómica sobre su palabra. Hash: FNV-1a de 64 bits y doble hashing (Kirsch-Mitzenmacher).
+ */
+final class KeyBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final LongAdder keys = new LongAdder();
+
+    private KeyBloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) >>> 6));
+        this.bits = (long) words.length() << 6;
+        this.hashes = hashes;
+    }
+
+    static KeyBloomFilter create(long capacity, double fpp) {
+        long n = Math.max(1, capacity);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new KeyBloomFilter(m, k);
+    }
+
+    static KeyBloomFilter of(Collection<String> values, long capacity, double fpp) {
+        KeyBloomFilter filter = create(Math.max(capacity, values.size()), fpp);
+        values.forEach(filter::put);
+        return filter;
+    }
+
+    void put(String key) {
+        if (key == null) {
+            return;
+        }
+        long h = fnv1a(key);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= hashes; i++) {
+            long bit = index(h1 + i * h2);
+            int w = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long prev;
+            do {
+                prev = words.get(w);
+            } while ((prev & mask) == 0 && !words.compareAndSet(w, prev, prev | mask));
+            changed |= (prev & mask) == 0;
+        }
+        if (changed) {
+            keys.increment();
+        }
+    }
+
+    boolean mightContain(String key) {
+        if (key == null) {
+            return false;
+        }
+        long h = fnv1a(key);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Claves distintas insertadas (aproximado: una clave que no fijó ningún bit nuevo no cuenta). */
+    long approximateKeys() {
+        return keys.sum();
+    }
+
+    /** Tasa de falsos positivos esperada con la carga actual: (1 - e^(-k·n/m))^k. */
+    double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashes * keys.sum() / bits), hashes);
+    }
+
+    long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bits;
+    }
+
+    private static long fnv1a(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
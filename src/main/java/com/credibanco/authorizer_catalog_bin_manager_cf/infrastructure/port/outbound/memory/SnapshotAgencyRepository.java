@@ -0,0 +1,82 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Listado de AGENCY desde la foto en memoria, con el mismo filtro (status, búsqueda por nombre o código)
+ * y orden (subtypeCode, agencyCode) que JPA. El resto se delega.
+ */
+public class SnapshotAgencyRepository implements AgencyRepository {
+
+    private final AgencyRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+
+    public SnapshotAgencyRepository(AgencyRepository delegate, CatalogSnapshotProvider snapshots) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public Mono<Boolean> existsByPk(String subtypeCode, String agencyCode) {
+        return delegate.existsByPk(subtypeCode, agencyCode);
+    }
+
+    @Override
+    public Mono<Agency> save(Agency aggregate) {
+        return delegate.save(aggregate);
+    }
+
+    @Override
+    public Mono<Agency> findByPk(String subtypeCode, String agencyCode) {
+        return delegate.findByPk(subtypeCode, agencyCode);
+    }
+
+    @Override
+    public Flux<Agency> findAllByPk(Collection<Pk> keys) {
+        return delegate.findAllByPk(keys);
+    }
+
+    @Override
+    public Flux<Agency> findAll(String subtypeCode, String status, String search, int page, int size) {
+        return Flux.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (!s.isLoaded()) {
+                return delegate.findAll(subtypeCode, status, search, page, size);
+            }
+            int p = Math.max(0, page);
+            int n = Math.max(1, size);
+            String needle = (search == null || search.isBlank()) ? null : search.trim().toUpperCase(Locale.ROOT);
+            Collection<Agency> scope = subtypeCode != null ? s.agenciesOfSubtype(subtypeCode) : s.agencies().values();
+            return Flux.fromStream(scope.stream()
+                    .filter(a -> status == null || Objects.equals(a.status(), status))
+                    .filter(a -> needle == null || contains(a.name(), needle) || contains(a.agencyCode(), needle))
+                    .skip((long) p * n)
+                    .limit(n));
+        });
+    }
+
+    /** El listado por cursor va siempre a base de datos: necesita el orden por clave. */
+    @Override
+    public Flux<Agency> findAfter(String subtypeCode, String status, String search,
+                                  String afterSubtypeCode, String afterAgencyCode, int limit) {
+        return delegate.findAfter(subtypeCode, status, search, afterSubtypeCode, afterAgencyCode, limit);
+    }
+
+    @Override
+    public Mono<Boolean> existsAnotherActive(String subtypeCode, String excludeAgencyCode) {
+        return delegate.existsAnotherActive(subtypeCode, excludeAgencyCode);
+    }
+
+    private static boolean contains(String value, String upperNeedle) {
+        return value != null && value.toUpperCase(Locale.ROOT).contains(upperNeedle);
+    }
+}
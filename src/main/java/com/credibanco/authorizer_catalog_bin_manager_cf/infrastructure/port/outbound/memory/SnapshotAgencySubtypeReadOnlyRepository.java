@@ -0,0 +1,65 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import reactor.core.publisher.Mono;
+
+/**
+ * Existencia de SUBTYPE por código (módulo AGENCY) servida desde la foto en memoria.
+ * Si la foto no tiene el código, el filtro de claves descarta los inexistentes antes de ir a base de datos.
+ */
+public class SnapshotAgencySubtypeReadOnlyRepository implements SubtypeReadOnlyRepository {
+
+    private final SubtypeReadOnlyRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+    private final CatalogKeyFilter keys;
+
+    public SnapshotAgencySubtypeReadOnlyRepository(SubtypeReadOnlyRepository delegate,
+                                                   CatalogSnapshotProvider snapshots) {
+        this(delegate, snapshots, CatalogKeyFilter.NONE);
+    }
+
+    public SnapshotAgencySubtypeReadOnlyRepository(SubtypeReadOnlyRepository delegate,
+                                                   CatalogSnapshotProvider snapshots,
+                                                   CatalogKeyFilter keys) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+        this.keys = keys;
+    }
+
+    @Override
+    public Mono<Boolean> isActive(String subtypeCode) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            return s.isLoaded()
+                    ? Mono.just(s.subtypes().values().stream()
+                    .anyMatch(st -> st.subtypeCode().equals(subtypeCode) && "A".equals(st.status())))
+                    : delegate.isActive(subtypeCode);
+        });
+    }
+
+    @Override
+    public Mono<Boolean> existsByCode(String subtypeCode) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (s.isLoaded()) {
+                boolean hit = s.hasSubtypeCode(subtypeCode);
+                if (hit || !keys.isLoaded()) {
+                    return Mono.just(hit);
+                }
+            }
+            if (!keys.mightContain(CatalogKeyFilter.KeySpace.SUBTYPE_CODE, subtypeCode)) {
+                return Mono.just(false);
+            }
+            return delegate.existsByCode(subtypeCode).doOnNext(this::countFalsePositive);
+        });
+    }
+
+    private void countFalsePositive(boolean found) {
+        if (!found) {
+            keys.recordFalsePositive(CatalogKeyFilter.KeySpace.SUBTYPE_CODE);
+        }
+    }
+}
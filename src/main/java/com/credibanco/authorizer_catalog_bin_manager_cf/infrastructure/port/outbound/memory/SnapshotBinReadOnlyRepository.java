@@ -0,0 +1,65 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import reactor.core.publisher.Mono;
+
+/**
+ * Existencia y configuración de extensión de BIN servidas desde la foto en memoria.
+ * Si la foto no tiene el BIN, el filtro de claves descarta los inexistentes antes de ir a base de datos.
+ */
+public class SnapshotBinReadOnlyRepository implements BinReadOnlyRepository {
+
+    private final BinReadOnlyRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+    private final CatalogKeyFilter keys;
+
+    public SnapshotBinReadOnlyRepository(BinReadOnlyRepository delegate, CatalogSnapshotProvider snapshots) {
+        this(delegate, snapshots, CatalogKeyFilter.NONE);
+    }
+
+    public SnapshotBinReadOnlyRepository(BinReadOnlyRepository delegate, CatalogSnapshotProvider snapshots,
+                                         CatalogKeyFilter keys) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+        this.keys = keys;
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String bin) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (s.isLoaded()) {
+                boolean hit = s.bins().containsKey(bin);
+                if (hit || !keys.isLoaded()) {
+                    return Mono.just(hit);
+                }
+            }
+            if (!keys.mightContain(CatalogKeyFilter.KeySpace.BIN, bin)) {
+                return Mono.just(false);
+            }
+            return delegate.existsById(bin).doOnNext(this::countFalsePositive);
+        });
+    }
+
+    @Override
+    public Mono<BinExtConfig> getExtConfig(String bin) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (!s.isLoaded()) {
+                return delegate.getExtConfig(bin);
+            }
+            Bin b = s.bins().get(bin);
+            return b == null ? Mono.empty() : Mono.just(new BinExtConfig(b.usesBinExt(), b.binExtDigits()));
+        });
+    }
+
+    private void countFalsePositive(boolean found) {
+        if (!found) {
+            keys.recordFalsePositive(CatalogKeyFilter.KeySpace.BIN);
+        }
+    }
+}
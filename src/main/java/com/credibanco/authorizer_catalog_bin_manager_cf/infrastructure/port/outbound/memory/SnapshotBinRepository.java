@@ -0,0 +1,101 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Lecturas puntuales de BIN desde la foto en memoria; escrituras y listados van al adaptador JPA.
+ * Un BIN que no está en la foto (o cualquiera, mientras no esté cargada) se confirma contra base de datos
+ * solo si el filtro de claves no lo descarta; ver {@link CatalogKeyFilter}.
+ */
+public class SnapshotBinRepository implements BinRepository {
+
+    private final BinRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+    private final CatalogKeyFilter keys;
+
+    public SnapshotBinRepository(BinRepository delegate, CatalogSnapshotProvider snapshots) {
+        this(delegate, snapshots, CatalogKeyFilter.NONE);
+    }
+
+    public SnapshotBinRepository(BinRepository delegate, CatalogSnapshotProvider snapshots, CatalogKeyFilter keys) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+        this.keys = keys;
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String bin) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (s.isLoaded()) {
+                boolean hit = s.bins().containsKey(bin);
+                if (hit || !keys.isLoaded()) {
+                    return Mono.just(hit);
+                }
+            }
+            if (!keys.mightContain(CatalogKeyFilter.KeySpace.BIN, bin)) {
+                return Mono.just(false);
+            }
+            return delegate.existsById(bin)
+                    .doOnNext(this::countFalsePositive);
+        });
+    }
+
+    @Override
+    public Mono<Bin> save(Bin bin) {
+        return delegate.save(bin);
+    }
+
+    @Override
+    public Mono<Bin> findById(String bin) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (s.isLoaded()) {
+                Bin hit = s.bins().get(bin);
+                if (hit != null || !keys.isLoaded()) {
+                    return Mono.justOrEmpty(hit);
+                }
+            }
+            if (!keys.mightContain(CatalogKeyFilter.KeySpace.BIN, bin)) {
+                return Mono.empty();
+            }
+            return delegate.findById(bin)
+                    .doOnSuccess(found -> countFalsePositive(found != null));
+        });
+    }
+
+    private void countFalsePositive(boolean found) {
+        if (!found) {
+            keys.recordFalsePositive(CatalogKeyFilter.KeySpace.BIN);
+        }
+    }
+
+    @Override
+    public Flux<Bin> findAllById(Collection<String> bins) {
+        return Flux.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            return s.isLoaded()
+                    ? Flux.fromStream(bins.stream().distinct().map(s.bins()::get).filter(Objects::nonNull))
+                    : delegate.findAllById(bins);
+        });
+    }
+
+    @Override
+    public Flux<Bin> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public Flux<Bin> findAfter(String afterBin, int limit) {
+        return delegate.findAfter(afterBin, limit);
+    }
+}
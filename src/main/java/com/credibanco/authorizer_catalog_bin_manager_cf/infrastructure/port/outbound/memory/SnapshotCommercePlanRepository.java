@@ -0,0 +1,81 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consulta de COMMERCE_PLAN por código desde la foto en memoria; el resto se delega.
+ * Si la foto no tiene el código, el filtro de claves descarta los inexistentes antes de ir a base de datos.
+ */
+public class SnapshotCommercePlanRepository implements CommercePlanRepository {
+
+    private final CommercePlanRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+    private final CatalogKeyFilter keys;
+
+    public SnapshotCommercePlanRepository(CommercePlanRepository delegate, CatalogSnapshotProvider snapshots) {
+        this(delegate, snapshots, CatalogKeyFilter.NONE);
+    }
+
+    public SnapshotCommercePlanRepository(CommercePlanRepository delegate, CatalogSnapshotProvider snapshots,
+                                          CatalogKeyFilter keys) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+        this.keys = keys;
+    }
+
+    @Override
+    public Mono<Boolean> existsByCode(String planCode) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (s.isLoaded()) {
+                boolean hit = s.plans().containsKey(planCode);
+                if (hit || !keys.isLoaded()) {
+                    return Mono.just(hit);
+                }
+            }
+            if (!keys.mightContain(CatalogKeyFilter.KeySpace.PLAN_CODE, planCode)) {
+                return Mono.just(false);
+            }
+            return delegate.existsByCode(planCode).doOnNext(this::countFalsePositive);
+        });
+    }
+
+    @Override
+    public Mono<CommercePlan> findByCode(String planCode) {
+        return Mono.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (s.isLoaded()) {
+                CommercePlan hit = s.plans().get(planCode);
+                if (hit != null || !keys.isLoaded()) {
+                    return Mono.justOrEmpty(hit);
+                }
+            }
+            if (!keys.mightContain(CatalogKeyFilter.KeySpace.PLAN_CODE, planCode)) {
+                return Mono.empty();
+            }
+            return delegate.findByCode(planCode).doOnSuccess(found -> countFalsePositive(found != null));
+        });
+    }
+
+    private void countFalsePositive(boolean found) {
+        if (!found) {
+            keys.recordFalsePositive(CatalogKeyFilter.KeySpace.PLAN_CODE);
+        }
+    }
+
+    @Override
+    public Flux<CommercePlan> findAll(String status, String q, int page, int size) {
+        return delegate.findAll(status, q, page, size);
+    }
+
+    @Override
+    public Mono<CommercePlan> save(CommercePlan plan) {
+        return delegate.save(plan);
+    }
+}
@@ -0,0 +1,81 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Listado de SUBTYPE desde la foto en memoria, con el mismo filtro y orden (bin, subtypeCode) que JPA.
+ * Las verificaciones previas a una escritura siguen yendo a base de datos.
+ */
+public class SnapshotSubtypeRepository implements SubtypeRepository {
+
+    private final SubtypeRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+
+    public SnapshotSubtypeRepository(SubtypeRepository delegate, CatalogSnapshotProvider snapshots) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public Mono<Boolean> existsByPk(String bin, String subtypeCode) {
+        return delegate.existsByPk(bin, subtypeCode);
+    }
+
+    @Override
+    public Mono<Boolean> existsByBinAndExt(String bin, String binExt) {
+        return delegate.existsByBinAndExt(bin, binExt);
+    }
+
+    @Override
+    public Mono<Subtype> save(Subtype entity) {
+        return delegate.save(entity);
+    }
+
+    @Override
+    public Mono<Subtype> findByPk(String bin, String subtypeCode) {
+        return delegate.findByPk(bin, subtypeCode);
+    }
+
+    @Override
+    public Flux<Subtype> findAllByPk(Collection<Pk> keys) {
+        return delegate.findAllByPk(keys);
+    }
+
+    @Override
+    public Flux<Subtype> findAll(String binFilter, String codeFilter, String statusFilter, int page, int size) {
+        return Flux.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (!s.isLoaded()) {
+                return delegate.findAll(binFilter, codeFilter, statusFilter, page, size);
+            }
+            int p = Math.max(0, page);
+            int n = Math.max(1, size);
+            Collection<Subtype> scope = binFilter != null ? s.subtypesOfBin(binFilter) : s.subtypes().values();
+            return Flux.fromStream(scope.stream()
+                    .filter(st -> codeFilter == null || Objects.equals(st.subtypeCode(), codeFilter))
+                    .filter(st -> statusFilter == null || Objects.equals(st.status(), statusFilter))
+                    .skip((long) p * n)
+                    .limit(n));
+        });
+    }
+
+    /** El listado por cursor va siempre a base de datos: necesita el orden por clave. */
+    @Override
+    public Flux<Subtype> findAfter(String binFilter, String codeFilter, String statusFilter,
+                                   String afterBin, String afterSubtypeCode, int limit) {
+        return delegate.findAfter(binFilter, codeFilter, statusFilter, afterBin, afterSubtypeCode, limit);
+    }
+
+    @Override
+    public Mono<Boolean> existsBySubtypeCode(String subtypeCode) {
+        return delegate.existsBySubtypeCode(subtypeCode);
+    }
+}
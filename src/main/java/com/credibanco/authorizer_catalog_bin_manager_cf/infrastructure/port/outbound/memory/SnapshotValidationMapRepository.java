@@ -0,0 +1,84 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Reglas resueltas de un SUBTYPE desde la foto en memoria: mismo filtro y orden
+ * (subtypeCode, bin, validationId) que la consulta JPA con JOIN a SUBTYPE_VALIDATION.
+ */
+public class SnapshotValidationMapRepository implements ValidationMapRepository {
+
+    private final ValidationMapRepository delegate;
+    private final CatalogSnapshotProvider snapshots;
+
+    public SnapshotValidationMapRepository(ValidationMapRepository delegate, CatalogSnapshotProvider snapshots) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public Mono<Boolean> existsActive(String subtypeCode, String bin, Long validationId) {
+        return delegate.existsActive(subtypeCode, bin, validationId);
+    }
+
+    @Override
+    public Mono<ValidationMap> save(ValidationMap map) {
+        return delegate.save(map);
+    }
+
+    @Override
+    public Mono<ValidationMap> findByNaturalKey(String subtypeCode, String bin, Long validationId) {
+        return delegate.findByNaturalKey(subtypeCode, bin, validationId);
+    }
+
+    @Override
+    public Flux<ValidationMap> findAll(String subtypeCode, String bin, String status, int page, int size) {
+        return delegate.findAll(subtypeCode, bin, status, page, size);
+    }
+
+    @Override
+    public Flux<ValidationMap> findResolved(String subtypeCode, String bin, String status, int page, int size) {
+        return Flux.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (!s.isLoaded()) {
+                return delegate.findResolved(subtypeCode, bin, status, page, size);
+            }
+            if (subtypeCode == null) {
+                return Flux.empty();
+            }
+            int p = Math.max(0, page);
+            int n = Math.max(1, size);
+            return Flux.fromStream(s.rulesOfSubtype(subtypeCode).stream()
+                    .filter(m -> s.validations().containsKey(m.validationId()))
+                    .filter(m -> bin == null || Objects.equals(m.bin(), bin))
+                    .filter(m -> status == null || Objects.equals(m.status(), status))
+                    .skip((long) p * n)
+                    .limit(n));
+        });
+    }
+
+    /** Con la foto cargada los mapeos ya están en memoria: se emiten sin ir a base de datos. */
+    @Override
+    public Flux<ValidationMap> streamResolved(String subtypeCode, String bin, String status) {
+        return Flux.defer(() -> {
+            CatalogSnapshot s = snapshots.current();
+            if (!s.isLoaded()) {
+                return delegate.streamResolved(subtypeCode, bin, status);
+            }
+            if (subtypeCode == null) {
+                return Flux.empty();
+            }
+            return Flux.fromStream(s.rulesOfSubtype(subtypeCode).stream()
+                    .filter(m -> s.validations().containsKey(m.validationId()))
+                    .filter(m -> bin == null || Objects.equals(m.bin(), bin))
+                    .filter(m -> status == null || Objects.equals(m.status(), status)));
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Llamadas idénticas simultáneas (misma clave: operación y argumentos) comparten una sola
+ * ejecución en curso: la primera la lanza y las demás se suscriben a su resultado, incluido el
+ * error. Al terminar la clave se libera; la siguiente llamada vuelve a ejecutar. No es una caché.
+ * La ejecución corre con el contexto de quien la lanzó y sigue mientras quede algún suscriptor: si todos
+ * cancelan, se cancela y la clave se libera (doFinally), para que la siguiente llamada no reciba una ejecución huérfana.
+ * Los Flux compartidos se reproducen completos a cada suscriptor: usar solo con resultados acotados (páginas).
+ */
+public class SingleFlight implements MeterBinder {
+
+    private final String name;
+    private final boolean enabled;
+    private final ConcurrentMap<List<Object>, Object> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    /** Clave de una llamada; admite argumentos null. */
+    public static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> mono(List<Object> key, Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            calls.increment();
+            AtomicReference<Mono<T>> mine = new AtomicReference<>();
+            Mono<T> flight = Mono.defer(call)
+                    .doFinally(signal -> inFlight.remove(key, mine.get()))
+                    .share();
+            mine.set(flight);
+            Object running = inFlight.putIfAbsent(key, flight);
+            if (running != null) {
+                shared.increment();
+                return (Mono<T>) running;
+            }
+            return flight;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> flux(List<Object> key, Supplier<Flux<T>> call) {
+        if (!enabled) {
+            return Flux.defer(call);
+        }
+        return Flux.defer(() -> {
+            calls.increment();
+            AtomicReference<Flux<T>> mine = new AtomicReference<>();
+            Flux<T> flight = Flux.defer(call)
+                    .doFinally(signal -> inFlight.remove(key, mine.get()))
+                    .replay()
+                    .refCount();
+            mine.set(flight);
+            Object running = inFlight.putIfAbsent(key, flight);
+            if (running != null) {
+                shared.increment();
+                return (Flux<T>) running;
+            }
+            return flight;
+        });
+    }
+
+    public String name() { return name; }
+
+    public int inFlight() { return inFlight.size(); }
+
+    public long callCount() { return calls.sum(); }
+
+    public long sharedCount() { return shared.sum(); }
+
+    /** Fracción de llamadas que se resolvieron con una ejecución ajena (0 si aún no hubo llamadas). */
+    public double coalescingRatio() {
+        long total = calls.sum();
+        return total == 0 ? 0.0 : (double) shared.sum() / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("catalog.singleflight.calls", this, SingleFlight::callCount)
+                .tag("use_case", name).description("Llamadas recibidas").register(registry);
+        FunctionCounter.builder("catalog.singleflight.shared", this, SingleFlight::sharedCount)
+                .tag("use_case", name).description("Llamadas resueltas con una ejecución ya en curso")
+                .register(registry);
+        Gauge.builder("catalog.singleflight.in.flight", this, SingleFlight::inFlight)
+                .tag("use_case", name).description("Claves con una ejecución en curso").register(registry);
+        Gauge.builder("catalog.singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .tag("use_case", name).description("shared / calls desde el arranque").register(registry);
+    }
+}
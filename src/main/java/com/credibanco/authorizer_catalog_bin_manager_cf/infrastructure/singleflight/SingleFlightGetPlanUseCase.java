@@ -0,0 +1,24 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.GetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import reactor.core.publisher.Mono;
+
+/** GET de plan: llamadas simultáneas por el mismo código comparten una ejecución. */
+public class SingleFlightGetPlanUseCase implements GetPlanUseCase {
+
+    private final GetPlanUseCase delegate;
+    private final SingleFlight flight;
+
+    public SingleFlightGetPlanUseCase(GetPlanUseCase delegate, SingleFlights flights) {
+        this.delegate = delegate;
+        this.flight = flights.create("GetPlan");
+    }
+
+    @Override
+    public Mono<CommercePlan> execute(String planCode) {
+        return flight.mono(SingleFlight.key(planCode), () -> delegate.execute(planCode));
+    }
+
+    public GetPlanUseCase delegate() { return delegate; }
+}
@@ -0,0 +1,24 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.inbound.GetSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import reactor.core.publisher.Mono;
+
+/** GET de subtipo: llamadas simultáneas por el mismo (bin, subtypeCode) comparten una ejecución. */
+public class SingleFlightGetSubtypeUseCase implements GetSubtypeUseCase {
+
+    private final GetSubtypeUseCase delegate;
+    private final SingleFlight flight;
+
+    public SingleFlightGetSubtypeUseCase(GetSubtypeUseCase delegate, SingleFlights flights) {
+        this.delegate = delegate;
+        this.flight = flights.create("GetSubtype");
+    }
+
+    @Override
+    public Mono<Subtype> execute(String bin, String subtypeCode) {
+        return flight.mono(SingleFlight.key(bin, subtypeCode), () -> delegate.execute(bin, subtypeCode));
+    }
+
+    public GetSubtypeUseCase delegate() { return delegate; }
+}
@@ -0,0 +1,41 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.ListPlanItemsUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Ítems de plan: páginas idénticas simultáneas (offset o cursor) comparten una ejecución.
+ * {@code stream} no se comparte: no está acotado y compartirlo obligaría a retener todo el plan.
+ */
+public class SingleFlightListPlanItemsUseCase implements ListPlanItemsUseCase {
+
+    private final ListPlanItemsUseCase delegate;
+    private final SingleFlight flight;
+
+    public SingleFlightListPlanItemsUseCase(ListPlanItemsUseCase delegate, SingleFlights flights) {
+        this.delegate = delegate;
+        this.flight = flights.create("ListPlanItems");
+    }
+
+    @Override
+    public Flux<PlanItem> list(String planCode, int page, int size, String status) {
+        return flight.flux(SingleFlight.key("list", planCode, page, size, status),
+                () -> delegate.list(planCode, page, size, status));
+    }
+
+    @Override
+    public Mono<KeysetPage<PlanItem>> scroll(String planCode, String cursor, int size, String status) {
+        return flight.mono(SingleFlight.key("scroll", planCode, cursor, size, status),
+                () -> delegate.scroll(planCode, cursor, size, status));
+    }
+
+    @Override
+    public Flux<PlanItem> stream(String planCode, String status) {
+        return delegate.stream(planCode, status);
+    }
+
+    public ListPlanItemsUseCase delegate() { return delegate; }
+}
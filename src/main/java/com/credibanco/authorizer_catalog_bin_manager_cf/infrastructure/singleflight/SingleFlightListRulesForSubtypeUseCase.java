@@ -0,0 +1,40 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound.ListRulesForSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reglas de un subtipo: páginas idénticas simultáneas comparten una ejecución.
+ * {@code stream} no se comparte: no está acotado; {@code compiled} tampoco: con la foto cargada no hay consulta.
+ */
+public class SingleFlightListRulesForSubtypeUseCase implements ListRulesForSubtypeUseCase {
+
+    private final ListRulesForSubtypeUseCase delegate;
+    private final SingleFlight flight;
+
+    public SingleFlightListRulesForSubtypeUseCase(ListRulesForSubtypeUseCase delegate, SingleFlights flights) {
+        this.delegate = delegate;
+        this.flight = flights.create("ListRulesForSubtype");
+    }
+
+    @Override
+    public Flux<ValidationMap> execute(String subtypeCode, String bin, String status, int page, int size) {
+        return flight.flux(SingleFlight.key(subtypeCode, bin, status, page, size),
+                () -> delegate.execute(subtypeCode, bin, status, page, size));
+    }
+
+    @Override
+    public Flux<ValidationMap> stream(String subtypeCode, String bin, String status) {
+        return delegate.stream(subtypeCode, bin, status);
+    }
+
+    @Override
+    public Mono<CompiledRules> compiled(String subtypeCode, String bin) {
+        return delegate.compiled(subtypeCode, bin);
+    }
+
+    public ListRulesForSubtypeUseCase delegate() { return delegate; }
+}
@@ -0,0 +1,25 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Crea un {@link SingleFlight} por caso de uso y le registra las métricas (etiqueta {@code use_case}) si hay registro. */
+public class SingleFlights {
+
+    private final boolean enabled;
+    private final MeterRegistry registry;
+
+    public SingleFlights(boolean enabled, MeterRegistry registry) {
+        this.enabled = enabled;
+        this.registry = registry;
+    }
+
+    public SingleFlight create(String useCase) {
+        SingleFlight flight = new SingleFlight(useCase, enabled);
+        if (registry != null) {
+            flight.bindTo(registry);
+        }
+        return flight;
+    }
+
+    public boolean enabled() { return enabled; }
+}
@@ -0,0 +1,161 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.TracingObservationHandler.TracingContext;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+import java.util.function.Consumer;
+
+/**
+ * Spans propios del catálogo, hijos del span HTTP que abre WebFlux por ruta:
+ * caso de uso → repositorio → {@code jdbc.call} (en el hilo JDBC) → {@code jdbc.statement}.
+ * Cada span arranca cuando su trabajo empieza de verdad: el de repositorio al suscribirse en el hilo
+ * del handler y {@code jdbc.call} cuando el hilo JDBC toma la tarea, así que la espera por el salto
+ * de hilo (boundedElastic / bulkhead) queda como hueco entre ambos, y la espera por conexión como
+ * hueco entre {@code jdbc.call} y su primera sentencia.
+ * <p>
+ * El span vigente viaja en el contexto de Reactor ({@link #CONTEXT_KEY}); en el hilo JDBC, además,
+ * queda como span actual del Tracer para que las sentencias lo encuentren. Lo instala
+ * {@link CatalogTracingInitializer} al arrancar; hasta entonces (y con {@code catalog.tracing.enabled=false}) no hace nada.
+ */
+public final class CatalogTracing {
+
+    public static final String CONTEXT_KEY = CatalogTracing.class.getName();
+
+    private static volatile CatalogTracing current = new CatalogTracing(Tracer.NOOP, false);
+
+    private final Tracer tracer;
+    private final boolean enabled;
+
+    public CatalogTracing(Tracer tracer, boolean enabled) {
+        this.tracer = tracer;
+        this.enabled = enabled;
+    }
+
+    public static CatalogTracing current() {
+        return current;
+    }
+
+    public static void configure(CatalogTracing tracing) {
+        current = tracing;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Span padre para lo que corre con este contexto: el propio más cercano o el de la petición HTTP. */
+    Span parent(ContextView ctx) {
+        Span own = ctx.getOrDefault(CONTEXT_KEY, null);
+        if (own != null) {
+            return own;
+        }
+        Observation observation = ctx.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        if (observation == null) {
+            return null;
+        }
+        TracingContext tracing = observation.getContext().get(TracingContext.class);
+        return tracing == null ? null : tracing.getSpan();
+    }
+
+    /** Trace id del span vigente en el contexto, para el campo trace del log; null sin traza. */
+    public String traceId(ContextView ctx) {
+        Span span = parent(ctx);
+        return span == null ? null : span.context().traceId();
+    }
+
+    Span start(String name, Span parent) {
+        Span span = parent == null ? tracer.nextSpan() : tracer.nextSpan(parent);
+        return span.name(name).tag("thread.name", Thread.currentThread().getName()).start();
+    }
+
+    /** Span {@code name} de la suscripción a la terminación de {@code source}; sus llamadas internas cuelgan de él. */
+    <T> Mono<T> span(String name, Consumer<Span> tags, Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            Span span = start(name, parent(ctx));
+            tags.accept(span);
+            return source.doOnError(error -> error(span, error))
+                    .doFinally(signal -> end(span, signal))
+                    .contextWrite(c -> c.put(CONTEXT_KEY, span));
+        });
+    }
+
+    <T> Flux<T> span(String name, Consumer<Span> tags, Flux<T> source) {
+        return Flux.deferContextual(ctx -> {
+            Span span = start(name, parent(ctx));
+            tags.accept(span);
+            return source.doOnError(error -> error(span, error))
+                    .doFinally(signal -> end(span, signal))
+                    .contextWrite(c -> c.put(CONTEXT_KEY, span));
+        });
+    }
+
+    /**
+     * Abre {@code jdbc.call} en el hilo que suscribe {@code source} (el JDBC, después del subscribeOn)
+     * y lo deja como span actual mientras se suscribe; termina con {@code source}.
+     */
+    public <T> Mono<T> onJdbcThread(Mono<T> source, ContextView ctx) {
+        if (!enabled) {
+            return source;
+        }
+        Span parent = parent(ctx);
+        return new MonoOperator<>(source) {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                Span span = start("jdbc.call", parent);
+                try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                    source.doOnError(span::error).doFinally(signal -> end(span, signal)).subscribe(actual);
+                }
+            }
+        };
+    }
+
+    public <T> Flux<T> onJdbcThread(Flux<T> source, ContextView ctx) {
+        if (!enabled) {
+            return source;
+        }
+        Span parent = parent(ctx);
+        return new FluxOperator<>(source) {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                Span span = start("jdbc.call", parent);
+                try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                    source.doOnError(span::error).doFinally(signal -> end(span, signal)).subscribe(actual);
+                }
+            }
+        };
+    }
+
+    /** Span hijo del actual del hilo para una sentencia JDBC; null si no hay ninguno (arranque, jobs sin traza). */
+    public Span statement() {
+        if (!enabled) {
+            return null;
+        }
+        Span parent = tracer.currentSpan();
+        return parent == null ? null : start("jdbc.statement", parent).tag("db.system", "oracle");
+    }
+
+    private static void error(Span span, Throwable error) {
+        if (error instanceof AppException app) {
+            span.tag("error.code", app.getError().code);
+        }
+        span.error(error);
+    }
+
+    private static void end(Span span, SignalType signal) {
+        if (signal == SignalType.CANCEL) {
+            span.event("cancelled");
+        }
+        span.end();
+    }
+}
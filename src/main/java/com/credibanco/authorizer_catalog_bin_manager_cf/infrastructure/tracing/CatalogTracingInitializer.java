@@ -0,0 +1,28 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Publica la instancia de {@link CatalogTracing} del contexto para los puntos que no son beans
+ * ({@code JpaSchedulers}, el handler de sentencias JDBC) y la retira al cerrarlo.
+ */
+public class CatalogTracingInitializer implements InitializingBean, DisposableBean {
+
+    private final CatalogTracing tracing;
+
+    public CatalogTracingInitializer(CatalogTracing tracing) {
+        this.tracing = tracing;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        CatalogTracing.configure(tracing);
+    }
+
+    @Override
+    public void destroy() {
+        CatalogTracing.configure(new CatalogTracing(Tracer.NOOP, false));
+    }
+}
@@ -0,0 +1,48 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics.PortOperations;
+import io.micrometer.tracing.Span;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Abre un span por llamada a un método de puerto que devuelve Mono/Flux: nombre "Interfaz.método",
+ * etiqueta {@code catalog.port} (usecase | repository) y, si falla, el código de AppError.
+ * Los métodos síncronos y los que no declara ningún puerto pasan sin span.
+ */
+final class TracedPortInterceptor implements MethodInterceptor {
+
+    private final PortOperations operations;
+    private final String kind;
+    private final CatalogTracing tracing;
+
+    TracedPortInterceptor(List<Class<?>> ports, String kind, CatalogTracing tracing) {
+        this.operations = new PortOperations(ports);
+        this.kind = kind;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Optional<String> operation = operations.of(invocation.getMethod());
+        Object result = invocation.proceed();
+        if (operation.isEmpty()) {
+            return result;
+        }
+        String op = operation.get();
+        Consumer<Span> tags = span -> span.tag("catalog.port", kind);
+        if (result instanceof Mono<?> mono) {
+            return tracing.span(op, tags, mono);
+        }
+        if (result instanceof Flux<?> flux) {
+            return tracing.span(op, tags, flux);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics.PortTimingPostProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Agrega spans a los mismos beans que mide {@link PortTimingPostProcessor}: un span hijo por caso de
+ * uso y, debajo, uno por llamada a repositorio. Con el tracing apagado no toca los beans.
+ */
+@Slf4j
+public class TracingPortPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<CatalogTracing> tracing;
+
+    public TracingPortPostProcessor(ObjectProvider<CatalogTracing> tracing) {
+        this.tracing = tracing;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        List<Class<?>> inbound = PortTimingPostProcessor.ports(bean, true);
+        if (!inbound.isEmpty()) {
+            return proxy(bean, inbound, "usecase");
+        }
+        List<Class<?>> outbound = PortTimingPostProcessor.ports(bean, false);
+        if (!outbound.isEmpty()) {
+            return proxy(bean, outbound, "repository");
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private Object proxy(Object bean, List<Class<?>> ports, String kind) {
+        CatalogTracing t = tracing.getIfAvailable();
+        if (t == null || !t.enabled()) {
+            return bean;
+        }
+        log.debug("TRACING:port-traced bean={} ports={}", AopUtils.getTargetClass(bean).getSimpleName(), ports);
+        return PortTimingPostProcessor.advise(bean, new TracedPortInterceptor(ports, kind, t));
+    }
+}
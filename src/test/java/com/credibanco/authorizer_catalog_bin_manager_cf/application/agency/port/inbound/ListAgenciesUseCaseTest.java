@@ -1,8 +1,10 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +26,11 @@ class ListAgenciesUseCaseTest {
             this.size = size;
             return Flux.empty();
         }
+
+        @Override
+        public Mono<KeysetPage<Agency>> scroll(String subtypeCode, String status, String search, String cursor, int size) {
+            return Mono.empty();
+        }
     }
 
     @Test
@@ -2,6 +2,10 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -13,6 +17,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,7 +27,9 @@ class AgencyQueryServicesTest {
 
     private AgencyRepository repo;
     private SubtypeReadOnlyRepository subtypeRepo;
+    private ExistenceProbeRepository probes;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     private Agency agency;
 
@@ -29,7 +37,9 @@ class AgencyQueryServicesTest {
     void setUp() {
         repo = mock(AgencyRepository.class);
         subtypeRepo = mock(SubtypeReadOnlyRepository.class);
+        probes = mock(ExistenceProbeRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         when(tx.transactional(ArgumentMatchers.<Mono<Agency>>any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -130,8 +140,8 @@ class AgencyQueryServicesTest {
     @Test
     void changeStatusFailsWhenSubtypeMissing() {
         when(repo.findByPk("SUB", "01")).thenReturn(Mono.just(agency));
-        when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(false));
-        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, subtypeRepo, tx);
+        stubProbe();
+        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, probes, tx, changes);
 
         StepVerifier.create(service.execute("SUB", "01", "A", "actor"))
                 .expectErrorSatisfies(err -> {
@@ -144,10 +154,9 @@ class AgencyQueryServicesTest {
     @Test
     void changeStatusCompletesWhenAnotherActiveExists() {
         when(repo.findByPk("SUB", "01")).thenReturn(Mono.just(agency));
-        when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(true));
-        when(repo.existsAnotherActive("SUB", "01")).thenReturn(Mono.just(true));
+        stubProbe(ExistenceCheck.subtypeCode("SUB"), ExistenceCheck.otherActiveAgency("SUB", "01"));
         when(repo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
-        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, subtypeRepo, tx);
+        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, probes, tx, changes);
 
         StepVerifier.create(service.execute("SUB", "01", "I", "actor"))
                 .assertNext(updated -> {
@@ -163,8 +172,8 @@ class AgencyQueryServicesTest {
     @Test
     void changeStatusMapsIllegalArgumentToAppException() {
         when(repo.findByPk("SUB", "01")).thenReturn(Mono.error(new IllegalArgumentException("bad")));
-        when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(true));
-        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, subtypeRepo, tx);
+        stubProbe(ExistenceCheck.subtypeCode("SUB"));
+        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, probes, tx, changes);
 
         StepVerifier.create(service.execute("SUB", "01", "A", "actor"))
                 .expectErrorSatisfies(err -> {
@@ -177,8 +186,8 @@ class AgencyQueryServicesTest {
     @Test
     void changeStatusFailsWhenAgencyNotFound() {
         when(repo.findByPk("SUB", "01")).thenReturn(Mono.empty());
-        when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(true));
-        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, subtypeRepo, tx);
+        stubProbe(ExistenceCheck.subtypeCode("SUB"));
+        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, probes, tx, changes);
 
         StepVerifier.create(service.execute("SUB", "01", "A", "actor"))
                 .expectErrorSatisfies(err -> {
@@ -187,4 +196,10 @@ class AgencyQueryServicesTest {
                 })
                 .verify();
     }
+
+    private void stubProbe(ExistenceCheck... existing) {
+        Set<ExistenceCheck> found = Set.of(existing);
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), found::contains)));
+    }
 }
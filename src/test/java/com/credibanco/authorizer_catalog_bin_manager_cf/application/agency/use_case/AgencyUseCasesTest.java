@@ -2,6 +2,10 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
@@ -13,6 +17,8 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,13 +27,17 @@ class AgencyUseCasesTest {
 
     private AgencyRepository repo;
     private SubtypeReadOnlyRepository subtypeRepo;
+    private ExistenceProbeRepository probes;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setUp() {
         repo = mock(AgencyRepository.class);
         subtypeRepo = mock(SubtypeReadOnlyRepository.class);
+        probes = mock(ExistenceProbeRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         when(tx.transactional(ArgumentMatchers.<Mono<?>>any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -41,7 +51,7 @@ class AgencyUseCasesTest {
         when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(true));
         when(repo.existsByPk("SUB", "01")).thenReturn(Mono.just(true));
 
-        CreateAgencyService service = new CreateAgencyService(repo, subtypeRepo, tx);
+        CreateAgencyService service = new CreateAgencyService(repo, subtypeRepo, tx, changes);
 
         StepVerifier.create(service.execute(draft))
                 .expectErrorSatisfies(err -> {
@@ -65,7 +75,7 @@ class AgencyUseCasesTest {
 
         when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(false));
 
-        CreateAgencyService service = new CreateAgencyService(repo, subtypeRepo, tx);
+        CreateAgencyService service = new CreateAgencyService(repo, subtypeRepo, tx, changes);
 
         StepVerifier.create(service.execute(draft))
                 .expectErrorSatisfies(err -> {
@@ -88,7 +98,7 @@ class AgencyUseCasesTest {
         when(repo.findByPk("SUB", "01")).thenReturn(Mono.just(existing));
         when(repo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
-        UpdateAgencyService service = new UpdateAgencyService(repo, subtypeRepo, tx);
+        UpdateAgencyService service = new UpdateAgencyService(repo, subtypeRepo, tx, changes);
 
         StepVerifier.create(service.execute(update))
                 .assertNext(saved -> {
@@ -112,7 +122,7 @@ class AgencyUseCasesTest {
         when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(true));
         when(repo.findByPk("SUB", "99")).thenReturn(Mono.empty());
 
-        UpdateAgencyService service = new UpdateAgencyService(repo, subtypeRepo, tx);
+        UpdateAgencyService service = new UpdateAgencyService(repo, subtypeRepo, tx, changes);
 
         StepVerifier.create(service.execute(update))
                 .expectErrorSatisfies(err -> {
@@ -128,10 +138,9 @@ class AgencyUseCasesTest {
                 null, null, null, null, null, null, null, null, null, null, null, null);
 
         when(repo.findByPk("SUB", "01")).thenReturn(Mono.just(current));
-        when(subtypeRepo.existsByCode("SUB")).thenReturn(Mono.just(true));
-        when(repo.existsAnotherActive("SUB", "01")).thenReturn(Mono.just(false));
+        stubProbe(ExistenceCheck.subtypeCode("SUB"));
 
-        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, subtypeRepo, tx);
+        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, probes, tx, changes);
 
         StepVerifier.create(service.execute("SUB", "01", "I", "actor"))
                 .expectErrorSatisfies(err -> {
@@ -143,7 +152,7 @@ class AgencyUseCasesTest {
 
     @Test
     void changeStatusRejectsInvalidStatus() {
-        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, subtypeRepo, tx);
+        ChangeAgencyStatusService service = new ChangeAgencyStatusService(repo, probes, tx, changes);
 
         StepVerifier.create(service.execute("SUB", "01", "X", "actor"))
                 .expectErrorSatisfies(err -> {
@@ -152,4 +161,10 @@ class AgencyUseCasesTest {
                 })
                 .verify();
     }
+
+    private void stubProbe(ExistenceCheck... existing) {
+        Set<ExistenceCheck> found = Set.of(existing);
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), found::contains)));
+    }
 }
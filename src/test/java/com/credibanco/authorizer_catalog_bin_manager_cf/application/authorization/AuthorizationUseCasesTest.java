@@ -0,0 +1,161 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision.Reason;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationQuery;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.use_case.CheckAuthorizationService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemMembership;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class AuthorizationUseCasesTest {
+
+    private static final String PAN = "4111112233445566";
+
+    private final OffsetDateTime now = OffsetDateTime.now();
+    private final Bin bin = Bin.createNew("411111", "VISA", "DEBITO", "12", "CC", "DESC", "N", null, null);
+    private final Subtype subtype = Subtype.rehydrate("S01", "411111", "SUB", "DESC", "A",
+            "CC", "1", null, "411111", 1L, now, now, "creator");
+    private final Agency agency = Agency.createNew("S01", "01", "AGENCIA", null, null, null, null, null, null,
+            null, null, null, null, null, null, null, null, null, null);
+    private final CommercePlan plan = CommercePlan.rehydrate(7L, "PLAN", "NAME", CommerceValidationMode.MCC,
+            "desc", "A", now, now, "creator");
+    private final Validation limit = Validation.rehydrate(1L, "MAX_AMOUNT", "DESC", ValidationDataType.NUMBER,
+            "A", now.minusDays(1), null, now, now, "creator");
+    private final Validation expired = Validation.rehydrate(2L, "OLD_FLAG", "DESC", ValidationDataType.BOOL,
+            "A", now.minusDays(10), now.minusDays(1), now, now, "creator");
+
+    private CatalogSnapshotProvider snapshots;
+    private CheckAuthorizationService service;
+
+    @BeforeEach
+    void setup() {
+        snapshots = mock(CatalogSnapshotProvider.class);
+        service = new CheckAuthorizationService(snapshots);
+    }
+
+    private CatalogSnapshot snapshot(List<SubtypePlanLink> links, String... mccs) {
+        return CatalogSnapshot.of(5L, List.of(bin), List.of(subtype), List.of(agency), List.of(plan),
+                Map.of(7L, PlanItemMembership.of(CommerceValidationMode.MCC, Arrays.asList(mccs))),
+                links, List.of(limit, expired),
+                List.of(ValidationMap.createNew("S01", "411111", 1L, null, 1500.0, null, "creator"),
+                        ValidationMap.createNew("S01", "411111", 2L, "SI", null, null, "creator")));
+    }
+
+    @Test
+    void checkAllowsAdmittedMccAndReturnsOnlyCurrentRules() {
+        when(snapshots.current()).thenReturn(snapshot(List.of(new SubtypePlanLink("S01", 7L, now, now, "creator")), "5411"));
+
+        StepVerifier.create(service.check(new AuthorizationQuery(PAN, "5411", null)))
+                .assertNext(d -> {
+                    assertTrue(d.allowed());
+                    assertEquals("S01", d.subtypeCode());
+                    assertEquals("PLAN", d.planCode());
+                    assertTrue(d.commerceAdmitted());
+                    assertEquals(1, d.rules().size());
+                    assertEquals("MAX_AMOUNT", d.rules().code(0));
+                    assertEquals(1500.0, d.rules().numberOr("MAX_AMOUNT", d.evaluatedAt(), Double.NaN));
+                    assertFalse(d.rules().flagOr("OLD_FLAG", d.evaluatedAt(), false));
+                    assertEquals(5L, d.catalogVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void checkDeniesWhenMccIsNotInPlanOrNoPlanIsAssigned() {
+        when(snapshots.current()).thenReturn(snapshot(List.of(new SubtypePlanLink("S01", 7L, now, now, "creator")), "5411"));
+        StepVerifier.create(service.check(new AuthorizationQuery(PAN, "5812", null)))
+                .assertNext(d -> {
+                    assertFalse(d.allowed());
+                    assertEquals(List.of(Reason.COMMERCE_NOT_ADMITTED), d.reasons());
+                })
+                .verifyComplete();
+
+        when(snapshots.current()).thenReturn(snapshot(List.of(), "5411"));
+        StepVerifier.create(service.check(new AuthorizationQuery(PAN, "5411", null)))
+                .assertNext(d -> {
+                    assertFalse(d.allowed());
+                    assertEquals(List.of(Reason.PLAN_NOT_ASSIGNED), d.reasons());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void checkRejectsInvalidInputAndUnavailableCatalog() {
+        StepVerifier.create(service.check(new AuthorizationQuery("4111", "5411", null)))
+                .expectErrorSatisfies(err -> assertEquals(AppError.AUTHORIZATION_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        StepVerifier.create(service.check(new AuthorizationQuery(PAN, null, null)))
+                .expectErrorSatisfies(err -> assertEquals(AppError.AUTHORIZATION_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+
+        when(snapshots.current()).thenReturn(CatalogSnapshot.EMPTY);
+        StepVerifier.create(service.check(new AuthorizationQuery(PAN, "5411", null)))
+                .expectErrorSatisfies(err -> assertEquals(AppError.AUTHORIZATION_UNAVAILABLE, ((AppException) err).getError()))
+                .verify();
+    }
+
+    @Test
+    void checkAllMarksInvalidItemsWithoutFailingTheBatch() {
+        when(snapshots.current()).thenReturn(snapshot(List.of(new SubtypePlanLink("S01", 7L, now, now, "creator")), "5411"));
+
+        List<AuthorizationDecision> out = service.checkAll(List.of(
+                new AuthorizationQuery(PAN, "5411", null),
+                new AuthorizationQuery("12", "5411", null),
+                new AuthorizationQuery("999999", "5411", null))).collectList().block();
+
+        assertEquals(3, out.size());
+        assertTrue(out.get(0).allowed());
+        assertEquals(List.of(Reason.INVALID_REQUEST), out.get(1).reasons());
+        assertEquals(List.of(Reason.BIN_NOT_FOUND), out.get(2).reasons());
+    }
+
+    @Test
+    void checkResolvesPrefixSubtypeAndPlanFromTheSameSnapshot() {
+        Subtype extended = Subtype.rehydrate("S02", "411111", "EXT", "DESC", "A",
+                "CC", "1", "22", "41111122", 2L, now, now, "creator");
+        CommercePlan other = CommercePlan.rehydrate(8L, "OTHER", "NAME", CommerceValidationMode.MCC,
+                "desc", "A", now, now, "creator");
+        when(snapshots.current()).thenReturn(CatalogSnapshot.of(9L, List.of(bin), List.of(subtype, extended),
+                List.of(agency, Agency.createNew("S02", "01", "AGENCIA", null, null, null, null, null, null,
+                        null, null, null, null, null, null, null, null, null, null)),
+                List.of(plan, other),
+                Map.of(8L, PlanItemMembership.of(CommerceValidationMode.MCC, List.of("5411"))),
+                List.of(new SubtypePlanLink("S02", 8L, now, now, "creator")), List.of(), List.of()));
+
+        StepVerifier.create(service.check(new AuthorizationQuery(PAN, "5411", null)))
+                .assertNext(d -> {
+                    assertTrue(d.allowed());
+                    assertEquals("41111122", d.matchedPrefix());
+                    assertEquals("S02", d.subtypeCode());
+                    assertEquals("OTHER", d.planCode());
+                    assertEquals(9L, d.catalogVersion());
+                })
+                .verifyComplete();
+        verify(snapshots, times(1)).current();
+    }
+}
@@ -3,7 +3,14 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.application.bin;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetCursor;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +23,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 class BinUseCasesTest {
@@ -24,12 +35,14 @@ class BinUseCasesTest {
     private BinRepository repo;
     private TransactionalOperator tx;
     private SubtypeReadOnlyRepository subtypeRepo;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setup() {
         repo = mock(BinRepository.class);
         subtypeRepo = mock(SubtypeReadOnlyRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         lenient().when(tx.transactional(ArgumentMatchers.<Mono<?>>any()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -40,7 +53,7 @@ class BinUseCasesTest {
 
     @Test
     void createBinChecksExistenceThenSaves() {
-        CreateBinService service = new CreateBinService(repo, tx);
+        CreateBinService service = new CreateBinService(repo, tx, changes);
         Bin expected = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, "actor");
 
         when(repo.existsById("123456")).thenReturn(Mono.just(false));
@@ -52,11 +65,14 @@ class BinUseCasesTest {
 
         verify(repo).existsById("123456");
         verify(repo).save(any(Bin.class));
+        verify(changes).publish(argThat(c -> c.entity() == CatalogChange.Entity.BIN
+                && c.operation() == CatalogChange.Operation.CREATE
+                && "123456".equals(c.key())));
     }
 
     @Test
     void createBinFailsWhenAlreadyExists() {
-        CreateBinService service = new CreateBinService(repo, tx);
+        CreateBinService service = new CreateBinService(repo, tx, changes);
         when(repo.existsById("123456")).thenReturn(Mono.just(true));
 
         StepVerifier.create(service.execute("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null))
@@ -65,6 +81,8 @@ class BinUseCasesTest {
                     assertEquals(AppError.BIN_ALREADY_EXISTS, ((AppException) err).getError());
                 })
                 .verify();
+
+        verifyNoInteractions(changes);
     }
 
     @Test
@@ -97,11 +115,54 @@ class BinUseCasesTest {
                 .verify();
     }
 
+    @Test
+    void scrollBinsFetchesOneExtraRowAndReturnsCursorOfLastItem() {
+        ListBinsService service = new ListBinsService(repo);
+        Bin b1 = Bin.createNew("111111", "A", "DEBITO", "12", "CC", "DESC", "N", null, null);
+        Bin b2 = Bin.createNew("222222", "B", "DEBITO", "12", "CC", "DESC", "N", null, null);
+        Bin b3 = Bin.createNew("333333", "C", "DEBITO", "12", "CC", "DESC", "N", null, null);
+        when(repo.findAfter(null, 3)).thenReturn(Flux.just(b1, b2, b3));
+        when(repo.findAfter("222222", 3)).thenReturn(Flux.just(b3));
+
+        StepVerifier.create(service.scroll(null, 2))
+                .assertNext(page -> {
+                    assertEquals(2, page.items().size());
+                    assertEquals(KeysetCursor.encode("222222"), page.nextCursor());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(service.scroll(KeysetCursor.encode("222222"), 2))
+                .assertNext(page -> {
+                    assertEquals(1, page.items().size());
+                    assertEquals(null, page.nextCursor());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(service.scroll("%%%", 2))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        verify(repo, never()).findAll(anyInt(), anyInt());
+    }
+
+    @Test
+    void listAndScrollRejectSizesAboveTheCap() {
+        ListBinsService service = new ListBinsService(repo);
+
+        StepVerifier.create(service.execute(0, KeysetPage.MAX_SIZE + 1))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        StepVerifier.create(service.scroll(null, Integer.MAX_VALUE))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        verify(repo, never()).findAll(anyInt(), anyInt());
+        verify(repo, never()).findAfter(any(), anyInt());
+    }
+
     @Test
     void updateBinValidatesSubtypeRestrictionAndSaves() {
         Bin current = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null);
         Bin updated = current.updateBasics("NEW", "DEBITO", "12", "CC", "DESC", "N", null, "actor");
-        UpdateBinService service = new UpdateBinService(repo, subtypeRepo, tx);
+        UpdateBinService service = new UpdateBinService(repo, subtypeRepo, tx, changes);
 
         when(repo.findById("123456")).thenReturn(Mono.just(current));
         when(subtypeRepo.existsAnyByBin("123456")).thenReturn(Mono.just(false));
@@ -117,7 +178,7 @@ class BinUseCasesTest {
     @Test
     void updateBinRejectsChangeWhenSubtypeExists() {
         Bin current = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null);
-        UpdateBinService service = new UpdateBinService(repo, subtypeRepo, tx);
+        UpdateBinService service = new UpdateBinService(repo, subtypeRepo, tx, changes);
 
         when(repo.findById("123456")).thenReturn(Mono.just(current));
         when(subtypeRepo.existsAnyByBin("123456")).thenReturn(Mono.just(true));
@@ -130,7 +191,7 @@ class BinUseCasesTest {
     @Test
     void changeStatusValidatesNewStatusAndSaves() {
         Bin current = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null);
-        ChangeBinStatusService service = new ChangeBinStatusService(repo, tx);
+        ChangeBinStatusService service = new ChangeBinStatusService(repo, tx, changes);
 
         when(repo.findById("123456")).thenReturn(Mono.just(current));
         when(repo.save(any(Bin.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
@@ -143,4 +204,82 @@ class BinUseCasesTest {
                 .expectErrorSatisfies(err -> assertEquals(AppError.BIN_INVALID_DATA, ((AppException) err).getError()))
                 .verify();
     }
+
+    @Test
+    void resolveBinReturnsLongestMatchFromSnapshot() {
+        Bin bin6 = Bin.createNew("411111", "VISA", "DEBITO", "12", "CC", "DESC", "Y", 2, null);
+        Bin bin8 = Bin.createNew("41111122", "VISA8", "CREDITO", "12", "CC", "DESC", "N", null, null);
+        Subtype ext07 = Subtype.createNew("S07", "411111", "EXT", "DESC", "CC", "1", "07", null);
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
+        when(snapshots.current()).thenReturn(CatalogSnapshot.of(1L, List.of(bin6, bin8), List.of(ext07),
+                List.of(), List.of(), Map.of(), List.of(), List.of(), List.of()));
+        ResolveBinService service = new ResolveBinService(snapshots);
+
+        StepVerifier.create(service.execute("4111119999999999"))
+                .assertNext(r -> {
+                    assertEquals("411111", r.matchedPrefix());
+                    assertNull(r.subtype());
+                })
+                .verifyComplete();
+        StepVerifier.create(service.execute("4111110712345678"))
+                .assertNext(r -> {
+                    assertEquals("41111107", r.matchedPrefix());
+                    assertEquals("411111", r.bin().bin());
+                    assertEquals("S07", r.subtype().subtypeCode());
+                })
+                .verifyComplete();
+        StepVerifier.create(service.execute("4111112200000000"))
+                .assertNext(r -> assertEquals("41111122", r.bin().bin()))
+                .verifyComplete();
+        StepVerifier.create(service.execute("5500000000000000"))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_NOT_FOUND, ((AppException) err).getError()))
+                .verify();
+    }
+
+    @Test
+    void resolveBinSeesEveryRefreshOfTheSnapshot() {
+        Subtype ext07 = Subtype.createNew("S07", "411111", "EXT", "DESC", "CC", "1", "07", null);
+        CatalogSnapshot base = CatalogSnapshot.of(1L,
+                List.of(Bin.createNew("411111", "VISA", "DEBITO", "12", "CC", "DESC", "Y", 2, null)),
+                List.of(ext07), List.of(), List.of(), Map.of(), List.of(), List.of(), List.of());
+        Subtype moved = ext07.updateBasics("EXT", "DESC", "CC", "1", "08", null);
+        CatalogSnapshot refreshed = base
+                .withBin(Bin.createNew("550000", "MC", "DEBITO", "12", "CC", "DESC", "N", null, null))
+                .withSubtype(moved);
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
+        when(snapshots.current()).thenReturn(base, refreshed, refreshed, refreshed);
+        ResolveBinService service = new ResolveBinService(snapshots);
+
+        StepVerifier.create(service.execute("5500001234"))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_NOT_FOUND, ((AppException) err).getError()))
+                .verify();
+        StepVerifier.create(service.execute("5500001234"))
+                .assertNext(r -> assertEquals("550000", r.bin().bin()))
+                .verifyComplete();
+        StepVerifier.create(service.execute("4111110712345678"))
+                .assertNext(r -> assertNull(r.subtype()))
+                .verifyComplete();
+        StepVerifier.create(service.execute("4111110812345678"))
+                .assertNext(r -> assertEquals("08", r.subtype().binExt()))
+                .verifyComplete();
+    }
+
+    @Test
+    void resolveBinValidatesPrefixAndReadiness() {
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
+        ResolveBinService service = new ResolveBinService(snapshots);
+
+        StepVerifier.create(service.execute("12345"))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        StepVerifier.create(service.execute("12345678901234567890"))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        verify(snapshots, never()).current();
+
+        when(snapshots.current()).thenReturn(CatalogSnapshot.EMPTY);
+        StepVerifier.create(service.execute("123456"))
+                .expectErrorSatisfies(err -> assertEquals(AppError.BIN_RESOLVER_UNAVAILABLE, ((AppException) err).getError()))
+                .verify();
+    }
 }
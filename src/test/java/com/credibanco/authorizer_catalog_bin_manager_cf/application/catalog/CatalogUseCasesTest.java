@@ -0,0 +1,68 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangeLog;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogExportStore;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.use_case.GetCatalogExportService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.use_case.StreamCatalogChangesService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class CatalogUseCasesTest {
+
+    private CatalogSnapshotProvider snapshots;
+    private CatalogExportStore store;
+
+    @BeforeEach
+    void setup() {
+        snapshots = mock(CatalogSnapshotProvider.class);
+        store = mock(CatalogExportStore.class);
+    }
+
+    @Test
+    void exportFailsWithServiceUnavailableUntilSnapshotIsLoaded() {
+        when(snapshots.current()).thenReturn(CatalogSnapshot.EMPTY);
+
+        StepVerifier.create(new GetCatalogExportService(snapshots, store).execute())
+                .expectErrorSatisfies(err -> assertEquals(AppError.CATALOG_EXPORT_UNAVAILABLE, ((AppException) err).getError()))
+                .verify();
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void exportDelegatesCurrentSnapshotToStore() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(3L, List.of(), List.of(), List.of(), List.of(),
+                Map.of(), List.of(), List.of(), List.of());
+        CatalogExport export = new CatalogExport(3L, Path.of("catalog-ab12.bin"), 128L, 0, "ab12",
+                OffsetDateTime.now());
+        when(snapshots.current()).thenReturn(snapshot);
+        when(store.exportOf(snapshot)).thenReturn(export);
+
+        StepVerifier.create(new GetCatalogExportService(snapshots, store).execute())
+                .expectNext(export)
+                .verifyComplete();
+    }
+
+    @Test
+    void changesRejectNegativeVersion() {
+        CatalogChangeLog changeLog = mock(CatalogChangeLog.class);
+
+        StepVerifier.create(new StreamCatalogChangesService(changeLog).execute(null, -1))
+                .expectErrorSatisfies(err -> assertEquals(AppError.CATALOG_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+        verify(changeLog, never()).since(any(), anyLong());
+    }
+}
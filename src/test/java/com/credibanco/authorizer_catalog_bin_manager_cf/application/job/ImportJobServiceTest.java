@@ -0,0 +1,252 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.job;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobStatus;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound.ImportJobStore;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.use_case.ImportJobService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsImportProgress;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.AddPlanItemUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImportJobServiceTest {
+
+    private MemoryStore store;
+    private CommercePlanRepository planRepo;
+    private AddPlanItemUseCase addItemUC;
+    private ImportJobService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new MemoryStore();
+        planRepo = mock(CommercePlanRepository.class);
+        addItemUC = mock(AddPlanItemUseCase.class);
+        service = new ImportJobService(store, planRepo, addItemUC, 1, 1, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void submitSpoolsPayloadAndRunsJobToCompletion() {
+        CommercePlan plan = CommercePlan.rehydrate(1L, "PMCC", "Plan", CommerceValidationMode.MCC, "d", "A",
+                OffsetDateTime.now(), OffsetDateTime.now(), "by");
+        doReturn(Mono.just(plan)).when(planRepo).findByCode("PMCC");
+        when(addItemUC.importStream(eq("PMCC"), any(), eq("actor"))).thenAnswer(inv -> {
+            Flux<String> values = inv.getArgument(1);
+            return values.count().map(n -> new PlanItemsImportProgress("PMCC", n, n, n - 1, 0, 1, 1, true,
+                    List.of("x"), List.of())).flux();
+        });
+
+        ImportJob submitted = service.submit(ImportJobKind.PLAN_ITEMS, "PMCC", Flux.just("5411", "5812", "x"), "actor").block();
+
+        assertThat(submitted.status()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(submitted.total()).isEqualTo(3);
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> store.jobs.get(submitted.id()).status() == ImportJobStatus.COMPLETED);
+        ImportJob done = store.jobs.get(submitted.id());
+        assertThat(done.position()).isEqualTo(3);
+        assertThat(done.inserted()).isEqualTo(2);
+        assertThat(done.invalid()).isEqualTo(1);
+        assertThat(store.spools).doesNotContainKey(submitted.id());
+        assertThat(store.owners).containsKey(submitted.id());
+    }
+
+    @Test
+    void resumeContinuesFromCheckpointAddingToPreviousCounters() {
+        ImportJob interrupted = ImportJob.advance(
+                ImportJob.queued("j1", ImportJobKind.PLAN_ITEMS, "PMCC", "actor", 4, OffsetDateTime.now())
+                        .running(OffsetDateTime.now()),
+                2, 2, 2, 0, 0, 1, List.of(), List.of());
+        store.save(interrupted);
+        store.spools.put("j1", List.of("5411", "5812", "5999", "5411"));
+        List<String> seen = new ArrayList<>();
+        when(addItemUC.importStream(eq("PMCC"), any(), eq("actor"))).thenAnswer(inv -> {
+            Flux<String> values = inv.getArgument(1);
+            return values.doOnNext(seen::add).count()
+                    .map(n -> new PlanItemsImportProgress("PMCC", n, n, 1, 1, 0, 1, true, List.of(), List.of("5411"))).flux();
+        });
+
+        service.resumeUnfinished();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> store.jobs.get("j1").status() == ImportJobStatus.COMPLETED);
+        ImportJob done = store.jobs.get("j1");
+        assertThat(seen).containsExactly("5999", "5411");
+        assertThat(done.position()).isEqualTo(4);
+        assertThat(done.inserted()).isEqualTo(3);
+        assertThat(done.duplicates()).isEqualTo(1);
+        assertThat(done.chunks()).isEqualTo(2);
+    }
+
+    @Test
+    void resumeSkipsJobsLeasedByAnotherReplicaUntilTheLeaseExpires() {
+        store.save(ImportJob.queued("j2", ImportJobKind.PLAN_ITEMS, "PMCC", "actor", 1, OffsetDateTime.now()));
+        store.spools.put("j2", List.of("5411"));
+        store.owners.put("j2", "other");
+        store.leases.put("j2", Instant.now().plusSeconds(60));
+        when(addItemUC.importStream(eq("PMCC"), any(), eq("actor"))).thenReturn(Flux.just(
+                new PlanItemsImportProgress("PMCC", 1, 1, 1, 0, 0, 1, true, List.of(), List.of())));
+
+        service.resumeUnfinished();
+        verify(addItemUC, after(200).never()).importStream(any(), any(), any());
+
+        store.leases.put("j2", Instant.now().minusSeconds(1));
+        service.resumeUnfinished();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> store.jobs.get("j2").status() == ImportJobStatus.COMPLETED);
+        assertThat(store.owners.get("j2")).isNotEqualTo("other");
+    }
+
+    @Test
+    void replicasSharingTheStoreRunEachJobOnce() {
+        ImportJobService other = new ImportJobService(store, planRepo, addItemUC, 1, 1, Duration.ofMinutes(1));
+        try {
+            store.save(ImportJob.queued("j3", ImportJobKind.PLAN_ITEMS, "PMCC", "actor", 1, OffsetDateTime.now()));
+            store.spools.put("j3", List.of("5411"));
+            when(addItemUC.importStream(eq("PMCC"), any(), eq("actor"))).thenReturn(Flux.just(
+                    new PlanItemsImportProgress("PMCC", 1, 1, 1, 0, 0, 1, true, List.of(), List.of())));
+
+            service.resumeUnfinished();
+            other.resumeUnfinished();
+
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> store.jobs.get("j3").status() == ImportJobStatus.COMPLETED);
+            verify(addItemUC, after(200).times(1)).importStream(any(), any(), any());
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    void submitRejectsUnknownPlanAndMissingJob() {
+        doReturn(Mono.empty()).when(planRepo).findByCode("NOPE");
+
+        StepVerifier.create(service.submit(ImportJobKind.PLAN_ITEMS, "NOPE", Flux.just("5411"), "actor"))
+                .expectErrorSatisfies(ex -> assertThat(((AppException) ex).getError()).isEqualTo(AppError.PLAN_NOT_FOUND))
+                .verify();
+        StepVerifier.create(service.execute("missing"))
+                .expectErrorSatisfies(ex -> assertThat(((AppException) ex).getError()).isEqualTo(AppError.JOB_NOT_FOUND))
+                .verify();
+    }
+
+    private static final class MemoryStore implements ImportJobStore {
+        final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+        final Map<String, List<String>> spools = new ConcurrentHashMap<>();
+        final Map<String, String> owners = new ConcurrentHashMap<>();
+        final Map<String, Instant> leases = new ConcurrentHashMap<>();
+
+        @Override
+        public void save(ImportJob job) {
+            jobs.put(job.id(), job);
+        }
+
+        @Override
+        public Optional<ImportJob> find(String id) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+
+        @Override
+        public List<ImportJob> findClaimable() {
+            return jobs.values().stream()
+                    .filter(j -> !j.status().isFinished() && !leased(j.id(), null))
+                    .toList();
+        }
+
+        @Override
+        public synchronized boolean claim(String id, String owner, Duration lease) {
+            ImportJob job = jobs.get(id);
+            if (job == null || job.status().isFinished() || leased(id, owner)) {
+                return false;
+            }
+            owners.put(id, owner);
+            leases.put(id, Instant.now().plus(lease));
+            return true;
+        }
+
+        @Override
+        public synchronized int renew(String owner, Duration lease) {
+            int renewed = 0;
+            for (Map.Entry<String, String> e : owners.entrySet()) {
+                if (e.getValue().equals(owner) && !jobs.get(e.getKey()).status().isFinished()) {
+                    leases.put(e.getKey(), Instant.now().plus(lease));
+                    renewed++;
+                }
+            }
+            return renewed;
+        }
+
+        @Override
+        public synchronized void release(String id, String owner) {
+            if (owner.equals(owners.get(id))) {
+                owners.remove(id);
+                leases.remove(id);
+            }
+        }
+
+        /** Tiene un dueño distinto de {@code except} con el lease vigente. */
+        private boolean leased(String id, String except) {
+            String current = owners.get(id);
+            return current != null && !current.equals(except) && leases.get(id).isAfter(Instant.now());
+        }
+
+        @Override
+        public SpoolWriter openSpool(String id) {
+            List<String> values = new ArrayList<>();
+            return new SpoolWriter() {
+                @Override
+                public void write(String value) {
+                    values.add(value);
+                }
+
+                @Override
+                public long count() {
+                    return values.size();
+                }
+
+                @Override
+                public void close() {
+                    spools.put(id, List.copyOf(values));
+                }
+            };
+        }
+
+        @Override
+        public Stream<String> readSpool(String id, long skip) {
+            return spools.getOrDefault(id, List.of()).stream().skip(skip);
+        }
+
+        @Override
+        public void deleteSpool(String id) {
+            spools.remove(id);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemMembership;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanItemMembershipTest {
+
+    @Test
+    void mccBitsetAnswersMembershipAndIgnoresMalformedValues() {
+        PlanItemMembership mcc = PlanItemMembership.of(CommerceValidationMode.MCC,
+                List.of("5411", "0000", "9999", "5411", "54110", "ABCD"));
+
+        assertThat(mcc.size()).isEqualTo(3);
+        assertThat(mcc.contains("0000")).isTrue();
+        assertThat(mcc.contains("9999")).isTrue();
+        assertThat(mcc.contains("5412")).isFalse();
+        assertThat(mcc.contains("541")).isFalse();
+        assertThat(mcc.sizeInBytes()).isEqualTo(1256L);
+    }
+
+    @Test
+    void merchantIdsStaySortedAndCopyOnWrite() {
+        PlanItemMembership base = PlanItemMembership.of(CommerceValidationMode.MERCHANT_ID,
+                List.of("900000001", "000000007", "123456789"));
+
+        PlanItemMembership added = base.with("500000000");
+        PlanItemMembership removed = added.without("000000007");
+
+        assertThat(base.contains("500000000")).isFalse();
+        assertThat(added.contains("500000000")).isTrue();
+        assertThat(removed.contains("000000007")).isFalse();
+        assertThat(removed.size()).isEqualTo(3);
+
+        List<String> ordered = new ArrayList<>();
+        removed.forEachValue(ordered::add);
+        assertThat(ordered).containsExactly("123456789", "500000000", "900000001");
+    }
+
+    @Test
+    void mccWithAndWithoutReturnSameInstanceWhenNothingChanges() {
+        PlanItemMembership mcc = PlanItemMembership.empty(CommerceValidationMode.MCC).with("5411");
+
+        assertThat(mcc.with("5411")).isSameAs(mcc);
+        assertThat(mcc.without("1234")).isSameAs(mcc);
+
+        List<String> values = new ArrayList<>();
+        mcc.with("0042").forEachValue(values::add);
+        assertThat(values).containsExactly("0042", "5411");
+    }
+}
@@ -1,9 +1,12 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanItemRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypePlanRepository;
-import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.AddPlanItemService;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.AssignPlanToSubtypeService;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.ChangePlanItemStatusService;
@@ -27,6 +30,7 @@ import reactor.test.StepVerifier;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,16 +40,18 @@ class PlanItemServicesTest {
     private CommercePlanRepository planRepo;
     private CommercePlanItemRepository itemRepo;
     private SubtypePlanRepository subtypePlanRepo;
-    private SubtypeReadOnlyRepository subtypeReadOnlyRepo;
+    private ExistenceProbeRepository probes;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setUp() {
         planRepo = mock(CommercePlanRepository.class);
         itemRepo = mock(CommercePlanItemRepository.class);
         subtypePlanRepo = mock(SubtypePlanRepository.class);
-        subtypeReadOnlyRepo = mock(SubtypeReadOnlyRepository.class);
+        probes = mock(ExistenceProbeRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         lenient().doReturn(Mono.empty()).when(planRepo).findByCode(anyString());
         lenient().when(planRepo.findAll(any(), any(), anyInt(), anyInt())).thenReturn(Flux.empty());
@@ -81,7 +87,7 @@ class PlanItemServicesTest {
         when(itemRepo.findByValue(merchantPlan.planId(), "123456789")).thenReturn(Mono.empty());
         when(itemRepo.insertMerchant(merchantPlan.planId(), "123456789", "actor")).thenReturn(Mono.just(created));
 
-        AddPlanItemService service = new AddPlanItemService(planRepo, itemRepo, tx);
+        AddPlanItemService service = new AddPlanItemService(planRepo, itemRepo, tx, changes);
 
         StepVerifier.create(service.addValue("P1", "123456789", "actor"))
                 .expectNext(created)
@@ -116,7 +122,7 @@ class PlanItemServicesTest {
         when(itemRepo.insertMerchantBulk(eq(plan.planId()), eq(List.of("987654321")), eq("actor")))
                 .thenReturn(Mono.just(1));
 
-        AddPlanItemService service = new AddPlanItemService(planRepo, itemRepo, tx);
+        AddPlanItemService service = new AddPlanItemService(planRepo, itemRepo, tx, changes);
 
         StepVerifier.create(service.addMany("PCODE", Arrays.asList(" 123456789 ", "invalid", null, "", "987654321"), "actor"))
                 .expectNextMatches(result -> result.inserted() == 1
@@ -126,17 +132,44 @@ class PlanItemServicesTest {
                 .verifyComplete();
     }
 
+    @Test
+    void importStreamCommitsPerChunkAndReportsCountsWithSamples() {
+        CommercePlan plan = CommercePlan.rehydrate(4L, "PMCC", "Plan", CommerceValidationMode.MCC, "d", "A",
+                OffsetDateTime.now(), OffsetDateTime.now(), "by");
+        doReturn(Mono.just(plan)).when(planRepo).findByCode("PMCC");
+        when(itemRepo.findExistingValues(eq(plan.planId()), any())).thenReturn(Flux.just("5411"));
+        when(itemRepo.insertMccBulk(eq(plan.planId()), eq(List.of("5812")), eq("actor")))
+                .thenReturn(Mono.just(1));
+
+        AddPlanItemService service = new AddPlanItemService(planRepo, itemRepo, tx, changes);
+
+        StepVerifier.create(service.importStream("PMCC", Flux.just(" 5411 ", "abc", "", "5812", "5812"), "actor"))
+                .expectNextMatches(p -> !p.done() && p.chunks() == 1 && p.inserted() == 1 && p.position() == 5)
+                .expectNextMatches(p -> p.done()
+                        && p.position() == 5
+                        && p.received() == 4
+                        && p.inserted() == 1
+                        && p.duplicates() == 2
+                        && p.invalid() == 1
+                        && p.invalidSample().equals(List.of("abc"))
+                        && p.duplicateSample().containsAll(List.of("5411", "5812")))
+                .verifyComplete();
+
+        verify(tx, times(1)).transactional(ArgumentMatchers.<Mono<?>>any());
+        verify(changes, times(1)).publish(any());
+    }
+
     @Test
     void assignPlanToSubtypeValidatesSubtypePlanAndItems() {
-        AssignPlanToSubtypeService service = new AssignPlanToSubtypeService(planRepo, subtypePlanRepo, subtypeReadOnlyRepo, itemRepo, tx);
+        AssignPlanToSubtypeService service = new AssignPlanToSubtypeService(planRepo, subtypePlanRepo, probes, tx, changes);
 
-        when(subtypeReadOnlyRepo.existsByCode("SUB1")).thenReturn(Mono.just(false));
+        stubProbe();
 
         StepVerifier.create(service.assign("SUB1", "PLAN", "actor"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.SUBTYPE_NOT_FOUND, ((AppException) err).getError()))
                 .verify();
 
-        when(subtypeReadOnlyRepo.existsByCode("SUB1")).thenReturn(Mono.just(true));
+        stubProbe(ExistenceCheck.subtypeCode("SUB1"));
         doReturn(Mono.empty()).when(planRepo).findByCode("PLAN");
 
         StepVerifier.create(service.assign("SUB1", "PLAN", "actor"))
@@ -146,27 +179,33 @@ class PlanItemServicesTest {
         CommercePlan plan = CommercePlan.rehydrate(4L, "PLAN", "Name", CommerceValidationMode.MCC, "d", "A",
                 OffsetDateTime.now(), OffsetDateTime.now(), "by");
         doReturn(Mono.just(plan)).when(planRepo).findByCode("PLAN");
-        when(itemRepo.existsActiveByPlanId(plan.planId())).thenReturn(Mono.just(false));
 
         StepVerifier.create(service.assign("SUB1", "PLAN", "actor"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.PLAN_ASSIGNMENT_CONFLICT, ((AppException) err).getError()))
                 .verify();
 
-        when(itemRepo.existsActiveByPlanId(plan.planId())).thenReturn(Mono.just(true));
+        stubProbe(ExistenceCheck.subtypeCode("SUB1"), ExistenceCheck.planWithActiveItems("PLAN"));
         SubtypePlanLink link = SubtypePlanLink.rehydrate("SUB1", 5L, OffsetDateTime.now(), OffsetDateTime.now(), "actor");
-        when(subtypePlanRepo.upsert("SUB1", plan.planId(), "actor")).thenReturn(Mono.just(1));
-        when(subtypePlanRepo.findBySubtype("SUB1")).thenReturn(Mono.just(link));
+        when(subtypePlanRepo.upsertAndGet("SUB1", plan.planId(), "actor")).thenReturn(Mono.just(link));
 
         StepVerifier.create(service.assign("SUB1", "PLAN", "actor"))
                 .expectNext(link)
                 .verifyComplete();
 
-        verify(subtypePlanRepo).upsert("SUB1", plan.planId(), "actor");
+        verify(subtypePlanRepo).upsertAndGet("SUB1", plan.planId(), "actor");
+        verify(probes, times(4)).probe(List.of(ExistenceCheck.subtypeCode("SUB1"), ExistenceCheck.planWithActiveItems("PLAN")));
+        verifyNoInteractions(itemRepo);
+    }
+
+    private void stubProbe(ExistenceCheck... existing) {
+        Set<ExistenceCheck> found = Set.of(existing);
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), found::contains)));
     }
 
     @Test
     void changePlanItemStatusHandlesValidationAndMissingResources() {
-        ChangePlanItemStatusService service = new ChangePlanItemStatusService(planRepo, itemRepo, tx);
+        ChangePlanItemStatusService service = new ChangePlanItemStatusService(planRepo, itemRepo, tx, changes);
 
         StepVerifier.create(service.execute("PLAN", "value", "X", "by"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.PLAN_ITEM_INVALID_DATA, ((AppException) err).getError()))
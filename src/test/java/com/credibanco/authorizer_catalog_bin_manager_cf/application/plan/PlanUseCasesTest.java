@@ -1,5 +1,7 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.plan;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.ChangePlanStatusService;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.CreatePlanService;
@@ -28,12 +30,14 @@ class PlanUseCasesTest {
 
     private CommercePlanRepository repo;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
 
     @BeforeEach
     void setUp() {
         repo = mock(CommercePlanRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         when(tx.transactional(ArgumentMatchers.<Mono<?>>any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -46,7 +50,7 @@ class PlanUseCasesTest {
     void createPlanRejectsDuplicatesAndMapsValidationErrors() {
         when(repo.existsByCode("DUP")).thenReturn(Mono.just(true));
 
-        CreatePlanService service = new CreatePlanService(repo, tx);
+        CreatePlanService service = new CreatePlanService(repo, tx, changes);
 
         StepVerifier.create(service.execute("DUP", "NAME", CommerceValidationMode.MERCHANT_ID, "desc", "creator"))
                 .expectErrorSatisfies(err -> {
@@ -71,7 +75,7 @@ class PlanUseCasesTest {
         when(repo.findByCode("CODE")).thenReturn(Mono.just(existing));
         when(repo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
-        UpdatePlanService service = new UpdatePlanService(repo);
+        UpdatePlanService service = new UpdatePlanService(repo, changes);
 
         StepVerifier.create(service.execute("CODE", "UPDATED", "new desc", CommerceValidationMode.MCC.name(), "editor"))
                 .expectNextMatches(saved -> saved.name().equals("UPDATED") && saved.validationMode() == CommerceValidationMode.MCC)
@@ -101,7 +105,7 @@ class PlanUseCasesTest {
         when(repo.findByCode("CODE")).thenReturn(Mono.just(current));
         when(repo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
-        ChangePlanStatusService service = new ChangePlanStatusService(repo);
+        ChangePlanStatusService service = new ChangePlanStatusService(repo, changes);
 
         StepVerifier.create(service.execute("CODE", "I", "actor"))
                 .assertNext(updated -> assertEquals("I", updated.status()))
@@ -110,6 +114,8 @@ class PlanUseCasesTest {
         ArgumentCaptor<CommercePlan> saved = ArgumentCaptor.forClass(CommercePlan.class);
         verify(repo).save(saved.capture());
         assertThat(saved.getValue().updatedBy()).isEqualTo("actor");
+        verify(changes).publish(argThat(c -> c.entity() == CatalogChange.Entity.PLAN
+                && c.operation() == CatalogChange.Operation.STATUS && c.key().equals("CODE")));
 
         StepVerifier.create(service.execute("CODE", "X", "actor"))
                 .expectErrorSatisfies(err -> {
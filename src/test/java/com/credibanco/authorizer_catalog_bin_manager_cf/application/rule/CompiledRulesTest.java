@@ -0,0 +1,83 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledRulesTest {
+
+    private final OffsetDateTime now = OffsetDateTime.now();
+    private final long nowMillis = now.toInstant().toEpochMilli();
+
+    private Validation validation(long id, String code, ValidationDataType type, String status,
+                                  OffsetDateTime from, OffsetDateTime to) {
+        return Validation.rehydrate(id, code, "DESC", type, status, from, to, now, now, "creator");
+    }
+
+    @Test
+    void compilesTypedValuesSortedByCodeAndSkipsInactiveOrExpired() {
+        Map<Long, Validation> validations = Map.of(
+                1L, validation(1L, "MAX_AMOUNT", ValidationDataType.NUMBER, "A", null, null),
+                2L, validation(2L, "ALLOW_ECOM", ValidationDataType.BOOL, "A", null, null),
+                3L, validation(3L, "COUNTRY", ValidationDataType.TEXT, "A", null, null),
+                4L, validation(4L, "DISABLED", ValidationDataType.BOOL, "I", null, null),
+                5L, validation(5L, "EXPIRED", ValidationDataType.BOOL, "A", null, now.minusDays(1)));
+        List<ValidationMap> maps = List.of(
+                ValidationMap.createNew("S01", "411111", 1L, null, 1500.0, null, "creator"),
+                ValidationMap.createNew("S01", "411111", 2L, "SI", null, null, "creator"),
+                ValidationMap.createNew("S01", "411111", 3L, null, null, "CO", "creator"),
+                ValidationMap.createNew("S01", "411111", 4L, "SI", null, null, "creator"),
+                ValidationMap.createNew("S01", "411111", 5L, "SI", null, null, "creator"));
+
+        CompiledRules rules = CompiledRules.compile(maps, validations, now);
+
+        assertThat(rules.size()).isEqualTo(3);
+        assertThat(rules.code(0)).isEqualTo("ALLOW_ECOM");
+        assertThat(rules.code(2)).isEqualTo("MAX_AMOUNT");
+        assertThat(rules.flagOr("ALLOW_ECOM", nowMillis, false)).isTrue();
+        assertThat(rules.numberOr("MAX_AMOUNT", nowMillis, 0)).isEqualTo(1500.0);
+        assertThat(rules.textOr("COUNTRY", nowMillis, null)).isSameAs("CO".intern());
+        assertThat(rules.indexOf("DISABLED")).isNegative();
+        assertThat(rules.numberOr("ALLOW_ECOM", nowMillis, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void validityWindowIsCheckedOnRead() {
+        Map<Long, Validation> validations = Map.of(
+                1L, validation(1L, "FUTURE", ValidationDataType.BOOL, "A", now.plusDays(1), null));
+
+        CompiledRules rules = CompiledRules.compile(
+                List.of(ValidationMap.createNew("S01", "411111", 1L, "SI", null, null, "creator")), validations, now);
+
+        assertThat(rules.size()).isEqualTo(1);
+        assertThat(rules.flagOr("FUTURE", nowMillis, false)).isFalse();
+        assertThat(rules.flagOr("FUTURE", now.plusDays(2).toInstant().toEpochMilli(), false)).isTrue();
+    }
+
+    @Test
+    void snapshotRecompilesPairOnMappingAndValidationChanges() {
+        Validation limit = validation(1L, "MAX_AMOUNT", ValidationDataType.NUMBER, "A", null, null);
+        ValidationMap map = ValidationMap.createNew("S01", "411111", 1L, null, 1500.0, null, "creator");
+        CatalogSnapshot base = CatalogSnapshot.of(1L, List.of(), List.of(), List.of(), List.of(),
+                Map.of(), List.of(), List.of(limit), List.of(map));
+
+        assertThat(base.compiledRulesOf("S01", "411111").numberOr("MAX_AMOUNT", nowMillis, 0)).isEqualTo(1500.0);
+        assertThat(base.compiledRulesOf("S01", "999999")).isSameAs(CompiledRules.EMPTY);
+
+        CatalogSnapshot unmapped = base.withValidationMap(map.changeStatus("I", "ops"));
+        assertThat(unmapped.compiledRulesOf("S01", "411111").size()).isZero();
+
+        CatalogSnapshot disabled = base.withValidation(limit.changeStatus("I", "ops"));
+        assertThat(disabled.compiledRulesOf("S01", "411111").size()).isZero();
+        assertThat(base.compiledRulesOf("S01", "411111").size()).isEqualTo(1);
+    }
+}
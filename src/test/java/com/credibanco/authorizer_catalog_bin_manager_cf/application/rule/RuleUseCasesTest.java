@@ -1,6 +1,10 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule;
 
-import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.SubtypeReadOnlyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case.*;
@@ -22,6 +26,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.OffsetDateTime;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,15 +35,28 @@ class RuleUseCasesTest {
 
     private ValidationRepository validationRepo;
     private ValidationMapRepository mapRepo;
-    private SubtypeReadOnlyRepository subtypeRepo;
+    private ExistenceProbeRepository probes;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setup() {
         validationRepo = mock(ValidationRepository.class);
         mapRepo = mock(ValidationMapRepository.class);
-        subtypeRepo = mock(SubtypeReadOnlyRepository.class);
+        probes = mock(ExistenceProbeRepository.class);
         tx = TransactionalOperator.create(new NoOpReactiveTransactionManager());
+        changes = mock(CatalogChangePublisher.class);
+    }
+
+    private void stubProbe(ExistenceCheck... existing) {
+        Set<ExistenceCheck> found = Set.of(existing);
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), found::contains)));
+    }
+
+    private void stubProbeAllExist() {
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), check -> true)));
     }
 
     private static class NoOpReactiveTransactionManager implements ReactiveTransactionManager {
@@ -63,7 +81,7 @@ class RuleUseCasesTest {
 
     @Test
     void createValidationChecksExistenceAndPersists() {
-        CreateValidationService service = new CreateValidationService(validationRepo, tx);
+        CreateValidationService service = new CreateValidationService(validationRepo, tx, changes);
         Validation created = Validation.createNew("CODE", "DESC", ValidationDataType.BOOL, "actor");
 
         when(validationRepo.existsByCode("CODE")).thenReturn(Mono.just(false));
@@ -79,7 +97,7 @@ class RuleUseCasesTest {
 
     @Test
     void createValidationFailsOnDuplicateCode() {
-        CreateValidationService service = new CreateValidationService(validationRepo, tx);
+        CreateValidationService service = new CreateValidationService(validationRepo, tx, changes);
         when(validationRepo.existsByCode("CODE")).thenReturn(Mono.just(true));
 
         StepVerifier.create(service.execute("CODE", "DESC", ValidationDataType.BOOL, null))
@@ -90,7 +108,7 @@ class RuleUseCasesTest {
 
     @Test
     void updateValidationUpdatesDescription() {
-        UpdateValidationService service = new UpdateValidationService(validationRepo);
+        UpdateValidationService service = new UpdateValidationService(validationRepo, changes);
         Validation current = Validation.createNew("CODE", "DESC", ValidationDataType.TEXT, "creator");
         Validation updated = current.updateBasics("NEW DESC", "upd");
 
@@ -104,7 +122,7 @@ class RuleUseCasesTest {
 
     @Test
     void updateValidationFailsWhenNotFound() {
-        UpdateValidationService service = new UpdateValidationService(validationRepo);
+        UpdateValidationService service = new UpdateValidationService(validationRepo, changes);
         when(validationRepo.findByCode("CODE")).thenReturn(Mono.empty());
 
         StepVerifier.create(service.execute("CODE", "NEW", null))
@@ -115,7 +133,7 @@ class RuleUseCasesTest {
 
     @Test
     void changeValidationStatusValidatesNewStatus() {
-        ChangeValidationStatusService service = new ChangeValidationStatusService(validationRepo, tx);
+        ChangeValidationStatusService service = new ChangeValidationStatusService(validationRepo, tx, changes);
         Validation current = Validation.createNew("CODE", "DESC", ValidationDataType.TEXT, "creator");
         Validation changed = current.changeStatus("I", "upd");
 
@@ -134,13 +152,12 @@ class RuleUseCasesTest {
 
     @Test
     void mapRuleAttachValidatesSubtypeAndValue() {
-        MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+        MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
         Validation validation = Validation.rehydrate(5L, "CODE", "DESC", ValidationDataType.BOOL, "A",
                 OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2), OffsetDateTime.now().minusDays(2), "u");
         ValidationMap mapped = ValidationMap.createNew("ST", "123456", 5L, "SI", null, null, "actor");
 
-        when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(true));
-        when(subtypeRepo.existsByCodeAndBin("ST", "123456")).thenReturn(Mono.just(true));
+        stubProbe(ExistenceCheck.subtypeCode("ST"), ExistenceCheck.subtype("123456", "ST"));
         when(validationRepo.findByCode("CODE")).thenReturn(Mono.just(validation));
         when(mapRepo.findByNaturalKey("ST", "123456", 5L)).thenReturn(Mono.empty());
         when(mapRepo.save(any(ValidationMap.class))).thenReturn(Mono.just(mapped));
@@ -152,12 +169,11 @@ class RuleUseCasesTest {
 
     @Test
     void mapRuleAttachRejectsInactiveValidation() {
-        MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+        MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
         Validation validation = Validation.rehydrate(5L, "CODE", "DESC", ValidationDataType.TEXT, "I",
                 OffsetDateTime.now().minusDays(2), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2), OffsetDateTime.now().minusDays(2), "u");
 
-        when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(true));
-        when(subtypeRepo.existsByCodeAndBin("ST", "123456")).thenReturn(Mono.just(true));
+        stubProbe(ExistenceCheck.subtypeCode("ST"), ExistenceCheck.subtype("123456", "ST"));
         when(validationRepo.findByCode("CODE")).thenReturn(Mono.just(validation));
 
         StepVerifier.create(service.attach("ST", "123456", "CODE", "value", "actor"))
@@ -167,7 +183,7 @@ class RuleUseCasesTest {
 
     @Test
     void changeRuleStatusPropagatesErrorsWhenMappingMissing() {
-        MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+        MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
         Validation validation = Validation.rehydrate(5L, "CODE", "DESC", ValidationDataType.TEXT, "A",
                 OffsetDateTime.now().minusDays(2), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2), OffsetDateTime.now().minusDays(2), "u");
 
@@ -236,7 +252,7 @@ class RuleUseCasesTest {
     class ListRulesForSubtype {
         @Test
         void listRulesRejectsInvalidPagination() {
-            ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepo);
+            ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepo, validationRepo, () -> CatalogSnapshot.EMPTY);
 
             StepVerifier.create(service.execute("ST", "123456", null, -1, 0))
                     .expectErrorSatisfies(err -> assertEquals(AppError.RULES_MAP_INVALID_DATA,
@@ -246,7 +262,7 @@ class RuleUseCasesTest {
 
         @Test
         void listRulesTrimsBlankStatus() {
-            ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepo);
+            ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepo, validationRepo, () -> CatalogSnapshot.EMPTY);
             ValidationMap map = ValidationMap.createNew("ST", "123456", 1L, "SI", null, null, "actor");
             when(mapRepo.findResolved(eq("ST"), eq("123456"), any(), eq(1), eq(10))).thenReturn(Flux.just(map));
 
@@ -264,7 +280,7 @@ class RuleUseCasesTest {
     class MapRule {
         @Test
         void attachFailsWhenValueMissing() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
 
             StepVerifier.create(service.attach("ST", "123456", "CODE", null, "actor"))
                     .expectErrorSatisfies(err -> assertEquals(AppError.RULES_MAP_INVALID_DATA,
@@ -274,9 +290,8 @@ class RuleUseCasesTest {
 
         @Test
         void attachFailsWhenSubtypeMissing() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
-            when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(false));
-            when(subtypeRepo.existsByCodeAndBin(anyString(), anyString())).thenReturn(Mono.just(true));
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
+            stubProbe();
             when(validationRepo.findByCode("CODE")).thenReturn(Mono.just(Validation.createNew("CODE", "DESC",
                     ValidationDataType.BOOL, "actor")));
 
@@ -288,9 +303,8 @@ class RuleUseCasesTest {
 
         @Test
         void attachFailsWhenBinMissing() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
-            when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(true));
-            when(subtypeRepo.existsByCodeAndBin("ST", "123456")).thenReturn(Mono.just(false));
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
+            stubProbe(ExistenceCheck.subtypeCode("ST"));
             when(validationRepo.findByCode("CODE")).thenReturn(Mono.just(Validation.createNew("CODE", "DESC",
                     ValidationDataType.BOOL, "actor")));
 
@@ -302,9 +316,8 @@ class RuleUseCasesTest {
 
         @Test
         void attachFailsWhenValidationMissing() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
-            when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(true));
-            when(subtypeRepo.existsByCodeAndBin("ST", "123456")).thenReturn(Mono.just(true));
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
+            stubProbe(ExistenceCheck.subtypeCode("ST"), ExistenceCheck.subtype("123456", "ST"));
             when(validationRepo.findByCode("CODE")).thenReturn(Mono.empty());
 
             StepVerifier.create(service.attach("ST", "123456", "CODE", true, "actor"))
@@ -315,13 +328,12 @@ class RuleUseCasesTest {
 
         @Test
         void attachFailsWhenValidationNotActiveYet() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
             Validation validation = Validation.rehydrate(5L, "CODE", "DESC", ValidationDataType.TEXT, "A",
                     OffsetDateTime.now().plusDays(1), OffsetDateTime.now().plusDays(5), OffsetDateTime.now().minusDays(1),
                     OffsetDateTime.now().minusDays(1), "creator");
 
-            when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(true));
-            when(subtypeRepo.existsByCodeAndBin("ST", "123456")).thenReturn(Mono.just(true));
+            stubProbe(ExistenceCheck.subtypeCode("ST"), ExistenceCheck.subtype("123456", "ST"));
             when(validationRepo.findByCode("CODE")).thenReturn(Mono.just(validation));
 
             StepVerifier.create(service.attach("ST", "123456", "CODE", "text", "actor"))
@@ -332,14 +344,13 @@ class RuleUseCasesTest {
 
         @Test
         void attachFailsWhenMappingExists() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
             Validation validation = Validation.rehydrate(5L, "CODE", "DESC", ValidationDataType.TEXT, "A",
                     OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(5), OffsetDateTime.now().minusDays(2),
                     OffsetDateTime.now().minusDays(2), "creator");
             ValidationMap existing = ValidationMap.createNew("ST", "123456", 5L, null, null, "text", "actor");
 
-            when(subtypeRepo.existsByCode("ST")).thenReturn(Mono.just(true));
-            when(subtypeRepo.existsByCodeAndBin("ST", "123456")).thenReturn(Mono.just(true));
+            stubProbe(ExistenceCheck.subtypeCode("ST"), ExistenceCheck.subtype("123456", "ST"));
             when(validationRepo.findByCode("CODE")).thenReturn(Mono.just(validation));
             when(mapRepo.findByNaturalKey("ST", "123456", 5L)).thenReturn(Mono.just(existing));
 
@@ -351,7 +362,7 @@ class RuleUseCasesTest {
 
         @Test
         void attachCoercesNumberAndTextValues() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
             Validation numberValidation = Validation.rehydrate(6L, "N", "DESC", ValidationDataType.NUMBER, "A",
                     OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2),
                     OffsetDateTime.now().minusDays(2), "u");
@@ -361,8 +372,7 @@ class RuleUseCasesTest {
             ValidationMap numberMapped = ValidationMap.createNew("ST", "123456", 6L, null, 20.0, null, "actor");
             ValidationMap textMapped = ValidationMap.createNew("ST", "123456", 7L, null, null, "text", "actor");
 
-            when(subtypeRepo.existsByCode(anyString())).thenReturn(Mono.just(true));
-            when(subtypeRepo.existsByCodeAndBin(anyString(), anyString())).thenReturn(Mono.just(true));
+            stubProbeAllExist();
             when(validationRepo.findByCode("N")).thenReturn(Mono.just(numberValidation));
             when(validationRepo.findByCode("T")).thenReturn(Mono.just(textValidation));
             when(mapRepo.findByNaturalKey(anyString(), anyString(), eq(6L))).thenReturn(Mono.empty());
@@ -380,7 +390,7 @@ class RuleUseCasesTest {
 
         @Test
         void attachRejectsInvalidCoercionsAndUnsupportedType() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
             Validation boolValidation = Validation.rehydrate(10L, "B", "DESC", ValidationDataType.BOOL, "A",
                     OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2),
                     OffsetDateTime.now().minusDays(2), "u");
@@ -395,8 +405,7 @@ class RuleUseCasesTest {
                     OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2),
                     OffsetDateTime.now().minusDays(2), "u");
 
-            when(subtypeRepo.existsByCode(anyString())).thenReturn(Mono.just(true));
-            when(subtypeRepo.existsByCodeAndBin(anyString(), anyString())).thenReturn(Mono.just(true));
+            stubProbeAllExist();
             when(mapRepo.findByNaturalKey(anyString(), anyString(), anyLong())).thenReturn(Mono.empty());
 
             when(validationRepo.findByCode("B")).thenReturn(Mono.just(boolValidation));
@@ -422,7 +431,7 @@ class RuleUseCasesTest {
 
         @Test
         void changeStatusValidatesNewStatus() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
 
             StepVerifier.create(service.changeStatus("ST", "123456", "CODE", "X", "actor"))
                     .expectErrorSatisfies(err -> assertEquals(AppError.RULES_MAP_INVALID_DATA, ((AppException) err).getError()))
@@ -431,7 +440,7 @@ class RuleUseCasesTest {
 
         @Test
         void changeStatusFailsWhenValidationMissing() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
             when(validationRepo.findByCode("CODE")).thenReturn(Mono.empty());
 
             StepVerifier.create(service.changeStatus("ST", "123456", "CODE", "A", "actor"))
@@ -442,7 +451,7 @@ class RuleUseCasesTest {
 
         @Test
         void changeStatusUpdatesMapping() {
-            MapRuleService service = new MapRuleService(validationRepo, mapRepo, subtypeRepo, tx);
+            MapRuleService service = new MapRuleService(validationRepo, mapRepo, probes, tx, changes);
             Validation validation = Validation.rehydrate(5L, "CODE", "DESC", ValidationDataType.TEXT, "A",
                     OffsetDateTime.now().minusDays(2), OffsetDateTime.now().plusDays(1), OffsetDateTime.now().minusDays(2),
                     OffsetDateTime.now().minusDays(2), "u");
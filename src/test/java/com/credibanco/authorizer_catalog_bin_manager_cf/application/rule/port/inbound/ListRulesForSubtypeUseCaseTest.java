@@ -1,8 +1,10 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +26,16 @@ class ListRulesForSubtypeUseCaseTest {
             this.size = size;
             return Flux.empty();
         }
+
+        @Override
+        public Flux<ValidationMap> stream(String subtypeCode, String bin, String status) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<CompiledRules> compiled(String subtypeCode, String bin) {
+            return Mono.just(CompiledRules.EMPTY);
+        }
     }
 
     @Test
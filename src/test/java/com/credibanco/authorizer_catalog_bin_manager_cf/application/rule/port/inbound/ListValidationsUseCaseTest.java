@@ -1,8 +1,10 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.inbound;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,6 +24,11 @@ class ListValidationsUseCaseTest {
             this.size = size;
             return Flux.empty();
         }
+
+        @Override
+        public Mono<KeysetPage<Validation>> scroll(String status, String search, String cursor, int size) {
+            return Mono.empty();
+        }
     }
 
     @Test
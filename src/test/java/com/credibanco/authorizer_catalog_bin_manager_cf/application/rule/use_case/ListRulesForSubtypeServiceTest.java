@@ -1,24 +1,38 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class ListRulesForSubtypeServiceTest {
 
     private final ValidationMapRepository mapRepository = mock(ValidationMapRepository.class);
+    private final ValidationRepository validationRepository = mock(ValidationRepository.class);
+    private final OffsetDateTime now = OffsetDateTime.now();
+    private final Validation limit = Validation.rehydrate(1L, "MAX_AMOUNT", "DESC", ValidationDataType.NUMBER,
+            "A", now.minusDays(1), null, now, now, "creator");
+    private final ValidationMap limitMap = ValidationMap.createNew("ST", "123456", 1L, null, 1500.0, null, "creator");
 
     @Test
     void rejectsInvalidPaginationParameters() {
-        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository);
+        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository, validationRepository, () -> CatalogSnapshot.EMPTY);
 
         StepVerifier.create(service.execute("ST", "123456", "A", -1, 0))
                 .expectErrorSatisfies(err -> assertEquals(AppError.RULES_MAP_INVALID_DATA, ((AppException) err).getError()))
@@ -27,7 +41,7 @@ class ListRulesForSubtypeServiceTest {
 
     @Test
     void trimsBlankStatusBeforeDelegating() {
-        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository);
+        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository, validationRepository, () -> CatalogSnapshot.EMPTY);
         ValidationMap map = ValidationMap.createNew("ST", "123456", 1L, "SI", null, null, "actor");
         when(mapRepository.findResolved(eq("ST"), eq("123456"), any(), eq(1), eq(10))).thenReturn(Flux.just(map));
 
@@ -42,7 +56,7 @@ class ListRulesForSubtypeServiceTest {
 
     @Test
     void forwardsStatusWhenProvided() {
-        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository);
+        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository, validationRepository, () -> CatalogSnapshot.EMPTY);
         when(mapRepository.findResolved(anyString(), anyString(), anyString(), anyInt(), anyInt())).thenReturn(Flux.empty());
 
         StepVerifier.create(service.execute("ST", "123456", "A", 0, 5))
@@ -50,4 +64,43 @@ class ListRulesForSubtypeServiceTest {
 
         verify(mapRepository).findResolved("ST", "123456", "A", 0, 5);
     }
+
+    @Test
+    void compiledReturnsTheSnapshotInstanceWithoutQuerying() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(1L, List.of(), List.of(), List.of(), List.of(), Map.of(),
+                List.of(), List.of(limit), List.of(limitMap));
+        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository, validationRepository, () -> snapshot);
+
+        StepVerifier.create(service.compiled("ST", "123456"))
+                .assertNext(rules -> {
+                    assertSame(snapshot.compiledRulesOf("ST", "123456"), rules);
+                    assertEquals(1, rules.size());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(mapRepository, validationRepository);
+    }
+
+    @Test
+    void compiledFallsBackToRepositoriesWhileSnapshotIsNotLoaded() {
+        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository, validationRepository, () -> CatalogSnapshot.EMPTY);
+        when(mapRepository.streamResolved("ST", "123456", "A")).thenReturn(Flux.just(limitMap));
+        when(validationRepository.findById(1L)).thenReturn(Mono.just(limit));
+
+        StepVerifier.create(service.compiled("ST", "123456"))
+                .assertNext(rules -> {
+                    assertEquals(1, rules.size());
+                    assertEquals(1500.0, rules.numberOr("MAX_AMOUNT", System.currentTimeMillis(), Double.NaN));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void compiledRequiresSubtypeAndBin() {
+        ListRulesForSubtypeService service = new ListRulesForSubtypeService(mapRepository, validationRepository, () -> CatalogSnapshot.EMPTY);
+
+        StepVerifier.create(service.compiled("ST", null))
+                .expectErrorSatisfies(err -> assertEquals(AppError.RULES_MAP_INVALID_DATA, ((AppException) err).getError()))
+                .verify();
+    }
 }
@@ -1,5 +1,9 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.IdTypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
@@ -15,6 +19,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -24,28 +29,35 @@ class CreateSubtypeServiceTest {
     private SubtypeRepository repo;
     private BinReadOnlyRepository binRepo;
     private IdTypeReadOnlyRepository idTypeRepo;
+    private ExistenceProbeRepository probes;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setup() {
         repo = mock(SubtypeRepository.class);
         binRepo = mock(BinReadOnlyRepository.class);
         idTypeRepo = mock(IdTypeReadOnlyRepository.class);
+        probes = mock(ExistenceProbeRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         lenient().when(tx.transactional(ArgumentMatchers.<Mono<?>>any()))
                 .thenAnswer(inv -> inv.getArgument(0));
     }
+    private void stubProbe(ExistenceCheck... existing) {
+        Set<ExistenceCheck> found = Set.of(existing);
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), found::contains)));
+    }
+
     @Test
     void createsSubtypeFormattingExtensionAndSaving() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 3)));
-        when(binRepo.existsById(anyString())).thenReturn(Mono.just(false));
+        stubProbe();
         when(idTypeRepo.existsById("CC")).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
-        when(repo.existsByPk("123456", "ABC")).thenReturn(Mono.just(false));
-        when(repo.existsByBinAndExt("123456", "007")).thenReturn(Mono.just(false));
-        when(repo.existsBySubtypeCode("ABC")).thenReturn(Mono.just(false));
         when(repo.save(any(Subtype.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(service.execute("ABC", "123456", "NAME", "DESC", "CC", "123", "7", "creator"))
@@ -55,7 +67,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsMissingBinConfig() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("999999")).thenReturn(Mono.empty());
 
         StepVerifier.create(service.execute("ABC", "999999", "NAME", "DESC", null, null, null, null))
@@ -65,7 +77,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsUnknownIdTypeWithAvailableCatalog() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
         when(idTypeRepo.existsById("XX")).thenReturn(Mono.just(false));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC", "TI")));
@@ -77,7 +89,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsUnknownIdTypeWithoutCatalog() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
         when(idTypeRepo.existsById("XX")).thenReturn(Mono.just(false));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of()));
@@ -89,7 +101,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsMissingRequiredExtension() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 2)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
@@ -101,7 +113,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsExtensionWhenNotAllowed() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of()));
@@ -113,7 +125,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsExtensionTooLongForDigits() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of()));
@@ -125,7 +137,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsExtensionDigitsConfigOutOfRange() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 0)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
@@ -137,7 +149,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsExtensionWhenBinAlreadyNineDigits() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456789")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
@@ -149,7 +161,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsExtensionOverflowingBinLength() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("12345678")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 2)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
@@ -161,7 +173,7 @@ class CreateSubtypeServiceTest {
 
     @Test
     void rejectsInvalidSubtypeDataFromAggregate() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of()));
@@ -173,14 +185,11 @@ class CreateSubtypeServiceTest {
 
     @Test
     void detectsMasterBinCollision() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
-        when(binRepo.existsById("1234567")).thenReturn(Mono.just(true));
+        stubProbe(ExistenceCheck.bin("1234567"));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
-        when(repo.existsByPk(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsByBinAndExt(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsBySubtypeCode(anyString())).thenReturn(Mono.just(false));
 
         StepVerifier.create(service.execute("ABC", "123456", "NAME", "DESC", "CC", "123", "7", "creator"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.BIN_ALREADY_EXISTS, ((AppException) err).getError()))
@@ -189,14 +198,11 @@ class CreateSubtypeServiceTest {
 
     @Test
     void detectsExistingSubtypeByPrimaryKey() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
-        when(binRepo.existsById(anyString())).thenReturn(Mono.just(false));
+        stubProbe(ExistenceCheck.subtype("123456", "ABC"));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
-        when(repo.existsByPk("123456", "ABC")).thenReturn(Mono.just(true));
-        when(repo.existsByBinAndExt(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsBySubtypeCode(anyString())).thenReturn(Mono.just(false));
 
         StepVerifier.create(service.execute("ABC", "123456", "NAME", "DESC", "CC", "123", "7", "creator"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.SUBTYPE_ALREADY_EXISTS, ((AppException) err).getError()))
@@ -205,14 +211,11 @@ class CreateSubtypeServiceTest {
 
     @Test
     void detectsExistingSubtypeByExtension() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
-        when(binRepo.existsById(anyString())).thenReturn(Mono.just(false));
+        stubProbe(ExistenceCheck.subtypeBinExt("123456", "7"));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
-        when(repo.existsByPk(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsByBinAndExt("123456", "7")).thenReturn(Mono.just(true));
-        when(repo.existsBySubtypeCode(anyString())).thenReturn(Mono.just(false));
 
         StepVerifier.create(service.execute("ABC", "123456", "NAME", "DESC", "CC", "123", "7", "creator"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.SUBTYPE_ALREADY_EXISTS, ((AppException) err).getError()))
@@ -221,14 +224,11 @@ class CreateSubtypeServiceTest {
 
     @Test
     void detectsExistingSubtypeByCode() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
-        when(binRepo.existsById(anyString())).thenReturn(Mono.just(false));
+        stubProbe(ExistenceCheck.subtypeCode("ABC"));
         when(idTypeRepo.existsById(anyString())).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
-        when(repo.existsByPk(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsByBinAndExt(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsBySubtypeCode("ABC")).thenReturn(Mono.just(true));
 
         StepVerifier.create(service.execute("ABC", "123456", "NAME", "DESC", "CC", "123", "7", "creator"))
                 .expectErrorSatisfies(err -> assertEquals(AppError.SUBTYPE_ALREADY_EXISTS, ((AppException) err).getError()))
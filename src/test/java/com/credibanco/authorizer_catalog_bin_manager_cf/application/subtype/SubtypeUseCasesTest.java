@@ -1,5 +1,9 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceProbeResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.AgencyReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.IdTypeReadOnlyRepository;
@@ -17,6 +21,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -26,16 +31,20 @@ class SubtypeUseCasesTest {
     private SubtypeRepository repo;
     private BinReadOnlyRepository binRepo;
     private IdTypeReadOnlyRepository idTypeRepo;
+    private ExistenceProbeRepository probes;
     private AgencyReadOnlyRepository agencyRepo;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setup() {
         repo = mock(SubtypeRepository.class);
         binRepo = mock(BinReadOnlyRepository.class);
         idTypeRepo = mock(IdTypeReadOnlyRepository.class);
+        probes = mock(ExistenceProbeRepository.class);
         agencyRepo = mock(AgencyReadOnlyRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         lenient().when(tx.transactional(ArgumentMatchers.<Mono<?>>any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -44,31 +53,36 @@ class SubtypeUseCasesTest {
                 .thenAnswer(inv -> inv.getArgument(0));
     }
 
+    private void stubProbe(ExistenceCheck... existing) {
+        Set<ExistenceCheck> found = Set.of(existing);
+        when(probes.probe(anyCollection())).thenAnswer(inv ->
+                Mono.just(ExistenceProbeResult.of(inv.getArgument(0), found::contains)));
+    }
+
     @Test
     void createSubtypeValidatesUniquenessAndSaves() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
-        when(binRepo.existsById(anyString())).thenReturn(Mono.just(false));
+        stubProbe();
         when(idTypeRepo.existsById("CC")).thenReturn(Mono.just(true));
         when(idTypeRepo.findAllCodes()).thenReturn(Mono.just(List.of("CC")));
-        when(repo.existsByPk(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsByBinAndExt(anyString(), anyString())).thenReturn(Mono.just(false));
-        when(repo.existsBySubtypeCode(anyString())).thenReturn(Mono.just(false));
         when(repo.save(any(Subtype.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(service.execute("ABC", "123456", "NAME", "DESC", "CC", "123", "7", "creator"))
                 .expectNextMatches(s -> "I".equals(s.status()) && "1234567".equals(s.binEfectivo()))
                 .verifyComplete();
 
-        verify(repo).existsByPk("123456", "ABC");
-        verify(repo).existsByBinAndExt("123456", "7");
-        verify(repo).existsBySubtypeCode("ABC");
+        verify(probes).probe(List.of(
+                ExistenceCheck.bin("1234567"),
+                ExistenceCheck.subtype("123456", "ABC"),
+                ExistenceCheck.subtypeBinExt("123456", "7"),
+                ExistenceCheck.subtypeCode("ABC")));
         verify(repo).save(any(Subtype.class));
     }
 
     @Test
     void createSubtypeRejectsMissingBinConfig() {
-        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, tx);
+        CreateSubtypeService service = new CreateSubtypeService(repo, binRepo, idTypeRepo, probes, tx, changes);
         when(binRepo.getExtConfig("999999")).thenReturn(Mono.empty());
 
         StepVerifier.create(service.execute("ABC", "999999", "NAME", "DESC", null, null, null, null))
@@ -115,7 +129,7 @@ class SubtypeUseCasesTest {
 
     @Test
     void updateSubtypeChecksFkAndExtensionChanges() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = Subtype.createNew("ABC", "123456", "NAME", "DESC", "CC", "123", null, null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 2)));
@@ -133,7 +147,7 @@ class SubtypeUseCasesTest {
 
     @Test
     void updateSubtypeRejectsInvalidFk() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = Subtype.createNew("ABC", "123456", "NAME", "DESC", "CC", "123", null, null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
@@ -147,7 +161,7 @@ class SubtypeUseCasesTest {
 
     @Test
     void changeStatusValidatesNewStatusAndAgencyRequirement() {
-        ChangeSubtypeStatusService service = new ChangeSubtypeStatusService(repo, agencyRepo, tx);
+        ChangeSubtypeStatusService service = new ChangeSubtypeStatusService(repo, agencyRepo, tx, changes);
         Subtype current = Subtype.createNew("ABC", "123456", "NAME", "DESC", null, null, null, null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(repo.save(any(Subtype.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
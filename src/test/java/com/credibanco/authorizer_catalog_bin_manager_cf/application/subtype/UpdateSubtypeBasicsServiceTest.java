@@ -1,5 +1,6 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.BinReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.IdTypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
@@ -25,6 +26,7 @@ class UpdateSubtypeBasicsServiceTest {
     private BinReadOnlyRepository binRepo;
     private IdTypeReadOnlyRepository idTypeRepo;
     private TransactionalOperator tx;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setup() {
@@ -32,6 +34,7 @@ class UpdateSubtypeBasicsServiceTest {
         binRepo = mock(BinReadOnlyRepository.class);
         idTypeRepo = mock(IdTypeReadOnlyRepository.class);
         tx = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
 
         lenient().when(tx.transactional(ArgumentMatchers.<Mono<?>>any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -43,7 +46,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void updatesWithoutChangingExtensionSkipsCollisionCheck() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
@@ -60,7 +63,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsMissingSubtype() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.empty());
 
         StepVerifier.create(service.execute("123456", "ABC", "NEW", "DESC", null, null, null, "actor"))
@@ -70,7 +73,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsMissingBinConfig() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.empty());
@@ -82,7 +85,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsInvalidOwnerTypeWithAvailableCatalog() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
@@ -96,7 +99,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsInvalidOwnerTypeWithoutCatalog() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
@@ -110,7 +113,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsExtensionWhenNotAllowed() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
@@ -124,7 +127,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsMissingRequiredExtension() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 2)));
@@ -138,7 +141,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsExtensionTooLongForDigits() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
@@ -152,7 +155,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsExtensionDigitsConfigOutOfRange() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 0)));
@@ -166,7 +169,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsExtensionOverflowingBinLength() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = Subtype.createNew("ABC", "12345678", "NAME", "DESC", "CC", "123", null, null);
         when(repo.findByPk("12345678", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("12345678")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 2)));
@@ -180,7 +183,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsBinAlreadyNineDigitsWithExtensionConfig() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = Subtype.createNew("ABC", "123456789", "NAME", "DESC", "CC", "123", null, null);
         when(repo.findByPk("123456789", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456789")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
@@ -194,7 +197,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void rejectsInvalidUpdatedAggregate() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt(null);
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("N", 0)));
@@ -208,7 +211,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void detectsExtensionCollisionWhenChanged() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt("1");
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 1)));
@@ -223,7 +226,7 @@ class UpdateSubtypeBasicsServiceTest {
 
     @Test
     void updatesWithExtensionChangePersistsAggregate() {
-        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx);
+        UpdateSubtypeBasicsService service = new UpdateSubtypeBasicsService(repo, binRepo, idTypeRepo, tx, changes);
         Subtype current = existingSubtypeWithExt("1");
         when(repo.findByPk("123456", "ABC")).thenReturn(Mono.just(current));
         when(binRepo.getExtConfig("123456")).thenReturn(Mono.just(new BinReadOnlyRepository.BinExtConfig("Y", 2)));
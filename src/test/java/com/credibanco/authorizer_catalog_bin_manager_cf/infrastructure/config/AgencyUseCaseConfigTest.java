@@ -4,9 +4,20 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingAgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotAgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotAgencySubtypeReadOnlyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -17,6 +28,7 @@ class AgencyUseCaseConfigTest {
     private AgencyRepository agencyRepository;
     private SubtypeReadOnlyRepository subtypeRepository;
     private TransactionalOperator transactionalOperator;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setUp() {
@@ -24,53 +36,60 @@ class AgencyUseCaseConfigTest {
         agencyRepository = mock(AgencyRepository.class);
         subtypeRepository = mock(SubtypeReadOnlyRepository.class);
         transactionalOperator = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
     }
 
     @Test
     void createAgencyUseCaseCreatesServiceWithDependencies() {
-        CreateAgencyUseCase useCase = config.createAgencyUseCase(agencyRepository, subtypeRepository, transactionalOperator);
+        CreateAgencyUseCase useCase = config.createAgencyUseCase(agencyRepository, subtypeRepository, transactionalOperator, changes);
         assertInstanceOf(CreateAgencyService.class, useCase);
         CreateAgencyService service = (CreateAgencyService) useCase;
         assertSame(agencyRepository, service.repo());
         assertSame(subtypeRepository, service.subtypeRepo());
         assertSame(transactionalOperator, service.tx());
+        assertSame(changes, service.changes());
     }
 
     @Test
     void updateAgencyUseCaseCreatesServiceWithDependencies() {
-        UpdateAgencyUseCase useCase = config.updateAgencyUseCase(agencyRepository, subtypeRepository, transactionalOperator);
+        UpdateAgencyUseCase useCase = config.updateAgencyUseCase(agencyRepository, subtypeRepository, transactionalOperator, changes);
         assertInstanceOf(UpdateAgencyService.class, useCase);
         UpdateAgencyService service = (UpdateAgencyService) useCase;
         assertSame(agencyRepository, service.repo());
         assertSame(subtypeRepository, service.subtypeRepo());
         assertSame(transactionalOperator, service.tx());
+        assertSame(changes, service.changes());
     }
 
     @Test
     void changeAgencyStatusUseCaseCreatesServiceWithDependencies() {
-        ChangeAgencyStatusUseCase useCase = config.changeAgencyStatusUseCase(agencyRepository, subtypeRepository, transactionalOperator);
+        ExistenceProbeRepository probes = mock(ExistenceProbeRepository.class);
+        ChangeAgencyStatusUseCase useCase = config.changeAgencyStatusUseCase(agencyRepository, probes, transactionalOperator, changes);
         assertInstanceOf(ChangeAgencyStatusService.class, useCase);
         ChangeAgencyStatusService service = (ChangeAgencyStatusService) useCase;
         assertSame(agencyRepository, service.repo());
-        assertSame(subtypeRepository, service.subtypeRepo());
+        assertSame(probes, service.probes());
         assertSame(transactionalOperator, service.tx());
+        assertSame(changes, service.changes());
     }
 
     @Test
-    void getAgencyUseCaseCreatesServiceWithDependencies() {
-        GetAgencyUseCase useCase = config.getAgencyUseCase(agencyRepository, subtypeRepository);
+    void getAgencyUseCaseReadsThroughCoalescingLoader() {
+        GetAgencyUseCase useCase = config.getAgencyUseCase(agencyRepository, subtypeRepository,
+                new CoalescingLoaders(Duration.ofMillis(2), 100, Schedulers.parallel(), null));
         assertInstanceOf(GetAgencyService.class, useCase);
         GetAgencyService service = (GetAgencyService) useCase;
-        assertSame(agencyRepository, service.repo());
+        assertInstanceOf(CoalescingAgencyRepository.class, service.repo());
         assertSame(subtypeRepository, service.subtypeRepo());
     }
 
     @Test
-    void listAgenciesUseCaseCreatesServiceWithDependencies() {
-        ListAgenciesUseCase useCase = config.listAgenciesUseCase(agencyRepository, subtypeRepository);
+    void listAgenciesUseCaseReadsThroughSnapshot() {
+        ListAgenciesUseCase useCase = config.listAgenciesUseCase(agencyRepository, subtypeRepository,
+                mock(CatalogSnapshotProvider.class), CatalogKeyFilter.NONE);
         assertInstanceOf(ListAgenciesService.class, useCase);
         ListAgenciesService service = (ListAgenciesService) useCase;
-        assertSame(agencyRepository, service.repo());
-        assertSame(subtypeRepository, service.subtypeRepo());
+        assertInstanceOf(SnapshotAgencyRepository.class, service.repo());
+        assertInstanceOf(SnapshotAgencySubtypeReadOnlyRepository.class, service.subtypeRepo());
     }
 }
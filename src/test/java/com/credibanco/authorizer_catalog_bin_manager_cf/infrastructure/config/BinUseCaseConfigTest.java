@@ -4,10 +4,19 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.out
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCacheGetBinUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCaches;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory.SnapshotBinRepository;
+import java.time.Duration;
 import java.lang.reflect.Field;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.scheduler.Schedulers;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -18,6 +27,7 @@ class BinUseCaseConfigTest {
     private BinRepository binRepository;
     private SubtypeReadOnlyRepository subtypeRepository;
     private TransactionalOperator transactionalOperator;
+    private CatalogChangePublisher changes;
 
     @BeforeEach
     void setUp() {
@@ -25,14 +35,19 @@ class BinUseCaseConfigTest {
         binRepository = mock(BinRepository.class);
         subtypeRepository = mock(SubtypeReadOnlyRepository.class);
         transactionalOperator = mock(TransactionalOperator.class);
+        changes = mock(CatalogChangePublisher.class);
     }
 
     @Test
-    void getBinUseCaseCreatesServiceWithRepository() {
-        GetBinUseCase useCase = config.getBinUseCase(binRepository);
-        assertInstanceOf(GetBinService.class, useCase);
-        GetBinService service = (GetBinService) useCase;
-        assertSame(binRepository, extractField(service));
+    void getBinUseCaseReadsThroughSnapshot() {
+        GetBinUseCase useCase = config.getBinUseCase(binRepository, mock(CatalogSnapshotProvider.class), CatalogKeyFilter.NONE,
+                new CoalescingLoaders(Duration.ofMillis(2), 100, Schedulers.parallel(), null),
+                new NegativeCaches(true, Duration.ofSeconds(5), 100, null));
+        assertInstanceOf(NegativeCacheGetBinUseCase.class, useCase);
+        GetBinUseCase inner = ((NegativeCacheGetBinUseCase) useCase).delegate();
+        assertInstanceOf(GetBinService.class, inner);
+        GetBinService service = (GetBinService) inner;
+        assertInstanceOf(SnapshotBinRepository.class, extractField(service));
     }
 
     @Test
@@ -43,32 +58,43 @@ class BinUseCaseConfigTest {
         assertSame(binRepository, extractField(service));
     }
 
+    @Test
+    void resolveBinUseCaseCreatesServiceWithSnapshots() {
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
+        ResolveBinUseCase useCase = config.resolveBinUseCase(snapshots);
+        assertInstanceOf(ResolveBinService.class, useCase);
+        assertSame(snapshots, ((ResolveBinService) useCase).snapshots());
+    }
+
     @Test
     void createBinUseCaseCreatesServiceWithDependencies() {
-        CreateBinUseCase useCase = config.createBinUseCase(binRepository, transactionalOperator);
+        CreateBinUseCase useCase = config.createBinUseCase(binRepository, transactionalOperator, changes);
         assertInstanceOf(CreateBinService.class, useCase);
         CreateBinService service = (CreateBinService) useCase;
         assertSame(binRepository, service.repo());
         assertSame(transactionalOperator, service.tx());
+        assertSame(changes, service.changes());
     }
 
     @Test
     void changeBinStatusUseCaseCreatesServiceWithDependencies() {
-        ChangeBinStatusUseCase useCase = config.changeBinStatusUseCase(binRepository, transactionalOperator);
+        ChangeBinStatusUseCase useCase = config.changeBinStatusUseCase(binRepository, transactionalOperator, changes);
         assertInstanceOf(ChangeBinStatusService.class, useCase);
         ChangeBinStatusService service = (ChangeBinStatusService) useCase;
         assertSame(binRepository, service.repo());
         assertSame(transactionalOperator, service.tx());
+        assertSame(changes, service.changes());
     }
 
     @Test
     void updateBinUseCaseCreatesServiceWithDependencies() {
-        UpdateBinUseCase useCase = config.updateBinUseCase(binRepository, subtypeRepository, transactionalOperator);
+        UpdateBinUseCase useCase = config.updateBinUseCase(binRepository, subtypeRepository, transactionalOperator, changes);
         assertInstanceOf(UpdateBinService.class, useCase);
         UpdateBinService service = (UpdateBinService) useCase;
         assertSame(binRepository, service.repo());
         assertSame(subtypeRepository, service.subtypeRepo());
         assertSame(transactionalOperator, service.tx());
+        assertSame(changes, service.changes());
     }
 
     private Object extractField(Object target) {
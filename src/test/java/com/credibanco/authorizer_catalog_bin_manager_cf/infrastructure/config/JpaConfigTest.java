@@ -1,8 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.InstrumentedDataSource;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcStatementMetrics;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JpaSchedulers;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.sql.DataSource;
 import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
@@ -28,6 +33,7 @@ import reactor.test.StepVerifier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class JpaConfigTest {
@@ -53,7 +59,7 @@ class JpaConfigTest {
         try (MockedConstruction<HikariDataSource> mocked = Mockito.mockConstruction(
                 HikariDataSource.class,
                 (mock, context) -> assertSame(hikariConfig, context.arguments().getFirst()))) {
-            DataSource dataSource = config.dataSource(properties, hikariConfig);
+            DataSource dataSource = config.dataSource(properties, hikariConfig, statementMetrics(false));
 
             assertSame(mocked.constructed().getFirst(), dataSource);
         }
@@ -63,6 +69,29 @@ class JpaConfigTest {
         assertEquals("pass", hikariConfig.getPassword());
     }
 
+    @Test
+    void dataSourceIsInstrumentedWhenStatementMetricsAreEnabled() throws Exception {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:testdb");
+        HikariConfig hikariConfig = new HikariConfig();
+        JpaConfig config = new JpaConfig();
+
+        // como el HikariDataSource real: unwrap a su propio tipo se devuelve a sí mismo
+        try (MockedConstruction<HikariDataSource> mocked = Mockito.mockConstruction(HikariDataSource.class,
+                (mock, context) -> Mockito.when(mock.unwrap(HikariDataSource.class)).thenReturn(mock))) {
+            DataSource dataSource = config.dataSource(properties, hikariConfig, statementMetrics(true));
+
+            HikariDataSource pool = mocked.constructed().getFirst();
+            assertInstanceOf(InstrumentedDataSource.class, dataSource);
+            assertSame(pool, ((InstrumentedDataSource) dataSource).getTargetDataSource());
+            assertSame(pool, dataSource.unwrap(HikariDataSource.class));
+        }
+    }
+
+    private static JdbcStatementMetrics statementMetrics(boolean enabled) {
+        return new JdbcStatementMetrics(enabled, Duration.ofMillis(200), 300, null);
+    }
+
     @Test
     void entityManagerFactoryConfiguresVendorAndProperties() {
         DataSource dataSource = mock(DataSource.class);
@@ -214,4 +243,40 @@ class JpaConfigTest {
         assertThrows(IllegalArgumentException.class,
                 () -> manager.rollback(mock(org.springframework.transaction.ReactiveTransaction.class)));
     }
+
+    @Test
+    void jpaCallsInsideTransactionalOperatorRunOnTheTransactionWorker() {
+        PlatformTransactionManager delegate = mock(PlatformTransactionManager.class);
+        AtomicReference<Thread> txThread = new AtomicReference<>();
+        AtomicReference<Thread> commitThread = new AtomicReference<>();
+        Mockito.when(delegate.getTransaction(Mockito.any(TransactionDefinition.class))).thenAnswer(inv -> {
+            txThread.compareAndSet(null, Thread.currentThread());
+            return new SimpleTransactionStatus();
+        });
+        Mockito.doAnswer(inv -> {
+            commitThread.set(Thread.currentThread());
+            return null;
+        }).when(delegate).commit(Mockito.any());
+        TransactionalOperator operator = TransactionalOperator.create(
+                new JpaConfig.ReactivePlatformTransactionManagerAdapter(delegate));
+
+        Mono<Thread> call = JpaSchedulers.mono(Mono.fromCallable(Thread::currentThread));
+        Mono<Thread> nested = call.flatMap(first -> operator.transactional(call));
+
+        StepVerifier.create(operator.transactional(call.zipWith(nested)))
+                .assertNext(threads -> {
+                    assertSame(txThread.get(), threads.getT1());
+                    assertSame(txThread.get(), threads.getT2());
+                })
+                .verifyComplete();
+        verify(delegate, times(2)).getTransaction(Mockito.any(TransactionDefinition.class));
+        assertSame(txThread.get(), commitThread.get());
+    }
+
+    @Test
+    void jpaCallsOutsideTransactionUseBoundedElastic() {
+        StepVerifier.create(JpaSchedulers.mono(Mono.fromCallable(() -> Thread.currentThread().getName())))
+                .assertNext(name -> assertTrue(name.startsWith("boundedElastic")))
+                .verifyComplete();
+    }
 }
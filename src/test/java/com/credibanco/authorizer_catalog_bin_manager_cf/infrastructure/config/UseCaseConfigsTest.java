@@ -1,10 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogChangePublisher;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.port.outbound.ExistenceProbeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanItemRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.CommercePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypePlanRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.use_case.*;
-import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.SubtypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.use_case.*;
@@ -13,35 +16,57 @@ import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.IdTypeReadOnlyRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.use_case.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCacheGetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCacheGetSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache.NegativeCaches;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader.CoalescingLoaders;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightGetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightGetSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightListPlanItemsUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlightListRulesForSubtypeUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight.SingleFlights;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 class UseCaseConfigsTest {
 
+    private final SingleFlights flights = new SingleFlights(true, null);
+    private final NegativeCaches negatives = new NegativeCaches(true, Duration.ofSeconds(5), 100, null);
+
     @Test
     void planUseCaseBeansAreInstantiated() {
         TransactionalOperator tx = mock(TransactionalOperator.class);
         CommercePlanRepository planRepo = mock(CommercePlanRepository.class);
         CommercePlanItemRepository itemRepo = mock(CommercePlanItemRepository.class);
         SubtypePlanRepository subtypePlanRepository = mock(SubtypePlanRepository.class);
-        com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypeReadOnlyRepository subtypeReadOnlyRepository =
-                mock(com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.outbound.SubtypeReadOnlyRepository.class);
+        ExistenceProbeRepository probes = mock(ExistenceProbeRepository.class);
+
+        CatalogChangePublisher changes = mock(CatalogChangePublisher.class);
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
 
         PlanUseCaseConfig config = new PlanUseCaseConfig();
 
-        assertThat(config.createPlanUseCase(planRepo, tx)).isInstanceOf(CreatePlanService.class);
-        assertThat(config.addPlanItemUseCase(planRepo, itemRepo, tx)).isInstanceOf(AddPlanItemService.class);
-        assertThat(config.assignPlanToSubtypeUseCase(planRepo, subtypePlanRepository, subtypeReadOnlyRepository, itemRepo, tx))
+        assertThat(config.createPlanUseCase(planRepo, tx, changes)).isInstanceOf(CreatePlanService.class);
+        assertThat(config.addPlanItemUseCase(planRepo, itemRepo, tx, changes)).isInstanceOf(AddPlanItemService.class);
+        assertThat(config.assignPlanToSubtypeUseCase(planRepo, subtypePlanRepository, probes, tx, changes))
                 .isInstanceOf(AssignPlanToSubtypeService.class);
-        assertThat(config.getPlanUseCase(planRepo)).isInstanceOf(GetPlanService.class);
+        assertThat(config.getPlanUseCase(planRepo, snapshots, CatalogKeyFilter.NONE, flights, negatives))
+                .isInstanceOfSatisfying(NegativeCacheGetPlanUseCase.class, nc -> assertThat(nc.delegate())
+                        .isInstanceOfSatisfying(SingleFlightGetPlanUseCase.class,
+                                uc -> assertThat(uc.delegate()).isInstanceOf(GetPlanService.class)));
         assertThat(config.listPlansUseCase(planRepo)).isInstanceOf(ListPlansService.class);
-        assertThat(config.updatePlanUseCase(planRepo)).isInstanceOf(UpdatePlanService.class);
-        assertThat(config.changePlanStatusUseCase(planRepo)).isInstanceOf(ChangePlanStatusService.class);
-        assertThat(config.listPlanItemsUseCase(planRepo, itemRepo)).isInstanceOf(ListPlanItemsService.class);
-        assertThat(config.changePlanItemStatusUseCase(planRepo, itemRepo, tx)).isInstanceOf(ChangePlanItemStatusService.class);
+        assertThat(config.updatePlanUseCase(planRepo, changes)).isInstanceOf(UpdatePlanService.class);
+        assertThat(config.changePlanStatusUseCase(planRepo, changes)).isInstanceOf(ChangePlanStatusService.class);
+        assertThat(config.listPlanItemsUseCase(planRepo, itemRepo, flights))
+                .isInstanceOfSatisfying(SingleFlightListPlanItemsUseCase.class,
+                        uc -> assertThat(uc.delegate()).isInstanceOf(ListPlanItemsService.class));
+        assertThat(config.changePlanItemStatusUseCase(planRepo, itemRepo, tx, changes)).isInstanceOf(ChangePlanItemStatusService.class);
     }
 
     @Test
@@ -49,17 +74,22 @@ class UseCaseConfigsTest {
         TransactionalOperator tx = mock(TransactionalOperator.class);
         ValidationRepository validationRepository = mock(ValidationRepository.class);
         ValidationMapRepository mapRepository = mock(ValidationMapRepository.class);
-        SubtypeReadOnlyRepository subtypeRepository = mock(SubtypeReadOnlyRepository.class);
+        ExistenceProbeRepository probes = mock(ExistenceProbeRepository.class);
+
+        CatalogChangePublisher changes = mock(CatalogChangePublisher.class);
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
 
         RuleUseCaseConfig config = new RuleUseCaseConfig();
 
-        assertThat(config.createValidationUseCase(validationRepository, tx)).isInstanceOf(CreateValidationService.class);
-        assertThat(config.updateValidationUseCase(validationRepository)).isInstanceOf(UpdateValidationService.class);
-        assertThat(config.changeValidationStatusUseCase(validationRepository, tx)).isInstanceOf(ChangeValidationStatusService.class);
+        assertThat(config.createValidationUseCase(validationRepository, tx, changes)).isInstanceOf(CreateValidationService.class);
+        assertThat(config.updateValidationUseCase(validationRepository, changes)).isInstanceOf(UpdateValidationService.class);
+        assertThat(config.changeValidationStatusUseCase(validationRepository, tx, changes)).isInstanceOf(ChangeValidationStatusService.class);
         assertThat(config.getValidationUseCase(validationRepository)).isInstanceOf(GetValidationService.class);
         assertThat(config.listValidationsUseCase(validationRepository)).isInstanceOf(ListValidationsService.class);
-        assertThat(config.mapRuleUseCase(validationRepository, mapRepository, subtypeRepository, tx)).isInstanceOf(MapRuleService.class);
-        assertThat(config.listRulesForSubtypeUseCase(mapRepository)).isInstanceOf(ListRulesForSubtypeService.class);
+        assertThat(config.mapRuleUseCase(validationRepository, mapRepository, probes, tx, changes)).isInstanceOf(MapRuleService.class);
+        assertThat(config.listRulesForSubtypeUseCase(mapRepository, validationRepository, snapshots, flights))
+                .isInstanceOfSatisfying(SingleFlightListRulesForSubtypeUseCase.class,
+                        uc -> assertThat(uc.delegate()).isInstanceOf(ListRulesForSubtypeService.class));
     }
 
     @Test
@@ -69,13 +99,19 @@ class UseCaseConfigsTest {
         BinReadOnlyRepository binRepository = mock(BinReadOnlyRepository.class);
         IdTypeReadOnlyRepository idTypeRepository = mock(IdTypeReadOnlyRepository.class);
         AgencyReadOnlyRepository agencyRepository = mock(AgencyReadOnlyRepository.class);
+        CatalogChangePublisher changes = mock(CatalogChangePublisher.class);
 
         SubtypeUseCaseConfig config = new SubtypeUseCaseConfig();
 
-        assertThat(config.createSubtypeUseCase(subtypeRepository, binRepository, idTypeRepository, tx)).isInstanceOf(CreateSubtypeService.class);
-        assertThat(config.updateSubtypeBasicsUseCase(subtypeRepository, binRepository, idTypeRepository, tx)).isInstanceOf(UpdateSubtypeBasicsService.class);
-        assertThat(config.changeSubtypeStatusUseCase(subtypeRepository, agencyRepository, tx)).isInstanceOf(ChangeSubtypeStatusService.class);
-        assertThat(config.getSubtypeUseCase(subtypeRepository)).isInstanceOf(GetSubtypeService.class);
-        assertThat(config.listSubtypesUseCase(subtypeRepository, binRepository)).isInstanceOf(ListSubtypesService.class);
+        assertThat(config.createSubtypeUseCase(subtypeRepository, binRepository, idTypeRepository, mock(ExistenceProbeRepository.class), tx, changes)).isInstanceOf(CreateSubtypeService.class);
+        assertThat(config.updateSubtypeBasicsUseCase(subtypeRepository, binRepository, idTypeRepository, tx, changes)).isInstanceOf(UpdateSubtypeBasicsService.class);
+        assertThat(config.changeSubtypeStatusUseCase(subtypeRepository, agencyRepository, tx, changes)).isInstanceOf(ChangeSubtypeStatusService.class);
+        assertThat(config.getSubtypeUseCase(subtypeRepository,
+                new CoalescingLoaders(Duration.ofMillis(2), 100, Schedulers.parallel(), null), flights, negatives))
+                .isInstanceOfSatisfying(NegativeCacheGetSubtypeUseCase.class, nc -> assertThat(nc.delegate())
+                        .isInstanceOfSatisfying(SingleFlightGetSubtypeUseCase.class,
+                                uc -> assertThat(uc.delegate()).isInstanceOf(GetSubtypeService.class)));
+        assertThat(config.listSubtypesUseCase(subtypeRepository, binRepository, mock(CatalogSnapshotProvider.class),
+                CatalogKeyFilter.NONE)).isInstanceOf(ListSubtypesService.class);
     }
 }
@@ -3,6 +3,7 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.s
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
@@ -11,10 +12,12 @@ import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.web.server.authentication.ServerBearerTokenAuthenticationConverter;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.WebFilterChainProxy;
 import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -37,6 +40,7 @@ class SecurityConfigTest {
         ReflectionTestUtils.setField(securityConfig, "expectedIssuer", "expected-issuer");
         ReflectionTestUtils.setField(securityConfig, "requiredAudience", "expected-aud");
         ReflectionTestUtils.setField(securityConfig, "jwkTrustedCertificatePath", "");
+        ReflectionTestUtils.setField(securityConfig, "jfrAdminRole", "CATALOG_ADMIN");
     }
 
     @Test
@@ -162,6 +166,45 @@ class SecurityConfigTest {
         assertNotNull(chain);
     }
 
+    @Test
+    void onlyHealthIsOpenOnActuator() {
+        ReactiveAuthenticationManager authManager = mock(ReactiveAuthenticationManager.class);
+        SecurityWebFilterChain chain = securityConfig.springSecurityFilterChain(
+                ServerHttpSecurity.http(), authManager, securityConfig.xAuthTokenConverter());
+        WebTestClient client = WebTestClient
+                .bindToWebHandler(exchange -> exchange.getResponse().setComplete())
+                .webFilter(new WebFilterChainProxy(chain))
+                .build();
+
+        client.post().uri("/actuator/catalogjfr").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/actuator/catalogjfr").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/actuator/prometheus").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/actuator/metrics").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/actuator/health").exchange().expectStatus().isOk();
+        client.get().uri("/actuator/health/liveness").exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void catalogJfrRequiresAdminRole() {
+        ReactiveAuthenticationManager authManager = token -> {
+            String role = ((BearerTokenAuthenticationToken) token).getToken();
+            return Mono.just(new TestingAuthenticationToken("user", "n/a", role));
+        };
+        SecurityWebFilterChain chain = securityConfig.springSecurityFilterChain(
+                ServerHttpSecurity.http(), authManager, securityConfig.xAuthTokenConverter());
+        WebTestClient client = WebTestClient
+                .bindToWebHandler(exchange -> exchange.getResponse().setComplete())
+                .webFilter(new WebFilterChainProxy(chain))
+                .build();
+
+        client.post().uri("/actuator/catalogjfr").header("X-Auth-Token", "ROLE_user")
+                .exchange().expectStatus().isForbidden();
+        client.get().uri("/bins").header("X-Auth-Token", "ROLE_user")
+                .exchange().expectStatus().isOk();
+        client.post().uri("/actuator/catalogjfr").header("X-Auth-Token", "ROLE_CATALOG_ADMIN")
+                .exchange().expectStatus().isOk();
+    }
+
     private Path createTempCertificate() throws Exception {
         String pem = String.join("\n",
                 "-----BEGIN CERTIFICATE-----",
@@ -0,0 +1,96 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.jfr;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.GetBinUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_case.GetBinService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JfrPortPostProcessorTest {
+
+    private static final String USE_CASE = "com.credibanco.catalog.UseCase";
+
+    @TempDir
+    Path dir;
+
+    private final JfrPortPostProcessor processor = new JfrPortPostProcessor();
+
+    @AfterEach
+    void restore() {
+        JfrEvents.setEnabled(true);
+    }
+
+    private GetBinUseCase traced() {
+        BinRepository repo = mock(BinRepository.class);
+        when(repo.findById("999999")).thenReturn(Mono.empty());
+        return (GetBinUseCase) processor.postProcessAfterInitialization(new GetBinService(repo), "getBinUseCase");
+    }
+
+    private List<RecordedEvent> record(Runnable calls) throws Exception {
+        Path file = dir.resolve("catalog.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(USE_CASE).withoutThreshold();
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(USE_CASE))
+                .toList();
+    }
+
+    @Test
+    void useCaseEventCarriesOperationArgsShapeAndErrorCode() throws Exception {
+        GetBinUseCase useCase = traced();
+
+        List<RecordedEvent> events = record(() -> StepVerifier.create(useCase.execute("999999")).expectError().verify());
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("operation")).isEqualTo("GetBinUseCase.execute");
+        assertThat(event.getString("argsShape")).isEqualTo("(String(6))");
+        assertThat(event.getString("outcome")).isEqualTo(JfrEvents.ERROR);
+        assertThat(event.getString("code")).isEqualTo("03");
+    }
+
+    @Test
+    void switchedOffEmitsNothing() throws Exception {
+        GetBinUseCase useCase = traced();
+        JfrEvents.setEnabled(false);
+
+        List<RecordedEvent> events = record(() -> StepVerifier.create(useCase.execute("999999")).expectError().verify());
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void initializerAppliesTheConfiguredSwitchAndRestoresItOnClose() {
+        JfrEventsInitializer initializer = new JfrEventsInitializer(false);
+
+        initializer.afterPropertiesSet();
+        assertThat(JfrEvents.enabled()).isFalse();
+
+        initializer.destroy();
+        assertThat(JfrEvents.enabled()).isTrue();
+    }
+
+    @Test
+    void argsShapeNeverCarriesValues() {
+        assertThat(UseCaseEvent.shapeOf(new Object[]{"411111", 3, null, Set.of("a", "b")}))
+                .isEqualTo("(String(6),Integer,null," + Set.of("a", "b").getClass().getSimpleName() + "[2])");
+    }
+}
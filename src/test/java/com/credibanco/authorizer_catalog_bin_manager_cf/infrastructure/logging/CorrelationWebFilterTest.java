@@ -1,17 +1,24 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.logging;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing.CatalogTracing;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.context.Context;
 import reactor.util.context.ContextView;
 
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class CorrelationWebFilterTest {
 
@@ -64,4 +71,23 @@ class CorrelationWebFilterTest {
         assertThat(contextCid).isEqualTo(responseCid);
         assertThat(contextRef.get().hasKey(CorrelationWebFilter.CTX_USER)).isFalse();
     }
+
+    @Test
+    void copiesTraceIdFromContextIntoMdcUntilTheExchangeEnds() {
+        CorrelationWebFilter filter = new CorrelationWebFilter();
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/path").build());
+        TraceContext traceContext = mock(TraceContext.class);
+        when(traceContext.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        Span span = mock(Span.class);
+        when(span.context()).thenReturn(traceContext);
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())
+                        .doOnSuccess(v -> logged.set(MDC.get("traceId")))
+                        .contextWrite(Context.of(CatalogTracing.CONTEXT_KEY, span)))
+                .verifyComplete();
+
+        assertThat(logged.get()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(MDC.get("traceId")).isNull();
+    }
 }
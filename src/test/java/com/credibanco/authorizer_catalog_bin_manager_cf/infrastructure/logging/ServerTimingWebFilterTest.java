@@ -0,0 +1,65 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.logging;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.InstrumentedDataSource;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcRequestCost;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc.JdbcStatementMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ServerTimingWebFilterTest {
+
+    private final JdbcStatementMetrics metrics = new JdbcStatementMetrics(true, Duration.ofSeconds(1), 300, null);
+
+    @Test
+    void headerCarriesTheRequestDatabaseCost() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(2);
+        DataSource ds = new InstrumentedDataSource(pool, metrics);
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.put("/bins/411111"));
+        WebFilterChain chain = ex -> Mono.deferContextual(ctx -> JdbcRequestCost.scoped(Mono.fromCallable(() -> {
+                    try (Connection c = ds.getConnection()) {
+                        return c.prepareStatement("update bin set status = ? where bin = ?").executeUpdate();
+                    }
+                }), ctx))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(ex.getResponse().setComplete());
+
+        StepVerifier.create(new ServerTimingWebFilter(metrics, true).filter(exchange, chain)).verifyComplete();
+
+        String header = exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING);
+        assertThat(header)
+                .startsWith("app;dur=")
+                .contains(", thread;dur=", ", pool;dur=", ", db;dur=")
+                .endsWith(", stmts;desc=1, rows;desc=2");
+    }
+
+    @Test
+    void headerCanBeTurnedOff() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/bins"));
+
+        StepVerifier.create(new ServerTimingWebFilter(metrics, false)
+                        .filter(exchange, ex -> ex.getResponse().setComplete()))
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getHeaders().containsKey(ServerTimingWebFilter.SERVER_TIMING)).isFalse();
+        assertThat(exchange.<Object>getAttribute(JdbcRequestCost.EXCHANGE_ATTRIBUTE)).isNotNull();
+    }
+}
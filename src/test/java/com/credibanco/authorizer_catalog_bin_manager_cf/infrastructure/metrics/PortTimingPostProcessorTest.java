@@ -0,0 +1,81 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.metrics;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.GetBinUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.use_case.GetBinService;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.GetPlanUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PortTimingPostProcessorTest {
+
+    private SimpleMeterRegistry registry;
+    private PortTimingPostProcessor processor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(registry);
+        processor = new PortTimingPostProcessor(true, provider);
+    }
+
+    @Test
+    void useCaseRecordIsTimedByOperationOutcomeAndErrorCode() {
+        BinRepository repo = mock(BinRepository.class);
+        when(repo.findById("999999")).thenReturn(Mono.empty());
+        GetBinUseCase timed = (GetBinUseCase) processor.postProcessAfterInitialization(new GetBinService(repo), "getBinUseCase");
+
+        StepVerifier.create(timed.execute("999999")).expectError().verify();
+
+        assertThat(registry.get("catalog.usecase")
+                .tag("operation", "GetBinUseCase.execute").tag("outcome", "error").tag("code", "03")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void nonFinalBeansKeepTheirConcreteType() {
+        Object timed = processor.postProcessAfterInitialization(new FixedPlan(), "getPlanUseCase");
+
+        assertThat(timed).isInstanceOf(FixedPlan.class);
+        StepVerifier.create(((GetPlanUseCase) timed).execute("P01")).verifyComplete();
+        assertThat(registry.get("catalog.usecase")
+                .tag("operation", "GetPlanUseCase.execute").tag("outcome", "success").tag("code", "none")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void beansOutsideThePortsAreLeftAlone() {
+        Object bean = CatalogKeyFilter.NONE;
+
+        assertThat(processor.postProcessAfterInitialization(bean, "keys")).isSameAs(bean);
+        assertThat(PortTimingPostProcessor.isRepositoryPort(BinRepository.class)).isTrue();
+        assertThat(PortTimingPostProcessor.isRepositoryPort(CatalogKeyFilter.class)).isFalse();
+        assertThat(PortTimingPostProcessor.isInboundPort(GetBinUseCase.class)).isTrue();
+    }
+
+    @Test
+    void schedulerNameIsTakenFromTheDescription() {
+        assertThat(BoundedElasticMetrics.nameOf("boundedElastic(\"import-job\",maxThreads=3,maxTaskQueuedPerThread=100000)"))
+                .isEqualTo("import-job");
+        assertThat(BoundedElasticMetrics.nameOf("boundedElastic(maxThreads=3)")).isEqualTo("boundedElastic");
+    }
+
+    static class FixedPlan implements GetPlanUseCase {
+        @Override
+        public Mono<CommercePlan> execute(String planCode) {
+            return Mono.empty();
+        }
+    }
+}
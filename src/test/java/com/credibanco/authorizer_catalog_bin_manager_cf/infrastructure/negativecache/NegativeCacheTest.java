@@ -0,0 +1,126 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.negativecache;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeCacheTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong();
+
+    private Mono<String> notFound() {
+        return Mono.defer(() -> {
+            executions.incrementAndGet();
+            return Mono.error(new AppException(AppError.BIN_NOT_FOUND));
+        });
+    }
+
+    private NegativeCache cache(int maxEntries) {
+        return new NegativeCache("GetBin", true, Duration.ofSeconds(5), maxEntries, now::get);
+    }
+
+    private static boolean isBinNotFound(Throwable e) {
+        return e instanceof AppException ae && ae.getError() == AppError.BIN_NOT_FOUND;
+    }
+
+    @Test
+    void notFoundIsAnsweredFromTheCacheUntilTheTtlExpires() {
+        NegativeCache cache = cache(100);
+
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, this::notFound))
+                .verifyErrorMatches(NegativeCacheTest::isBinNotFound);
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, this::notFound))
+                .verifyErrorMatches(NegativeCacheTest::isBinNotFound);
+        assertThat(executions).hasValue(1);
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, this::notFound))
+                .verifyErrorMatches(NegativeCacheTest::isBinNotFound);
+        assertThat(executions).hasValue(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void otherErrorsAndValuesAreNotRemembered() {
+        NegativeCache cache = cache(100);
+
+        StepVerifier.create(cache.mono("411111", AppError.BIN_NOT_FOUND,
+                        () -> Mono.<String>error(new AppException(AppError.JDBC_BULKHEAD_FULL))))
+                .verifyError(AppException.class);
+        StepVerifier.create(cache.mono("411111", AppError.BIN_NOT_FOUND, () -> Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void creationInvalidatesTheKeyImmediately() {
+        NegativeCaches caches = new NegativeCaches(true, Duration.ofSeconds(5), 100, null);
+        NegativeCache cache = caches.create("GetBin", CatalogChange.Entity.BIN);
+
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, this::notFound)).expectError().verify();
+        Bin created = Bin.createNew("999999", "VISA", "CREDITO", "12", "CC", "DESC", "N", null, null);
+        caches.onChange(CatalogChange.of(CatalogChange.Entity.BIN, CatalogChange.Operation.CREATE, "999999", created));
+
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, () -> Mono.just("found")))
+                .expectNext("found")
+                .verifyComplete();
+    }
+
+    @Test
+    void notFoundThatRacedWithACreationIsDiscarded() {
+        NegativeCache cache = cache(100);
+        Sinks.One<String> slowLookup = Sinks.one();
+
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, slowLookup::asMono))
+                .then(() -> cache.invalidate("999999"))
+                .then(() -> slowLookup.tryEmitError(new AppException(AppError.BIN_NOT_FOUND)))
+                .expectError()
+                .verify();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void boundedBySizeAndExportsMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NegativeCache cache = cache(2);
+        cache.bindTo(registry);
+
+        for (String bin : new String[]{"900001", "900002", "900003"}) {
+            StepVerifier.create(cache.mono(bin, AppError.BIN_NOT_FOUND, this::notFound)).expectError().verify();
+        }
+        StepVerifier.create(cache.mono("900003", AppError.BIN_NOT_FOUND, this::notFound)).expectError().verify();
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(registry.get("catalog.negative.cache.evictions").tag("use_case", "GetBin").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("catalog.negative.cache.lookups").tag("use_case", "GetBin").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledRunsEveryCall() {
+        NegativeCache cache = new NegativeCache("GetBin", false, Duration.ofSeconds(5), 100, now::get);
+
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, this::notFound)).expectError().verify();
+        StepVerifier.create(cache.mono("999999", AppError.BIN_NOT_FOUND, this::notFound)).expectError().verify();
+
+        assertThat(executions).hasValue(2);
+    }
+}
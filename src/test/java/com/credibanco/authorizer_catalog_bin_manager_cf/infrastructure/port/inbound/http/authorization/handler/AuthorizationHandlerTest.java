@@ -0,0 +1,107 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.handler;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationDecision;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.model.AuthorizationQuery;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.authorization.port.inbound.CheckAuthorizationUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.model.CompiledRules;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto.AuthorizationBatchRequest;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.dto.AuthorizationCheckRequest;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.authorization.router.AuthorizationRouter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.validation.ValidationUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+class AuthorizationHandlerTest {
+
+    private CheckAuthorizationUseCase checkUC;
+    private ValidationUtil validation;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setup() {
+        checkUC = mock(CheckAuthorizationUseCase.class);
+        validation = mock(ValidationUtil.class);
+
+        AuthorizationRouter router = new AuthorizationRouter(new AuthorizationHandler(checkUC, validation));
+        try {
+            var method = AuthorizationRouter.class.getDeclaredMethod("routes");
+            method.setAccessible(true);
+
+            @SuppressWarnings("unchecked")
+            RouterFunction<ServerResponse> routes =
+                    (RouterFunction<ServerResponse>) method.invoke(router);
+
+            client = WebTestClient.bindToRouterFunction(routes)
+                    .configureClient()
+                    .baseUrl("/")
+                    .build();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        when(validation.validate(any(), any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+    }
+
+    private static AuthorizationDecision allowed() {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new AuthorizationDecision("4111112233445566", "411111", "411111", "S01",
+                true, true, true, "PLAN", CommerceValidationMode.MCC, true, true,
+                CompiledRules.compile(List.of(ValidationMap.createNew("S01", "411111", 1L, null, 1500.0, null, "creator")),
+                        Map.of(1L, Validation.rehydrate(1L, "MAX_AMOUNT", "DESC", ValidationDataType.NUMBER,
+                                "A", now.minusDays(1), null, now, now, "creator")), now),
+                now.toInstant().toEpochMilli(),
+                true, List.of(), 5L);
+    }
+
+    @Test
+    void checkReturnsDecisionEnvelope() {
+        when(checkUC.check(new AuthorizationQuery("4111112233445566", "5411", null))).thenReturn(Mono.just(allowed()));
+
+        client.post().uri("/authorize/check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(new AuthorizationCheckRequest("4111112233445566", "5411", null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.allowed").isEqualTo(true)
+                .jsonPath("$.data.planValidationMode").isEqualTo("MCC")
+                .jsonPath("$.data.rules[0].code").isEqualTo("MAX_AMOUNT")
+                .jsonPath("$.data.rules[0].value").isEqualTo(1500.0);
+    }
+
+    @Test
+    void batchReturnsOneDecisionPerItem() {
+        AuthorizationDecision rejected = AuthorizationDecision.rejected("12", AuthorizationDecision.Reason.INVALID_REQUEST, 5L);
+        when(checkUC.checkAll(anyList())).thenReturn(Flux.just(allowed(), rejected));
+
+        client.post().uri("/authorize/check/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(new AuthorizationBatchRequest(List.of(
+                        new AuthorizationCheckRequest("4111112233445566", "5411", null),
+                        new AuthorizationCheckRequest("12", "5411", null))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(2)
+                .jsonPath("$.data[1].allowed").isEqualTo(false)
+                .jsonPath("$.data[1].reasons[0]").isEqualTo("INVALID_REQUEST");
+    }
+}
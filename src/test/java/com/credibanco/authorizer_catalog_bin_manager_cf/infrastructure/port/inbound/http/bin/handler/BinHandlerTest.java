@@ -1,7 +1,10 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.bin.handler;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.model.BinResolution;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.inbound.*;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.KeysetPage;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.config.security.ActorProvider;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.bin.dto.BinCreateRequest;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.bin.dto.BinStatusUpdateRequest;
@@ -16,6 +19,9 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 
 class BinHandlerTest {
@@ -25,6 +31,7 @@ class BinHandlerTest {
     private UpdateBinUseCase updateUC;
     private GetBinUseCase getUC;
     private ChangeBinStatusUseCase changeStatusUC;
+    private ResolveBinUseCase resolveUC;
     private ValidationUtil validation;
     private ActorProvider actorProvider;
     private WebTestClient client;
@@ -36,10 +43,11 @@ class BinHandlerTest {
         updateUC = mock(UpdateBinUseCase.class);
         getUC = mock(GetBinUseCase.class);
         changeStatusUC = mock(ChangeBinStatusUseCase.class);
+        resolveUC = mock(ResolveBinUseCase.class);
         validation = mock(ValidationUtil.class);
         actorProvider = mock(ActorProvider.class);
 
-        BinHandler handler = new BinHandler(createUC, listUC, validation, updateUC, getUC, changeStatusUC, actorProvider);
+        BinHandler handler = new BinHandler(createUC, listUC, validation, updateUC, getUC, changeStatusUC, actorProvider, resolveUC);
         BinRouter router = new BinRouter(handler);
         try {
             var method = BinRouter.class.getDeclaredMethod("routes");
@@ -102,6 +110,33 @@ class BinHandlerTest {
                 .jsonPath("$.data.bin").isEqualTo("123456");
     }
 
+    @Test
+    void resolveEndpointReturnsBinAndSubtype() {
+        Bin bin = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "Y", 2, null);
+        Subtype subtype = Subtype.createNew("ABC", "123456", "SUB", "DESC", "CC", "123", "07", null);
+        when(resolveUC.execute("1234560712345678"))
+                .thenReturn(Mono.just(new BinResolution("1234560712345678", "12345607", bin, subtype)));
+
+        client.get().uri("/bins/resolve/1234560712345678")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.matchedPrefix").isEqualTo("12345607")
+                .jsonPath("$.data.bin.bin").isEqualTo("123456")
+                .jsonPath("$.data.subtype.subtypeCode").isEqualTo("ABC");
+    }
+
+    @Test
+    void resolveEndpointRejectsInvalidPath() {
+        client.get().uri("/bins/resolve/12ab56")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        verifyNoInteractions(resolveUC);
+    }
+
     @Test
     void listEndpointUsesPagination() {
         Bin bin = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null);
@@ -128,6 +163,22 @@ class BinHandlerTest {
         verify(listUC).execute(0, 20);
     }
 
+    @Test
+    void listEndpointWithCursorUsesKeysetPagination() {
+        Bin bin = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null);
+        when(listUC.scroll("", 1)).thenReturn(Mono.just(new KeysetPage<>(List.of(bin), "next")));
+
+        client.get().uri("/bins/list?cursor=&size=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.items[0].bin").isEqualTo("123456")
+                .jsonPath("$.data.nextCursor").isEqualTo("next");
+
+        verify(listUC, never()).execute(anyInt(), anyInt());
+    }
+
     @Test
     void listEndpointRejectsInvalidPagination() {
         client.get().uri("/bins/list?page=abc")
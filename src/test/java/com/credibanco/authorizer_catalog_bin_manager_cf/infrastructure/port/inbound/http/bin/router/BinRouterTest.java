@@ -103,4 +103,18 @@ class BinRouterTest {
 
         verify(handler).changeStatus(any(ServerRequest.class));
     }
+
+    @Test
+    void getResolveRoutesToHandler() {
+        when(handler.resolve(any(ServerRequest.class)))
+                .thenReturn(ServerResponse.ok().build());
+
+        webTestClient.get()
+                .uri("/bins/resolve/4111111111111111")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(handler).resolve(any(ServerRequest.class));
+    }
 }
@@ -0,0 +1,150 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.handler;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChangeEvent;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.GetCatalogExportUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.inbound.StreamCatalogChangesUseCase;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.dto.CatalogChangeResponse;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.catalog.router.CatalogRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class CatalogHandlerTest {
+
+    @TempDir
+    Path dir;
+
+    private GetCatalogExportUseCase exportUC;
+    private StreamCatalogChangesUseCase changesUC;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setup() {
+        exportUC = mock(GetCatalogExportUseCase.class);
+        changesUC = mock(StreamCatalogChangesUseCase.class);
+        CatalogRouter router = new CatalogRouter(new CatalogHandler(exportUC, changesUC));
+        try {
+            var method = CatalogRouter.class.getDeclaredMethod("routes");
+            method.setAccessible(true);
+
+            @SuppressWarnings("unchecked")
+            RouterFunction<ServerResponse> routes =
+                    (RouterFunction<ServerResponse>) method.invoke(router);
+
+            client = WebTestClient.bindToRouterFunction(routes)
+                    .configureClient()
+                    .baseUrl("/")
+                    .build();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void exportStreamsFileWithVersionHeaders() throws Exception {
+        byte[] content = {1, 2, 3, 4, 5};
+        Path file = Files.write(dir.resolve("catalog-ab12.bin"), content);
+        when(exportUC.execute()).thenReturn(Mono.just(
+                new CatalogExport(9L, file, content.length, 0xCAFE, "ab12", OffsetDateTime.now())));
+
+        client.get().uri("/catalog/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .expectHeader().contentLength(content.length)
+                .expectHeader().valueEquals(CatalogHandler.VERSION_HEADER, "9")
+                .expectHeader().valueEquals(CatalogHandler.CHECKSUM_HEADER, "0000cafe")
+                .expectHeader().valueEquals("ETag", "W/\"ab12\"")
+                .expectBody(byte[].class).isEqualTo(content);
+    }
+
+    @Test
+    void exportAnswersNotModifiedWhenConsumerHasSameContent() throws Exception {
+        Path file = Files.write(dir.resolve("catalog-ab12.bin"), new byte[]{1});
+        when(exportUC.execute()).thenReturn(Mono.just(
+                new CatalogExport(9L, file, 1, 0, "ab12", OffsetDateTime.now())));
+
+        client.get().uri("/catalog/export")
+                .header("If-None-Match", "W/\"ab12\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        client.get().uri("/catalog/export")
+                .header("If-None-Match", "\"ab12\"")
+                .exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/catalog/export")
+                .header("If-None-Match", "W/\"cd34\"")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void changesStreamsNdjsonFromRequestedVersion() {
+        when(changesUC.execute("e1", 4L)).thenReturn(Flux.just(
+                CatalogChangeEvent.reset("e1", 4L),
+                CatalogChangeEvent.of("e1", 5L, CatalogChange.of(CatalogChange.Entity.PLAN,
+                        CatalogChange.Operation.STATUS, "PLAN1", "payload"))));
+
+        client.get().uri("/catalog/changes?epoch=e1&since=4")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(CatalogChangeResponse.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals("RESET", list.get(0).type());
+                    assertEquals(5L, list.get(1).version());
+                    assertEquals("e1", list.get(1).epoch());
+                    assertEquals("PLAN", list.get(1).entity());
+                    assertEquals("PLAN1", list.get(1).key());
+                });
+    }
+
+    @Test
+    void changesSseResumesFromLastEventId() {
+        when(changesUC.execute("e1", 7L)).thenReturn(Flux.just(
+                CatalogChangeEvent.of("e1", 8L, CatalogChange.of(CatalogChange.Entity.BIN,
+                        CatalogChange.Operation.CREATE, "411111", "payload"))));
+
+        var body = client.get().uri("/catalog/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", "e1:7")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNextMatches(data -> data.contains("\"version\":8") && data.contains("411111"))
+                .thenCancel()
+                .verify();
+        verify(changesUC).execute("e1", 7L);
+    }
+
+    @Test
+    void changesRejectNonNumericSince() {
+        client.get().uri("/catalog/changes?since=abc")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().is5xxServerError();
+        verifyNoInteractions(changesUC);
+    }
+}
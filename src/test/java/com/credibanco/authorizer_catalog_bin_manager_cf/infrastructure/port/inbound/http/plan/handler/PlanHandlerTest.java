@@ -2,6 +2,7 @@ package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inb
 
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.port.inbound.*;
 import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsBulkResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsImportProgress;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
 import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
@@ -189,6 +190,28 @@ class PlanHandlerTest {
                 .jsonPath("$.data.inserted").isEqualTo(1);
     }
 
+    @Test
+    void addItemsStreamsCsvBodyToImport() {
+        PlanItemsImportProgress done = new PlanItemsImportProgress("PLAN", 3, 2, 1, 0, 1, 1, true, List.of("x"), List.of());
+        when(addItemUC.importStream(eq("PLAN"), any(), eq("user"))).thenAnswer(inv -> {
+            Flux<String> values = inv.getArgument(1);
+            return values.collectList()
+                    .filter(v -> v.equals(List.of("5411", "x")))
+                    .map(v -> done)
+                    .flux();
+        });
+
+        client.post().uri("/plans/items/attach?planCode=PLAN&updatedBy=user")
+                .contentType(MediaType.valueOf("text/csv"))
+                .bodyValue("mcc,descripcion\n5411,Supermercados\n\"x\"\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.inserted").isEqualTo(1)
+                .jsonPath("$.data.invalidSample[0]").isEqualTo("x")
+                .jsonPath("$.data.done").isEqualTo(true);
+    }
+
     @Test
     void addItemSingleValueCreatesResource() {
         PlanItem item = PlanItem.rehydrate(55L, 5L, "1000", OffsetDateTime.now(), OffsetDateTime.now(), "user", "A");
@@ -0,0 +1,70 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.inbound.http.plan.handler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class PlanItemsImportParserTest {
+
+    @Test
+    void csvTakesFirstColumnWithEitherSeparatorAndStripsQuotes() {
+        StepVerifier.create(PlanItemsImportParser.parse(
+                        Flux.just("5411,Supermercados", "5812;Restaurantes", "\"5999\",\"Varios\"",
+                                " \" 4121 \" ;x", "7011"),
+                        PlanItemsImportParser.TEXT_CSV))
+                .expectNext("5411", "5812", "5999", "4121", "7011")
+                .verifyComplete();
+    }
+
+    @Test
+    void csvSkipsOnlyAKnownHeader() {
+        StepVerifier.create(PlanItemsImportParser.parse(Flux.just("MCC;descripcion", "5411"),
+                        PlanItemsImportParser.TEXT_CSV))
+                .expectNext("5411")
+                .verifyComplete();
+        StepVerifier.create(PlanItemsImportParser.parse(Flux.just("\uFEFFvalue", "5411"), MediaType.TEXT_PLAIN))
+                .expectNext("5411")
+                .verifyComplete();
+        StepVerifier.create(PlanItemsImportParser.parse(Flux.just("\"merchant_id\"", "123456789"), null))
+                .expectNext("123456789")
+                .verifyComplete();
+    }
+
+    @Test
+    void csvKeepsAFirstValueWithoutDigitsSoItCountsAsInvalid() {
+        StepVerifier.create(PlanItemsImportParser.parse(Flux.just("abcd", "5411"), PlanItemsImportParser.TEXT_CSV))
+                .expectNext("abcd", "5411")
+                .verifyComplete();
+        StepVerifier.create(PlanItemsImportParser.parse(Flux.just("5411", "mcc"), PlanItemsImportParser.TEXT_CSV))
+                .expectNext("5411", "mcc")
+                .verifyComplete();
+    }
+
+    @Test
+    void csvMalformedLinesPassThroughForValidation() {
+        StepVerifier.create(PlanItemsImportParser.parse(Flux.just("5411", "", ";solo descripcion", "\"", "54\"11"),
+                        PlanItemsImportParser.TEXT_CSV))
+                .expectNext("5411", "", "", "\"", "54\"11")
+                .verifyComplete();
+    }
+
+    @Test
+    void ndjsonAcceptsStringsNumbersAndObjectsWithValue() {
+        StepVerifier.create(PlanItemsImportParser.parse(
+                        Flux.just("\"5411\"", "5812", "{\"value\":\"5999\",\"note\":\"x\"}", "{\"value\":7011}",
+                                "  \"4121\"  "),
+                        MediaType.APPLICATION_NDJSON))
+                .expectNext("5411", "5812", "5999", "7011", "4121")
+                .verifyComplete();
+    }
+
+    @Test
+    void ndjsonMalformedLinesPassThroughForValidation() {
+        StepVerifier.create(PlanItemsImportParser.parse(
+                        Flux.just("{\"value\":", "[\"5411\"]", "{\"other\":\"5411\"}", "", "value"),
+                        MediaType.APPLICATION_NDJSON))
+                .expectNext("{\"value\":", "[\"5411\"]", "{\"other\":\"5411\"}", "", "value")
+                .verifyComplete();
+    }
+}
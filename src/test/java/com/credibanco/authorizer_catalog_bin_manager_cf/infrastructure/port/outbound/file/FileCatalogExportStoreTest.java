@@ -0,0 +1,178 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.file;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogExport;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemMembership;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import static com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.file.CatalogBinaryFormat.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileCatalogExportStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static CatalogSnapshot snapshot(long version) {
+        return snapshot(version, "522222");
+    }
+
+    /** Misma foto salvo el segundo BIN, para variar el contenido. */
+    private static CatalogSnapshot snapshot(long version, String secondBin) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return CatalogSnapshot.of(version,
+                List.of(Bin.createNew("411111", "VISA", "CREDITO", "12", "CC", "DESC", "Y", 2, null),
+                        Bin.createNew(secondBin, "MC", "DEBITO", "10", "CC", "DESC", "N", null, null)),
+                List.of(Subtype.createNew("S02", "411111", "SUB2", "D", "CC", "1", "99", null),
+                        Subtype.createNew("S01", "411111", "SUB1", "D", "CC", "1", "10", null),
+                        Subtype.createNew("S03", "522222", "SUB3", "D", "CC", "1", null, null)),
+                List.of(),
+                List.of(CommercePlan.rehydrate(7L, "PLAN_MCC", "N", CommerceValidationMode.MCC, "d", "A", now, now, null)),
+                Map.of(7L, PlanItemMembership.of(CommerceValidationMode.MCC, List.of("5999", "5411"))),
+                List.of(SubtypePlanLink.rehydrate("S01", 7L, now, now, null)),
+                List.of(), List.of());
+    }
+
+    @Test
+    void writesMappableFileWithHeaderChecksumAndSortedSections() throws IOException {
+        CatalogExport export = new FileCatalogExportStore(dir, 3).exportOf(snapshot(5L));
+
+        try (FileChannel ch = FileChannel.open(export.path())) {
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            assertThat(map.getInt(0)).isEqualTo(MAGIC);
+            assertThat(map.getLong(8)).isEqualTo(5L);
+            assertThat(map.getLong(24)).isEqualTo(export.sizeBytes() - HEADER_SIZE);
+
+            CRC32C crc = new CRC32C();
+            crc.update(map.slice(HEADER_SIZE, (int) (export.sizeBytes() - HEADER_SIZE)));
+            assertThat((int) crc.getValue()).isEqualTo(map.getInt(32)).isEqualTo(export.checksum());
+
+            int subtypeCount = map.getInt(DIRECTORY_OFFSET + DIRECTORY_ENTRY_SIZE + 8);
+            long subtypeOffset = map.getLong(DIRECTORY_OFFSET + DIRECTORY_ENTRY_SIZE + 12);
+            assertThat(subtypeCount).isEqualTo(3);
+            assertThat(text(map, subtypeOffset, KEY_WIDTH)).isEqualTo("41111110");
+            assertThat(text(map, subtypeOffset + KEY_WIDTH, SUBTYPE_CODE_WIDTH)).isEqualTo("S01");
+
+            int found = binarySearch(map, subtypeOffset, subtypeCount, "41111199");
+            assertThat(found).isEqualTo(1);
+            assertThat(map.getInt((int) (subtypeOffset + SUBTYPE_RECORD * 0 + 24))).isZero();   // S01 -> plan 0
+            assertThat(map.getInt((int) (subtypeOffset + SUBTYPE_RECORD * 1 + 24))).isEqualTo(-1);
+
+            long planOffset = map.getLong(DIRECTORY_OFFSET + 2 * DIRECTORY_ENTRY_SIZE + 12);
+            long itemOffset = map.getLong(DIRECTORY_OFFSET + 3 * DIRECTORY_ENTRY_SIZE + 12);
+            assertThat(map.getLong((int) planOffset)).isEqualTo(7L);
+            assertThat(map.getInt((int) planOffset + 44)).isEqualTo(0);
+            assertThat(map.getInt((int) planOffset + 48)).isEqualTo(2);
+            assertThat(text(map, itemOffset, KEY_WIDTH)).isEqualTo("5411");
+            assertThat(text(map, itemOffset + PLAN_ITEM_RECORD, KEY_WIDTH)).isEqualTo("5999");
+        }
+    }
+
+    @Test
+    void sameContentKeepsItsNameAndHashAcrossVersions() throws IOException {
+        FileCatalogExportStore store = new FileCatalogExportStore(dir, 2);
+        CatalogExport first = store.exportOf(snapshot(1L));
+        assertThat(store.exportOf(snapshot(1L))).isSameAs(first);
+
+        CatalogExport refreshed = store.exportOf(snapshot(2L));
+        assertThat(refreshed.version()).isEqualTo(2L);
+        assertThat(refreshed.contentHash()).isEqualTo(first.contentHash()).hasSize(64);
+        assertThat(refreshed.path()).isEqualTo(first.path()).hasFileName("catalog-" + first.contentHash() + ".bin");
+        assertThat(refreshed.sizeBytes()).isEqualTo(first.sizeBytes());
+
+        CatalogExport changed = store.exportOf(snapshot(3L, "533333"));
+        assertThat(changed.contentHash()).isNotEqualTo(first.contentHash());
+        assertThat(changed.path()).isNotEqualTo(first.path());
+    }
+
+    @Test
+    void keepsCurrentFileAndPurgesOldestByModificationTime() throws IOException {
+        FileCatalogExportStore store = new FileCatalogExportStore(dir, 2);
+        CatalogExport a = store.exportOf(snapshot(1L, "511111"));
+        Files.setLastModifiedTime(a.path(), FileTime.fromMillis(1_000));
+        CatalogExport b = store.exportOf(snapshot(2L, "522222"));
+        Files.setLastModifiedTime(b.path(), FileTime.fromMillis(2_000));
+
+        CatalogExport c = store.exportOf(snapshot(3L, "533333"));
+
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName())).containsExactlyInAnyOrder(
+                    b.path().getFileName(), c.path().getFileName());
+        }
+    }
+
+    @Test
+    void restartOverAnExistingDirectoryKeepsTheNewFile() throws IOException {
+        FileCatalogExportStore before = new FileCatalogExportStore(dir, 2);
+        for (long v = 1; v <= 5; v++) {
+            before.exportOf(snapshot(v, "5" + v + "0000"));
+        }
+
+        FileCatalogExportStore restarted = new FileCatalogExportStore(dir, 2);
+        CatalogExport fresh = restarted.exportOf(snapshot(1L, "599999"));
+
+        assertThat(fresh.path()).exists();
+        try (FileChannel ch = FileChannel.open(fresh.path())) {
+            assertThat(ch.size()).isEqualTo(fresh.sizeBytes());
+        }
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString()).filter(n -> n.endsWith(".bin")))
+                    .hasSize(2)
+                    .contains(fresh.path().getFileName().toString());
+        }
+    }
+
+    @Test
+    void exportHandedToAReaderSurvivesTheNextRegeneration() throws IOException {
+        FileCatalogExportStore store = new FileCatalogExportStore(dir, 2);
+        CatalogExport served = store.exportOf(snapshot(1L));
+
+        store.exportOf(snapshot(2L));
+
+        try (FileChannel ch = FileChannel.open(served.path())) {
+            assertThat(ch.size()).isEqualTo(served.sizeBytes());
+        }
+    }
+
+    private static String text(MappedByteBuffer map, long offset, int width) {
+        byte[] raw = new byte[width];
+        map.get((int) offset, raw);
+        int len = 0;
+        while (len < width && raw[len] != 0) len++;
+        return new String(raw, 0, len, StandardCharsets.US_ASCII);
+    }
+
+    private static int binarySearch(MappedByteBuffer map, long offset, int count, String key) {
+        byte[] wanted = Arrays.copyOf(key.getBytes(StandardCharsets.US_ASCII), KEY_WIDTH);
+        byte[] probe = new byte[KEY_WIDTH];
+        int lo = 0, hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            map.get((int) (offset + (long) mid * SUBTYPE_RECORD), probe);
+            int cmp = Arrays.compareUnsigned(probe, wanted);
+            if (cmp < 0) lo = mid + 1;
+            else if (cmp > 0) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+}
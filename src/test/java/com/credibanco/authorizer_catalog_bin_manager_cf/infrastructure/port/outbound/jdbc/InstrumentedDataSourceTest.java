@@ -0,0 +1,120 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class InstrumentedDataSourceTest {
+
+    private static final String IN_SQL = "select b.bin from bin b where b.bin in (?, ?, ?)";
+
+    private SimpleMeterRegistry registry;
+    private JdbcStatementMetrics metrics;
+    private DataSource pool;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        metrics = new JdbcStatementMetrics(true, Duration.ofMillis(200), 300, registry);
+        pool = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.executeUpdate()).thenReturn(3);
+        when(resultSet.next()).thenReturn(true, true, false);
+    }
+
+    @Test
+    void statementsAreTimedByShapeAndRowsAreChargedToTheRequest() throws Exception {
+        JdbcRequestCost cost = new JdbcRequestCost("cid-1");
+        DataSource ds = new InstrumentedDataSource(pool, metrics);
+
+        Mono<Integer> call = Mono.fromCallable(() -> {
+            try (Connection c = ds.getConnection()) {
+                PreparedStatement ps = c.prepareStatement(IN_SQL);
+                ps.setString(1, "411111");
+                ResultSet rs = ps.executeQuery();
+                int read = 0;
+                while (rs.next()) {
+                    read++;
+                }
+                c.prepareStatement("update bin set status = ? where bin = ?").executeUpdate();
+                return read;
+            }
+        });
+
+        StepVerifier.create(Mono.deferContextual(ctx -> JdbcRequestCost.scoped(call, ctx))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .contextWrite(ctx -> ctx.put(JdbcRequestCost.CONTEXT_KEY, cost)))
+                .expectNext(2)
+                .verifyComplete();
+
+        assertThat(cost.statements()).isEqualTo(2);
+        assertThat(cost.rows()).isEqualTo(5);
+        assertThat(registry.get("catalog.jdbc.statement")
+                .tag("sql", "select b.bin from bin b where b.bin in (?...)").tag("kind", "query").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("catalog.jdbc.rows").tag("sql", "update bin set status = ? where bin = ?")
+                .summary().totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    void statementsOutsideARequestAreOnlyMeasured() throws Exception {
+        DataSource ds = new InstrumentedDataSource(pool, metrics);
+
+        try (Connection c = ds.getConnection()) {
+            c.prepareStatement(IN_SQL).executeQuery().close();
+        }
+
+        assertThat(registry.get("catalog.jdbc.statement").timer().count()).isEqualTo(1);
+        assertThat(JdbcRequestCost.current()).isNull();
+    }
+
+    @Test
+    void unwrapReachesThePool() throws Exception {
+        InstrumentedDataSource ds = new InstrumentedDataSource(pool, metrics);
+        when(pool.unwrap(String.class)).thenReturn("pool");
+
+        assertThat(ds.unwrap(String.class)).isEqualTo("pool");
+        assertThat(ds.getTargetDataSource()).isSameAs(pool);
+    }
+
+    @Test
+    void shapesCollapseLiteralsAndInLists() {
+        assertThat(SqlShape.of("SELECT *\n  FROM plan p WHERE p.code = 'P01' AND p.id IN (?,?) AND rownum <= 10"))
+                .isEqualTo("SELECT * FROM plan p WHERE p.code = ? AND p.id IN (?...) AND rownum <= ?");
+        assertThat(SqlShape.of("select s1_0.bin from subtype s1_0")).isEqualTo("select s1_0.bin from subtype s1_0");
+    }
+
+    @Test
+    void distinctShapesAreCapped() {
+        JdbcStatementMetrics capped = new JdbcStatementMetrics(true, Duration.ofSeconds(1), 1, null);
+
+        assertThat(capped.shapeOf("select 1 from dual where a = ?")).isEqualTo("select ? from dual where a = ?");
+        assertThat(capped.shapeOf("select x from t")).isEqualTo(JdbcStatementMetrics.OTHER);
+    }
+
+    @Test
+    void bindShapesNeverCarryValues() {
+        assertThat(JdbcStatementHandler.shapeOf("411111")).isEqualTo("String(6)");
+        assertThat(JdbcStatementHandler.shapeOf(42L)).isEqualTo("Long");
+        assertThat(JdbcStatementHandler.shapeOf(null)).isEqualTo("null");
+    }
+}
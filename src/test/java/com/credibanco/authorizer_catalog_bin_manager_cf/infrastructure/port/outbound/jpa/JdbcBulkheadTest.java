@@ -0,0 +1,84 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcBulkheadTest {
+
+    @AfterEach
+    void reset() {
+        JpaSchedulers.configure(JdbcExecutionMode.BOUNDED_ELASTIC, null);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() {
+        JdbcBulkhead bulkhead = new JdbcBulkhead(1, 0, Duration.ofSeconds(5));
+        bulkhead.acquire();
+
+        AppException ex = assertThrows(AppException.class, bulkhead::acquire);
+
+        assertEquals(AppError.JDBC_BULKHEAD_FULL, ex.getError());
+        assertEquals(1, bulkhead.inFlight());
+        assertEquals(1, bulkhead.rejectedCount());
+        assertEquals(0, bulkhead.queueDepth());
+    }
+
+    @Test
+    void rejectsWhenWaitExceedsMaxWait() {
+        JdbcBulkhead bulkhead = new JdbcBulkhead(1, 5, Duration.ofMillis(20));
+        bulkhead.acquire();
+
+        assertThrows(AppException.class, bulkhead::acquire);
+        assertEquals(1, bulkhead.rejectedCount());
+
+        bulkhead.release();
+        bulkhead.acquire();
+        assertEquals(2, bulkhead.acquiredCount());
+    }
+
+    @Test
+    void executionModeParsesPropertyValues() {
+        assertEquals(JdbcExecutionMode.VIRTUAL_THREADS, JdbcExecutionMode.from("virtual-threads"));
+        assertEquals(JdbcExecutionMode.BOUNDED_ELASTIC, JdbcExecutionMode.from(" "));
+        assertThrows(IllegalArgumentException.class, () -> JdbcExecutionMode.from("threads"));
+    }
+
+    @Test
+    void virtualThreadModeRunsCallsOnVirtualThreadsAndReleasesPermit() {
+        JdbcBulkhead bulkhead = new JdbcBulkhead(2, 10, Duration.ofSeconds(1));
+        JpaSchedulers.configure(JdbcExecutionMode.VIRTUAL_THREADS, bulkhead);
+
+        StepVerifier.create(Mono.fromCallable(() -> Thread.currentThread().isVirtual()).transform(JpaSchedulers::mono))
+                .assertNext(virtual -> assertTrue(virtual))
+                .verifyComplete();
+
+        assertEquals(1, bulkhead.acquiredCount());
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    void initializerInstallsTheModeAndRestoresTheDefaultOnClose() {
+        JpaSchedulersInitializer initializer = new JpaSchedulersInitializer(JdbcExecutionMode.VIRTUAL_THREADS,
+                new JdbcBulkhead(1, 0, Duration.ofSeconds(1)));
+        assertEquals(JdbcExecutionMode.BOUNDED_ELASTIC, JpaSchedulers.mode());
+
+        initializer.afterPropertiesSet();
+        assertEquals(JdbcExecutionMode.VIRTUAL_THREADS, JpaSchedulers.mode());
+
+        initializer.destroy();
+        assertEquals(JdbcExecutionMode.BOUNDED_ELASTIC, JpaSchedulers.mode());
+        StepVerifier.create(Mono.fromCallable(() -> Thread.currentThread().isVirtual()).transform(JpaSchedulers::mono))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,74 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dos réplicas del log sobre las tablas reales: comparten epoch y numeración y cada una ve las altas de la otra.
+ * Solo corre con {@code CATALOG_IT_ORACLE_URL} (más {@code _USER} y {@code _PASSWORD}) apuntando a un
+ * esquema desechable: crea y borra las tablas que toca.
+ */
+@EnabledIfEnvironmentVariable(named = "CATALOG_IT_ORACLE_URL", matches = ".+")
+class JdbcCatalogChangeLogOracleTest {
+
+    private static final List<String> TABLES = List.of("CATALOG_CHANGE_LOG", "CATALOG_CHANGE_HEAD");
+
+    private static JdbcTemplate jdbc;
+    private static DataSourceTransactionManager tm;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource ds = new DriverManagerDataSource(System.getenv("CATALOG_IT_ORACLE_URL"),
+                System.getenv("CATALOG_IT_ORACLE_USER"), System.getenv("CATALOG_IT_ORACLE_PASSWORD"));
+        jdbc = new JdbcTemplate(ds);
+        tm = new DataSourceTransactionManager(ds);
+        dropSchema();
+        jdbc.execute("CREATE TABLE CATALOG_CHANGE_HEAD (ID NUMBER(1) PRIMARY KEY, EPOCH VARCHAR2(36) NOT NULL, "
+                + "VERSION NUMBER(19) NOT NULL)");
+        jdbc.execute("CREATE TABLE CATALOG_CHANGE_LOG (VERSION NUMBER(19) PRIMARY KEY, "
+                + "COMMITTED_AT TIMESTAMP WITH TIME ZONE NOT NULL, ENTITY VARCHAR2(32) NOT NULL, "
+                + "OPERATION VARCHAR2(16) NOT NULL, CHANGE_KEY VARCHAR2(256) NOT NULL, PAYLOAD CLOB)");
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        for (String table : TABLES) {
+            jdbc.execute("BEGIN EXECUTE IMMEDIATE 'DROP TABLE " + table + " PURGE'; EXCEPTION WHEN OTHERS THEN NULL; END;");
+        }
+    }
+
+    @Test
+    void replicasShareNumberingAndPageTheReplay() {
+        JdbcCatalogChangeLog a = new JdbcCatalogChangeLog(jdbc, tm, 100, 2, Duration.ofSeconds(1));
+        JdbcCatalogChangeLog b = new JdbcCatalogChangeLog(jdbc, tm, 100, 2, Duration.ofSeconds(1));
+        a.poll();
+        b.poll();
+
+        for (String key : List.of("411111", "422222", "433333")) {
+            a.append(CatalogChange.of(CatalogChange.Entity.BIN, CatalogChange.Operation.CREATE, key, Map.of("bin", key)));
+        }
+        b.append(CatalogChange.of(CatalogChange.Entity.BIN, CatalogChange.Operation.UPDATE, "411111", Map.of("bin", "411111")));
+        b.poll();
+
+        assertThat(b.epoch()).isEqualTo(a.epoch());
+        assertThat(b.head()).isEqualTo(4L);
+        StepVerifier.create(b.since(a.epoch(), 1L).take(3))
+                .expectNextMatches(e -> e.version() == 2L && e.change().key().equals("422222"))
+                .expectNextMatches(e -> e.version() == 3L)
+                .expectNextMatches(e -> e.version() == 4L && e.change().operation() == CatalogChange.Operation.UPDATE)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,277 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import reactor.core.Exceptions;
+import reactor.test.StepVerifier;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdbcCatalogChangeLogTest {
+
+    private FakeTables db;
+    private PlatformTransactionManager tm;
+
+    @BeforeEach
+    void setup() {
+        db = new FakeTables();
+        tm = mock(PlatformTransactionManager.class);
+        when(tm.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private JdbcCatalogChangeLog replica(int retention, int buffer) {
+        JdbcCatalogChangeLog log = new JdbcCatalogChangeLog(db, tm, retention, buffer, Duration.ofSeconds(1));
+        log.poll();
+        return log;
+    }
+
+    private static CatalogChange change(String key) {
+        return CatalogChange.of(CatalogChange.Entity.BIN, CatalogChange.Operation.UPDATE, key, Map.of("bin", key));
+    }
+
+    @Test
+    void replicasShareEpochAndVersionsAndSeeEachOthersChanges() {
+        JdbcCatalogChangeLog a = replica(100, 16);
+        JdbcCatalogChangeLog b = replica(100, 16);
+        assertThat(b.epoch()).isNotNull().isEqualTo(a.epoch());
+
+        a.append(change("a"));
+        b.append(change("b"));
+        a.poll();
+        b.poll();
+        assertThat(a.head()).isEqualTo(2L);
+        assertThat(b.head()).isEqualTo(2L);
+
+        StepVerifier.create(b.since(a.epoch(), 0L))
+                .expectNextMatches(e -> e.version() == 1L && e.change().key().equals("a")
+                        && ((JsonNode) e.change().payload()).get("bin").asText().equals("a"))
+                .expectNextMatches(e -> e.version() == 2L && e.change().key().equals("b"))
+                .then(() -> {
+                    a.append(change("c"));
+                    b.poll();
+                })
+                .expectNextMatches(e -> e.version() == 3L && e.change().key().equals("c"))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void restartKeepsEpochAndContinuesNumbering() {
+        JdbcCatalogChangeLog before = replica(100, 16);
+        before.append(change("a"));
+        JdbcCatalogChangeLog restarted = replica(100, 16);
+
+        assertThat(restarted.epoch()).isEqualTo(before.epoch());
+        assertThat(restarted.head()).isEqualTo(1L);
+        StepVerifier.create(restarted.since(before.epoch(), 1L))
+                .then(() -> {
+                    restarted.append(change("b"));
+                    restarted.poll();
+                })
+                .expectNextMatches(e -> !e.isReset() && e.version() == 2L)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void replayIsReadInPagesOfTheBufferSizeWithoutOverflowing() {
+        JdbcCatalogChangeLog log = replica(100, 2);
+        for (String k : new String[]{"a", "b", "c", "d", "e"}) {
+            log.append(change(k));
+        }
+        log.poll();
+        db.pageQueries = 0;
+
+        StepVerifier.create(log.since(log.epoch(), 0L), 0)
+                .thenRequest(5)
+                .expectNextMatches(e -> e.version() == 1L)
+                .expectNextCount(3)
+                .expectNextMatches(e -> e.version() == 5L)
+                .thenCancel()
+                .verify();
+        assertThat(db.pageQueries).isEqualTo(3);
+    }
+
+    @Test
+    void emitsResetWhenRequestedHistoryWasPurged() {
+        JdbcCatalogChangeLog log = replica(2, 16);
+        for (String k : new String[]{"a", "b", "c", "d"}) {
+            log.append(change(k));
+        }
+        log.poll();
+        assertThat(db.rows.keySet()).containsExactly(3L, 4L);
+
+        StepVerifier.create(log.since(log.epoch(), 0L))
+                .expectNextMatches(e -> e.isReset() && e.version() == 2L)
+                .expectNextMatches(e -> e.version() == 3L)
+                .expectNextMatches(e -> e.version() == 4L)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void emitsResetWhenConsumerIsAheadOrFromAnotherEpoch() {
+        JdbcCatalogChangeLog log = replica(10, 16);
+        log.append(change("a"));
+        log.poll();
+
+        StepVerifier.create(log.since(log.epoch(), 50L))
+                .expectNextMatches(e -> e.isReset() && e.version() == 1L)
+                .thenCancel()
+                .verify();
+        StepVerifier.create(log.since("otra", 1L))
+                .expectNextMatches(e -> e.isReset() && e.version() == 1L && e.epoch().equals(log.epoch()))
+                .thenCancel()
+                .verify();
+        StepVerifier.create(log.since(null, 0L))
+                .expectNextMatches(e -> !e.isReset() && e.version() == 1L)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void slowConsumerFailsWithOverflowInsteadOfBufferingWithoutLimit() {
+        JdbcCatalogChangeLog log = replica(10, 2);
+
+        StepVerifier.create(log.since(log.epoch(), 0L), 0)
+                .then(() -> {
+                    for (int i = 0; i < 5; i++) {
+                        log.append(change("k" + i));
+                    }
+                    log.poll();
+                })
+                .thenRequest(10)
+                .expectNextCount(2)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify();
+    }
+
+    @Test
+    void unavailableUntilTheHeadRowIsRead() {
+        db.down = true;
+        JdbcCatalogChangeLog log = replica(10, 16);
+
+        StepVerifier.create(log.since(null, 0L))
+                .expectErrorSatisfies(err ->
+                        assertThat(((AppException) err).getError()).isEqualTo(AppError.CATALOG_CHANGES_UNAVAILABLE))
+                .verify();
+
+        db.down = false;
+        log.poll();
+        assertThat(log.epoch()).isNotNull();
+    }
+
+    /** Emula CATALOG_CHANGE_HEAD y CATALOG_CHANGE_LOG respondiendo a las sentencias del adaptador. */
+    private static final class FakeTables extends JdbcTemplate {
+        String epoch;
+        long version;
+        final TreeMap<Long, Object[]> rows = new TreeMap<>();
+        int pageQueries;
+        boolean down;
+
+        @Override
+        public int update(String sql) {
+            return update(sql, new Object[0]);
+        }
+
+        @Override
+        public synchronized int update(String sql, Object... args) {
+            if (down) {
+                throw new org.springframework.dao.DataAccessResourceFailureException("sin conexión");
+            }
+            switch (sql) {
+                case JdbcCatalogChangeLog.SEED_SQL -> {
+                    if (epoch == null) {
+                        epoch = (String) args[0];
+                        return 1;
+                    }
+                    return 0;
+                }
+                case JdbcCatalogChangeLog.BUMP_SQL -> {
+                    version++;
+                    return 1;
+                }
+                case JdbcCatalogChangeLog.INSERT_SQL -> {
+                    rows.put((Long) args[0], args);
+                    return 1;
+                }
+                case JdbcCatalogChangeLog.PURGE_SQL -> {
+                    var purged = rows.headMap((Long) args[0], true);
+                    int n = purged.size();
+                    purged.clear();
+                    return n;
+                }
+                default -> throw new IllegalArgumentException(sql);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T> T queryForObject(String sql, Class<T> type) {
+            return switch (sql) {
+                case JdbcCatalogChangeLog.EPOCH_SQL -> (T) epoch;
+                case JdbcCatalogChangeLog.VERSION_SQL -> (T) Long.valueOf(version);
+                default -> throw new IllegalArgumentException(sql);
+            };
+        }
+
+        @Override
+        public synchronized <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            assertThat(sql).isEqualTo(JdbcCatalogChangeLog.PAGE_SQL);
+            pageQueries++;
+            long after = (Long) args[0];
+            long upTo = (Long) args[1];
+            int limit = (Integer) args[2];
+            List<T> page = new ArrayList<>();
+            try {
+                for (Object[] row : rows.subMap(after, false, upTo, true).values()) {
+                    if (page.size() == limit) {
+                        break;
+                    }
+                    page.add(rowMapper.mapRow(resultSet(row), page.size()));
+                }
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return page;
+        }
+
+        private static ResultSet resultSet(Object[] row) throws SQLException {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong("VERSION")).thenReturn((Long) row[0]);
+            when(rs.getTimestamp("COMMITTED_AT"))
+                    .thenReturn(Timestamp.from(((OffsetDateTime) row[1]).toInstant()));
+            when(rs.getString(anyString())).thenAnswer(inv -> switch ((String) inv.getArgument(0)) {
+                case "ENTITY" -> row[2];
+                case "OPERATION" -> row[3];
+                case "CHANGE_KEY" -> row[4];
+                case "PAYLOAD" -> row[5];
+                default -> null;
+            });
+            return rs;
+        }
+    }
+}
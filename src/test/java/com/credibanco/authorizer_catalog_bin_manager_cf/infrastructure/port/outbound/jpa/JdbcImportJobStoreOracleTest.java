@@ -0,0 +1,76 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound.ImportJobStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lease y carga de los jobs sobre las tablas reales: una sola réplica toma el job y, vencido su lease, otra lo retoma.
+ * Solo corre con {@code CATALOG_IT_ORACLE_URL} (más {@code _USER} y {@code _PASSWORD}) apuntando a un
+ * esquema desechable: crea y borra las tablas que toca.
+ */
+@EnabledIfEnvironmentVariable(named = "CATALOG_IT_ORACLE_URL", matches = ".+")
+class JdbcImportJobStoreOracleTest {
+
+    private static final List<String> TABLES = List.of("IMPORT_JOB_VALUE", "IMPORT_JOB");
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void createSchema() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(System.getenv("CATALOG_IT_ORACLE_URL"),
+                System.getenv("CATALOG_IT_ORACLE_USER"), System.getenv("CATALOG_IT_ORACLE_PASSWORD")));
+        dropSchema();
+        jdbc.execute("CREATE TABLE IMPORT_JOB (JOB_ID VARCHAR2(64) PRIMARY KEY, STATUS VARCHAR2(16) NOT NULL, "
+                + "OWNER VARCHAR2(64), LEASE_UNTIL TIMESTAMP WITH TIME ZONE, SUBMITTED_AT TIMESTAMP WITH TIME ZONE, "
+                + "STATE CLOB NOT NULL)");
+        jdbc.execute("CREATE TABLE IMPORT_JOB_VALUE (JOB_ID VARCHAR2(64), POS NUMBER(19), VAL VARCHAR2(512), "
+                + "PRIMARY KEY (JOB_ID, POS))");
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        for (String table : TABLES) {
+            jdbc.execute("BEGIN EXECUTE IMMEDIATE 'DROP TABLE " + table + " PURGE'; EXCEPTION WHEN OTHERS THEN NULL; END;");
+        }
+    }
+
+    @Test
+    void onlyOneReplicaClaimsAndAnExpiredLeaseCanBeTakenOver() {
+        JdbcImportJobStore store = new JdbcImportJobStore(jdbc, 2);
+        store.save(ImportJob.queued("j1", ImportJobKind.PLAN_ITEMS, "PLAN", "actor", 3, OffsetDateTime.now()));
+        try (ImportJobStore.SpoolWriter spool = store.openSpool("j1")) {
+            spool.write("5411");
+            spool.write("5812");
+            spool.write("5999");
+        }
+
+        assertThat(store.claim("j1", "a", Duration.ofMinutes(5))).isTrue();
+        assertThat(store.claim("j1", "b", Duration.ofMinutes(5))).isFalse();
+        assertThat(store.findClaimable()).isEmpty();
+
+        jdbc.update("UPDATE IMPORT_JOB SET LEASE_UNTIL = SYSTIMESTAMP - INTERVAL '1' SECOND WHERE JOB_ID = 'j1'");
+        assertThat(store.renew("b", Duration.ofMinutes(5))).isZero();
+        assertThat(store.findClaimable()).extracting(ImportJob::id).containsExactly("j1");
+        assertThat(store.claim("j1", "b", Duration.ofMinutes(5))).isTrue();
+
+        try (Stream<String> rest = store.readSpool("j1", 1)) {
+            assertThat(rest).containsExactly("5812", "5999");
+        }
+        store.save(store.find("j1").orElseThrow().completed(OffsetDateTime.now()));
+        assertThat(store.claim("j1", "b", Duration.ofMinutes(5))).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJob;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobKind;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.model.ImportJobStatus;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.job.port.outbound.ImportJobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JdbcImportJobStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcImportJobStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        store = new JdbcImportJobStore(jdbcTemplate, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void savesStateAsJsonAndReadsItBack() throws Exception {
+        ImportJob job = ImportJob.advance(
+                ImportJob.queued("j1", ImportJobKind.PLAN_ITEMS, "PLAN", "actor", 10, OffsetDateTime.now())
+                        .running(OffsetDateTime.now()),
+                5, 5, 3, 1, 1, 1, List.of("abc"), List.of("5411"));
+
+        store.save(job);
+
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(eq(JdbcImportJobStore.SAVE_SQL), args.capture(), args.capture(), args.capture(),
+                args.capture(), args.capture(), args.capture(), args.capture());
+        assertThat(args.getAllValues().get(1)).isEqualTo("RUNNING");
+        String state = (String) args.getAllValues().get(2);
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(state);
+        when(jdbcTemplate.query(eq(JdbcImportJobStore.FIND_SQL), any(RowMapper.class), eq("j1")))
+                .thenAnswer(inv -> List.of(((RowMapper<ImportJob>) inv.getArgument(1)).mapRow(rs, 0)));
+
+        ImportJob read = store.find("j1").orElseThrow();
+        assertThat(read.status()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(read.position()).isEqualTo(5);
+        assertThat(read.invalidSample()).containsExactly("abc");
+        assertThat(store.find(null)).isEmpty();
+    }
+
+    @Test
+    void claimSucceedsOnlyWhenTheConditionalUpdateTakesTheRow() {
+        when(jdbcTemplate.update(JdbcImportJobStore.CLAIM_SQL, "me", 120L, "j1", "me")).thenReturn(1);
+        when(jdbcTemplate.update(JdbcImportJobStore.CLAIM_SQL, "me", 120L, "j2", "me")).thenReturn(0);
+
+        assertThat(store.claim("j1", "me", Duration.ofMinutes(2))).isTrue();
+        assertThat(store.claim("j2", "me", Duration.ofMinutes(2))).isFalse();
+        assertThat(JdbcImportJobStore.CLAIM_SQL)
+                .contains("STATUS IN ('QUEUED', 'RUNNING')")
+                .contains("OWNER IS NULL OR OWNER = ? OR LEASE_UNTIL < SYSTIMESTAMP");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void spoolIsInsertedInBatchesWithItsPosition() {
+        try (ImportJobStore.SpoolWriter spool = store.openSpool("j1")) {
+            spool.write("5411");
+            spool.write("5812");
+            spool.write("x".repeat(600));
+            assertThat(spool.count()).isEqualTo(3);
+        }
+
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(JdbcImportJobStore.SPOOL_INSERT_SQL), batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(row -> row[1]).containsExactly(0L, 1L);
+        Object[] last = batches.getAllValues().get(1).get(0);
+        assertThat(last[1]).isEqualTo(2L);
+        assertThat((String) last[2]).hasSize(JdbcImportJobStore.MAX_VALUE_LENGTH);
+    }
+}
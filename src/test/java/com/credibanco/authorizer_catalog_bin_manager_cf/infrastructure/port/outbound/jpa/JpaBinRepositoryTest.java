@@ -14,12 +14,15 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import reactor.test.StepVerifier;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 class JpaBinRepositoryTest {
@@ -56,6 +59,29 @@ class JpaBinRepositoryTest {
         verify(springRepository).save(any(BinEntity.class));
     }
 
+    @Test
+    void findAllByIdSplitsKeysIntoOracleInLists() {
+        List<String> bins = IntStream.range(0, 1500)
+                .mapToObj(i -> String.format("%06d", 100000 + i)).toList();
+        BinEntity entity = BinJpaMapper.toEntity(
+                Bin.createNew("100000", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null));
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(springRepository.findAllById(anyIterable())).thenAnswer(inv -> {
+            Iterable<?> ids = inv.getArgument(0);
+            int n = 0;
+            for (Object ignored : ids) {
+                n++;
+            }
+            chunkSizes.add(n);
+            return chunkSizes.size() == 1 ? List.of(entity) : List.<BinEntity>of();
+        });
+
+        StepVerifier.create(repo.findAllById(bins))
+                .expectNextMatches(b -> b.bin().equals("100000"))
+                .verifyComplete();
+        assertThat(chunkSizes).containsExactly(1000, 500);
+    }
+
     @Test
     void findByIdReturnsMappedDomain() {
         Bin aggregate = Bin.createNew("123456", "NAME", "DEBITO", "12", "CC", "DESC", "N", null, null);
@@ -1,5 +1,8 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.CommercePlanItemEntity;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanItemJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,20 +12,30 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.SimpleTransactionStatus;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import static org.mockito.Mockito.*;
 
 class JpaCommercePlanItemRepositoryTest {
 
     private CommercePlanItemJpaRepository springRepository;
+    private JdbcTemplate jdbcTemplate;
     private JpaCommercePlanItemRepository repo;
+    private final JdbcStreamLimits streams = new JdbcStreamLimits(500, 1, Duration.ofSeconds(30), Duration.ofMillis(100));
 
     @BeforeEach
     void setup() {
@@ -32,7 +45,8 @@ class JpaCommercePlanItemRepositoryTest {
         when(tm.getTransaction(any(TransactionDefinition.class)))
                 .thenReturn(new SimpleTransactionStatus());  // ← FIX
 
-        repo = new JpaCommercePlanItemRepository(springRepository, tm);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repo = new JpaCommercePlanItemRepository(springRepository, tm, jdbcTemplate, 2, streams);
     }
 
     @Test
@@ -89,7 +103,7 @@ class JpaCommercePlanItemRepositoryTest {
 
         when(springRepository.findAll(
                 ArgumentMatchers.<Specification<CommercePlanItemEntity>>any(),
-                eq(PageRequest.of(0, 2, Sort.by(Sort.Order.asc("mcc"), Sort.Order.asc("merchantId"))))
+                eq(PageRequest.of(0, 2, Sort.by(Sort.Order.asc("planItemId"))))
         )).thenReturn(new PageImpl<>(List.of(entity)));
 
         StepVerifier.create(repo.listItems(3L, null, 0, 2))
@@ -147,6 +161,89 @@ class JpaCommercePlanItemRepositoryTest {
                 .verifyComplete();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkInsertionUsesJdbcBatchInsteadOfSavePerItem() {
+        when(springRepository.findExistingValues(9L, List.of("1", "2", "3"))).thenReturn(List.of("2"));
+
+        StepVerifier.create(repo.insertMccBulk(9L, List.of("1", "2", "3"), "me"))
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(jdbcTemplate).batchUpdate(eq(JpaCommercePlanItemRepository.BULK_INSERT_SQL), eq(List.of("1", "3")),
+                eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(springRepository, never()).save(any(CommercePlanItemEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamItemsEmitsCursorRowsOnDemandAndClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        PlanItem a = PlanItem.rehydrate(1L, 9L, "1234", null, null, "me", "A");
+        PlanItem b = PlanItem.rehydrate(2L, 9L, "5678", null, null, "me", "A");
+        when(jdbcTemplate.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenAnswer(inv -> Stream.of(a, b).onClose(() -> closed.set(true)));
+
+        StepVerifier.create(repo.streamItems(9L, "A"), 1)
+                .expectNext(a)
+                .thenRequest(1)
+                .expectNext(b)
+                .verifyComplete();
+
+        org.junit.jupiter.api.Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamsBeyondTheLimitAreRejectedUntilThePermitIsReleased() {
+        PlanItem a = PlanItem.rehydrate(1L, 9L, "1234", null, null, "me", "A");
+        when(jdbcTemplate.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenAnswer(inv -> Stream.of(a));
+
+        StepVerifier.create(repo.streamItems(9L, null), 0)
+                .expectSubscription()
+                .then(() -> StepVerifier.create(repo.streamItems(9L, null))
+                        .expectErrorSatisfies(ex -> org.assertj.core.api.Assertions.assertThat(ex)
+                                .isInstanceOf(AppException.class)
+                                .extracting(e -> ((AppException) e).getError()).isEqualTo(AppError.JDBC_BULKHEAD_FULL))
+                        .verify())
+                .thenRequest(1)
+                .expectNext(a)
+                .verifyComplete();
+
+        org.junit.jupiter.api.Assertions.assertEquals(0, streams.inFlight());
+        StepVerifier.create(repo.streamItems(9L, null)).expectNext(a).verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void idleStreamTimesOutAndReleasesTheCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        PlanItem a = PlanItem.rehydrate(1L, 9L, "1234", null, null, "me", "A");
+        PlanItem b = PlanItem.rehydrate(2L, 9L, "5678", null, null, "me", "A");
+        when(jdbcTemplate.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenAnswer(inv -> Stream.of(a, b).onClose(() -> closed.set(true)));
+
+        StepVerifier.create(repo.streamItems(9L, "A"), 1)
+                .expectNext(a)
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        org.junit.jupiter.api.Assertions.assertTrue(closed.get());
+        org.junit.jupiter.api.Assertions.assertEquals(0, streams.inFlight());
+    }
+
+    @Test
+    void bulkInsertionSkipsJdbcWhenEverythingExists() {
+        when(springRepository.findExistingValues(9L, List.of("1"))).thenReturn(List.of("1"));
+
+        StepVerifier.create(repo.insertMerchantBulk(9L, List.of("1"), "me"))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
     @Test
     void bulkInsertionReturnsZeroWhenEmpty() {
         StepVerifier.create(repo.insertMccBulk(9L, List.of(), "me"))
@@ -0,0 +1,64 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.common.model.ExistenceCheck;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.test.StepVerifier;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JpaExistenceProbeRepositoryTest {
+
+    @Test
+    void buildsOneCaseExistsColumnPerCheck() {
+        String sql = JpaExistenceProbeRepository.sql(List.of(
+                ExistenceCheck.subtypeCode("ST"), ExistenceCheck.otherActiveAgency("ST", "01")));
+
+        assertThat(sql).startsWith("SELECT CASE WHEN EXISTS (SELECT 1 FROM SUBTYPE WHERE SUBTYPE_CODE = ?) THEN 1 ELSE 0 END AS C0, ")
+                .contains("AGENCY_CODE <> ? AND STATUS = 'A') THEN 1 ELSE 0 END AS C1")
+                .endsWith(" FROM DUAL");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resolvesAllChecksInOneQueryAndDeduplicates() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt(1)).thenReturn(1);
+        when(rs.getInt(2)).thenReturn(0);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq("123456"), eq("ST"), eq("ST")))
+                .thenAnswer(inv -> ((RowMapper<?>) inv.getArgument(1)).mapRow(rs, 0));
+        JpaExistenceProbeRepository repo = new JpaExistenceProbeRepository(jdbcTemplate);
+
+        ExistenceCheck pk = ExistenceCheck.subtype("123456", "ST");
+        ExistenceCheck code = ExistenceCheck.subtypeCode("ST");
+
+        StepVerifier.create(repo.probe(List.of(pk, code, pk)))
+                .assertNext(found -> {
+                    assertThat(found.exists(pk)).isTrue();
+                    assertThat(found.exists(code)).isFalse();
+                })
+                .verifyComplete();
+
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(RowMapper.class), eq("123456"), eq("ST"), eq("ST"));
+    }
+
+    @Test
+    void emptyProbeSkipsTheDatabase() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        StepVerifier.create(new JpaExistenceProbeRepository(jdbcTemplate).probe(List.of()))
+                .assertNext(found -> assertThat(found.results()).isEmpty())
+                .verifyComplete();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeCommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationMapJpaRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Ejecuta las sentencias MERGE reales contra Oracle. No hay variante H2: el SQL usa DUAL, NEXTVAL y
+ * CAST a VARCHAR2, y el modo Oracle de H2 no reproduce la semántica de MERGE con USING vacío.
+ * Solo corre con {@code CATALOG_IT_ORACLE_URL} (más {@code _USER} y {@code _PASSWORD}) apuntando a un
+ * esquema desechable: crea y borra las tablas que toca.
+ */
+@EnabledIfEnvironmentVariable(named = "CATALOG_IT_ORACLE_URL", matches = ".+")
+class JpaMergeUpsertOracleTest {
+
+    private static final List<String> TABLES =
+            List.of("SUBTYPE_VALIDATION_MAP", "SUBTYPE_VALIDATION", "SUBTYPE", "SUBTYPE_COMMERCE_PLAN");
+    private static final List<String> SEQUENCES = List.of("SEQ_SUBTYPE_VAL_MAP_ID", "SEQ_SUBTYPE_COMMERCE_PLAN_ID");
+
+    private static JdbcTemplate jdbc;
+    private static DataSourceTransactionManager tm;
+
+    private JpaSubtypePlanRepository subtypePlans;
+    private JpaValidationMapRepository validationMaps;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource ds = new DriverManagerDataSource(System.getenv("CATALOG_IT_ORACLE_URL"),
+                System.getenv("CATALOG_IT_ORACLE_USER"), System.getenv("CATALOG_IT_ORACLE_PASSWORD"));
+        jdbc = new JdbcTemplate(ds);
+        tm = new DataSourceTransactionManager(ds);
+        dropSchema();
+        jdbc.execute("CREATE SEQUENCE SEQ_SUBTYPE_COMMERCE_PLAN_ID");
+        jdbc.execute("CREATE SEQUENCE SEQ_SUBTYPE_VAL_MAP_ID");
+        jdbc.execute("CREATE TABLE SUBTYPE_COMMERCE_PLAN (SUBTYPE_PLAN_ID NUMBER(19) PRIMARY KEY, "
+                + "SUBTYPE_CODE VARCHAR2(64) NOT NULL UNIQUE, PLAN_ID NUMBER(19) NOT NULL, "
+                + "CREATED_AT TIMESTAMP WITH TIME ZONE, UPDATED_AT TIMESTAMP WITH TIME ZONE, UPDATED_BY VARCHAR2(64))");
+        jdbc.execute("CREATE TABLE SUBTYPE (SUBTYPE_CODE VARCHAR2(3), BIN VARCHAR2(9), "
+                + "PRIMARY KEY (SUBTYPE_CODE, BIN))");
+        jdbc.execute("CREATE TABLE SUBTYPE_VALIDATION (VALIDATION_ID NUMBER(19) PRIMARY KEY, STATUS CHAR(1), "
+                + "VALID_FROM TIMESTAMP WITH TIME ZONE, VALID_TO TIMESTAMP WITH TIME ZONE)");
+        jdbc.execute("CREATE TABLE SUBTYPE_VALIDATION_MAP (SUBTYPE_VAL_MAP_ID NUMBER(19) PRIMARY KEY, "
+                + "SUBTYPE_CODE VARCHAR2(3), BIN VARCHAR2(9), VALIDATION_ID NUMBER(19), STATUS CHAR(1), "
+                + "VALUE_FLAG VARCHAR2(1), VALUE_NUM NUMBER, VALUE_TEXT VARCHAR2(256), "
+                + "CREATED_AT TIMESTAMP WITH TIME ZONE, UPDATED_AT TIMESTAMP WITH TIME ZONE, UPDATED_BY VARCHAR2(64), "
+                + "UNIQUE (SUBTYPE_CODE, BIN, VALIDATION_ID))");
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        for (String table : TABLES) {
+            jdbc.execute("BEGIN EXECUTE IMMEDIATE 'DROP TABLE " + table + " PURGE'; EXCEPTION WHEN OTHERS THEN NULL; END;");
+        }
+        for (String sequence : SEQUENCES) {
+            jdbc.execute("BEGIN EXECUTE IMMEDIATE 'DROP SEQUENCE " + sequence + "'; EXCEPTION WHEN OTHERS THEN NULL; END;");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        TABLES.forEach(table -> jdbc.update("DELETE FROM " + table));
+        subtypePlans = new JpaSubtypePlanRepository(mock(SubtypeCommercePlanJpaRepository.class), tm, jdbc, true);
+        validationMaps = new JpaValidationMapRepository(mock(ValidationMapJpaRepository.class),
+                mock(SubtypeJpaRepository.class), mock(ValidationJpaRepository.class), tm, jdbc,
+                new JdbcStreamLimits(100, 1, Duration.ofSeconds(30), Duration.ofSeconds(30)), true);
+    }
+
+    @Test
+    void subtypePlanMergeInsertsThenReassignsTheSameRow() {
+        SubtypePlanLink created = subtypePlans.upsertAndGet("S01", 7L, "alice").block();
+        Long id = jdbc.queryForObject("SELECT SUBTYPE_PLAN_ID FROM SUBTYPE_COMMERCE_PLAN WHERE SUBTYPE_CODE = 'S01'", Long.class);
+
+        SubtypePlanLink moved = subtypePlans.upsertAndGet("S01", 9L, "bob").block();
+
+        assertThat(created.planId()).isEqualTo(7L);
+        assertThat(moved.planId()).isEqualTo(9L);
+        assertThat(moved.updatedBy()).isEqualTo("bob");
+        assertThat(moved.createdAt()).isEqualTo(created.createdAt());
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM SUBTYPE_COMMERCE_PLAN", Integer.class)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT SUBTYPE_PLAN_ID FROM SUBTYPE_COMMERCE_PLAN WHERE SUBTYPE_CODE = 'S01'", Long.class))
+                .isEqualTo(id);
+    }
+
+    @Test
+    void validationMapMergeInsertsUpdatesAndRejectsMissingReferences() {
+        OffsetDateTime yesterday = OffsetDateTime.now().minusDays(1);
+        jdbc.update("INSERT INTO SUBTYPE (SUBTYPE_CODE, BIN) VALUES ('S01', '411111')");
+        jdbc.update("INSERT INTO SUBTYPE_VALIDATION (VALIDATION_ID, STATUS, VALID_FROM) VALUES (1, 'A', ?)", yesterday);
+        jdbc.update("INSERT INTO SUBTYPE_VALIDATION (VALIDATION_ID, STATUS, VALID_FROM) VALUES (2, 'I', ?)", yesterday);
+
+        ValidationMap inserted = validationMaps.save(
+                ValidationMap.createNew("S01", "411111", 1L, "S", null, null, "alice")).block();
+        ValidationMap updated = validationMaps.save(
+                ValidationMap.createNew("S01", "411111", 1L, null, 12.5, "txt", "bob")).block();
+
+        assertThat(updated.mapId()).isEqualTo(inserted.mapId());
+        assertThat(updated.valueNum()).isEqualTo(12.5);
+        assertThat(updated.valueFlag()).isNull();
+        assertThat(updated.updatedBy()).isEqualTo("bob");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM SUBTYPE_VALIDATION_MAP", Integer.class)).isEqualTo(1);
+
+        assertThatThrownBy(() -> validationMaps.save(
+                ValidationMap.createNew("S01", "411111", 2L, "S", null, null, "alice")).block())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> validationMaps.save(
+                ValidationMap.createNew("S99", "411111", 1L, "S", null, null, "alice")).block())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM SUBTYPE_VALIDATION_MAP", Integer.class)).isEqualTo(1);
+    }
+}
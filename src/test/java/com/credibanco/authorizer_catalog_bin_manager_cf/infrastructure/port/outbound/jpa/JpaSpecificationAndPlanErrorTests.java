@@ -23,6 +23,7 @@ import org.springframework.transaction.support.DefaultTransactionStatus;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -77,7 +78,9 @@ class JpaSpecificationAndPlanErrorTests {
     ) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
 
         JpaValidationMapRepository jpaRepository = new JpaValidationMapRepository(
-                repository, subtypeRepository, validationRepository, new NoOpTransactionManager());
+                repository, subtypeRepository, validationRepository, new NoOpTransactionManager(),
+                mock(org.springframework.jdbc.core.JdbcTemplate.class),
+                new JdbcStreamLimits(1000, 2, Duration.ofSeconds(30), Duration.ofSeconds(30)), false);
 
         Method buildSpecification = JpaValidationMapRepository.class
                 .getDeclaredMethod("buildSpecification", String.class, String.class, String.class);
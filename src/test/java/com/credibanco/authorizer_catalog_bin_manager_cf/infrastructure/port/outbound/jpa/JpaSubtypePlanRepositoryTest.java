@@ -1,9 +1,13 @@
 package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa;
 
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.SubtypePlanLink;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.entity.SubtypeCommercePlanEntity;
 import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeCommercePlanJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.SimpleTransactionStatus;
@@ -18,6 +22,8 @@ class JpaSubtypePlanRepositoryTest {
 
     private SubtypeCommercePlanJpaRepository springRepository;
     private JpaSubtypePlanRepository repo;
+    private JdbcTemplate jdbcTemplate;
+    private JpaSubtypePlanRepository mergeRepo;
 
     @BeforeEach
     void setup() {
@@ -25,7 +31,38 @@ class JpaSubtypePlanRepositoryTest {
         PlatformTransactionManager tm = mock(PlatformTransactionManager.class);
         when(tm.getTransaction(any(TransactionDefinition.class)))
                 .thenReturn(new SimpleTransactionStatus());
-        repo = new JpaSubtypePlanRepository(springRepository, tm);
+        repo = new JpaSubtypePlanRepository(springRepository, tm, mock(JdbcTemplate.class), false);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        mergeRepo = new JpaSubtypePlanRepository(springRepository, tm, jdbcTemplate, true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertAndGetWithMergeIssuesOneWriteAndReadsBack() {
+        SubtypePlanLink link = SubtypePlanLink.rehydrate("S1", 9L, OffsetDateTime.now(), OffsetDateTime.now(), "user");
+        when(jdbcTemplate.update(eq(JpaSubtypePlanRepository.MERGE_SQL), any(Object[].class))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(eq(JpaSubtypePlanRepository.SELECT_SQL), any(RowMapper.class), eq("S1")))
+                .thenReturn(link);
+
+        StepVerifier.create(mergeRepo.upsertAndGet("S1", 9L, "user"))
+                .expectNext(link)
+                .verifyComplete();
+
+        verify(jdbcTemplate).update(eq(JpaSubtypePlanRepository.MERGE_SQL), any(Object[].class));
+        verifyNoInteractions(springRepository);
+    }
+
+    @Test
+    void upsertWithMergeRetriesOnceAfterDuplicateKey() {
+        when(jdbcTemplate.update(eq(JpaSubtypePlanRepository.MERGE_SQL), any(Object[].class)))
+                .thenThrow(new DuplicateKeyException("race"))
+                .thenReturn(1);
+
+        StepVerifier.create(mergeRepo.upsert("S1", 9L, "user"))
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(jdbcTemplate, times(2)).update(eq(JpaSubtypePlanRepository.MERGE_SQL), any(Object[].class));
     }
 
     @Test
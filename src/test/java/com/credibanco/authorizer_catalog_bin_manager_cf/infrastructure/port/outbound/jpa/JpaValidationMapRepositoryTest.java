@@ -15,10 +15,14 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -30,10 +34,15 @@ import static org.mockito.Mockito.*;
 
 class JpaValidationMapRepositoryTest {
 
+    private static final JdbcStreamLimits STREAMS =
+            new JdbcStreamLimits(1000, 2, Duration.ofSeconds(30), Duration.ofSeconds(30));
+
     private ValidationMapJpaRepository springRepository;
     private SubtypeJpaRepository subtypeRepository;
     private ValidationJpaRepository validationRepository;
     private JpaValidationMapRepository repo;
+    private JdbcTemplate jdbcTemplate;
+    private JpaValidationMapRepository mergeRepo;
 
     @BeforeEach
     void setup() {
@@ -43,7 +52,59 @@ class JpaValidationMapRepositoryTest {
         PlatformTransactionManager tm = mock(PlatformTransactionManager.class);
         when(tm.getTransaction(any(TransactionDefinition.class)))
                 .thenReturn(new SimpleTransactionStatus());
-        repo = new JpaValidationMapRepository(springRepository, subtypeRepository, validationRepository, tm);
+        repo = new JpaValidationMapRepository(springRepository, subtypeRepository, validationRepository, tm,
+                mock(org.springframework.jdbc.core.JdbcTemplate.class), STREAMS, false);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        mergeRepo = new JpaValidationMapRepository(springRepository, subtypeRepository, validationRepository, tm,
+                jdbcTemplate, STREAMS, true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveWithMergeWritesOnceAndReadsBackWithoutJpa() {
+        ValidationMap map = ValidationMap.createNew("ST", "123456", 1L, "SI", null, null, "actor");
+        ValidationMap stored = ValidationMap.rehydrate(7L, "ST", "123456", 1L, "A", "SI", null, null,
+                OffsetDateTime.now().minusDays(3), OffsetDateTime.now(), "actor");
+        when(jdbcTemplate.update(eq(JpaValidationMapRepository.MERGE_SQL), any(PreparedStatementSetter.class)))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForObject(eq(JpaValidationMapRepository.SELECT_BY_KEY_SQL), any(RowMapper.class),
+                eq("ST"), eq("123456"), eq(1L)))
+                .thenReturn(stored);
+
+        StepVerifier.create(mergeRepo.save(map))
+                .expectNext(stored)
+                .verifyComplete();
+
+        verify(jdbcTemplate).update(eq(JpaValidationMapRepository.MERGE_SQL), any(PreparedStatementSetter.class));
+        verifyNoInteractions(subtypeRepository, validationRepository, springRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveWithMergeFailsWhenNoRowQualifies() {
+        ValidationMap map = ValidationMap.createNew("ST", "123456", 1L, null, null, null, "actor");
+        when(jdbcTemplate.update(eq(JpaValidationMapRepository.MERGE_SQL), any(PreparedStatementSetter.class)))
+                .thenReturn(0);
+
+        StepVerifier.create(mergeRepo.save(map))
+                .expectError(NoSuchElementException.class)
+                .verify();
+
+        verify(jdbcTemplate, never()).queryForObject(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void saveWithMergeRetriesOnceAfterDuplicateKey() {
+        ValidationMap map = ValidationMap.createNew("ST", "123456", 1L, null, null, null, "actor");
+        when(jdbcTemplate.update(eq(JpaValidationMapRepository.MERGE_SQL), any(PreparedStatementSetter.class)))
+                .thenThrow(new org.springframework.dao.DuplicateKeyException("race"))
+                .thenReturn(0);
+
+        StepVerifier.create(mergeRepo.save(map))
+                .expectError(NoSuchElementException.class)
+                .verify();
+
+        verify(jdbcTemplate, times(2)).update(eq(JpaValidationMapRepository.MERGE_SQL), any(PreparedStatementSetter.class));
     }
 
     @Test
@@ -0,0 +1,138 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.loader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoalescingLoaderTest {
+
+    private final List<Set<String>> calls = new CopyOnWriteArrayList<>();
+
+    private Function<Set<String>, Mono<Map<String, String>>> upperCaseExceptMissing() {
+        return keys -> {
+            calls.add(Set.copyOf(keys));
+            return Mono.just(keys.stream()
+                    .filter(k -> !k.startsWith("missing"))
+                    .collect(Collectors.toMap(k -> k, String::toUpperCase)));
+        };
+    }
+
+    @Test
+    void concurrentLoadsWithinWindowShareOneBatch() {
+        CoalescingLoader<String, String> loader = new CoalescingLoader<>("test", Duration.ofMillis(50), 100,
+                Schedulers.parallel(), upperCaseExceptMissing());
+
+        StepVerifier.create(Flux.merge(
+                        loader.load("a"),
+                        loader.load("b"),
+                        loader.load("a"),
+                        loader.load("missing").defaultIfEmpty("<vacío>"))
+                        .collectList())
+                .assertNext(values -> assertThat(values).containsExactlyInAnyOrder("A", "B", "A", "<vacío>"))
+                .verifyComplete();
+
+        assertThat(calls).containsExactly(Set.of("a", "b", "missing"));
+        assertThat(loader.requestCount()).isEqualTo(4);
+        assertThat(loader.batchCount()).isEqualTo(1);
+        assertThat(loader.pendingKeys()).isZero();
+    }
+
+    @Test
+    void fullBatchLeavesWithoutWaitingForWindow() {
+        CoalescingLoader<String, String> loader = new CoalescingLoader<>("test", Duration.ofSeconds(30), 2,
+                Schedulers.parallel(), upperCaseExceptMissing());
+
+        StepVerifier.create(Flux.merge(loader.load("a"), loader.load("b")).collectList())
+                .assertNext(values -> assertThat(values).containsExactlyInAnyOrder("A", "B"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(calls).containsExactly(Set.of("a", "b"));
+    }
+
+    @Test
+    void zeroWindowLoadsEachKeyAlone() {
+        CoalescingLoader<String, String> loader = new CoalescingLoader<>("test", Duration.ZERO, 100,
+                Schedulers.parallel(), upperCaseExceptMissing());
+
+        StepVerifier.create(Flux.concat(loader.load("a"), loader.load("b")))
+                .expectNext("A", "B")
+                .verifyComplete();
+
+        assertThat(calls).containsExactly(Set.of("a"), Set.of("b"));
+    }
+
+    @Test
+    void batchRunsWithTheContextOfTheFirstWaiter() {
+        List<String> seen = new CopyOnWriteArrayList<>();
+        CoalescingLoader<String, String> loader = new CoalescingLoader<>("test", Duration.ofMillis(50), 100,
+                Schedulers.parallel(), keys -> Mono.deferContextual(ctx -> {
+                    seen.add(ctx.getOrDefault("request", "<sin contexto>"));
+                    return Mono.just(keys.stream().collect(Collectors.toMap(k -> k, String::toUpperCase)));
+                }));
+
+        StepVerifier.create(Flux.merge(
+                        loader.load("a").contextWrite(Context.of("request", "r1")),
+                        loader.load("b").contextWrite(Context.of("request", "r2")))
+                        .collectList())
+                .assertNext(values -> assertThat(values).containsExactlyInAnyOrder("A", "B"))
+                .verifyComplete();
+
+        assertThat(seen).containsExactly("r1");
+    }
+
+    @Test
+    void batchErrorReachesEveryWaiter() {
+        CoalescingLoader<String, String> loader = new CoalescingLoader<>("test", Duration.ofMillis(20), 100,
+                Schedulers.parallel(), keys -> Mono.error(new IllegalStateException("db down")));
+
+        StepVerifier.create(Mono.zip(
+                        loader.load("a").onErrorResume(e -> Mono.just(e.getMessage())),
+                        loader.load("b").onErrorResume(e -> Mono.just(e.getMessage()))))
+                .assertNext(t -> {
+                    assertThat(t.getT1()).isEqualTo("db down");
+                    assertThat(t.getT2()).isEqualTo("db down");
+                })
+                .verifyComplete();
+
+        assertThat(loader.failureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exportsWindowBatchSizeAndCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CoalescingLoaders loaders = new CoalescingLoaders(Duration.ofMillis(20), 50, Schedulers.parallel(), registry);
+        CoalescingLoader<String, String> loader = loaders.create("bin", upperCaseExceptMissing());
+
+        StepVerifier.create(Flux.merge(loader.load("a"), loader.load("b")).collectList())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(registry.get("catalog.loader.window").tag("loader", "bin").gauge().value()).isEqualTo(20.0);
+        assertThat(registry.get("catalog.loader.max.batch").tag("loader", "bin").gauge().value()).isEqualTo(50.0);
+        assertThat(registry.get("catalog.loader.requests").tag("loader", "bin").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("catalog.loader.batches").tag("loader", "bin").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("catalog.loader.batch.size").tag("loader", "bin").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    void rejectsBatchLargerThanOracleInList() {
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingLoader<String, String>("test",
+                Duration.ofMillis(2), CoalescingLoader.MAX_BATCH_LIMIT + 1, Schedulers.parallel(), upperCaseExceptMissing()));
+    }
+}
@@ -0,0 +1,151 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.bin.port.outbound.BinRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogKeyFilter.KeySpace;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.BinJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class InMemoryCatalogKeyFilterTest {
+
+    private BinJpaRepository bins;
+    private SubtypeJpaRepository subtypes;
+    private CommercePlanJpaRepository plans;
+    private SimpleMeterRegistry registry;
+    private InMemoryCatalogKeyFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        bins = mock(BinJpaRepository.class);
+        subtypes = mock(SubtypeJpaRepository.class);
+        plans = mock(CommercePlanJpaRepository.class);
+        registry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        doAnswer(inv -> {
+            inv.<Consumer<MeterRegistry>>getArgument(0).accept(registry);
+            return null;
+        }).when(provider).ifAvailable(any());
+        when(bins.findAllBins()).thenReturn(List.of("411111", "522222"));
+        when(subtypes.findAllSubtypeCodes()).thenReturn(List.of("S01"));
+        when(plans.findAllPlanCodes()).thenReturn(List.of("P01"));
+        filter = new InMemoryCatalogKeyFilter(bins, subtypes, plans, 0.01, 2.0, Duration.ZERO, provider);
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndStaysNearTargetRate() {
+        List<String> keys = IntStream.range(0, 20_000).mapToObj(i -> String.valueOf(400_000_000 + i)).toList();
+        KeyBloomFilter bloom = KeyBloomFilter.of(keys, keys.size(), 0.01);
+
+        assertThat(keys).allMatch(bloom::mightContain);
+        long falsePositives = IntStream.range(0, 20_000)
+                .mapToObj(i -> String.valueOf(500_000_000 + i))
+                .filter(bloom::mightContain)
+                .count();
+        assertThat(falsePositives / 20_000.0).isLessThan(0.03);
+        assertThat(bloom.expectedFpp()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void answersMaybeUntilLoaded() {
+        assertThat(filter.isLoaded()).isFalse();
+        assertThat(filter.mightContain(KeySpace.BIN, "999999")).isTrue();
+    }
+
+    @Test
+    void loadedFilterRejectsUnknownKeysAndLearnsNewOnes() {
+        filter.reload();
+
+        assertThat(filter.mightContain(KeySpace.BIN, "411111")).isTrue();
+        assertThat(filter.mightContain(KeySpace.SUBTYPE_CODE, "S01")).isTrue();
+        assertThat(filter.mightContain(KeySpace.PLAN_CODE, "P01")).isTrue();
+        assertThat(filter.mightContain(KeySpace.BIN, "999999")).isFalse();
+
+        Bin created = Bin.createNew("999999", "VISA", "CREDITO", "12", "CC", "DESC", "N", null, null);
+        filter.onChange(CatalogChange.of(CatalogChange.Entity.BIN, CatalogChange.Operation.CREATE, "999999", created));
+
+        assertThat(filter.mightContain(KeySpace.BIN, "999999")).isTrue();
+        assertThat(registry.get("catalog.key.filter.checks").tag("filter", "bin").tag("result", "absent")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void snapshotRepositorySkipsTheSourceWhenTheFilterSaysAbsent() {
+        filter.reload();
+        BinRepository jpa = mock(BinRepository.class);
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
+        when(snapshots.current()).thenReturn(CatalogSnapshot.EMPTY);
+        when(jpa.existsById("522222")).thenReturn(Mono.just(true));
+        SnapshotBinRepository repo = new SnapshotBinRepository(jpa, snapshots, filter);
+
+        StepVerifier.create(repo.existsById("999999")).expectNext(false).verifyComplete();
+        StepVerifier.create(repo.existsById("522222")).expectNext(true).verifyComplete();
+
+        verify(jpa, never()).existsById("999999");
+        verify(jpa).existsById("522222");
+        assertThat(filter.observedFpp(KeySpace.BIN)).isZero();
+    }
+
+    @Test
+    void snapshotMissIsConfirmedAgainstTheSourceOnlyWhenTheFilterSaysMaybe() {
+        BinRepository jpa = mock(BinRepository.class);
+        CatalogSnapshotProvider snapshots = mock(CatalogSnapshotProvider.class);
+        Bin local = Bin.createNew("411111", "VISA", "CREDITO", "12", "CC", "DESC", "N", null, null);
+        Bin remote = Bin.createNew("522222", "MC", "DEBITO", "10", "CC", "DESC", "N", null, null);
+        when(snapshots.current()).thenReturn(CatalogSnapshot.of(1L, List.of(local), List.of(), List.of(), List.of(),
+                Map.of(), List.of(), List.of(), List.of()));
+        when(jpa.findById("522222")).thenReturn(Mono.just(remote));
+
+        StepVerifier.create(new SnapshotBinRepository(jpa, snapshots, CatalogKeyFilter.NONE).findById("522222"))
+                .verifyComplete();
+        verifyNoInteractions(jpa);
+
+        filter.reload();
+        SnapshotBinRepository repo = new SnapshotBinRepository(jpa, snapshots, filter);
+        StepVerifier.create(repo.findById("411111")).expectNext(local).verifyComplete();
+        StepVerifier.create(repo.findById("999999")).verifyComplete();
+        StepVerifier.create(repo.findById("522222")).expectNext(remote).verifyComplete();
+
+        verify(jpa, never()).findById("411111");
+        verify(jpa, never()).findById("999999");
+        verify(jpa).findById("522222");
+    }
+
+    @Test
+    void periodicRefreshPicksUpKeysCreatedByOtherReplicas() throws InterruptedException {
+        InMemoryCatalogKeyFilter refreshing = new InMemoryCatalogKeyFilter(bins, subtypes, plans, 0.01, 2.0,
+                Duration.ofMillis(20), mock(ObjectProvider.class));
+        refreshing.onApplicationReady();
+        assertThat(refreshing.mightContain(KeySpace.PLAN_CODE, "P77")).isFalse();
+
+        when(plans.findAllPlanCodes()).thenReturn(List.of("P01", "P77"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!refreshing.mightContain(KeySpace.PLAN_CODE, "P77") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        refreshing.shutdown();
+        assertThat(refreshing.mightContain(KeySpace.PLAN_CODE, "P77")).isTrue();
+    }
+}
@@ -0,0 +1,179 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogChange;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.plan.model.PlanItemsBulkResult;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.bin.Bin;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommercePlan;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.CommerceValidationMode;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.plan.PlanItem;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.BinJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.CommercePlanJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.mapper.SubtypeJpaMapper;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.AgencyJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.BinJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanItemJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.CommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeCommercePlanJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.SubtypeJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationJpaRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.repository.ValidationMapJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryCatalogSnapshotTest {
+
+    private BinJpaRepository binRepository;
+    private SubtypeJpaRepository subtypeRepository;
+    private CommercePlanJpaRepository planRepository;
+    private CommercePlanItemJpaRepository planItemRepository;
+    private InMemoryCatalogSnapshot snapshot;
+
+    private final Bin bin = Bin.createNew("411111", "VISA", "DEBITO", "12", "CC", "DESC", "N", null, null);
+    private final Subtype subtype = Subtype.createNew("S01", "411111", "SUB", "DESC", "CC", "1", null, null);
+    private final CommercePlan plan = CommercePlan.rehydrate(7L, "PLAN", "NAME", CommerceValidationMode.MCC,
+            "desc", "A", OffsetDateTime.now(), OffsetDateTime.now(), "creator");
+
+    @BeforeEach
+    void setUp() {
+        binRepository = mock(BinJpaRepository.class);
+        subtypeRepository = mock(SubtypeJpaRepository.class);
+        planRepository = mock(CommercePlanJpaRepository.class);
+        planItemRepository = mock(CommercePlanItemJpaRepository.class);
+        snapshot = new InMemoryCatalogSnapshot(binRepository, subtypeRepository, mock(AgencyJpaRepository.class),
+                planRepository, planItemRepository, mock(SubtypeCommercePlanJpaRepository.class),
+                mock(ValidationJpaRepository.class), mock(ValidationMapJpaRepository.class), Duration.ZERO);
+
+        when(binRepository.findAll()).thenReturn(List.of(BinJpaMapper.toEntity(bin)));
+        when(subtypeRepository.findAll()).thenReturn(List.of(SubtypeJpaMapper.toEntity(subtype)));
+        when(planRepository.findAll()).thenReturn(List.of(CommercePlanJpaMapper.toEntity(plan)));
+    }
+
+    @Test
+    void emptyUntilLoadedAndIgnoresChangesBeforeLoad() {
+        assertThat(snapshot.current().isLoaded()).isFalse();
+
+        snapshot.apply(CatalogChange.of(CatalogChange.Entity.BIN, CatalogChange.Operation.CREATE, "411111", bin));
+        assertThat(snapshot.current()).isSameAs(CatalogSnapshot.EMPTY);
+
+        snapshot.reload();
+        CatalogSnapshot loaded = snapshot.current();
+        assertThat(loaded.version()).isEqualTo(1L);
+        assertThat(loaded.bins()).containsKey("411111");
+        assertThat(loaded.subtypesOfBin("411111")).extracting(Subtype::subtypeCode).containsExactly("S01");
+        assertThat(loaded.plans()).containsKey("PLAN");
+    }
+
+    @Test
+    void committedChangeSwapsNewVersionAndKeepsPreviousIntact() {
+        snapshot.reload();
+        CatalogSnapshot before = snapshot.current();
+
+        Subtype active = subtype.changeStatus("A", "actor");
+        snapshot.apply(CatalogChange.of(CatalogChange.Entity.SUBTYPE, CatalogChange.Operation.STATUS,
+                "411111:S01", active));
+
+        CatalogSnapshot after = snapshot.current();
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        assertThat(after.subtypesOfBin("411111")).extracting(Subtype::status).containsExactly("A");
+        assertThat(before.subtypesOfBin("411111")).extracting(Subtype::status).containsExactly("I");
+        assertThat(after.bins()).isSameAs(before.bins());
+    }
+
+    @Test
+    void planItemsAreIndexedFromActiveValuesAndFollowStatusChanges() {
+        when(planItemRepository.findActiveValues()).thenReturn(List.<Object[]>of(
+                new Object[]{7L, "5411"}, new Object[]{7L, "5999"}));
+        snapshot.reload();
+        assertThat(snapshot.current().itemsOfPlan(7L).contains("5411")).isTrue();
+        assertThat(snapshot.current().itemsOfPlan(7L).size()).isEqualTo(2);
+
+        PlanItem inactive = PlanItem.rehydrate(1L, 7L, "5411", null, null, "actor", "I");
+        snapshot.apply(CatalogChange.of(CatalogChange.Entity.PLAN_ITEM, CatalogChange.Operation.STATUS,
+                "7:5411", inactive));
+
+        assertThat(snapshot.current().itemsOfPlan(7L).contains("5411")).isFalse();
+        assertThat(snapshot.current().itemsOfPlan(7L).contains("5999")).isTrue();
+    }
+
+    @Test
+    void plansAreIndexedByIdAndFollowChanges() {
+        snapshot.reload();
+        assertThat(snapshot.current().planById(7L)).isEqualTo(plan);
+        assertThat(snapshot.current().planById(8L)).isNull();
+        assertThat(snapshot.current().planById(null)).isNull();
+
+        CommercePlan inactive = plan.changeStatus("I", "actor");
+        CommercePlan created = CommercePlan.rehydrate(8L, "OTHER", "NAME", CommerceValidationMode.MERCHANT_ID,
+                "desc", "A", OffsetDateTime.now(), OffsetDateTime.now(), "creator");
+        snapshot.apply(CatalogChange.of(CatalogChange.Entity.PLAN, CatalogChange.Operation.STATUS, "PLAN", inactive));
+        snapshot.apply(CatalogChange.of(CatalogChange.Entity.PLAN, CatalogChange.Operation.CREATE, "OTHER", created));
+
+        assertThat(snapshot.current().planById(7L).status()).isEqualTo("I");
+        assertThat(snapshot.current().planById(8L)).isEqualTo(created);
+    }
+
+    @Test
+    void bulkPlanItemChangeReloadsItemsOfThatPlan() {
+        snapshot.reload();
+
+        when(planItemRepository.findActiveValuesByPlanId(7L)).thenReturn(List.of("5411"));
+
+        snapshot.apply(CatalogChange.of(CatalogChange.Entity.PLAN_ITEM, CatalogChange.Operation.BULK, "PLAN",
+                new PlanItemsBulkResult("PLAN", 1, 1, 0, 0, List.of(), List.of())));
+
+        assertThat(snapshot.current().itemsOfPlan(7L).contains("5411")).isTrue();
+        assertThat(snapshot.current().itemsOfPlan(7L).size()).isEqualTo(1);
+    }
+
+    @Test
+    void publishedChangeIsAppliedOffTheCallerThread() throws InterruptedException {
+        snapshot.reload();
+        CountDownLatch reloaded = new CountDownLatch(1);
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(planItemRepository.findActiveValuesByPlanId(7L)).thenAnswer(inv -> {
+            thread.set(Thread.currentThread().getName());
+            reloaded.countDown();
+            return List.of("5411");
+        });
+
+        snapshot.onChange(CatalogChange.of(CatalogChange.Entity.PLAN_ITEM, CatalogChange.Operation.BULK, "PLAN",
+                new PlanItemsBulkResult("PLAN", 1, 1, 0, 0, List.of(), List.of())));
+
+        assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get()).isEqualTo("catalog-snapshot").isNotEqualTo(Thread.currentThread().getName());
+        snapshot.shutdown();
+    }
+
+    @Test
+    void periodicRefreshPicksUpRowsWrittenByOtherReplicas() throws InterruptedException {
+        InMemoryCatalogSnapshot refreshing = new InMemoryCatalogSnapshot(binRepository, subtypeRepository,
+                mock(AgencyJpaRepository.class), planRepository, planItemRepository,
+                mock(SubtypeCommercePlanJpaRepository.class), mock(ValidationJpaRepository.class),
+                mock(ValidationMapJpaRepository.class), Duration.ofMillis(20));
+        refreshing.onApplicationReady();
+        assertThat(refreshing.current().bins()).containsOnlyKeys("411111");
+
+        Bin elsewhere = Bin.createNew("522222", "MC", "DEBITO", "10", "CC", "DESC", "N", null, null);
+        when(binRepository.findAll()).thenReturn(List.of(BinJpaMapper.toEntity(bin), BinJpaMapper.toEntity(elsewhere)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!refreshing.current().bins().containsKey("522222") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        refreshing.shutdown();
+        assertThat(refreshing.current().bins()).containsKeys("411111", "522222");
+    }
+}
@@ -0,0 +1,106 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.memory;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.agency.port.outbound.AgencyRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.model.CatalogSnapshot;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.catalog.port.outbound.CatalogSnapshotProvider;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.rule.port.outbound.ValidationMapRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.application.subtype.port.outbound.SubtypeRepository;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.agency.Agency;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.Validation;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationDataType;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.rule.ValidationMap;
+import com.credibanco.authorizer_catalog_bin_manager_cf.domain.subtype.Subtype;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+class SnapshotReadRepositoriesTest {
+
+    private CatalogSnapshotProvider snapshots;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = mock(CatalogSnapshotProvider.class);
+    }
+
+    @Test
+    void delegatesWhileSnapshotIsNotLoaded() {
+        SubtypeRepository jpa = mock(SubtypeRepository.class);
+        when(snapshots.current()).thenReturn(CatalogSnapshot.EMPTY);
+        when(jpa.findAll(null, null, null, 0, 10)).thenReturn(Flux.empty());
+
+        StepVerifier.create(new SnapshotSubtypeRepository(jpa, snapshots).findAll(null, null, null, 0, 10))
+                .verifyComplete();
+        verify(jpa).findAll(null, null, null, 0, 10);
+    }
+
+    @Test
+    void subtypesArePagedInBinAndCodeOrderWithoutTouchingJpa() {
+        SubtypeRepository jpa = mock(SubtypeRepository.class);
+        when(snapshots.current()).thenReturn(CatalogSnapshot.of(1L, List.of(),
+                List.of(subtype("S02", "411111"), subtype("S01", "411111"), subtype("S01", "4111110")),
+                List.of(), List.of(), Map.of(), List.of(), List.of(), List.of()));
+
+        SnapshotSubtypeRepository repo = new SnapshotSubtypeRepository(jpa, snapshots);
+
+        StepVerifier.create(repo.findAll("411111", null, null, 0, 10))
+                .expectNextMatches(s -> s.subtypeCode().equals("S01"))
+                .expectNextMatches(s -> s.subtypeCode().equals("S02"))
+                .verifyComplete();
+        StepVerifier.create(repo.findAll(null, "S01", null, 1, 1))
+                .expectNextMatches(s -> s.bin().equals("4111110"))
+                .verifyComplete();
+        verifyNoInteractions(jpa);
+    }
+
+    @Test
+    void agenciesFilterBySearchOnNameOrCode() {
+        AgencyRepository jpa = mock(AgencyRepository.class);
+        when(snapshots.current()).thenReturn(CatalogSnapshot.of(1L, List.of(), List.of(),
+                List.of(agency("S01", "001", "Norte"), agency("S01", "002", "Sur"), agency("S02", "001", "Centro")),
+                List.of(), Map.of(), List.of(), List.of(), List.of()));
+
+        StepVerifier.create(new SnapshotAgencyRepository(jpa, snapshots).findAll("S01", "A", " sur ", 0, 10))
+                .expectNextMatches(a -> a.agencyCode().equals("002"))
+                .verifyComplete();
+        verifyNoInteractions(jpa);
+    }
+
+    @Test
+    void resolvedRulesRequireSubtypeAndExistingValidation() {
+        ValidationMapRepository jpa = mock(ValidationMapRepository.class);
+        Validation validation = Validation.rehydrate(1L, "V1", "desc", ValidationDataType.BOOL, "A",
+                OffsetDateTime.now(), null, OffsetDateTime.now(), OffsetDateTime.now(), "creator");
+        when(snapshots.current()).thenReturn(CatalogSnapshot.of(1L, List.of(), List.of(), List.of(), List.of(),
+                Map.of(), List.of(), List.of(validation),
+                List.of(rule("S01", "411111", 1L), rule("S01", "411111", 99L), rule("S02", "411111", 1L))));
+
+        SnapshotValidationMapRepository repo = new SnapshotValidationMapRepository(jpa, snapshots);
+
+        StepVerifier.create(repo.findResolved("S01", null, null, 0, 10))
+                .expectNextMatches(m -> m.validationId() == 1L && m.subtypeCode().equals("S01"))
+                .verifyComplete();
+        StepVerifier.create(repo.findResolved(null, null, null, 0, 10)).verifyComplete();
+        verifyNoInteractions(jpa);
+    }
+
+    private static Subtype subtype(String code, String bin) {
+        return Subtype.createNew(code, bin, "SUB", "DESC", "CC", "1", null, null);
+    }
+
+    private static Agency agency(String subtypeCode, String agencyCode, String name) {
+        return Agency.createNew(subtypeCode, agencyCode, name, "NIT", "ADDR", "PHONE", "11001",
+                null, null, null, null, null, null, null, null, null, null, "desc", "creator");
+    }
+
+    private static ValidationMap rule(String subtypeCode, String bin, Long validationId) {
+        return ValidationMap.createNew(subtypeCode, bin, validationId, "SI", null, null, "creator");
+    }
+}
@@ -0,0 +1,159 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private Mono<String> slowPlan(String code) {
+        return Mono.defer(() -> {
+            executions.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(50)).thenReturn(code.toUpperCase());
+        });
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() {
+        SingleFlight flight = new SingleFlight("GetPlan", true);
+
+        StepVerifier.create(Flux.merge(
+                        flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1")),
+                        flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1")),
+                        flight.mono(SingleFlight.key("p2"), () -> slowPlan("p2"))).collectList())
+                .assertNext(values -> assertThat(values).containsExactlyInAnyOrder("P1", "P1", "P2"))
+                .verifyComplete();
+
+        assertThat(executions).hasValue(2);
+        assertThat(flight.callCount()).isEqualTo(3);
+        assertThat(flight.sharedCount()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void keyIsReleasedOnceTheExecutionEnds() {
+        SingleFlight flight = new SingleFlight("GetPlan", true);
+
+        StepVerifier.create(flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1"))).expectNext("P1").verifyComplete();
+        StepVerifier.create(flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1"))).expectNext("P1").verifyComplete();
+
+        assertThat(executions).hasValue(2);
+        assertThat(flight.sharedCount()).isZero();
+    }
+
+    @Test
+    void errorIsSharedAndThenReleased() {
+        SingleFlight flight = new SingleFlight("GetPlan", true);
+        Mono<String> failing = Mono.defer(() -> {
+            executions.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(30)).then(Mono.error(new IllegalStateException("no existe")));
+        });
+
+        StepVerifier.create(Flux.merge(
+                        flight.mono(SingleFlight.key("x", null), () -> failing).onErrorResume(e -> Mono.just(e.getMessage())),
+                        flight.mono(SingleFlight.key("x", null), () -> failing).onErrorResume(e -> Mono.just(e.getMessage())))
+                        .collectList())
+                .assertNext(values -> assertThat(values).containsExactly("no existe", "no existe"))
+                .verifyComplete();
+
+        assertThat(executions).hasValue(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void keyIsReleasedWhenTheOnlySubscriberCancels() {
+        SingleFlight flight = new SingleFlight("GetPlan", true);
+
+        flight.mono(SingleFlight.key("p1"), () -> {
+            executions.incrementAndGet();
+            return Mono.<String>never();
+        }).subscribe().dispose();
+        flight.flux(SingleFlight.key("p1"), () -> {
+            executions.incrementAndGet();
+            return Flux.<String>never();
+        }).subscribe().dispose();
+
+        assertThat(flight.inFlight()).isZero();
+        StepVerifier.create(flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1"))).expectNext("P1").verifyComplete();
+        assertThat(executions).hasValue(3);
+        assertThat(flight.sharedCount()).isZero();
+    }
+
+    @Test
+    void executionKeepsRunningWhileAnotherCallerIsSubscribed() {
+        SingleFlight flight = new SingleFlight("GetPlan", true);
+        AtomicReference<String> second = new AtomicReference<>();
+
+        var cancelled = flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1")).subscribe();
+        var waiting = flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1")).subscribe(second::set);
+        cancelled.dispose();
+
+        await().atMost(Duration.ofSeconds(2)).until(waiting::isDisposed);
+        assertThat(second).hasValue("P1");
+
+        assertThat(executions).hasValue(1);
+        assertThat(flight.sharedCount()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void sharedFluxIsReplayedToEveryCaller() {
+        SingleFlight flight = new SingleFlight("ListPlanItems", true);
+        Flux<Integer> page = Flux.defer(() -> {
+            executions.incrementAndGet();
+            return Flux.just(1, 2, 3).delayElements(Duration.ofMillis(10));
+        });
+
+        StepVerifier.create(Flux.merge(
+                        flight.flux(SingleFlight.key("list", "p1", 0, 3, null), () -> page).collectList(),
+                        flight.flux(SingleFlight.key("list", "p1", 0, 3, null), () -> page).collectList()).collectList())
+                .assertNext(pages -> assertThat(pages).containsExactly(List.of(1, 2, 3), List.of(1, 2, 3)))
+                .verifyComplete();
+
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void disabledRunsEveryCall() {
+        SingleFlight flight = new SingleFlight("GetPlan", false);
+
+        StepVerifier.create(Flux.merge(
+                        flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1")),
+                        flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1"))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void exportsCoalescingRatio() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight flight = new SingleFlights(true, registry).create("GetSubtype");
+
+        StepVerifier.create(Flux.merge(
+                        flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1")),
+                        flight.mono(SingleFlight.key("p1"), () -> slowPlan("p1"))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(registry.get("catalog.singleflight.calls").tag("use_case", "GetSubtype").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("catalog.singleflight.shared").tag("use_case", "GetSubtype").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("catalog.singleflight.coalescing.ratio").tag("use_case", "GetSubtype").gauge().value())
+                .isEqualTo(0.5);
+    }
+}
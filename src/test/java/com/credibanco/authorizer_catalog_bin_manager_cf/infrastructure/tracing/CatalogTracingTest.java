@@ -0,0 +1,96 @@
+package com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.tracing;
+
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppError;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.exception.AppException;
+import com.credibanco.authorizer_catalog_bin_manager_cf.infrastructure.port.outbound.jpa.JpaSchedulers;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogTracingTest {
+
+    private final SimpleTracer tracer = new SimpleTracer();
+    private final CatalogTracing tracing = new CatalogTracing(tracer, true);
+    private final CatalogTracingInitializer initializer = new CatalogTracingInitializer(tracing);
+    private final Consumer<Span> noTags = span -> { };
+
+    @BeforeEach
+    void install() {
+        initializer.afterPropertiesSet();
+        assertThat(CatalogTracing.current()).isSameAs(tracing);
+    }
+
+    @AfterEach
+    void restore() {
+        initializer.destroy();
+        assertThat(CatalogTracing.current().enabled()).isFalse();
+    }
+
+    private Map<String, SimpleSpan> spansByName() {
+        return tracer.getSpans().stream().collect(Collectors.toMap(SimpleSpan::getName, Function.identity()));
+    }
+
+    @Test
+    void useCaseRepositoryJdbcCallAndStatementFormOneTree() {
+        Mono<Integer> jdbc = JpaSchedulers.mono(Mono.fromCallable(() -> {
+            Span statement = tracing.statement();
+            statement.end();
+            return 1;
+        }));
+
+        StepVerifier.create(tracing.span("GetBinUseCase.execute", noTags,
+                        tracing.span("BinRepository.findById", noTags, jdbc)))
+                .expectNext(1)
+                .verifyComplete();
+
+        Map<String, SimpleSpan> spans = spansByName();
+        assertThat(spans).containsOnlyKeys("GetBinUseCase.execute", "BinRepository.findById", "jdbc.call", "jdbc.statement");
+        SimpleSpan useCase = spans.get("GetBinUseCase.execute");
+        SimpleSpan repository = spans.get("BinRepository.findById");
+        SimpleSpan call = spans.get("jdbc.call");
+        SimpleSpan statement = spans.get("jdbc.statement");
+        assertThat(repository.context().parentId()).isEqualTo(useCase.context().spanId());
+        assertThat(call.context().parentId()).isEqualTo(repository.context().spanId());
+        assertThat(statement.context().parentId()).isEqualTo(call.context().spanId());
+        assertThat(call.getTags().get("thread.name")).startsWith("boundedElastic");
+        assertThat(useCase.getTags().get("thread.name")).doesNotStartWith("boundedElastic");
+    }
+
+    @Test
+    void failedCallIsTaggedWithTheErrorCode() {
+        StepVerifier.create(tracing.span("GetBinUseCase.execute", noTags,
+                        Mono.error(new AppException(AppError.BIN_NOT_FOUND))))
+                .expectError(AppException.class)
+                .verify();
+
+        SimpleSpan span = tracer.onlySpan();
+        assertThat(span.getTags()).containsEntry("error.code", "03");
+        assertThat(span.getError()).isInstanceOf(AppException.class);
+    }
+
+    @Test
+    void statementOutsideATraceHasNoSpan() {
+        assertThat(tracing.statement()).isNull();
+    }
+
+    @Test
+    void disabledLeavesJdbcCallsUntouched() {
+        CatalogTracing.configure(new CatalogTracing(tracer, false));
+
+        StepVerifier.create(JpaSchedulers.mono(Mono.just(1))).expectNext(1).verifyComplete();
+
+        assertThat(tracer.getSpans()).isEmpty();
+    }
+}